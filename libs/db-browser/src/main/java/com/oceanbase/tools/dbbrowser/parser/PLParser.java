@@ -33,6 +33,7 @@ import com.oceanbase.tools.sqlparser.obmysql.PLLexer;
 import com.oceanbase.tools.sqlparser.oracle.PlSqlLexer;
 import com.oceanbase.tools.sqlparser.oracle.PlSqlParser;
 import com.oceanbase.tools.sqlparser.util.CaseChangingCharStream;
+import com.oceanbase.tools.sqlparser.util.TwoStageParsing;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -71,7 +72,7 @@ public class PLParser {
         parser.addErrorListener(new FastFailErrorListener());
         parser.setErrorHandler(new FastFailErrorStrategy());
         // Begin parsing at "pl_entry_stmt_list" rule
-        ParseTree tree = parser.stmt_block();
+        ParseTree tree = TwoStageParsing.parse(parser, p -> p.stmt_block());
         // listener for parse target
         MysqlModePLParserListener listener = new MysqlModePLParserListener();
 
@@ -116,11 +117,11 @@ public class PLParser {
         parser.setErrorHandler(new FastFailErrorStrategy());
         ParseTree tree;
         if (paserRule == com.oceanbase.tools.sqlparser.oboracle.PLParser.RULE_pl_ddl_stmt) {
-            tree = parser.pl_ddl_stmt();
+            tree = TwoStageParsing.parse(parser, p -> p.pl_ddl_stmt());
         } else {
             // Begin parsing at "pl_entry_stmt_list" rule,
             // if package type, use "pl_ddl_stmt"
-            tree = parser.pl_entry_stmt_list();
+            tree = TwoStageParsing.parse(parser, p -> p.pl_entry_stmt_list());
         }
         OracleModePLParserListener listener = new OracleModePLParserListener();
         ParseTreeWalker walker = new ParseTreeWalker();
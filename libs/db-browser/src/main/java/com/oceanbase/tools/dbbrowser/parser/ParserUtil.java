@@ -15,6 +15,7 @@
  */
 package com.oceanbase.tools.dbbrowser.parser;
 
+import java.util.ArrayList;
 import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
@@ -108,6 +109,20 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Determine the type of a mysql mode sql. Common statements such as {@code SELECT} and
+     * {@code INSERT} are classified by their leading token without being parsed, the syntax of them is
+     * not verified and {@link BasicResult#getSyntaxError()} will be null. Other statements are parsed
+     * by {@link #parseMysqlType(String, long)}.
+     */
+    public static BasicResult classifyMysqlType(String sql, long timeoutMillis) {
+        SqlType sqlType = SqlTypeClassifier.classifyMysql(sql);
+        if (sqlType == null) {
+            return parseMysqlType(sql, timeoutMillis);
+        }
+        return classifiedResult(sqlType);
+    }
+
     public static BasicResult parseOracleType(String sql) {
         return parseOracleType(sql, 0);
     }
@@ -149,6 +164,23 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Determine the type of an oracle mode sql, see {@link #classifyMysqlType(String, long)}
+     */
+    public static BasicResult classifyOracleType(String sql, long timeoutMillis) {
+        SqlType sqlType = SqlTypeClassifier.classifyOracle(sql);
+        if (sqlType == null) {
+            return parseOracleType(sql, timeoutMillis);
+        }
+        return classifiedResult(sqlType);
+    }
+
+    private static BasicResult classifiedResult(SqlType sqlType) {
+        BasicResult result = new BasicResult(sqlType);
+        result.setDbObjectNameList(new ArrayList<>());
+        return result;
+    }
+
     /**
      * prefix string content for reduce log output size
      */
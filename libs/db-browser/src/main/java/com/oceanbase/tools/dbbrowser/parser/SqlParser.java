@@ -27,6 +27,7 @@ import com.oceanbase.tools.dbbrowser.parser.listener.OracleModeSqlParserListener
 import com.oceanbase.tools.dbbrowser.parser.result.ParseSqlResult;
 import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
 import com.oceanbase.tools.sqlparser.obmysql.OBParser;
+import com.oceanbase.tools.sqlparser.util.TwoStageParsing;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,7 +61,7 @@ public class SqlParser {
         OBParser parser = new OBParser(tokens);
         parser.addErrorListener(new CustomErrorListener());
         // Begin parsing at "pl_entry_stmt_list" rule.
-        ParseTree tree = parser.stmt();
+        ParseTree tree = TwoStageParsing.parse(parser, OBParser::stmt);
         // listener for parse target
         MysqlModeSqlParserListener listener = new MysqlModeSqlParserListener();
 
@@ -93,7 +94,8 @@ public class SqlParser {
         com.oceanbase.tools.sqlparser.oboracle.OBParser parser =
                 new com.oceanbase.tools.sqlparser.oboracle.OBParser(tokens);
         parser.addErrorListener(new CustomErrorListener());
-        ParseTree tree = parser.stmt();
+        ParseTree tree =
+                TwoStageParsing.parse(parser, com.oceanbase.tools.sqlparser.oboracle.OBParser::stmt);
         OracleModeSqlParserListener listener = new OracleModeSqlParserListener();
 
         ParseTreeWalker walker = new ParseTreeWalker();
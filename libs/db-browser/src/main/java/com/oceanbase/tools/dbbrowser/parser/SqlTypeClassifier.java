@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.parser;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+
+import com.oceanbase.tools.dbbrowser.parser.constant.SqlType;
+import com.oceanbase.tools.sqlparser.FastFailErrorListener;
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
+
+import lombok.NonNull;
+
+/**
+ * {@link SqlTypeClassifier}
+ *
+ * Determine the {@link SqlType} of a sql by its leading token. Only statements whose parse result
+ * of {@link SqlParser} depends on nothing but the leading keyword are classified here, the syntax
+ * of the rest of the sql is not verified.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SqlTypeClassifier {
+
+    /**
+     * @return {@link SqlType} of the sql, null if the sql can not be classified by its leading token
+     */
+    public static SqlType classifyMysql(@NonNull String sql) {
+        Token token = getLeadingToken(new OBLexer(CharStreams.fromString(sql)));
+        if (token == null) {
+            return null;
+        }
+        switch (token.getType()) {
+            case OBLexer.SELECT:
+                return SqlType.SELECT;
+            case OBLexer.INSERT:
+                return SqlType.INSERT;
+            case OBLexer.UPDATE:
+                return SqlType.UPDATE;
+            case OBLexer.DELETE:
+                return SqlType.DELETE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return {@link SqlType} of the sql, null if the sql can not be classified by its leading token
+     */
+    public static SqlType classifyOracle(@NonNull String sql) {
+        Token token = getLeadingToken(
+                new com.oceanbase.tools.sqlparser.oboracle.OBLexer(CharStreams.fromString(sql)));
+        if (token == null) {
+            return null;
+        }
+        switch (token.getType()) {
+            case com.oceanbase.tools.sqlparser.oboracle.OBLexer.SELECT:
+                return SqlType.SELECT;
+            case com.oceanbase.tools.sqlparser.oboracle.OBLexer.INSERT:
+                return SqlType.INSERT;
+            case com.oceanbase.tools.sqlparser.oboracle.OBLexer.UPDATE:
+                return SqlType.UPDATE;
+            case com.oceanbase.tools.sqlparser.oboracle.OBLexer.DELETE:
+                return SqlType.DELETE;
+            default:
+                return null;
+        }
+    }
+
+    private static Token getLeadingToken(Lexer lexer) {
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new FastFailErrorListener());
+        try {
+            Token token = lexer.nextToken();
+            // skip blanks and comments
+            while (token.getChannel() != Token.DEFAULT_CHANNEL && token.getType() != Token.EOF) {
+                token = lexer.nextToken();
+            }
+            return token.getType() == Token.EOF ? null : token;
+        } catch (SyntaxErrorException e) {
+            return null;
+        }
+    }
+
+}
@@ -15,8 +15,10 @@
  */
 package com.oceanbase.tools.dbbrowser.schema;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import com.oceanbase.tools.dbbrowser.model.DBDatabase;
 import com.oceanbase.tools.dbbrowser.model.DBFunction;
@@ -169,6 +171,17 @@ public interface DBSchemaAccessor {
      */
     Map<String, List<DBTableColumn>> listTableColumns(String schemaName);
 
+    /**
+     * Visit all table columns in the specified schema table by table. Columns of a table are handed
+     * over to the consumer as soon as they are read, so that columns of the whole schema are never held
+     * in memory at the same time. A table may be handed over more than once if the rows are not
+     * strictly sorted by table name (eg. names differ only in case under a case insensitive collation),
+     * consumers should merge them.
+     */
+    default void listTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        listTableColumns(schemaName).forEach(consumer);
+    }
+
     /**
      * Get all table columns in the specified schema and table
      */
@@ -179,16 +192,49 @@ public interface DBSchemaAccessor {
      */
     Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName);
 
+    /**
+     * Visit all table columns(hold only basic info) in the specified schema table by table
+     *
+     * @see #listTableColumns(String, BiConsumer)
+     */
+    default void listBasicTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        listBasicTableColumns(schemaName).forEach(consumer);
+    }
+
     /**
      * Get all table columns(hold only basic info) in the specified schema and table
      */
     List<DBTableColumn> listBasicTableColumns(String schemaName, String tableName);
 
+    /**
+     * Get table columns(hold only basic info) of the specified tables in a schema, tables not found are
+     * absent from the result
+     */
+    default Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName, List<String> tableNames) {
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        for (String tableName : tableNames) {
+            List<DBTableColumn> columns = listBasicTableColumns(schemaName, tableName);
+            if (!columns.isEmpty()) {
+                tableName2Columns.put(tableName, columns);
+            }
+        }
+        return tableName2Columns;
+    }
+
     /**
      * Get all view columns(hold only basic info) in the specified schema
      */
     Map<String, List<DBTableColumn>> listBasicViewColumns(String schemaName);
 
+    /**
+     * Visit all view columns(hold only basic info) in the specified schema view by view
+     *
+     * @see #listTableColumns(String, BiConsumer)
+     */
+    default void listBasicViewColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        listBasicViewColumns(schemaName).forEach(consumer);
+    }
+
     /**
      * Get all view columns(hold only basic info) in the specified schema and view
      */
@@ -199,11 +245,29 @@ public interface DBSchemaAccessor {
      */
     Map<String, List<DBTableIndex>> listTableIndexes(String schemaName);
 
+    /**
+     * Visit all table indexs in the specified schema table by table
+     *
+     * @see #listTableColumns(String, BiConsumer)
+     */
+    default void listTableIndexes(String schemaName, BiConsumer<String, List<DBTableIndex>> consumer) {
+        listTableIndexes(schemaName).forEach(consumer);
+    }
+
     /**
      * Get all table constraints in the specified schema
      */
     Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName);
 
+    /**
+     * Visit all table constraints in the specified schema table by table
+     *
+     * @see #listTableColumns(String, BiConsumer)
+     */
+    default void listTableConstraints(String schemaName, BiConsumer<String, List<DBTableConstraint>> consumer) {
+        listTableConstraints(schemaName).forEach(consumer);
+    }
+
     Map<String, DBTableOptions> listTableOptions(String schemaName);
 
     List<DBTablePartition> listTablePartitions(String tenantName, String schemaName, String tableName);
@@ -220,6 +284,18 @@ public interface DBSchemaAccessor {
 
     DBTablePartition getPartition(String schemaName, String tableName);
 
+    /**
+     * Get partitions of the specified tables in a schema, a table without partition gets a partition of
+     * type {@code NOT_PARTITIONED} just like {@link #getPartition(String, String)}
+     */
+    default Map<String, DBTablePartition> getPartitions(String schemaName, List<String> tableNames) {
+        Map<String, DBTablePartition> tableName2Partition = new HashMap<>();
+        for (String tableName : tableNames) {
+            tableName2Partition.put(tableName, getPartition(schemaName, tableName));
+        }
+        return tableName2Partition;
+    }
+
     List<DBTableIndex> listTableIndexes(String schemaName, String tableName);
 
     String getTableDDL(String schemaName, String tableName);
@@ -25,12 +25,12 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.sql.Blob;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -38,8 +38,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.Validate;
@@ -87,6 +89,7 @@ import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessorSqlMappers;
 import com.oceanbase.tools.dbbrowser.schema.constant.Statements;
 import com.oceanbase.tools.dbbrowser.schema.constant.StatementsFiles;
 import com.oceanbase.tools.dbbrowser.util.DBSchemaAccessorUtil;
+import com.oceanbase.tools.dbbrowser.util.GroupByTableRowCallbackHandler;
 import com.oceanbase.tools.dbbrowser.util.MySQLSqlBuilder;
 import com.oceanbase.tools.dbbrowser.util.SqlBuilder;
 import com.oceanbase.tools.dbbrowser.util.StringUtils;
@@ -414,19 +417,33 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableColumn>> listTableColumns(String schemaName) {
-        List<DBTableColumn> tableColumns =
-                jdbcOperations.query(getListTableColumnsSql(schemaName), listTableRowMapper());
-        Map<String, List<DBTableColumn>> tableName2Columns =
-                tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        listTableColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
         return tableName2Columns;
     }
 
+    @Override
+    public void listTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listTableRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(getListTableColumnsSql(schemaName), handler);
+        handler.finish();
+    }
+
     @Override
     public Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName) {
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        listBasicTableColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
+        return tableName2Columns;
+    }
+
+    @Override
+    public void listBasicTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_TABLE_COLUMNS);
-        List<DBTableColumn> tableColumns = jdbcOperations.query(sql, new Object[] {schemaName, schemaName},
-                listBasicTableColumnRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicTableColumnRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, handler);
+        handler.finish();
     }
 
     @Override
@@ -435,12 +452,39 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
         return jdbcOperations.query(sql, new Object[] {schemaName, tableName}, listBasicTableColumnRowMapper());
     }
 
+    @Override
+    public Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName, List<String> tableNames) {
+        Map<String, List<DBTableColumn>> tableName2Columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (tableNames.isEmpty()) {
+            return tableName2Columns;
+        }
+        MySQLSqlBuilder sb = new MySQLSqlBuilder();
+        sb.append("SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_COMMENT "
+                + "FROM information_schema.columns WHERE TABLE_SCHEMA = ").value(schemaName)
+                .append(" AND TABLE_NAME IN (").values(tableNames)
+                .append(") ORDER BY TABLE_NAME, ORDINAL_POSITION ASC");
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicTableColumnRowMapper(), DBTableColumn::getTableName,
+                GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
+        jdbcOperations.query(sb.toString(), handler);
+        handler.finish();
+        return tableName2Columns;
+    }
+
     @Override
     public Map<String, List<DBTableColumn>> listBasicViewColumns(String schemaName) {
+        Map<String, List<DBTableColumn>> viewName2Columns = new HashMap<>();
+        listBasicViewColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(viewName2Columns));
+        return viewName2Columns;
+    }
+
+    @Override
+    public void listBasicViewColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_VIEW_COLUMNS);
-        List<DBTableColumn> tableColumns = jdbcOperations.query(sql, new Object[] {schemaName, schemaName},
-                listBasicTableColumnRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicTableColumnRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, handler);
+        handler.finish();
     }
 
     @Override
@@ -561,64 +605,70 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
+        Map<String, List<DBTableIndex>> tableName2Indexes = new HashMap<>();
+        listTableIndexes(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Indexes));
+        return tableName2Indexes;
+    }
+
+    @Override
+    public void listTableIndexes(String schemaName, BiConsumer<String, List<DBTableIndex>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_SCHEMA_INDEX);
-        Map<String, DBTableIndex> fullIndexName2Index = new LinkedHashMap<>();
-        jdbcOperations.query(sql, new Object[] {schemaName}, (rs, num) -> {
-            String tableName = rs.getString("TABLE_NAME");
+        GroupByTableRowCallbackHandler<DBTableIndex> handler = new GroupByTableRowCallbackHandler<>((rs, num) -> {
             String indexName = rs.getString("INDEX_NAME");
-
-            if (!fullIndexName2Index.containsKey(tableName + indexName)) {
-                DBTableIndex index = new DBTableIndex();
-                index.setSchemaName(rs.getString("TABLE_SCHEMA"));
-                index.setTableName(rs.getString("TABLE_NAME"));
-                index.setName(indexName);
-                index.setOrdinalPosition(rs.getInt("SEQ_IN_INDEX"));
-                index.setPrimary(indexName.equalsIgnoreCase("PRIMARY"));
-                index.setCardinality(rs.getLong("CARDINALITY"));
-                index.setComment(rs.getString("INDEX_COMMENT"));
-                index.setAdditionalInfo(rs.getString("COMMENT"));
-                index.setNonUnique(rs.getInt("NON_UNIQUE") != 0);
-                if (isIndexDistinguishesVisibility()) {
-                    String visible = rs.getString("IS_VISIBLE");
-                    if (Objects.nonNull(visible)) {
-                        index.setVisible(visible.equalsIgnoreCase("YES"));
-                    }
-                } else {
-                    index.setVisible(true);
+            DBTableIndex index = new DBTableIndex();
+            index.setSchemaName(rs.getString("TABLE_SCHEMA"));
+            index.setTableName(rs.getString("TABLE_NAME"));
+            index.setName(indexName);
+            index.setOrdinalPosition(rs.getInt("SEQ_IN_INDEX"));
+            index.setPrimary(indexName.equalsIgnoreCase("PRIMARY"));
+            index.setCardinality(rs.getLong("CARDINALITY"));
+            index.setComment(rs.getString("INDEX_COMMENT"));
+            index.setAdditionalInfo(rs.getString("COMMENT"));
+            index.setNonUnique(rs.getInt("NON_UNIQUE") != 0);
+            if (isIndexDistinguishesVisibility()) {
+                String visible = rs.getString("IS_VISIBLE");
+                if (Objects.nonNull(visible)) {
+                    index.setVisible(visible.equalsIgnoreCase("YES"));
                 }
-                index.setCollation(rs.getString("COLLATION"));
-                index.setAlgorithm(DBIndexAlgorithm.fromString(rs.getString("INDEX_TYPE")));
-                if (index.getAlgorithm() == DBIndexAlgorithm.FULLTEXT) {
-                    index.setType(DBIndexType.FULLTEXT);
-                } else if (index.getAlgorithm() == DBIndexAlgorithm.RTREE
-                        || index.getAlgorithm() == DBIndexAlgorithm.SPATIAL) {
-                    index.setType(DBIndexType.SPATIAL);
+            } else {
+                index.setVisible(true);
+            }
+            index.setCollation(rs.getString("COLLATION"));
+            index.setAlgorithm(DBIndexAlgorithm.fromString(rs.getString("INDEX_TYPE")));
+            if (index.getAlgorithm() == DBIndexAlgorithm.FULLTEXT) {
+                index.setType(DBIndexType.FULLTEXT);
+            } else if (index.getAlgorithm() == DBIndexAlgorithm.RTREE
+                    || index.getAlgorithm() == DBIndexAlgorithm.SPATIAL) {
+                index.setType(DBIndexType.SPATIAL);
+            } else {
+                if (index.isNonUnique()) {
+                    index.setType(DBIndexType.NORMAL);
                 } else {
-                    if (index.isNonUnique()) {
-                        index.setType(DBIndexType.NORMAL);
-                    } else {
-                        index.setType(DBIndexType.UNIQUE);
-                    }
+                    index.setType(DBIndexType.UNIQUE);
                 }
-                List<String> columnNames = new ArrayList<>();
-                columnNames.add(rs.getString("COLUMN_NAME"));
-                index.setColumnNames(columnNames);
-                index.setGlobal(true);
-                fullIndexName2Index.put(tableName + indexName, index);
-            } else {
-                fullIndexName2Index.get(tableName + indexName).getColumnNames()
-                        .add(rs.getString(MySQLConstants.IDX_COLUMN_NAME));
             }
-            return null;
-        });
-
-        Map<String, List<DBTableIndex>> tableName2Indexes =
-                fullIndexName2Index.values().stream().collect(Collectors.groupingBy(DBTableIndex::getTableName));
-        for (List<DBTableIndex> columns : tableName2Indexes.values()) {
-            columns.stream().sorted(Comparator.comparing(DBTableIndex::getOrdinalPosition))
-                    .collect(Collectors.toList());
+            List<String> columnNames = new ArrayList<>();
+            columnNames.add(rs.getString("COLUMN_NAME"));
+            index.setColumnNames(columnNames);
+            index.setGlobal(true);
+            return index;
+        }, DBTableIndex::getTableName, this::mergeIndexColumns, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName}, handler);
+        handler.finish();
+    }
+
+    /**
+     * each row holds one column of an index, merge rows of the same index into one
+     */
+    private List<DBTableIndex> mergeIndexColumns(List<DBTableIndex> rows) {
+        Map<String, DBTableIndex> indexName2Index = new LinkedHashMap<>();
+        for (DBTableIndex row : rows) {
+            DBTableIndex index = indexName2Index.putIfAbsent(row.getName(), row);
+            if (index != null) {
+                index.getColumnNames().addAll(row.getColumnNames());
+            }
         }
-        return tableName2Indexes;
+        return new ArrayList<>(indexName2Index.values());
     }
 
     protected boolean isIndexDistinguishesVisibility() {
@@ -627,6 +677,13 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableConstraint>> listTableConstraints(String schemaName) {
+        Map<String, List<DBTableConstraint>> tableName2Constraints = new HashMap<>();
+        listTableConstraints(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Constraints));
+        return tableName2Constraints;
+    }
+
+    @Override
+    public void listTableConstraints(String schemaName, BiConsumer<String, List<DBTableConstraint>> consumer) {
         SqlBuilder sqlBuilder = new MySQLSqlBuilder();
         String sql =
                 sqlBuilder
@@ -643,53 +700,49 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
                                         + ".constraint_name")
                         .append(" where t1.table_schema=")
                         .value(schemaName)
-                        .append(" order by t1.CONSTRAINT_NAME, t1.ORDINAL_POSITION asc;")
+                        .append(" order by t1.TABLE_NAME, t1.CONSTRAINT_NAME, t1.ORDINAL_POSITION asc;")
                         .toString();
-        Map<String, DBTableConstraint> fullConstraintName2Constraint = new LinkedHashMap<>();
-        jdbcOperations.query(sql, (rs, num) -> {
-            String constraintName = rs.getString(MySQLConstants.CONS_NAME);
-            String tableName = rs.getString(MySQLConstants.COL_TABLE_NAME);
-            if (!fullConstraintName2Constraint.containsKey(tableName + constraintName)) {
-                DBTableConstraint constraint = new DBTableConstraint();
-                constraint.setName(constraintName);
-                List<String> columnNames = new ArrayList<>();
-                columnNames.add(rs.getString(MySQLConstants.CONS_COL_NAME));
-                constraint.setColumnNames(columnNames);
-                constraint.setOrdinalPosition(rs.getInt(MySQLConstants.COL_ORDINAL_POSITION));
-                constraint.setOwner(rs.getString(MySQLConstants.CONS_CONSTRAINT_SCHEMA));
-                constraint.setSchemaName(schemaName);
-                constraint.setTableName(tableName);
-                constraint.setReferenceSchemaName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_SCHEMA));
-                constraint.setReferenceTableName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_NAME));
-                constraint.setType(DBConstraintType.fromValue(rs.getString(MySQLConstants.CONS_TYPE)));
-                List<String> referencedColumnNames = new ArrayList<>();
-                referencedColumnNames.add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
-                constraint.setReferenceColumnNames(referencedColumnNames);
-
-                fullConstraintName2Constraint.put(tableName + constraintName, constraint);
-            } else {
-                fullConstraintName2Constraint.get(tableName + constraintName).getColumnNames()
-                        .add(rs.getString(MySQLConstants.CONS_COL_NAME));
-                fullConstraintName2Constraint.get(tableName + constraintName).getReferenceColumnNames()
-                        .add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
-            }
-
-            return constraintName;
-        });
-        for (DBTableConstraint constraint : fullConstraintName2Constraint.values()) {
-            if (Objects.nonNull(constraint.getReferenceColumnNames())) {
-                constraint.setReferenceColumnNames(constraint.getReferenceColumnNames().stream()
-                        .filter(Objects::nonNull).distinct().collect(Collectors.toList()));
-            }
-            if (Objects.nonNull(constraint.getColumnNames())) {
-                constraint.setColumnNames(constraint.getColumnNames().stream().filter(Objects::nonNull).distinct()
-                        .collect(Collectors.toList()));
+        GroupByTableRowCallbackHandler<DBTableConstraint> handler = new GroupByTableRowCallbackHandler<>((rs, num) -> {
+            DBTableConstraint constraint = new DBTableConstraint();
+            constraint.setName(rs.getString(MySQLConstants.CONS_NAME));
+            List<String> columnNames = new ArrayList<>();
+            columnNames.add(rs.getString(MySQLConstants.CONS_COL_NAME));
+            constraint.setColumnNames(columnNames);
+            constraint.setOrdinalPosition(rs.getInt(MySQLConstants.COL_ORDINAL_POSITION));
+            constraint.setOwner(rs.getString(MySQLConstants.CONS_CONSTRAINT_SCHEMA));
+            constraint.setSchemaName(schemaName);
+            constraint.setTableName(rs.getString(MySQLConstants.COL_TABLE_NAME));
+            constraint.setReferenceSchemaName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_SCHEMA));
+            constraint.setReferenceTableName(rs.getString(MySQLConstants.CONS_REFERENCED_TABLE_NAME));
+            constraint.setType(DBConstraintType.fromValue(rs.getString(MySQLConstants.CONS_TYPE)));
+            List<String> referencedColumnNames = new ArrayList<>();
+            referencedColumnNames.add(rs.getString(MySQLConstants.CONS_REFERENCED_COLUMN_NAME));
+            constraint.setReferenceColumnNames(referencedColumnNames);
+            return constraint;
+        }, DBTableConstraint::getTableName, this::mergeConstraintColumns, consumer);
+        jdbcOperations.query(sql, handler);
+        handler.finish();
+    }
+
+    /**
+     * each row holds one column of a constraint, merge rows of the same constraint into one
+     */
+    private List<DBTableConstraint> mergeConstraintColumns(List<DBTableConstraint> rows) {
+        Map<String, DBTableConstraint> constraintName2Constraint = new LinkedHashMap<>();
+        for (DBTableConstraint row : rows) {
+            DBTableConstraint constraint = constraintName2Constraint.putIfAbsent(row.getName(), row);
+            if (constraint != null) {
+                constraint.getColumnNames().addAll(row.getColumnNames());
+                constraint.getReferenceColumnNames().addAll(row.getReferenceColumnNames());
             }
         }
-        Map<String, List<DBTableConstraint>> tableName2Constraints =
-                fullConstraintName2Constraint.values().stream()
-                        .collect(Collectors.groupingBy(DBTableConstraint::getTableName));
-        return tableName2Constraints;
+        for (DBTableConstraint constraint : constraintName2Constraint.values()) {
+            constraint.setReferenceColumnNames(constraint.getReferenceColumnNames().stream()
+                    .filter(Objects::nonNull).distinct().collect(Collectors.toList()));
+            constraint.setColumnNames(constraint.getColumnNames().stream().filter(Objects::nonNull).distinct()
+                    .collect(Collectors.toList()));
+        }
+        return new ArrayList<>(constraintName2Constraint.values());
     }
 
     @Override
@@ -846,26 +899,59 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public DBTablePartition getPartition(String schemaName, String tableName) {
-        DBTablePartition partition = new DBTablePartition();
-        DBTablePartition subPartition = new DBTablePartition();
-        partition.setSubpartition(subPartition);
-
-        DBTablePartitionOption partitionOption = new DBTablePartitionOption();
-        partitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
-        partition.setPartitionOption(partitionOption);
-
-        DBTablePartitionOption subPartitionOption = new DBTablePartitionOption();
-        subPartitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
-        subPartition.setPartitionOption(subPartitionOption);
+        PartitionCollector collector = new PartitionCollector();
+        String sql = sqlMapper.getSql(Statements.GET_PARTITION);
+        jdbcOperations.query(sql, new Object[] {schemaName, tableName}, collector::collect);
+        return collector.finish();
+    }
 
-        List<DBTablePartitionDefinition> partitionDefinitions = new ArrayList<>();
-        partition.setPartitionDefinitions(partitionDefinitions);
-        List<DBTablePartitionDefinition> subPartitionDefinitions = new ArrayList<>();
-        subPartition.setPartitionDefinitions(subPartitionDefinitions);
+    @Override
+    public Map<String, DBTablePartition> getPartitions(String schemaName, List<String> tableNames) {
+        // table names are compared just like the per table query, which is case insensitive by default
+        Map<String, PartitionCollector> tableName2Collector = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (!tableNames.isEmpty()) {
+            MySQLSqlBuilder sb = new MySQLSqlBuilder();
+            sb.append("SELECT TABLE_NAME, PARTITION_NAME, SUBPARTITION_NAME, COUNT(SUBPARTITION_NAME) AS SUB_NUM, "
+                    + "PARTITION_ORDINAL_POSITION, PARTITION_METHOD, SUBPARTITION_METHOD, PARTITION_EXPRESSION, "
+                    + "SUBPARTITION_EXPRESSION, PARTITION_DESCRIPTION FROM information_schema.partitions "
+                    + "WHERE TABLE_SCHEMA = ").value(schemaName).append(" AND TABLE_NAME IN (")
+                    .values(tableNames)
+                    .append(") GROUP BY TABLE_NAME, PARTITION_NAME ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION ASC");
+            jdbcOperations.query(sb.toString(), rs -> {
+                tableName2Collector.computeIfAbsent(rs.getString("TABLE_NAME"), t -> new PartitionCollector())
+                        .collect(rs);
+            });
+        }
+        Map<String, DBTablePartition> tableName2Partition = new HashMap<>();
+        for (String tableName : tableNames) {
+            PartitionCollector collector = tableName2Collector.get(tableName);
+            tableName2Partition.put(tableName, (collector == null ? new PartitionCollector() : collector).finish());
+        }
+        return tableName2Partition;
+    }
+
+    /**
+     * Builds a {@link DBTablePartition} from rows of {@code information_schema.partitions} of one table
+     */
+    private static class PartitionCollector {
+        private final DBTablePartition partition = new DBTablePartition();
+        private final DBTablePartitionOption partitionOption = new DBTablePartitionOption();
+        private final DBTablePartitionOption subPartitionOption = new DBTablePartitionOption();
+        private final List<DBTablePartitionDefinition> partitionDefinitions = new ArrayList<>();
+        private final Set<String> partitionNames = new HashSet<>();
+
+        PartitionCollector() {
+            DBTablePartition subPartition = new DBTablePartition();
+            partition.setSubpartition(subPartition);
+            partitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
+            partition.setPartitionOption(partitionOption);
+            subPartitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
+            subPartition.setPartitionOption(subPartitionOption);
+            partition.setPartitionDefinitions(partitionDefinitions);
+            subPartition.setPartitionDefinitions(new ArrayList<>());
+        }
 
-        Set<String> partitionNames = new HashSet<>();
-        String sql = sqlMapper.getSql(Statements.GET_PARTITION);
-        jdbcOperations.query(sql, new Object[] {schemaName, tableName}, rs -> {
+        void collect(ResultSet rs) throws SQLException {
             partitionOption.setType(DBTablePartitionType.fromValue(rs.getString("PARTITION_METHOD")));
             String expression = rs.getString("PARTITION_EXPRESSION");
             if (StringUtils.isNotEmpty(expression)) {
@@ -908,16 +994,18 @@ public class MySQLNoGreaterThan5740SchemaAccessor implements DBSchemaAccessor {
                     partition.setWarning("Only support HASH/KEY subpartition currently, please check comparing ddl");
                 }
             }
-        });
+        }
 
-        partitionOption.setPartitionsNum(partitionNames.size());
-        // OB 字典表不兼容的 bug，即使是非分区表，PARTITION_METHOD 也会是 HASH
-        // 这里判断下如果是 HASH 分区，且分区数为 0 的话，认为是非分区表
-        if (partitionOption.getType() == DBTablePartitionType.HASH && partitionOption.getPartitionsNum() == 0) {
-            partitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
-            partition.setPartitionDefinitions(Collections.emptyList());
+        DBTablePartition finish() {
+            partitionOption.setPartitionsNum(partitionNames.size());
+            // OB 字典表不兼容的 bug，即使是非分区表，PARTITION_METHOD 也会是 HASH
+            // 这里判断下如果是 HASH 分区，且分区数为 0 的话，认为是非分区表
+            if (partitionOption.getType() == DBTablePartitionType.HASH && partitionOption.getPartitionsNum() == 0) {
+                partitionOption.setType(DBTablePartitionType.NOT_PARTITIONED);
+                partition.setPartitionDefinitions(Collections.emptyList());
+            }
+            return partition;
         }
-        return partition;
     }
 
     @Override
@@ -17,9 +17,10 @@ package com.oceanbase.tools.dbbrowser.schema.mysql;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.lang.NonNull;
@@ -37,6 +38,7 @@ import com.oceanbase.tools.dbbrowser.model.DBView;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessorSqlMappers;
 import com.oceanbase.tools.dbbrowser.schema.constant.Statements;
 import com.oceanbase.tools.dbbrowser.schema.constant.StatementsFiles;
+import com.oceanbase.tools.dbbrowser.util.GroupByTableRowCallbackHandler;
 import com.oceanbase.tools.dbbrowser.util.MySQLSqlBuilder;
 import com.oceanbase.tools.dbbrowser.util.StringUtils;
 
@@ -204,6 +206,18 @@ public class OBMySQLBetween2277And3XSchemaAccessor extends OBMySQLSchemaAccessor
         return partition;
     }
 
+    /**
+     * partitions are read from internal tables here, which can not be queried by a list of tables
+     */
+    @Override
+    public Map<String, DBTablePartition> getPartitions(String schemaName, List<String> tableNames) {
+        Map<String, DBTablePartition> tableName2Partition = new HashMap<>();
+        for (String tableName : tableNames) {
+            tableName2Partition.put(tableName, getPartition(schemaName, tableName));
+        }
+        return tableName2Partition;
+    }
+
     @Override
     public List<DBObjectIdentity> listSequences(String schemaName) {
         throw new UnsupportedOperationException("Not supported yet");
@@ -221,24 +235,26 @@ public class OBMySQLBetween2277And3XSchemaAccessor extends OBMySQLSchemaAccessor
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName) {
+    public void listBasicTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_TABLE_COLUMNS);
-        List<DBTableColumn> tableColumns = jdbcOperations.query(sql, new Object[] {schemaName},
-                listBasicTableColumnRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicTableColumnRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName}, handler);
+        handler.finish();
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listBasicViewColumns(String schemaName) {
+    public void listBasicViewColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         MySQLSqlBuilder sb = new MySQLSqlBuilder();
         sb.append("select table_name from information_schema.views where table_schema=");
         sb.value(schemaName);
         List<String> viewNames = jdbcOperations.query(sb.toString(), (rs, rowNum) -> rs.getString("table_name"));
-        List<DBTableColumn> columns = new ArrayList<>();
         for (String viewName : viewNames) {
-            columns.addAll(fillViewColumnInfoByDesc(schemaName, viewName));
+            List<DBTableColumn> columns = fillViewColumnInfoByDesc(schemaName, viewName);
+            if (!columns.isEmpty()) {
+                consumer.accept(viewName, columns);
+            }
         }
-        return columns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
     }
 
     @Override
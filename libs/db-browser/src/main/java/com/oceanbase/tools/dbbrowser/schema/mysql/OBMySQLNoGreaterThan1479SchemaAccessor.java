@@ -20,8 +20,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -180,14 +180,11 @@ public class OBMySQLNoGreaterThan1479SchemaAccessor extends BaseOBMySQLLessThan2
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listTableColumns(String schemaName) {
-        Map<String, List<DBTableColumn>> tableName2Columns = super.listTableColumns(schemaName);
-        for (List<DBTableColumn> columnList : tableName2Columns.values()) {
-            if (CollectionUtils.isNotEmpty(columnList)) {
-                columnList.forEach(column -> fillPrecisionAndScale(column));
-            }
-        }
-        return tableName2Columns;
+    public void listTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        super.listTableColumns(schemaName, (tableName, columns) -> {
+            columns.forEach(column -> fillPrecisionAndScale(column));
+            consumer.accept(tableName, columns);
+        });
     }
 
 
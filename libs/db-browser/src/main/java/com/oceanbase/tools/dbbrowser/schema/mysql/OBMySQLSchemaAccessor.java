@@ -17,8 +17,8 @@ package com.oceanbase.tools.dbbrowser.schema.mysql;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -143,10 +143,11 @@ public class OBMySQLSchemaAccessor extends MySQLNoGreaterThan5740SchemaAccessor
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listTableColumns(String schemaName) {
-        Map<String, List<DBTableColumn>> tableName2Columns = super.listTableColumns(schemaName);
-        tableName2Columns.forEach((tableName, columns) -> setStoredColumnByDDL(schemaName, tableName, columns));
-        return tableName2Columns;
+    public void listTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        super.listTableColumns(schemaName, (tableName, columns) -> {
+            setStoredColumnByDDL(schemaName, tableName, columns);
+            consumer.accept(tableName, columns);
+        });
     }
 
     protected void setStoredColumnByDDL(String schemeName, String tableName, List<DBTableColumn> columns) {
@@ -202,17 +203,16 @@ public class OBMySQLSchemaAccessor extends MySQLNoGreaterThan5740SchemaAccessor
     }
 
     @Override
-    public Map<String, List<DBTableIndex>> listTableIndexes(String schemaName) {
-        Map<String, List<DBTableIndex>> tableName2Indexes = super.listTableIndexes(schemaName);
-        for (Map.Entry<String, List<DBTableIndex>> entry : tableName2Indexes.entrySet()) {
-            fillIndexRange(entry.getValue(), schemaName, entry.getKey());
-            for (DBTableIndex index : entry.getValue()) {
+    public void listTableIndexes(String schemaName, BiConsumer<String, List<DBTableIndex>> consumer) {
+        super.listTableIndexes(schemaName, (tableName, indexes) -> {
+            fillIndexRange(indexes, schemaName, tableName);
+            for (DBTableIndex index : indexes) {
                 if (index.getAlgorithm() == DBIndexAlgorithm.UNKNOWN) {
                     index.setAlgorithm(DBIndexAlgorithm.BTREE);
                 }
             }
-        }
-        return tableName2Indexes;
+            consumer.accept(tableName, indexes);
+        });
     }
 
     @Override
@@ -18,8 +18,7 @@ package com.oceanbase.tools.dbbrowser.schema.oracle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
 
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -35,6 +34,7 @@ import com.oceanbase.tools.dbbrowser.model.DBTablePartitionType;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessorSqlMappers;
 import com.oceanbase.tools.dbbrowser.schema.constant.Statements;
 import com.oceanbase.tools.dbbrowser.schema.constant.StatementsFiles;
+import com.oceanbase.tools.dbbrowser.util.GroupByTableRowCallbackHandler;
 import com.oceanbase.tools.dbbrowser.util.OracleDataDictTableNames;
 import com.oceanbase.tools.dbbrowser.util.OracleSqlBuilder;
 import com.oceanbase.tools.dbbrowser.util.StringUtils;
@@ -146,23 +146,25 @@ public class OBOracleLessThan400SchemaAccessor extends OBOracleSchemaAccessor {
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName) {
+    public void listBasicTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_TABLE_COLUMNS);
-        List<DBTableColumn> tableColumns =
-                jdbcOperations.query(sql, new Object[] {schemaName}, listBasicColumnsRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicColumnsRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName}, handler);
+        handler.finish();
     }
 
     @Override
-    public Map<String, List<DBTableColumn>> listBasicViewColumns(String schemaName) {
+    public void listBasicViewColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         OracleSqlBuilder sb = new OracleSqlBuilder();
         sb.append("select view_name from all_views where owner = ").value(schemaName);
         List<String> viewNames = jdbcOperations.query(sb.toString(), (rs, rowNum) -> rs.getString("view_name"));
-        List<DBTableColumn> columns = new ArrayList<>();
         for (String viewName : viewNames) {
-            columns.addAll(fillViewColumnInfoByDesc(schemaName, viewName));
+            List<DBTableColumn> columns = fillViewColumnInfoByDesc(schemaName, viewName);
+            if (!columns.isEmpty()) {
+                consumer.accept(viewName, columns);
+            }
         }
-        return columns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -71,6 +72,7 @@ import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessorSqlMappers;
 import com.oceanbase.tools.dbbrowser.schema.constant.Statements;
 import com.oceanbase.tools.dbbrowser.schema.constant.StatementsFiles;
 import com.oceanbase.tools.dbbrowser.util.DBSchemaAccessorUtil;
+import com.oceanbase.tools.dbbrowser.util.GroupByTableRowCallbackHandler;
 import com.oceanbase.tools.dbbrowser.util.OracleDataDictTableNames;
 import com.oceanbase.tools.dbbrowser.util.OracleSqlBuilder;
 import com.oceanbase.tools.dbbrowser.util.StringUtils;
@@ -408,29 +410,42 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableColumn>> listTableColumns(String schemaName) {
-        String sql = this.sqlMapper.getSql(Statements.LIST_SCHEMA_COLUMNS);
-        List<DBTableColumn> tableColumns =
-                this.jdbcOperations.query(sql.toString(), new Object[] {schemaName},
-                        listColumnsRowMapper());
-        Map<String, List<DBTableColumn>> tableName2Columns =
-                tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
-        tableName2Columns.forEach((table, cols) -> {
-            Map<String, String> name2Comments = mapColumnName2ColumnComments(schemaName, table);
-            cols.stream().forEach(col -> {
-                if (name2Comments.containsKey(col.getName())) {
-                    col.setComment(name2Comments.get(col.getName()));
-                }
-            });
-        });
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        listTableColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
         return tableName2Columns;
     }
 
+    @Override
+    public void listTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
+        String sql = this.sqlMapper.getSql(Statements.LIST_SCHEMA_COLUMNS);
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listColumnsRowMapper(), DBTableColumn::getTableName, (table, cols) -> {
+                    Map<String, String> name2Comments = mapColumnName2ColumnComments(schemaName, table);
+                    cols.forEach(col -> {
+                        if (name2Comments.containsKey(col.getName())) {
+                            col.setComment(name2Comments.get(col.getName()));
+                        }
+                    });
+                    consumer.accept(table, cols);
+                });
+        this.jdbcOperations.query(sql, new Object[] {schemaName}, handler);
+        handler.finish();
+    }
+
     @Override
     public Map<String, List<DBTableColumn>> listBasicTableColumns(String schemaName) {
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        listBasicTableColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
+        return tableName2Columns;
+    }
+
+    @Override
+    public void listBasicTableColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_TABLE_COLUMNS);
-        List<DBTableColumn> tableColumns =
-                jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, listBasicColumnsRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicColumnsRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, handler);
+        handler.finish();
     }
 
     @Override
@@ -441,10 +456,18 @@ public class OracleSchemaAccessor implements DBSchemaAccessor {
 
     @Override
     public Map<String, List<DBTableColumn>> listBasicViewColumns(String schemaName) {
+        Map<String, List<DBTableColumn>> viewName2Columns = new HashMap<>();
+        listBasicViewColumns(schemaName, GroupByTableRowCallbackHandler.collectTo(viewName2Columns));
+        return viewName2Columns;
+    }
+
+    @Override
+    public void listBasicViewColumns(String schemaName, BiConsumer<String, List<DBTableColumn>> consumer) {
         String sql = sqlMapper.getSql(Statements.LIST_BASIC_SCHEMA_VIEW_COLUMNS);
-        List<DBTableColumn> tableColumns =
-                jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, listBasicColumnsRowMapper());
-        return tableColumns.stream().collect(Collectors.groupingBy(DBTableColumn::getTableName));
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                listBasicColumnsRowMapper(), DBTableColumn::getTableName, consumer);
+        jdbcOperations.query(sql, new Object[] {schemaName, schemaName}, handler);
+        handler.finish();
     }
 
     @Override
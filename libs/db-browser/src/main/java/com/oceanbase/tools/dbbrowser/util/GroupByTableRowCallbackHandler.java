@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@link GroupByTableRowCallbackHandler}, maps the rows of a {@link ResultSet} sorted by table name
+ * and hands them over to the consumer table by table, so that only the rows of one table are held
+ * in memory at the same time. {@link #finish()} must be called after the query to flush the rows of
+ * the last table.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class GroupByTableRowCallbackHandler<T> implements RowCallbackHandler {
+
+    private final RowMapper<T> rowMapper;
+    private final Function<T, String> tableNameExtractor;
+    private final UnaryOperator<List<T>> finisher;
+    private final BiConsumer<String, List<T>> consumer;
+    private String tableName;
+    private List<T> rows = new ArrayList<>();
+    private int rowNum = 0;
+    @Getter
+    private int maxBufferedRows = 0;
+
+    public GroupByTableRowCallbackHandler(@NonNull RowMapper<T> rowMapper,
+            @NonNull Function<T, String> tableNameExtractor, @NonNull BiConsumer<String, List<T>> consumer) {
+        this(rowMapper, tableNameExtractor, UnaryOperator.identity(), consumer);
+    }
+
+    /**
+     * @param finisher applied to the rows of a table before they are handed over, eg. merge the rows of
+     *        one index into one object
+     */
+    public GroupByTableRowCallbackHandler(@NonNull RowMapper<T> rowMapper,
+            @NonNull Function<T, String> tableNameExtractor, @NonNull UnaryOperator<List<T>> finisher,
+            @NonNull BiConsumer<String, List<T>> consumer) {
+        this.rowMapper = rowMapper;
+        this.tableNameExtractor = tableNameExtractor;
+        this.finisher = finisher;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        T row = rowMapper.mapRow(rs, rowNum++);
+        if (row == null) {
+            return;
+        }
+        String current = tableNameExtractor.apply(row);
+        if (!rows.isEmpty() && !Objects.equals(current, tableName)) {
+            flush();
+        }
+        tableName = current;
+        rows.add(row);
+        maxBufferedRows = Math.max(maxBufferedRows, rows.size());
+    }
+
+    public void finish() {
+        if (!rows.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Collect the rows into a map, rows of a table handed over more than once will be merged
+     */
+    public static <T> BiConsumer<String, List<T>> collectTo(@NonNull Map<String, List<T>> tableName2Rows) {
+        return (tableName, rows) -> tableName2Rows.computeIfAbsent(tableName, t -> new ArrayList<>()).addAll(rows);
+    }
+
+    private void flush() {
+        List<T> group = rows;
+        rows = new ArrayList<>();
+        consumer.accept(tableName, finisher.apply(group));
+    }
+
+}
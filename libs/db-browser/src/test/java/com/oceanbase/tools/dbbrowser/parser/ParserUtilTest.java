@@ -288,4 +288,37 @@ public class ParserUtilTest {
         BasicResult result = ParserUtil.parseOracleType(sql);
         Assert.assertTrue(result.getSyntaxError());
     }
+
+    @Test
+    public void classifyMysqlType_selectWithComment_classifiedByLexer() {
+        String sql = "/* comment */ -- comment\n select * from db.t_test";
+        BasicResult result = ParserUtil.classifyMysqlType(sql, 0);
+        Assert.assertEquals(SqlType.SELECT, result.getSqlType());
+        Assert.assertNull(result.getSyntaxError());
+        Assert.assertTrue(result.getDbObjectNameList().isEmpty());
+    }
+
+    @Test
+    public void classifyMysqlType_dropTable_fallbackToParser() {
+        String sql = "drop table tb1";
+        BasicResult result = ParserUtil.classifyMysqlType(sql, 0);
+        Assert.assertEquals(SqlType.DROP, result.getSqlType());
+        Assert.assertEquals(DBObjectType.TABLE, result.getDbObjectType());
+        Assert.assertEquals("tb1", result.getDbObjectNameList().get(0));
+    }
+
+    @Test
+    public void classifyOracleType_update_classifiedByLexer() {
+        String sql = "update t_test set c1 = 1 where c2 = 2";
+        BasicResult result = ParserUtil.classifyOracleType(sql, 0);
+        Assert.assertEquals(SqlType.UPDATE, result.getSqlType());
+        Assert.assertEquals(ParserUtil.parseOracleType(sql).getSqlType(), result.getSqlType());
+    }
+
+    @Test
+    public void classifyOracleType_syntaxError_fallbackToParser() {
+        String sql = "abc";
+        BasicResult result = ParserUtil.classifyOracleType(sql, 0);
+        Assert.assertTrue(result.getSyntaxError());
+    }
 }
@@ -226,6 +226,30 @@ public class MySQLNoGreaterThan5740SchemaAccessorTest extends BaseTestEnv {
         Assert.assertEquals("10", partition.getPartitionDefinitions().get(0).getMaxValues().get(0));
     }
 
+    @Test
+    public void getPartitions_MultiTables_SameAsGetPartition() {
+        Map<String, DBTablePartition> tableName2Partition = accessor.getPartitions(getMySQLDataBaseName(),
+                Arrays.asList("part_hash", "part_list", "part_range", "not_exists"));
+        Assert.assertEquals(4, tableName2Partition.size());
+        for (String tableName : Arrays.asList("part_hash", "part_list", "part_range")) {
+            DBTablePartition expect = accessor.getPartition(getMySQLDataBaseName(), tableName);
+            DBTablePartition actual = tableName2Partition.get(tableName);
+            Assert.assertEquals(expect.getPartitionOption(), actual.getPartitionOption());
+            Assert.assertEquals(expect.getPartitionDefinitions(), actual.getPartitionDefinitions());
+        }
+        Assert.assertEquals(DBTablePartitionType.NOT_PARTITIONED,
+                tableName2Partition.get("not_exists").getPartitionOption().getType());
+    }
+
+    @Test
+    public void listBasicTableColumns_MultiTables_OnlyGivenTablesReturned() {
+        Map<String, List<DBTableColumn>> tableName2Columns = accessor.listBasicTableColumns(getMySQLDataBaseName(),
+                Arrays.asList("part_hash", "part_range"));
+        Assert.assertEquals(2, tableName2Columns.size());
+        Assert.assertEquals(accessor.listBasicTableColumns(getMySQLDataBaseName(), "part_hash").size(),
+                tableName2Columns.get("part_hash").size());
+    }
+
     @Test
     public void listTableOptions_Success() {
         Map<String, DBTableOptions> table2Options =
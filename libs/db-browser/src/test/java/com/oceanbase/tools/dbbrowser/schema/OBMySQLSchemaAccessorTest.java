@@ -373,6 +373,30 @@ public class OBMySQLSchemaAccessorTest extends BaseTestEnv {
         Assert.assertEquals("10", partition.getPartitionDefinitions().get(0).getMaxValues().get(0));
     }
 
+    @Test
+    public void getPartitions_MultiTables_SameAsGetPartition() {
+        Map<String, DBTablePartition> tableName2Partition = accessor.getPartitions(getOBMySQLDataBaseName(),
+                Arrays.asList("part_hash", "part_list", "part_range", "not_exists"));
+        Assert.assertEquals(4, tableName2Partition.size());
+        for (String tableName : Arrays.asList("part_hash", "part_list", "part_range")) {
+            DBTablePartition expect = accessor.getPartition(getOBMySQLDataBaseName(), tableName);
+            DBTablePartition actual = tableName2Partition.get(tableName);
+            Assert.assertEquals(expect.getPartitionOption(), actual.getPartitionOption());
+            Assert.assertEquals(expect.getPartitionDefinitions(), actual.getPartitionDefinitions());
+        }
+        Assert.assertEquals(DBTablePartitionType.NOT_PARTITIONED,
+                tableName2Partition.get("not_exists").getPartitionOption().getType());
+    }
+
+    @Test
+    public void listBasicTableColumns_MultiTables_OnlyGivenTablesReturned() {
+        Map<String, List<DBTableColumn>> tableName2Columns = accessor.listBasicTableColumns(getOBMySQLDataBaseName(),
+                Arrays.asList("part_hash", "part_range"));
+        Assert.assertEquals(2, tableName2Columns.size());
+        Assert.assertEquals(accessor.listBasicTableColumns(getOBMySQLDataBaseName(), "part_hash").size(),
+                tableName2Columns.get("part_hash").size());
+    }
+
     @Test
     public void listTableColumns_test_in_mysql_schema_view_as_base_table_Success() {
         List<DBTableColumn> columns = accessor.listTableColumns("mysql", "time_zone_transition");
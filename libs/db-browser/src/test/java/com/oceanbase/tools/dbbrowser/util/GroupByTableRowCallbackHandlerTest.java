@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.dbbrowser.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
+import com.oceanbase.tools.dbbrowser.model.DBTableIndex;
+
+/**
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class GroupByTableRowCallbackHandlerTest {
+
+    private static final int TABLE_COUNT = 50000;
+    private static final int COLUMN_COUNT = 10;
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeClass
+    public static void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:synthetic_schema;MODE=MySQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE synthetic_columns(table_name VARCHAR(64), ordinal_position INT, "
+                + "column_name VARCHAR(64), data_type VARCHAR(64))");
+        jdbcTemplate.execute("INSERT INTO synthetic_columns SELECT 't_' || LPAD(t.X, 6, '0'), c.X, 'c_' || c.X, "
+                + "'varchar' FROM SYSTEM_RANGE(1, " + TABLE_COUNT + ") t, SYSTEM_RANGE(1, " + COLUMN_COUNT + ") c");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    public void processRow_LargeSchema_OnlyOneTableBuffered() {
+        AtomicInteger tableCount = new AtomicInteger();
+        AtomicInteger columnCount = new AtomicInteger();
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                columnRowMapper(), DBTableColumn::getTableName, (tableName, columns) -> {
+                    tableCount.incrementAndGet();
+                    columnCount.addAndGet(columns.size());
+                    Assert.assertTrue(columns.stream().allMatch(c -> tableName.equals(c.getTableName())));
+                });
+        jdbcTemplate.query("SELECT * FROM synthetic_columns ORDER BY table_name, ordinal_position", handler);
+        handler.finish();
+        Assert.assertEquals(TABLE_COUNT, tableCount.get());
+        Assert.assertEquals(TABLE_COUNT * COLUMN_COUNT, columnCount.get());
+        Assert.assertEquals(COLUMN_COUNT, handler.getMaxBufferedRows());
+    }
+
+    @Test
+    public void processRow_EmptyResult_ConsumerNotCalled() {
+        AtomicInteger tableCount = new AtomicInteger();
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                columnRowMapper(), DBTableColumn::getTableName, (tableName, columns) -> tableCount.incrementAndGet());
+        jdbcTemplate.query("SELECT * FROM synthetic_columns WHERE 1 = 0", handler);
+        handler.finish();
+        Assert.assertEquals(0, tableCount.get());
+    }
+
+    @Test
+    public void processRow_WithFinisher_RowsMerged() {
+        Map<String, List<DBTableIndex>> tableName2Indexes = new HashMap<>();
+        GroupByTableRowCallbackHandler<DBTableIndex> handler = new GroupByTableRowCallbackHandler<>((rs, num) -> {
+            DBTableIndex index = new DBTableIndex();
+            index.setTableName(rs.getString("table_name"));
+            index.setName("idx_" + rs.getString("table_name"));
+            index.setColumnNames(new ArrayList<>(Arrays.asList(rs.getString("column_name"))));
+            return index;
+        }, DBTableIndex::getTableName, rows -> {
+            Map<String, DBTableIndex> name2Index = new LinkedHashMap<>();
+            rows.forEach(row -> name2Index.merge(row.getName(), row, (i1, i2) -> {
+                i1.getColumnNames().addAll(i2.getColumnNames());
+                return i1;
+            }));
+            return new ArrayList<>(name2Index.values());
+        }, GroupByTableRowCallbackHandler.collectTo(tableName2Indexes));
+        jdbcTemplate.query("SELECT * FROM synthetic_columns WHERE table_name IN ('t_000001', 't_000002') "
+                + "AND ordinal_position <= 3 ORDER BY table_name, ordinal_position", handler);
+        handler.finish();
+        Assert.assertEquals(2, tableName2Indexes.size());
+        Assert.assertEquals(1, tableName2Indexes.get("t_000001").size());
+        Assert.assertEquals(Arrays.asList("c_1", "c_2", "c_3"),
+                tableName2Indexes.get("t_000001").get(0).getColumnNames());
+    }
+
+    @Test
+    public void collectTo_TableHandedOverTwice_Merged() {
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        GroupByTableRowCallbackHandler<DBTableColumn> handler = new GroupByTableRowCallbackHandler<>(
+                columnRowMapper(), DBTableColumn::getTableName,
+                GroupByTableRowCallbackHandler.collectTo(tableName2Columns));
+        jdbcTemplate.query("SELECT * FROM synthetic_columns WHERE table_name IN ('t_000001', 't_000002') "
+                + "ORDER BY ordinal_position, table_name", handler);
+        handler.finish();
+        Assert.assertEquals(2, tableName2Columns.size());
+        Assert.assertEquals(COLUMN_COUNT, tableName2Columns.get("t_000001").size());
+        Assert.assertEquals(1, handler.getMaxBufferedRows());
+    }
+
+    private RowMapper<DBTableColumn> columnRowMapper() {
+        return (rs, num) -> {
+            DBTableColumn column = new DBTableColumn();
+            column.setTableName(rs.getString("table_name"));
+            column.setName(rs.getString("column_name"));
+            column.setTypeName(rs.getString("data_type"));
+            column.setOrdinalPosition(rs.getInt("ordinal_position"));
+            return column;
+        };
+    }
+
+}
@@ -49,6 +49,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.oceanbase.tools.sqlparser.adapter.StatementFactory;
 import com.oceanbase.tools.sqlparser.statement.Statement;
 import com.oceanbase.tools.sqlparser.util.TimeoutTokenStream;
+import com.oceanbase.tools.sqlparser.util.TwoStageParsing;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -100,7 +101,7 @@ public abstract class BaseSQLParser<T extends Lexer, V extends Parser> implement
         parser.removeErrorListeners();
         parser.addErrorListener(new FastFailErrorListener());
         parser.setErrorHandler(new FastFailErrorStrategy());
-        return doParse(parser);
+        return TwoStageParsing.parse(parser, this::doParse);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
+import com.oceanbase.tools.sqlparser.obmysql.OBParser;
+import com.oceanbase.tools.sqlparser.obmysql.PLLexer;
+import com.oceanbase.tools.sqlparser.obmysql.PLParser;
+import com.oceanbase.tools.sqlparser.oracle.PlSqlLexer;
+import com.oceanbase.tools.sqlparser.oracle.PlSqlParser;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * {@link GrammarDFACache}
+ *
+ * The generated lexers and parsers share their DFA caches statically among all the instances of the
+ * same grammar, caches are filled during prediction and never shrink. This class is used to observe
+ * and to clear the caches of one grammar.
+ *
+ * Clearing a cache only replaces the {@link DFA}s of the grammar, parses in progress keep on
+ * working with the ones they have already got, so it is safe to clear caches concurrently.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class GrammarDFACache {
+
+    /**
+     * rough retained sizes of a {@link DFAState} and an ATN config of it, used for estimation only
+     */
+    private static final long DFA_STATE_BYTES = 120;
+    private static final long ATN_CONFIG_BYTES = 40;
+    private static final List<GrammarDFACache> GRAMMARS = Collections.unmodifiableList(Arrays.asList(
+            new GrammarDFACache("ob_mysql", OBLexer::new, OBParser::new),
+            new GrammarDFACache("ob_mysql_pl", PLLexer::new, PLParser::new),
+            new GrammarDFACache("ob_oracle", com.oceanbase.tools.sqlparser.oboracle.OBLexer::new,
+                    com.oceanbase.tools.sqlparser.oboracle.OBParser::new),
+            new GrammarDFACache("ob_oracle_pl", com.oceanbase.tools.sqlparser.oboracle.PLLexer::new,
+                    com.oceanbase.tools.sqlparser.oboracle.PLParser::new),
+            new GrammarDFACache("oracle_plsql", PlSqlLexer::new, PlSqlParser::new)));
+
+    @Getter
+    private final String grammar;
+    private final List<ATNSimulator> simulators;
+    private final List<DFA[]> decisionToDFAs;
+
+    private <T extends Lexer> GrammarDFACache(@NonNull String grammar,
+            @NonNull Function<CharStream, T> lexerSupplier,
+            @NonNull Function<TokenStream, ? extends Parser> parserSupplier) {
+        this.grammar = grammar;
+        // caches are static, any instance of the recognizer is able to reach them
+        T lexer = lexerSupplier.apply(CharStreams.fromString(""));
+        Parser parser = parserSupplier.apply(new CommonTokenStream(lexer));
+        this.simulators = Arrays.asList(lexer.getInterpreter(), parser.getInterpreter());
+        // arrays are shared, clearing only replaces the elements of them
+        this.decisionToDFAs = Arrays.asList(lexer.getInterpreter().decisionToDFA,
+                parser.getInterpreter().decisionToDFA);
+    }
+
+    /**
+     * @return caches of all the grammars in this library
+     */
+    public static List<GrammarDFACache> all() {
+        return GRAMMARS;
+    }
+
+    public long getDFAStateCount() {
+        long count = 0;
+        for (DFA[] decisionToDFA : this.decisionToDFAs) {
+            for (DFA dfa : decisionToDFA) {
+                count += dfa.states.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return estimated heap size of the caches, in bytes
+     */
+    public long getEstimatedSizeInBytes() {
+        long bytes = 0;
+        for (DFA[] decisionToDFA : this.decisionToDFAs) {
+            for (DFA dfa : decisionToDFA) {
+                List<DFAState> states;
+                synchronized (dfa.states) {
+                    states = new ArrayList<>(dfa.states.keySet());
+                }
+                for (DFAState state : states) {
+                    bytes += DFA_STATE_BYTES;
+                    if (state.configs != null) {
+                        bytes += ATN_CONFIG_BYTES * state.configs.size();
+                    }
+                }
+            }
+        }
+        return bytes;
+    }
+
+    public void clear() {
+        this.simulators.forEach(ATNSimulator::clearDFA);
+    }
+
+}
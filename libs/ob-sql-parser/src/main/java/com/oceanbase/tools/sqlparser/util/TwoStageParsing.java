@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.LexerNoViableAltException;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import com.oceanbase.tools.sqlparser.FastFailErrorListener;
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+
+import lombok.NonNull;
+
+/**
+ * {@link TwoStageParsing}
+ *
+ * Parse with {@link PredictionMode#SLL} first, which is much cheaper than the full
+ * {@link PredictionMode#LL} prediction. Only if SLL reports a syntax error the input will be parsed
+ * again in {@link PredictionMode#LL}, since SLL may fail on input which is legal for LL. The parser
+ * has to fail fast on syntax errors by throwing {@link SyntaxErrorException}. Error listeners of
+ * the parser are detached during the SLL stage, since an SLL failure is expected and must not be
+ * reported (eg. printed by {@link org.antlr.v4.runtime.ConsoleErrorListener}). Cancellations not
+ * caused by a syntax error, such as the timeout of {@link TimeoutTokenStream}, are thrown directly.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class TwoStageParsing {
+
+    private static final AtomicLong SLL_PARSE_COUNT = new AtomicLong();
+    private static final AtomicLong LL_PARSE_COUNT = new AtomicLong();
+
+    public static <P extends Parser, R> R parse(@NonNull P parser, @NonNull Function<P, R> entry) {
+        List<ANTLRErrorListener> listeners = new ArrayList<>(parser.getErrorListeners());
+        parser.removeErrorListeners();
+        parser.addErrorListener(new FastFailErrorListener());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            R result = entry.apply(parser);
+            SLL_PARSE_COUNT.incrementAndGet();
+            return result;
+        } catch (SyntaxErrorException e) {
+            if (e.getCause() instanceof LexerNoViableAltException) {
+                // lexer error can not be fixed by another prediction mode
+                throw e;
+            }
+        } catch (ParseCancellationException e) {
+            if (!(e.getCause() instanceof RecognitionException)) {
+                // cancelled for other reasons (eg. timeout of TimeoutTokenStream), parse again is useless
+                throw e;
+            }
+            // bail out by error strategy, retry in LL as well
+        } finally {
+            parser.removeErrorListeners();
+            listeners.forEach(parser::addErrorListener);
+        }
+        parser.reset();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        LL_PARSE_COUNT.incrementAndGet();
+        return entry.apply(parser);
+    }
+
+    /**
+     * @return count of the parses finished in {@link PredictionMode#SLL}
+     */
+    public static long getSllParseCount() {
+        return SLL_PARSE_COUNT.get();
+    }
+
+    /**
+     * @return count of the parses fell back to {@link PredictionMode#LL}, including the ones failed
+     *         because of real syntax errors
+     */
+    public static long getLlParseCount() {
+        return LL_PARSE_COUNT.get();
+    }
+
+}
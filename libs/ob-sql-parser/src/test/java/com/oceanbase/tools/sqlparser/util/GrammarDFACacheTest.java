@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
+import com.oceanbase.tools.sqlparser.oracle.PlSqlLexer;
+import com.oceanbase.tools.sqlparser.oracle.PlSqlParser;
+
+/**
+ * {@link GrammarDFACacheTest}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class GrammarDFACacheTest {
+
+    @Test
+    public void getDFAStateCount_afterParse_greaterThanZero() {
+        new OBMySQLParser().buildAst(new StringReader("select a, b from tab where c = 1"));
+        GrammarDFACache cache = getCache("ob_mysql");
+        Assert.assertTrue(cache.getDFAStateCount() > 0);
+        Assert.assertTrue(cache.getEstimatedSizeInBytes() > 0);
+    }
+
+    @Test
+    public void clear_afterParse_cacheCleared() {
+        new OBMySQLParser().buildAst(new StringReader("update tab set a = 1 where b = 2"));
+        GrammarDFACache cache = getCache("ob_mysql");
+        cache.clear();
+        Assert.assertEquals(0, cache.getDFAStateCount());
+        new OBMySQLParser().buildAst(new StringReader("update tab set a = 1 where b = 2"));
+        Assert.assertTrue(cache.getDFAStateCount() > 0);
+    }
+
+    @Test
+    public void getDFAStateCount_oraclePlSqlParsed_greaterThanZero() {
+        PlSqlParser parser = new PlSqlParser(new CommonTokenStream(
+                new PlSqlLexer(CharStreams.fromString("BEGIN SELECT A INTO B FROM TAB WHERE C = 1; END;"))));
+        parser.sql_script();
+        GrammarDFACache cache = getCache("oracle_plsql");
+        Assert.assertTrue(cache.getDFAStateCount() > 0);
+        Assert.assertTrue(cache.getEstimatedSizeInBytes() > 0);
+    }
+
+    @Test
+    public void all_everyGrammarIncluded() {
+        Set<String> grammars = GrammarDFACache.all().stream().map(GrammarDFACache::getGrammar)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("ob_mysql", "ob_mysql_pl", "ob_oracle", "ob_oracle_pl",
+                "oracle_plsql")), grammars);
+    }
+
+    private GrammarDFACache getCache(String grammar) {
+        return GrammarDFACache.all().stream().filter(c -> c.getGrammar().equals(grammar)).findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.tools.sqlparser.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+import com.oceanbase.tools.sqlparser.obmysql.OBLexer;
+import com.oceanbase.tools.sqlparser.obmysql.OBParser;
+
+/**
+ * {@link TwoStageParsingTest}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class TwoStageParsingTest {
+
+    @Test
+    public void parse_syntaxError_reportedOnlyByLLStage() {
+        OBParser parser = new OBParser(new CommonTokenStream(new OBLexer(CharStreams.fromString("select from"))));
+        CountingErrorListener listener = new CountingErrorListener();
+        parser.addErrorListener(listener);
+        try {
+            TwoStageParsing.parse(parser, OBParser::stmt);
+            Assert.fail("syntax error is expected");
+        } catch (SyntaxErrorException e) {
+            // expected
+        }
+        Assert.assertEquals(1, listener.count.get());
+    }
+
+    @Test
+    public void parse_syntaxError_listenersRestored() {
+        OBParser parser = new OBParser(new CommonTokenStream(new OBLexer(CharStreams.fromString("select from"))));
+        CountingErrorListener listener = new CountingErrorListener();
+        parser.addErrorListener(listener);
+        try {
+            TwoStageParsing.parse(parser, OBParser::stmt);
+        } catch (SyntaxErrorException e) {
+            // expected
+        }
+        Assert.assertEquals(2, parser.getErrorListeners().size());
+        Assert.assertSame(ConsoleErrorListener.INSTANCE, parser.getErrorListeners().get(0));
+        Assert.assertSame(listener, parser.getErrorListeners().get(1));
+    }
+
+    @Test
+    public void parse_timeout_notRetriedInLL() throws InterruptedException {
+        OBParser parser = new OBParser(
+                new TimeoutTokenStream(new OBLexer(CharStreams.fromString("select 1 from dual")), 1));
+        Thread.sleep(10);
+        long llParseCount = TwoStageParsing.getLlParseCount();
+        try {
+            TwoStageParsing.parse(parser, OBParser::stmt);
+            Assert.fail("timeout is expected");
+        } catch (ParseCancellationException e) {
+            Assert.assertEquals("Timeout for parser, abort!", e.getMessage());
+        }
+        Assert.assertEquals(llParseCount, TwoStageParsing.getLlParseCount());
+    }
+
+    private static class CountingErrorListener extends BaseErrorListener {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                int charPositionInLine, String msg, RecognitionException e) {
+            count.incrementAndGet();
+            throw new SyntaxErrorException(recognizer, e);
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.server.web.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import com.oceanbase.odc.core.shared.constant.ErrorCodes;
+import com.oceanbase.odc.service.common.response.ErrorResponse;
+import com.oceanbase.odc.service.dispatch.DispatchResponse;
+import com.oceanbase.odc.service.dispatch.ErrorResponseException;
+import com.oceanbase.odc.service.dispatch.RequestDispatcher;
+import com.oceanbase.odc.service.session.ConnectSessionService;
+import com.oceanbase.odc.service.session.SessionOwnedByOtherNodeException;
+
+/**
+ * Test cases for forwarding the request of a session held by another node in
+ * {@link RestExceptionHandler}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class RestExceptionHandlerTest {
+
+    private static final String SESSION_ID = "1001";
+    private static final String OWNER_HOST = "10.0.0.2";
+    private static final Integer OWNER_PORT = 8989;
+
+    @InjectMocks
+    private RestExceptionHandler exceptionHandler;
+
+    @Mock
+    private RequestDispatcher requestDispatcher;
+
+    @Mock
+    private ConnectSessionService sessionService;
+
+    @Mock
+    private HandlerMethod handlerMethod;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/datasource/sessions/" + SESSION_ID);
+        ReflectionTestUtils.setField(exceptionHandler, "request", request);
+        Mockito.when(handlerMethod.getShortLogMessage()).thenReturn("handler");
+    }
+
+    @Test
+    public void handleSessionOwnedByOtherNodeException_forwardSucceed_returnOwnerResponse() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        byte[] content = "owner response".getBytes(StandardCharsets.UTF_8);
+        Mockito.when(requestDispatcher.forward(OWNER_HOST, OWNER_PORT))
+                .thenReturn(DispatchResponse.of(content, headers));
+
+        ResponseEntity<?> response = exceptionHandler.handleSessionOwnedByOtherNodeException(
+                new SessionOwnedByOtherNodeException(SESSION_ID, OWNER_HOST, OWNER_PORT), handlerMethod);
+
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assert.assertEquals(MediaType.TEXT_PLAIN, response.getHeaders().getContentType());
+        Assert.assertArrayEquals(content, (byte[]) response.getBody());
+    }
+
+    @Test
+    public void handleSessionOwnedByOtherNodeException_ownerReturnsError_keepOwnerError() throws IOException {
+        Mockito.when(requestDispatcher.forward(OWNER_HOST, OWNER_PORT)).thenThrow(
+                new ErrorResponseException(HttpStatus.BAD_REQUEST, ErrorCodes.BadArgument.name(), "bad argument"));
+
+        ResponseEntity<?> response = exceptionHandler.handleSessionOwnedByOtherNodeException(
+                new SessionOwnedByOtherNodeException(SESSION_ID, OWNER_HOST, OWNER_PORT), handlerMethod);
+
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        Assert.assertEquals(ErrorCodes.BadArgument.name(), ((ErrorResponse) response.getBody()).getCode());
+        Mockito.verify(sessionService, Mockito.never()).invalidateRemoteOwner(Mockito.anyString());
+    }
+
+    @Test
+    public void handleSessionOwnedByOtherNodeException_ownerUnreachable_notFoundAndOwnerInvalidated()
+            throws IOException {
+        Mockito.when(requestDispatcher.forward(OWNER_HOST, OWNER_PORT)).thenThrow(new IOException("refused"));
+
+        ResponseEntity<?> response = exceptionHandler.handleSessionOwnedByOtherNodeException(
+                new SessionOwnedByOtherNodeException(SESSION_ID, OWNER_HOST, OWNER_PORT), handlerMethod);
+
+        Assert.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assert.assertEquals(ErrorCodes.NotFound.name(), ((ErrorResponse) response.getBody()).getCode());
+        Mockito.verify(sessionService).invalidateRemoteOwner(SESSION_ID);
+    }
+
+}
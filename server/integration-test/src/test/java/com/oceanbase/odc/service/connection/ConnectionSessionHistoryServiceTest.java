@@ -18,8 +18,11 @@ package com.oceanbase.odc.service.connection;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -88,6 +91,19 @@ public class ConnectionSessionHistoryServiceTest extends ServiceTestEnv {
         connectionHistoryDAO.deleteAll();
     }
 
+    @Test
+    public void testBatchUpdateOrInsert_ExistingHistory_KeepLatestAccessTime() {
+        createHistory(1L, new Date(30000));
+        connectionHistoryDAO.batchUpdateOrInsert(Arrays.asList(
+                ConnectionHistoryEntity.of(1L, USER_ID, new Date(10000)),
+                ConnectionHistoryEntity.of(2L, USER_ID, new Date(20000))));
+        Map<Long, Date> connectionId2LastAccessTime = connectionHistoryDAO.listAll().stream()
+                .collect(Collectors.toMap(ConnectionHistoryEntity::getConnectionId,
+                        ConnectionHistoryEntity::getLastAccessTime));
+        Assert.assertEquals(new Date(30000), connectionId2LastAccessTime.get(1L));
+        Assert.assertEquals(new Date(20000), connectionId2LastAccessTime.get(2L));
+    }
+
     private void createHistory(Long connectionId, Date date) {
         ConnectionHistoryEntity history = new ConnectionHistoryEntity();
         history.setConnectionId(connectionId);
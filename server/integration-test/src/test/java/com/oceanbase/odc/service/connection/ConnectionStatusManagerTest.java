@@ -18,8 +18,13 @@ package com.oceanbase.odc.service.connection;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
@@ -41,6 +46,8 @@ import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.connection.model.ConnectionTestResult;
 import com.oceanbase.odc.service.connection.model.TestConnectionReq;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
+import com.oceanbase.odc.service.iam.model.User;
+import com.oceanbase.odc.service.websocket.WebSocketBody;
 import com.oceanbase.odc.test.tool.TestRandom;
 
 public class ConnectionStatusManagerTest extends ServiceTestEnv {
@@ -54,6 +61,8 @@ public class ConnectionStatusManagerTest extends ServiceTestEnv {
     @Mock
     private AuthenticationFacade authenticationFacade;
 
+    @Spy
+    private ConnectionStatusNotifier statusNotifier = new ConnectionStatusNotifier();
     @Spy
     private SystemTimeService systemTimeService = new SystemTimeService();
     @Spy
@@ -118,6 +127,76 @@ public class ConnectionStatusManagerTest extends ServiceTestEnv {
         Assert.assertEquals(ConnectionStatus.INACTIVE, checkState.getStatus());
     }
 
+    @Test
+    public void getAndRefreshStatus_SameEndpoint_TestedOnce() throws InterruptedException {
+        when(connectionTesting.test(any(TestConnectionReq.class))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(200L);
+            return ConnectionTestResult.success(null);
+        });
+        ConnectionConfig connection = newConnection();
+        ConnectionConfig another = copyConnectConfig(connection);
+        statusManager.getAndRefreshStatus(connection);
+        statusManager.getAndRefreshStatus(another);
+
+        TimeUnit.SECONDS.sleep(1L);
+
+        Assert.assertEquals(ConnectionStatus.ACTIVE, statusManager.getAndRefreshStatus(connection).getStatus());
+        Assert.assertEquals(ConnectionStatus.ACTIVE, statusManager.getAndRefreshStatus(another).getStatus());
+        verify(connectionTesting, times(1)).test(any(TestConnectionReq.class));
+    }
+
+    @Test
+    public void getAndRefreshStatus_SameEndpointDifferentInitScript_TestedTwice() throws InterruptedException {
+        when(connectionTesting.test(any(TestConnectionReq.class))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(200L);
+            return ConnectionTestResult.success(null);
+        });
+        ConnectionConfig connection = newConnection();
+        ConnectionConfig another = copyConnectConfig(connection);
+        another.setSessionInitScript("set session ob_query_timeout=1000000;");
+        statusManager.getAndRefreshStatus(connection);
+        statusManager.getAndRefreshStatus(another);
+
+        TimeUnit.SECONDS.sleep(1L);
+
+        verify(connectionTesting, times(2)).test(any(TestConnectionReq.class));
+    }
+
+    @Test
+    public void getAndRefreshStatus_StatusChanged_PushedToViewer() throws InterruptedException {
+        User user = new User();
+        user.setId(100L);
+        when(authenticationFacade.currentUser()).thenReturn(user);
+        List<WebSocketBody> received = new ArrayList<>();
+        statusNotifier.subscribe(100L, "subscriber", received::add);
+        ConnectionConfig connection = newConnection();
+        statusManager.getAndRefreshStatus(connection);
+
+        TimeUnit.SECONDS.sleep(1L);
+
+        Assert.assertEquals(1, received.size());
+        Assert.assertEquals(ConnectionStatusNotifier.STATUS_CHANGED_METHOD, received.get(0).getMethod());
+        Assert.assertTrue(received.get(0).getParams().getData().contains(ConnectionStatus.ACTIVE.name()));
+    }
+
+    private ConnectionConfig copyConnectConfig(ConnectionConfig connection) {
+        ConnectionConfig another = newConnection();
+        another.setId(2L);
+        another.setType(connection.getType());
+        another.setDialectType(connection.getDialectType());
+        another.setHost(connection.getHost());
+        another.setPort(connection.getPort());
+        another.setEndpoint(connection.getEndpoint());
+        another.setClusterName(connection.getClusterName());
+        another.setTenantName(connection.getTenantName());
+        another.setOBTenantName(connection.getOBTenantName());
+        another.setUsername(connection.getUsername());
+        another.setDefaultSchema(connection.getDefaultSchema());
+        another.setSslConfig(connection.getSslConfig());
+        another.setAttributes(connection.getAttributes() == null ? null : new HashMap<>(connection.getAttributes()));
+        return another;
+    }
+
     private ConnectionConfig newConnection() {
         ConnectionConfig connection = TestRandom.nextObject(ConnectionConfig.class);
         connection.setId(1L);
@@ -94,7 +94,6 @@ import com.oceanbase.odc.service.regulation.approval.model.ApprovalFlowConfig;
 import com.oceanbase.odc.service.regulation.approval.model.ApprovalNodeConfig;
 import com.oceanbase.odc.service.regulation.risklevel.RiskLevelService;
 import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevel;
-import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevelDescriber;
 import com.oceanbase.odc.service.sqlcheck.SqlCheckService;
 import com.oceanbase.odc.service.task.TaskService;
 import com.oceanbase.odc.test.tool.TestRandom;
@@ -192,8 +191,8 @@ public class FlowInstanceServiceTest extends ServiceTestEnv {
 
     @Test
     public void create_publicConnectionSingleRiskLevel_createSucceed() {
-        when(approvalFlowConfigSelector.select(Mockito.any(RiskLevelDescriber.class)))
-                .thenReturn(getRiskLevel());
+        when(approvalFlowConfigSelector.select(Mockito.anyList()))
+                .thenReturn(Collections.singletonList(getRiskLevel()));
         List<FlowInstanceDetailResp> resp = flowInstanceService.create(createFlowInstanceReq());
         Assert.assertFalse(resp.isEmpty());
     }
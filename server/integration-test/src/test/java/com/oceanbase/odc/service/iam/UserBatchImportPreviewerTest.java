@@ -15,8 +15,18 @@
  */
 package com.oceanbase.odc.service.iam;
 
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_ACCOUNTNAME;
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_DESCRIPTION;
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_ENABLED;
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_NAME;
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_PASSWORD;
+import static com.oceanbase.odc.core.shared.constant.FieldName.USER_ROLEIDS;
+
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.After;
@@ -34,7 +44,9 @@ import com.oceanbase.odc.MockedAuthorityTestEnv;
 import com.oceanbase.odc.metadb.iam.RoleRepository;
 import com.oceanbase.odc.metadb.iam.UserRepository;
 import com.oceanbase.odc.metadb.iam.UserRoleRepository;
+import com.oceanbase.odc.service.common.util.XlsxStreamWriter;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
+import com.oceanbase.odc.service.iam.model.BatchImportUser;
 import com.oceanbase.odc.service.iam.model.UserPreviewBatchImportResp;
 import com.oceanbase.odc.service.iam.util.SecurityContextUtils;
 
@@ -100,4 +112,26 @@ public class UserBatchImportPreviewerTest extends MockedAuthorityTestEnv {
         req = userBatchImportPreviewer.preview(multipartFile_US);
         Assert.assertEquals(2, req.getBatchImportUserList().size());
     }
+
+    @Test
+    public void preview_GeneratedLargeWorkbook_AllRowsValidated() throws IOException {
+        LocaleContextHolder.setLocale(Locale.US);
+        int rowCount = 100000;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(outputStream)) {
+            writer.writeHeader(Arrays.asList(USER_ACCOUNTNAME.getLocalizedMessage(), USER_NAME.getLocalizedMessage(),
+                    USER_PASSWORD.getLocalizedMessage(), USER_ENABLED.getLocalizedMessage(),
+                    USER_ROLEIDS.getLocalizedMessage(), USER_DESCRIPTION.getLocalizedMessage()));
+            for (int i = 0; i < rowCount; i++) {
+                writer.writeRow(Arrays.asList("user_" + i, "name_" + i, "Aa1.Bb2.", "true", "", ""));
+            }
+            // duplicated account name
+            writer.writeRow(Arrays.asList("user_0", "name_0", "Aa1.Bb2.", "true", "", ""));
+        }
+        MultipartFile file = new MockMultipartFile(fileName, originalFilename, null, outputStream.toByteArray());
+
+        List<BatchImportUser> users = userBatchImportPreviewer.preview(file).getBatchImportUserList();
+        Assert.assertEquals(rowCount + 1, users.size());
+        Assert.assertEquals(1, users.stream().filter(u -> u.getErrorMessage() != null).count());
+    }
 }
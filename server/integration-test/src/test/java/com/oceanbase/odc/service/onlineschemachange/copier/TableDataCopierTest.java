@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * End to end test of {@link TableDataCopier} on an embedded H2 database in MySQL mode
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+public class TableDataCopierTest {
+
+    private static final String URL = "jdbc:h2:mem:osc_copier;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(URL, true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS CRC32 FOR \"" + getClass().getName() + ".crc32\"");
+        jdbcTemplate.execute("CREATE TABLE `osc_t` (`id` BIGINT PRIMARY KEY, `name` VARCHAR(64), "
+                + "`amount` DECIMAL(10, 2), `ts` DATETIME)");
+        jdbcTemplate.execute("CREATE TABLE `osc_t_osc_new_` (`id` BIGINT PRIMARY KEY, `name` VARCHAR(128), "
+                + "`amount` DECIMAL(20, 4), `ts` DATETIME)");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            rows.add(new Object[] {i, i % 7 == 0 ? null : "name_" + i, new BigDecimal(i + ".25"),
+                    new java.sql.Timestamp(1700000000000L + i * 1000L)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO `osc_t` VALUES (?, ?, ?, ?)", rows);
+    }
+
+    @After
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `osc_t`");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `osc_t_osc_new_`");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `osc_t_osc_old_`");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `osc_k`");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS `osc_k_osc_new_`");
+        dataSource.destroy();
+    }
+
+    @Test
+    public void copy_NoConcurrentWrites_AllRowsCopied() {
+        TableDataCopier copier = new TableDataCopier(jdbcTemplate, parameters(100));
+        AtomicLong progress = new AtomicLong();
+        copier.setProgressListener(progress::set);
+
+        Assert.assertEquals(5000, copier.copy());
+        Assert.assertEquals(5000, progress.get());
+        Assert.assertEquals(0, copier.sync());
+        Assert.assertEquals(rows("osc_t"), rows("osc_t_osc_new_"));
+    }
+
+    @Test
+    public void copyAndCatchUp_ConcurrentWrites_ConsistentAfterCutover() throws Exception {
+        TableDataCopier copier = new TableDataCopier(new JdbcTemplate(
+                new SingleConnectionDataSource(URL, true)), parameters(200));
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        Thread writer = new Thread(() -> {
+            JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(URL, true));
+            long nextId = 100000;
+            while (!stopped.get()) {
+                int id = ThreadLocalRandom.current().nextInt(1, 6000);
+                switch (ThreadLocalRandom.current().nextInt(3)) {
+                    case 0:
+                        template.update("INSERT INTO `osc_t` VALUES (?, ?, ?, NULL)", nextId++, "new", 1);
+                        break;
+                    case 1:
+                        template.update("UPDATE `osc_t` SET `name` = ?, `amount` = `amount` + 1 WHERE `id` = ?",
+                                "updated_" + id, id);
+                        break;
+                    default:
+                        template.update("DELETE FROM `osc_t` WHERE `id` = ?", id);
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        writer.start();
+        try {
+            copier.copy();
+            copier.catchUp();
+        } finally {
+            stopped.set(true);
+            writer.join();
+        }
+        // writes are blocked from now on, same as the cutover
+        copier.sync();
+        jdbcTemplate.execute("ALTER TABLE `osc_t` RENAME TO `osc_t_osc_old_`");
+        jdbcTemplate.execute("ALTER TABLE `osc_t_osc_new_` RENAME TO `osc_t`");
+
+        Assert.assertEquals(rows("osc_t_osc_old_"), rows("osc_t"));
+    }
+
+    @Test
+    public void sync_CompositeKeyWithStaleRows_StaleRowsDeleted() {
+        jdbcTemplate.execute("CREATE TABLE `osc_k` (`a` INT, `b` VARCHAR(16), `v` INT, PRIMARY KEY (`a`, `b`))");
+        jdbcTemplate.execute("CREATE TABLE `osc_k_osc_new_` (`a` INT, `b` VARCHAR(16), `v` BIGINT, "
+                + "PRIMARY KEY (`a`, `b`))");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[] {i / 10, "b" + i % 10, i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO `osc_k` VALUES (?, ?, ?)", rows);
+        TableDataCopier copier = new TableDataCopier(jdbcTemplate, TableDataCopyParameters.builder()
+                .originTableName("osc_k").newTableName("osc_k_osc_new_")
+                .columnNames(Arrays.asList("a", "b", "v")).keyColumnNames(Arrays.asList("a", "b"))
+                .initialChunkSize(64).minChunkSize(16).build());
+        copier.copy();
+        jdbcTemplate.update("DELETE FROM `osc_k` WHERE `a` >= 90 OR `a` = 0");
+        jdbcTemplate.update("UPDATE `osc_k` SET `v` = -1 WHERE `a` = 50");
+
+        Assert.assertEquals(10 + 100 + 10, copier.sync());
+        Assert.assertEquals(0, copier.sync());
+        String query = "SELECT `a`, `b`, CAST(`v` AS BIGINT) AS `v` FROM %s ORDER BY `a`, `b`";
+        Assert.assertEquals(jdbcTemplate.queryForList(String.format(query, "`osc_k`")),
+                jdbcTemplate.queryForList(String.format(query, "`osc_k_osc_new_`")));
+    }
+
+    @Test
+    public void sync_OneRowUpdated_OnlyChangedRangeOfNewTableRead() {
+        List<String> queries = new ArrayList<>();
+        JdbcTemplate recording = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, Object[] args, RowCallbackHandler rch) throws DataAccessException {
+                queries.add(sql);
+                super.query(sql, args, rch);
+            }
+        };
+        TableDataCopier copier = new TableDataCopier(recording, parameters(100));
+        copier.copy();
+        Assert.assertEquals(0, copier.sync());
+        Assert.assertTrue(queries.isEmpty());
+
+        jdbcTemplate.update("UPDATE `osc_t` SET `name` = 'updated' WHERE `id` = 2500");
+        Assert.assertEquals(1, copier.sync());
+        Assert.assertEquals(1, queries.stream().filter(q -> q.contains("`osc_t_osc_new_`")).count());
+        Assert.assertEquals(rows("osc_t"), rows("osc_t_osc_new_"));
+    }
+
+    @Test
+    public void syncUntilClean_UniqueKeyConflictFixedByLaterRange_Consistent() {
+        jdbcTemplate.execute("CREATE UNIQUE INDEX `uk_name` ON `osc_t_osc_new_` (`name`)");
+        TableDataCopier copier = new TableDataCopier(jdbcTemplate, parameters(100));
+        copier.copy();
+        // the range of id 1 is synced first and conflicts with the stale row of id 4000
+        jdbcTemplate.update("UPDATE `osc_t` SET `name` = 'renamed' WHERE `id` = 4000");
+        jdbcTemplate.update("UPDATE `osc_t` SET `name` = 'name_4000' WHERE `id` = 1");
+
+        copier.syncUntilClean();
+        Assert.assertEquals(rows("osc_t"), rows("osc_t_osc_new_"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void syncUntilClean_DuplicatedOnUniqueKeyOfNewTable_ThrowsException() {
+        jdbcTemplate.update("UPDATE `osc_t` SET `name` = 'duplicated' WHERE `id` IN (10, 20)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX `uk_name` ON `osc_t_osc_new_` (`name`)");
+        TableDataCopier copier = new TableDataCopier(jdbcTemplate, parameters(100));
+        copier.copy();
+        copier.syncUntilClean();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void copy_Cancelled_ThrowsException() {
+        TableDataCopier copier = new TableDataCopier(jdbcTemplate, parameters(100));
+        copier.setProgressListener(rows -> copier.cancel());
+        copier.copy();
+    }
+
+    public static long crc32(String value) {
+        CRC32 crc32 = new CRC32();
+        if (value != null) {
+            crc32.update(value.getBytes());
+        }
+        return crc32.getValue();
+    }
+
+    private TableDataCopyParameters parameters(int initialChunkSize) {
+        return TableDataCopyParameters.builder()
+                .originTableName("osc_t")
+                .newTableName("osc_t_osc_new_")
+                .columnNames(Arrays.asList("id", "name", "amount", "ts"))
+                .keyColumnNames(Arrays.asList("id"))
+                .initialChunkSize(initialChunkSize)
+                .minChunkSize(50)
+                .chunkTargetMillis(20)
+                .build();
+    }
+
+    private Map<Long, List<Object>> rows(String table) {
+        Map<Long, List<Object>> rows = new TreeMap<>();
+        jdbcTemplate.query("SELECT * FROM `" + table + "`", rs -> {
+            BigDecimal amount = rs.getBigDecimal("amount");
+            rows.put(rs.getLong("id"), Arrays.asList(rs.getString("name"),
+                    amount == null ? null : amount.stripTrailingZeros(), rs.getTimestamp("ts")));
+        });
+        return rows;
+    }
+
+}
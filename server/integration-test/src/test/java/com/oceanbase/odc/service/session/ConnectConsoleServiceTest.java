@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -32,6 +34,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.StatementCallback;
 
 import com.oceanbase.odc.ServiceTestEnv;
 import com.oceanbase.odc.TestConnectionUtil;
@@ -84,6 +87,8 @@ public class ConnectConsoleServiceTest extends ServiceTestEnv {
     private ConnectConsoleService consoleService;
     @Autowired
     private DefaultDBSessionManage defaultConnectSessionManage;
+    @Autowired
+    private SqlExecuteResultNotifier resultNotifier;
 
     @Autowired
 
@@ -178,6 +183,39 @@ public class ConnectConsoleServiceTest extends ServiceTestEnv {
         Assert.assertEquals(expect, actual);
     }
 
+    @Test
+    public void execute_subscribedAndExecutedBeforeRegistered_notifiedAfterRegistered() throws Exception {
+        String sql = "select * from table_test";
+        JdbcGeneralResult result = JdbcGeneralResult.successResult(SqlTuple.newTuple(sql));
+        GeneralAsyncJdbcExecutor asyncJdbcExecutor = Mockito.mock(GeneralAsyncJdbcExecutor.class);
+        // the execution is finished synchronously, before the future is returned to the service
+        Mockito.when(asyncJdbcExecutor.execute(Mockito.any(StatementCallback.class))).thenAnswer(invocation -> {
+            StatementCallback<?> callback = invocation.getArgument(0);
+            callback.doInStatement(Mockito.mock(Statement.class));
+            return FutureResult.successResultList(result);
+        });
+        ConnectionSession session = new TestConnectionSession(sessionid, ConnectType.OB_MYSQL,
+                buildTestConnection(ConnectType.OB_MYSQL), asyncJdbcExecutor,
+                Mockito.mock(GeneralSyncJdbcExecutor.class));
+        Mockito.when(sessionService.nullSafeGet(sessionid)).thenReturn(session);
+        // the reset session cancels all the sqls without touching the statement
+        ConnectionSessionUtil.setConsoleSessionResetFlag(session, true);
+        List<Boolean> registeredWhenNotified = new ArrayList<>();
+        resultNotifier.subscribe(sessionid, "subscriber", body -> {
+            if (SqlExecuteResultNotifier.EXECUTION_DONE_METHOD.equals(body.getMethod())) {
+                registeredWhenNotified.add(
+                        ConnectionSessionUtil.getFutureJdbcResult(session, body.getId()) != null);
+            }
+        });
+        try {
+            SqlAsyncExecuteResp resp = consoleService.execute(sessionid, getSqlAsyncExecuteReq(sql));
+            Assert.assertEquals(Collections.singletonList(true), registeredWhenNotified);
+            Assert.assertFalse(consoleService.getAsyncResult(sessionid, resp.getRequestId()).isEmpty());
+        } finally {
+            resultNotifier.unsubscribe(sessionid, "subscriber");
+        }
+    }
+
     private void injectAsyncJdbcExecutor(JdbcGeneralResult result) {
         injectAsyncJdbcExecutor(result, ConnectType.OB_ORACLE);
     }
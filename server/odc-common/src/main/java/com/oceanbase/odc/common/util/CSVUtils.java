@@ -65,12 +65,21 @@ public class CSVUtils {
 
     public static <T> String buildCSVFormatData(Iterable<T> records, Class<T> clazz) {
         StringBuilder stringBuilder = new StringBuilder();
+        writeCSVFormatData(records, clazz, stringBuilder);
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Write records as CSV into the given output one by one, nothing but the current record is
+     * buffered, so that a lazily loaded iterable can be exported with constant memory
+     */
+    public static <T> void writeCSVFormatData(Iterable<T> records, Class<T> clazz, Appendable out) {
         Field[] declaredFields = clazz.getDeclaredFields();
         // 忽略 nested class 的特殊字段
         List<String> headers = Arrays.stream(declaredFields)
                 .filter(f -> !StringUtils.startsWith(f.getName(), "this$"))
                 .map(Field::getName).collect(Collectors.toList());
-        try (CSVPrinter csvPrinter = new CSVPrinter(stringBuilder, csvFormat)) {
+        try (CSVPrinter csvPrinter = new CSVPrinter(out, csvFormat)) {
             csvPrinter.printRecord(headers);
             for (T record : records) {
                 String json = objectMapper.writeValueAsString(record);
@@ -91,7 +100,6 @@ public class CSVUtils {
             log.warn("build CSV format string failed, errorMessage={}", e.getMessage());
             throw new IllegalStateException("build CSV format string failed");
         }
-        return stringBuilder.toString();
     }
 }
 
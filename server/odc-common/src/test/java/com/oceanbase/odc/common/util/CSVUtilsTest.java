@@ -15,6 +15,7 @@
  */
 package com.oceanbase.odc.common.util;
 
+import java.io.StringWriter;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 
@@ -39,6 +40,20 @@ public class CSVUtilsTest {
                 + "1,\"ab \",EXPORT,2022-03-31T23:02:43+08:00\n", csv);
     }
 
+    @Test
+    public void writeCSVFormatData_toWriter_sameAsBuild() {
+        A a = new A();
+        a.c1 = 1L;
+        a.c2 = "ab ";
+        A b = new A();
+        b.c1 = 2L;
+        StringWriter writer = new StringWriter();
+
+        CSVUtils.writeCSVFormatData(Arrays.asList(a, b), A.class, writer);
+
+        Assert.assertEquals(CSVUtils.buildCSVFormatData(Arrays.asList(a, b), A.class), writer.toString());
+    }
+
     @Data
     public class A {
         private Long c1;
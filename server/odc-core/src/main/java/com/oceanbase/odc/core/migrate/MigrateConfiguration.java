@@ -60,4 +60,11 @@ public class MigrateConfiguration {
     @Builder.Default
     private List<ResourceConfig> resourceConfigs = new LinkedList<>();
 
+    /**
+     * max number of resource configs (eg. organizations) migrated concurrently by one resource file,
+     * each resource config will be migrated in its own transaction if the value is greater than 1
+     */
+    @Builder.Default
+    private int resourceMigrateParallelism = 1;
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.migrate;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.oceanbase.odc.common.util.HashUtils;
+import com.oceanbase.odc.common.util.ResourceUtils;
+import com.oceanbase.odc.common.util.ResourceUtils.ResourceInfo;
+import com.oceanbase.odc.core.migrate.resource.model.ResourceConfig;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fingerprint of a migration, consists of the build identity and the versions of migrate scripts.
+ * If the fingerprint equals to the one saved by the last successful migration, nothing will be
+ * changed by migrating again, so that the scanning of migrators and the checking of histories and
+ * resource records can be skipped. The fingerprint is saved in table {@code migrate_fingerprint},
+ * which is created by the migration itself.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+public class MigrateFingerprint {
+
+    private static final String TABLE = "migrate_fingerprint";
+    private static final String DEFAULT_KEY = "metadb";
+    private final JdbcTemplate jdbcTemplate;
+    private final String key;
+
+    public MigrateFingerprint(@NonNull DataSource dataSource) {
+        this(DEFAULT_KEY, dataSource);
+    }
+
+    public MigrateFingerprint(@NonNull String key, @NonNull DataSource dataSource) {
+        this.key = key;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Contents of migrate resources are packaged in the build, so they are identified by the build
+     * instead of being read and hashed on each launch, only names of the resources (which carry the
+     * versions of scripts) are listed.
+     *
+     * @param buildIdentity identity of the running build, eg. version and build time
+     */
+    public static String compute(@NonNull MigrateConfiguration configuration, @NonNull String buildIdentity) {
+        Validate.notBlank(buildIdentity, "Build identity can not be blank");
+        StringBuilder builder = new StringBuilder(buildIdentity).append('\n');
+        builder.append(configuration.getBasePackages()).append('\n');
+        for (ResourceConfig resourceConfig : configuration.getResourceConfigs()) {
+            if (resourceConfig.getVariables() != null) {
+                builder.append(new TreeMap<>(resourceConfig.getVariables()));
+            }
+            builder.append('\n');
+        }
+        for (String location : configuration.getResourceLocations()) {
+            List<ResourceInfo> resources = ResourceUtils.listResourcesFromDirectory(location);
+            resources.forEach(resource -> IOUtils.closeQuietly(resource.getInputStream()));
+            builder.append(location).append(':').append(resources.stream().map(ResourceInfo::getResourceName)
+                    .sorted().collect(Collectors.joining(","))).append('\n');
+        }
+        return HashUtils.sha1(builder.toString());
+    }
+
+    public boolean matches(String fingerprint) {
+        List<String> saved;
+        try {
+            saved = jdbcTemplate.queryForList(
+                    "SELECT `fingerprint` FROM `" + TABLE + "` WHERE `fingerprint_key`=?", String.class, key);
+        } catch (DataAccessException e) {
+            // table is not created before the first migration
+            log.info("Failed to query migrate fingerprint, key={}, reason={}", key, e.getMessage());
+            return false;
+        }
+        return !saved.isEmpty() && StringUtils.equals(saved.get(0), fingerprint);
+    }
+
+    public void save(@NonNull String fingerprint) {
+        int affectRows = jdbcTemplate.update("UPDATE `" + TABLE + "` SET `fingerprint`=?, "
+                + "`update_time`=CURRENT_TIMESTAMP WHERE `fingerprint_key`=?", fingerprint, key);
+        if (affectRows == 0) {
+            jdbcTemplate.update("INSERT INTO `" + TABLE + "` (`fingerprint_key`, `fingerprint`) VALUES (?, ?)",
+                    key, fingerprint);
+        }
+        log.info("Migrate fingerprint saved, key={}, fingerprint={}", key, fingerprint);
+    }
+
+}
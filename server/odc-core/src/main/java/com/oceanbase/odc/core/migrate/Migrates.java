@@ -21,6 +21,8 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +63,7 @@ public class Migrates {
     private final SchemaHistoryRepository repository;
     private final Map<String, List<SchemaHistory>> version2Histories;
     private final List<ResourceMigrateMetaInfo> migrateMetas = new LinkedList<>();
+    private final Map<Type, Long> type2ExecutionMillis = new EnumMap<>(Type.class);
 
     public Migrates(MigrateConfiguration configuration, SchemaHistoryRepository repository) {
         this.configuration = configuration;
@@ -72,11 +75,16 @@ public class Migrates {
 
     public void migrate() {
         log.debug("migrate start");
+        Map<String, Long> stage2Millis = new LinkedHashMap<>();
+        long start = System.currentTimeMillis();
         List<Migrator> allMigrators = new ArrayList<>(scanSql());
         allMigrators.addAll(scanJdbc());
         allMigrators.addAll(scanResource());
+        stage2Millis.put("scan", System.currentTimeMillis() - start);
 
+        start = System.currentTimeMillis();
         validate(allMigrators);
+        stage2Millis.put("validate", System.currentTimeMillis() - start);
         log.info("validate success");
 
         Map<String, List<Migrator>> version2Migratables =
@@ -118,7 +126,8 @@ public class Migrates {
                 }
             }
         }
-        log.debug("migrate done");
+        type2ExecutionMillis.forEach((type, millis) -> stage2Millis.put(type.name(), millis));
+        log.info("migrate done, stage2Millis={}", stage2Millis);
     }
 
     private void degradeCheck(String currentVersion) {
@@ -219,7 +228,8 @@ public class Migrates {
             history.setExecutionMillis(durationMillis);
             history.setInstalledOn(Timestamp.from(Instant.ofEpochMilli(end)));
 
-            log.info("migrate {} done, result={}", migrateIdentify, result);
+            type2ExecutionMillis.merge(migratable.type(), durationMillis, Long::sum);
+            log.info("migrate {} done, result={}, executionMillis={}", migrateIdentify, result, durationMillis);
             repository.create(history);
         }
     }
@@ -229,7 +239,8 @@ public class Migrates {
         return resourceLocations.stream()
                 .flatMap(t -> scanSqlFromLocation(t, i -> StringUtils.endsWithIgnoreCase(i.getResourceName(), ".yaml")
                         || StringUtils.endsWithIgnoreCase(i.getResourceName(), ".yml"),
-                        i -> new ResourceMigrator(i.getResourceName(), i.getInputStream(), migrateMetas)).stream())
+                        i -> new ResourceMigrator(i.getResourceName(), i.getInputStream(), migrateMetas,
+                                configuration.getResourceMigrateParallelism())).stream())
                 .collect(Collectors.toList());
     }
 
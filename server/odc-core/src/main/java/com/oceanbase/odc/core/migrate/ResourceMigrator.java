@@ -18,9 +18,18 @@ package com.oceanbase.odc.core.migrate;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
@@ -31,6 +40,8 @@ import org.apache.commons.lang3.Validate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
 import com.oceanbase.odc.common.util.HashUtils;
 import com.oceanbase.odc.common.util.MapperUtils;
 import com.oceanbase.odc.core.migrate.resource.ResourceManager;
@@ -42,6 +53,7 @@ import com.oceanbase.odc.core.migrate.resource.model.TableSpec.DBReference;
 import com.oceanbase.odc.core.migrate.resource.model.TableSpec.FieldReference;
 import com.oceanbase.odc.core.migrate.resource.model.TableSpec.ValueFromConfig;
 import com.oceanbase.odc.core.migrate.resource.repository.DataRecordRepository;
+import com.oceanbase.odc.core.migrate.resource.repository.ResourceChecksumRepository;
 import com.oceanbase.odc.core.migrate.resource.util.PrefixPathMatcher;
 
 import lombok.Getter;
@@ -63,12 +75,20 @@ public class ResourceMigrator implements Migrator {
     private String description;
     private String checkSum;
     private final String path;
+    private final int parallelism;
     private final List<ResourceMigrateMetaInfo> migrateMetas;
 
     public ResourceMigrator(@NonNull String path, @NonNull InputStream input,
             @NonNull List<ResourceMigrateMetaInfo> migrateMetas) {
+        this(path, input, migrateMetas, 1);
+    }
+
+    public ResourceMigrator(@NonNull String path, @NonNull InputStream input,
+            @NonNull List<ResourceMigrateMetaInfo> migrateMetas, int parallelism) {
+        Validate.isTrue(parallelism > 0, "parallelism has to be positive");
         this.path = path;
         this.migrateMetas = migrateMetas;
+        this.parallelism = parallelism;
         init(input);
     }
 
@@ -129,29 +149,83 @@ public class ResourceMigrator implements Migrator {
             return true;
         }
         DataSource dataSource = optional.get().getConfig().getDataSource();
+        ResourceChecksumRepository checksumRepository = new ResourceChecksumRepository(dataSource);
+        Set<String> migratedChecksums = checksumRepository.listChecksums(path);
+        List<ResourceMigrateMetaInfo> toBeMigrated = migrateMetas.stream()
+                .filter(m -> !migratedChecksums.contains(checksum(m.getConfig())))
+                .collect(Collectors.toList());
+        log.info("Resource migrate start, script={}, total={}, skipped={}, parallelism={}", path,
+                migrateMetas.size(), migrateMetas.size() - toBeMigrated.size(), parallelism);
+        if (toBeMigrated.isEmpty()) {
+            return true;
+        }
         TransactionTemplate txTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
-        txTemplate.execute(status -> {
-            try {
-                for (ResourceMigrateMetaInfo migrateMeta : migrateMetas) {
-                    ResourceManager manager = migrateMeta.getManager();
-                    ResourceConfig config = migrateMeta.getConfig();
-                    ResourceSpecMigrator migrator = new ResourceSpecMigrator(
-                            new DataRecordRepository(config.getDataSource()),
-                            new DefaultResourceMapperFactory(config, manager), config.getHandle());
-                    ResourceSpec resourceSpec = findResourceSpec(manager, path);
-                    resourceSpec.getTemplates().stream().flatMap(t -> t.getSpecs().stream())
-                            .forEach(t -> fullFillFieldReference(manager, migrator, t.getValueFrom()));
-                    migrator.migrate(resourceSpec);
+        if (parallelism == 1 || toBeMigrated.size() == 1) {
+            txTemplate.execute(status -> {
+                try {
+                    toBeMigrated.forEach(m -> migrate(m, checksumRepository));
+                    return true;
+                } catch (Exception e) {
+                    status.setRollbackOnly();
+                    throw e;
                 }
-                return true;
-            } catch (Exception e) {
-                status.setRollbackOnly();
-                throw e;
+            });
+            return true;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, toBeMigrated.size()),
+                new ThreadFactoryBuilder().setNameFormat("resource-migrate-%d").build());
+        try {
+            List<Future<?>> futures = new ArrayList<>(toBeMigrated.size());
+            for (ResourceMigrateMetaInfo migrateMeta : toBeMigrated) {
+                futures.add(executor.submit(() -> txTemplate.execute(status -> {
+                    try {
+                        migrate(migrateMeta, checksumRepository);
+                        return true;
+                    } catch (Exception e) {
+                        status.setRollbackOnly();
+                        throw e;
+                    }
+                })));
             }
-        });
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Resource migrate is interrupted, script " + path, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Resource migrate failed, script " + path, e.getCause());
+        } finally {
+            ExecutorUtils.gracefulShutdown(executor, "resource-migrate", 5);
+        }
         return true;
     }
 
+    private void migrate(ResourceMigrateMetaInfo migrateMeta, ResourceChecksumRepository checksumRepository) {
+        ResourceManager manager = migrateMeta.getManager();
+        ResourceConfig config = migrateMeta.getConfig();
+        ResourceSpecMigrator migrator = new ResourceSpecMigrator(
+                new DataRecordRepository(config.getDataSource()),
+                new DefaultResourceMapperFactory(config, manager), config.getHandle());
+        ResourceSpec resourceSpec = findResourceSpec(manager, path);
+        resourceSpec.getTemplates().stream().flatMap(t -> t.getSpecs().stream())
+                .forEach(t -> fullFillFieldReference(manager, migrator, t.getValueFrom()));
+        migrator.migrate(resourceSpec);
+        checksumRepository.create(path, checksum(config));
+    }
+
+    /**
+     * checksum of a resource file for a specific {@link ResourceConfig}, resource files with the same
+     * content and variables are considered to be migrated already
+     */
+    private String checksum(ResourceConfig config) {
+        Map<String, Object> variables = new TreeMap<>();
+        if (config.getVariables() != null) {
+            variables.putAll(config.getVariables());
+        }
+        return HashUtils.sha1(this.checkSum + variables);
+    }
+
     private void fullFillFieldReference(ResourceManager manager,
             ResourceSpecMigrator migrator, ValueFromConfig valueFromConfig) {
         if (valueFromConfig == null) {
@@ -15,14 +15,19 @@
  */
 package com.oceanbase.odc.core.migrate.resource;
 
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 
 import com.oceanbase.odc.core.migrate.resource.factory.EntityMapperFactory;
 import com.oceanbase.odc.core.migrate.resource.mapper.EntityMapper;
 import com.oceanbase.odc.core.migrate.resource.model.DataRecord;
+import com.oceanbase.odc.core.migrate.resource.model.DataSpec;
 import com.oceanbase.odc.core.migrate.resource.model.ResourceSpec;
 import com.oceanbase.odc.core.migrate.resource.repository.DataRecordRepository;
 
@@ -39,16 +44,28 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ResourceSpecMigrator {
 
+    public static final int DEFAULT_BATCH_SIZE = 100;
     private final DataRecordRepository repository;
     private final EntityMapperFactory<ResourceSpec, List<DataRecord>> factory;
     private final Function<ResourceSpec, ResourceSpec> handle;
+    private final int batchSize;
 
     public ResourceSpecMigrator(@NonNull DataRecordRepository repository,
             @NonNull EntityMapperFactory<ResourceSpec, List<DataRecord>> factory,
-            @NonNull Function<ResourceSpec, ResourceSpec> handle) {
+            @NonNull Function<ResourceSpec, ResourceSpec> handle, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size has to be positive, batchSize=" + batchSize);
+        }
         this.factory = factory;
         this.repository = repository;
         this.handle = handle;
+        this.batchSize = batchSize;
+    }
+
+    public ResourceSpecMigrator(@NonNull DataRecordRepository repository,
+            @NonNull EntityMapperFactory<ResourceSpec, List<DataRecord>> factory,
+            @NonNull Function<ResourceSpec, ResourceSpec> handle) {
+        this(repository, factory, handle, DEFAULT_BATCH_SIZE);
     }
 
     public ResourceSpecMigrator(@NonNull DataRecordRepository repository,
@@ -63,18 +80,17 @@ public class ResourceSpecMigrator {
         }
         EntityMapper<ResourceSpec, List<DataRecord>> mapper = factory.generate(entity);
         List<DataRecord> recordList = mapper.entityToModel(entity);
+        List<DataRecord> pending = new LinkedList<>();
         for (DataRecord record : recordList) {
             if (record.isAllowDuplicated()) {
+                saveIfNotExists(pending);
+                pending.clear();
                 save(record);
             } else {
-                List<DataRecord> savedRecords = repository.find(record);
-                if (CollectionUtils.isEmpty(savedRecords)) {
-                    save(record);
-                } else {
-                    savedRecords.forEach(DataRecord::refresh);
-                }
+                pending.add(record);
             }
         }
+        saveIfNotExists(pending);
         return entity;
     }
 
@@ -85,15 +101,51 @@ public class ResourceSpecMigrator {
         }
         EntityMapper<ResourceSpec, List<DataRecord>> mapper = factory.generate(entity);
         List<DataRecord> recordList = mapper.entityToModel(entity);
-        for (DataRecord record : recordList) {
-            List<DataRecord> savedRecords = repository.find(record);
-            if (CollectionUtils.isNotEmpty(savedRecords)) {
-                savedRecords.forEach(DataRecord::refresh);
-            }
+        for (List<DataRecord> batch : ListUtils.partition(recordList, batchSize)) {
+            repository.findAll(batch).forEach(savedRecords -> savedRecords.forEach(DataRecord::refresh));
         }
         return entity;
     }
 
+    /**
+     * Records are checked and inserted in batches, each batch costs at most three round trips: one
+     * query for the existing records, one batch insert for the missing records and one query for the
+     * ids of the inserted records
+     */
+    private void saveIfNotExists(List<DataRecord> records) {
+        for (List<DataRecord> batch : ListUtils.partition(records, batchSize)) {
+            List<List<DataRecord>> savedRecords = repository.findAll(batch);
+            List<DataRecord> missing = new LinkedList<>();
+            List<DataRecord> toBeSaved = new LinkedList<>();
+            Set<List<DataSpec>> uniqueKeys = new HashSet<>();
+            for (int i = 0; i < batch.size(); i++) {
+                DataRecord record = batch.get(i);
+                if (CollectionUtils.isNotEmpty(savedRecords.get(i))) {
+                    savedRecords.get(i).forEach(DataRecord::refresh);
+                    continue;
+                }
+                missing.add(record);
+                if (uniqueKeys.add(record.getUniqueKeyData())) {
+                    toBeSaved.add(record);
+                }
+            }
+            if (toBeSaved.isEmpty()) {
+                continue;
+            }
+            repository.saveAll(toBeSaved);
+            List<List<DataRecord>> inserted = repository.findAll(missing);
+            for (int i = 0; i < missing.size(); i++) {
+                if (CollectionUtils.isEmpty(inserted.get(i))) {
+                    throw new IllegalStateException("Saved record not found, record " + missing.get(i));
+                }
+                inserted.get(i).forEach(DataRecord::refresh);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Resources are saved successfully, count={}", toBeSaved.size());
+            }
+        }
+    }
+
     private void save(DataRecord record) {
         DataRecord saved = repository.save(record);
         if (log.isDebugEnabled()) {
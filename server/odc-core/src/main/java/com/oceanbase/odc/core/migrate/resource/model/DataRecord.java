@@ -64,10 +64,19 @@ public class DataRecord {
     }
 
     public static DataRecord copyFrom(@NonNull ResultSet resultSet, @NonNull DataRecord record) throws SQLException {
+        return copyFrom(resultSet, record, 0);
+    }
+
+    /**
+     * copy a {@link DataRecord} from a {@link ResultSet}, the first {@code offset} columns of the
+     * {@link ResultSet} will be skipped
+     */
+    public static DataRecord copyFrom(@NonNull ResultSet resultSet, @NonNull DataRecord record, int offset)
+            throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
         int columnCount = metaData.getColumnCount();
         List<DataSpec> specs = new LinkedList<>();
-        for (int j = 0; j < columnCount; j++) {
+        for (int j = offset; j < columnCount; j++) {
             String columnName = metaData.getColumnLabel(j + 1).toLowerCase();
             Object value = resultSet.getObject(j + 1);
             DataSpec src = record.name2DataSpecs.get(columnName);
@@ -17,12 +17,15 @@ package com.oceanbase.odc.core.migrate.resource.repository;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -76,6 +79,73 @@ public class DataRecordRepository {
         return query(selectSql, record.getUniqueKeyData(), (resultSet, i) -> DataRecord.copyFrom(resultSet, record));
     }
 
+    /**
+     * Save a batch of {@link DataRecord}s through jdbc batch, generated keys will not be returned
+     *
+     * @param records records to be saved
+     * @return total affected rows
+     */
+    public int saveAll(@NonNull List<DataRecord> records) {
+        Map<String, List<Object[]>> insertSql2Params = new LinkedHashMap<>();
+        for (DataRecord record : records) {
+            List<DataSpec> savedSpecs = record.getData().stream().filter(dataSpec -> !dataSpec.isIgnore())
+                    .collect(Collectors.toList());
+            String insertSql = generateInsertSql(record.getTableName(), savedSpecs);
+            insertSql2Params.computeIfAbsent(insertSql, s -> new LinkedList<>())
+                    .add(savedSpecs.stream().map(DataSpec::getValue).toArray());
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        int affectRows = 0;
+        for (Map.Entry<String, List<Object[]>> entry : insertSql2Params.entrySet()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sql batch update, sql={}, batchSize={}", entry.getKey(), entry.getValue().size());
+            }
+            affectRows += Arrays.stream(jdbcTemplate.batchUpdate(entry.getKey(), entry.getValue()))
+                    .map(i -> i == Statement.SUCCESS_NO_INFO ? 1 : i).sum();
+        }
+        if (affectRows != records.size()) {
+            throw new IllegalStateException("Saved records mismatch, expect " + records.size()
+                    + ", actual " + affectRows);
+        }
+        return affectRows;
+    }
+
+    /**
+     * Find saved records for a batch of {@link DataRecord}s, records of the same table will be queried
+     * in one round trip
+     *
+     * @param records records to be found
+     * @return saved records, the result is aligned with the input list
+     */
+    public List<List<DataRecord>> findAll(@NonNull List<DataRecord> records) {
+        List<List<DataRecord>> result = new ArrayList<>(records.size());
+        Map<String, List<Integer>> table2Indexes = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            DataRecord record = records.get(i);
+            result.add(new LinkedList<>());
+            String key = record.getTableName() + "." + String.join(",", new TreeSet<>(record.getKeys()));
+            table2Indexes.computeIfAbsent(key, k -> new LinkedList<>()).add(i);
+        }
+        for (List<Integer> indexes : table2Indexes.values()) {
+            List<String> selectSqls = new LinkedList<>();
+            List<DataSpec> params = new LinkedList<>();
+            for (Integer index : indexes) {
+                DataRecord record = records.get(index);
+                String columns = new TreeSet<>(record.getKeys()).stream()
+                        .map(s -> "`" + s + "`").collect(Collectors.joining(","));
+                selectSqls.add(generateSelectSql(record.getTableName(), index + "," + columns,
+                        record.getUniqueKeyData()));
+                params.addAll(record.getUniqueKeyData());
+            }
+            query(String.join(" UNION ALL ", selectSqls), params, (resultSet, i) -> {
+                int index = resultSet.getInt(1);
+                DataRecord saved = DataRecord.copyFrom(resultSet, records.get(index), 1);
+                return result.get(index).add(saved);
+            });
+        }
+        return result;
+    }
+
     public boolean exists(@NonNull DataRecord record) {
         List<DataSpec> conditions = record.getUniqueKeyData();
         String sql = generateSelectSql(record.getTableName(), "COUNT(1)", conditions);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.migrate.resource.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.oceanbase.odc.common.util.ResourceUtils;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repository for the checksum of a resource file which has been migrated with a specific set of
+ * variables (eg. an organization), the table schema define in
+ * migrate_resource_checksum_table_template.sql
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+public class ResourceChecksumRepository {
+
+    private static final String DEFAULT_TABLE = "migrate_resource_checksum";
+    private static final String TABLE_TEMPLATE_FILE_NAME = "migrate_resource_checksum_table_template.sql";
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+
+    public ResourceChecksumRepository(@NonNull DataSource dataSource) {
+        this(DEFAULT_TABLE, dataSource);
+    }
+
+    public ResourceChecksumRepository(@NonNull String table, @NonNull DataSource dataSource) {
+        this.table = table;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            initialize(dataSource);
+        } catch (IOException e) {
+            throw new IllegalStateException("Initialize resource checksum repository failed", e);
+        }
+    }
+
+    public Set<String> listChecksums(@NonNull String script) {
+        String sql = "SELECT `checksum` FROM `" + table + "` WHERE `script`=?";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, script));
+    }
+
+    public void create(@NonNull String script, @NonNull String checksum) {
+        String sql = "INSERT INTO `" + table + "` (`script`, `checksum`) VALUES (?, ?)";
+        jdbcTemplate.update(sql, script, checksum);
+    }
+
+    private void initialize(DataSource dataSource) throws IOException {
+        String content;
+        try (InputStream inputStream = ResourceUtils.getFileAsStream(TABLE_TEMPLATE_FILE_NAME)) {
+            content = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+        String replaced = StringUtils.replace(content, "${resource_checksum}", table);
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ByteArrayResource(replaced.getBytes(StandardCharsets.UTF_8)));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+        log.info("Resource checksum repository initialized, table={}", table);
+    }
+
+}
@@ -93,6 +93,19 @@ public class ConnectionSessionConstants {
      */
     public static final String QUERY_CACHE_KEY = "QUERY_CACHE";
     public static final String FUTURE_JDBC_RESULT_KEY = "FUTURE_JDBC_RESULT";
+    /**
+     * Max count of cached query results of a session, the earliest one will be evicted when exceeded
+     */
+    public static final int MAX_QUERY_CACHE_COUNT = 64;
+    /**
+     * Max count of async execution results of a session, finished results which have not been claimed
+     * will be evicted when exceeded
+     */
+    public static final int MAX_FUTURE_JDBC_RESULT_COUNT = 256;
+    /**
+     * Finished async execution results will be cleaned if they are not claimed within this period
+     */
+    public static final long FUTURE_JDBC_RESULT_RETENTION_SECONDS = 30 * 60;
     /**
      * The connection_id current database session needs to be stored in the database session in the form
      * of attributes, this is the key
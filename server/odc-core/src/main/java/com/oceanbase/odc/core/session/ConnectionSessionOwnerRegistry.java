@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Map;
+
+/**
+ * Registry for the owner of a {@link ConnectionSession}. A {@link ConnectionSession} holds live
+ * connections and can only be used on the node that created it, the registry records which node
+ * owns a session so that a request arriving at another node can be routed to the owner. The
+ * registry can be stored in multi-medium, like DB or memory.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public interface ConnectionSessionOwnerRegistry {
+    /**
+     * Record the owner of a {@link ConnectionSession}, an existing record will be overwritten
+     *
+     * @param sessionId id of the {@link ConnectionSession}
+     * @param owner address of the node which owns the session, eg. {@code host:port}
+     */
+    void register(String sessionId, String owner);
+
+    /**
+     * Get the owner of a {@link ConnectionSession}
+     *
+     * @param sessionId id of the {@link ConnectionSession}
+     * @return address of the owner, this return value can be null when nothing found
+     */
+    String getOwner(String sessionId);
+
+    /**
+     * Remove the record of a {@link ConnectionSession}
+     *
+     * @param sessionId id of the {@link ConnectionSession}
+     */
+    void unregister(String sessionId);
+
+    /**
+     * Remove all the records of an owner, used when a node restarts and all its sessions are lost
+     *
+     * @param owner address of the owner
+     * @return count of removed records
+     */
+    int unregisterByOwner(String owner);
+
+    /**
+     * Obtain all the records
+     *
+     * @return map from session id to owner, this return value will not be null
+     */
+    Map<String, String> listAllOwners();
+
+}
@@ -29,9 +29,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -42,9 +41,9 @@ import org.springframework.jdbc.core.StatementCallback;
 import com.oceanbase.jdbc.OceanBaseConnection;
 import com.oceanbase.jdbc.internal.protocol.Protocol;
 import com.oceanbase.odc.common.event.EventPublisher;
-import com.oceanbase.odc.common.lang.Pair;
 import com.oceanbase.odc.common.util.SystemUtils;
 import com.oceanbase.odc.core.datasource.CloneableDataSourceFactory;
+import com.oceanbase.odc.core.session.SessionFutureRegistry.FutureEntry;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.ConnectionAccountType;
 import com.oceanbase.odc.core.shared.constant.ConnectionVisibleScope;
@@ -75,6 +74,59 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ConnectionSessionUtil {
 
+    private static final SessionAttributeKey<SessionFutureRegistry<List<JdbcGeneralResult>>> FUTURE_JDBC_RESULT =
+            SessionAttributeKey.of(ConnectionSessionConstants.FUTURE_JDBC_RESULT_KEY);
+    private static final SessionAttributeKey<SessionQueryCache> QUERY_CACHE =
+            SessionAttributeKey.of(ConnectionSessionConstants.QUERY_CACHE_KEY);
+    private static final SessionAttributeKey<Long> USER_ID =
+            SessionAttributeKey.of(ConnectionSessionConstants.USER_ID_KEY);
+    private static final SessionAttributeKey<String> TENANT_NAME =
+            SessionAttributeKey.of(ConnectionSessionConstants.TENANT_NAME);
+    private static final SessionAttributeKey<String> CLUSTER_NAME =
+            SessionAttributeKey.of(ConnectionSessionConstants.CLUSTER_NAME);
+    private static final SessionAttributeKey<String> CURRENT_SCHEMA =
+            SessionAttributeKey.of(ConnectionSessionConstants.CURRENT_SCHEMA_KEY);
+    private static final SessionAttributeKey<Integer> QUERY_LIMIT =
+            SessionAttributeKey.of(ConnectionSessionConstants.QUERY_LIMIT_KEY);
+    private static final SessionAttributeKey<SqlCommentProcessor> SQL_COMMENT_PROCESSOR =
+            SessionAttributeKey.of(ConnectionSessionConstants.SQL_COMMENT_PROCESSOR_KEY);
+    private static final SessionAttributeKey<Set<String>> PERMITTED_ACTIONS =
+            SessionAttributeKey.of(ConnectionSessionConstants.PERMITTED_ACTIONS_KEY);
+    private static final SessionAttributeKey<ConnectionVisibleScope> VISIBLE_SCOPE =
+            SessionAttributeKey.of(ConnectionSessionConstants.VISIBLE_SCOPE_KEY);
+    private static final SessionAttributeKey<Object> CONNECTION_CONFIG =
+            SessionAttributeKey.of(ConnectionSessionConstants.CONNECTION_CONFIG_KEY);
+    private static final SessionAttributeKey<EventPublisher> EVENT_PUBLISHER =
+            SessionAttributeKey.of(ConnectionSessionConstants.EVENT_PUBLISHER_NAME);
+    private static final SessionAttributeKey<Boolean> CONNECTION_RESET =
+            SessionAttributeKey.of(ConnectionSessionConstants.CONNECTION_RESET_KEY);
+    private static final SessionAttributeKey<Object> COLUMN_ACCESSOR =
+            SessionAttributeKey.of(ConnectionSessionConstants.COLUMN_ACCESSOR_KEY);
+    private static final SessionAttributeKey<ConnectionAccountType> CONNECTION_ACCOUNT_TYPE =
+            SessionAttributeKey.of(ConnectionSessionConstants.CONNECTION_ACCOUNT_TYPE_KEY);
+    private static final SessionAttributeKey<String> SESSION_TIME_ZONE =
+            SessionAttributeKey.of(ConnectionSessionConstants.SESSION_TIME_ZONE);
+    private static final SessionAttributeKey<BinaryDataManager> BINARY_FILE_MANAGER =
+            SessionAttributeKey.of(ConnectionSessionConstants.BINARY_FILE_MANAGER_KEY);
+    private static final SessionAttributeKey<Boolean> SHOW_TABLE_COLUMN_INFO =
+            SessionAttributeKey.of(ConnectionSessionConstants.SHOW_TABLE_COLUMN_INFO);
+    private static final SessionAttributeKey<Map<String, BinaryContentMetaData>> BINARY_CONTENT_METADATA_CACHE =
+            SessionAttributeKey.of(ConnectionSessionConstants.BINARY_CONTENT_METADATA_CACHE);
+    private static final SessionAttributeKey<String> OB_ARCHITECTURE =
+            SessionAttributeKey.of(ConnectionSessionConstants.OB_ARCHITECTURE);
+    private static final SessionAttributeKey<Object> NLS_DATE_FORMAT =
+            SessionAttributeKey.of(ConnectionSessionConstants.NLS_DATE_FORMAT_NAME);
+    private static final SessionAttributeKey<Object> NLS_TIMESTAMP_FORMAT =
+            SessionAttributeKey.of(ConnectionSessionConstants.NLS_TIMESTAMP_FORMAT_NAME);
+    private static final SessionAttributeKey<Object> NLS_TIMESTAMP_TZ_FORMAT =
+            SessionAttributeKey.of(ConnectionSessionConstants.NLS_TIMESTAMP_TZ_FORMAT_NAME);
+    private static final SessionAttributeKey<Long> RULE_SET_ID =
+            SessionAttributeKey.of(ConnectionSessionConstants.RULE_SET_ID_NAME);
+    private static final SessionAttributeKey<String> CONNECTION_ID =
+            SessionAttributeKey.of(ConnectionSessionConstants.CONNECTION_ID_KEY);
+    private static final SessionAttributeKey<String> OB_VERSION =
+            SessionAttributeKey.of(ConnectionSessionConstants.OB_VERSION);
+
     public static void logSocketInfo(Connection connection, String scenario) {
         if (!(connection instanceof OceanBaseConnection)) {
             log.debug("skip log connection socket info due not an OceanBaseConnection, className={}, scenario={}",
@@ -155,207 +207,204 @@ public class ConnectionSessionUtil {
                 || permittedActions.contains("*");
     }
 
-    @SuppressWarnings("all")
     public static String setFutureJdbc(@NonNull ConnectionSession connectionSession,
             @NonNull Future<List<JdbcGeneralResult>> futureResult, Map<String, Object> context) {
-        Object value = connectionSession.getAttribute(ConnectionSessionConstants.FUTURE_JDBC_RESULT_KEY);
-        Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>> id2FutureResult;
-        if (value instanceof Map) {
-            id2FutureResult = (Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>>) value;
-        } else {
-            id2FutureResult = new ConcurrentHashMap<>();
-            connectionSession.setAttribute(ConnectionSessionConstants.FUTURE_JDBC_RESULT_KEY, id2FutureResult);
-        }
-        String uuid = UUID.randomUUID().toString();
-        id2FutureResult.putIfAbsent(uuid, new Pair<>(futureResult, context));
-        return uuid;
+        return getFutureJdbcRegistry(connectionSession).register(futureResult, context);
+    }
+
+    public static String setFutureJdbc(@NonNull ConnectionSession connectionSession, @NonNull String requestId,
+            @NonNull Future<List<JdbcGeneralResult>> futureResult, Map<String, Object> context) {
+        return getFutureJdbcRegistry(connectionSession).register(requestId, futureResult, context);
+    }
+
+    private static SessionFutureRegistry<List<JdbcGeneralResult>> getFutureJdbcRegistry(
+            ConnectionSession connectionSession) {
+        return FUTURE_JDBC_RESULT.getOrCreate(connectionSession,
+                () -> new SessionFutureRegistry<>(ConnectionSessionConstants.MAX_FUTURE_JDBC_RESULT_COUNT,
+                        ConnectionSessionConstants.FUTURE_JDBC_RESULT_RETENTION_SECONDS, TimeUnit.SECONDS));
     }
 
     public static Future<List<JdbcGeneralResult>> getFutureJdbcResult(
             @NonNull ConnectionSession connectionSession, @NonNull String requestId) {
-        return innerGetResult(connectionSession, requestId).left;
+        return innerGetResult(connectionSession, requestId).getFuture();
     }
 
     public static Map<String, Object> getFutureJdbcContext(
             @NonNull ConnectionSession connectionSession, @NonNull String requestId) {
-        return innerGetResult(connectionSession, requestId).right;
+        return innerGetResult(connectionSession, requestId).getContext();
     }
 
-    @SuppressWarnings("all")
-    private static Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>> innerGetResult(
+    private static FutureEntry<List<JdbcGeneralResult>> innerGetResult(
             @NonNull ConnectionSession connectionSession, @NonNull String requestId) {
-        Object value = connectionSession.getAttribute(ConnectionSessionConstants.FUTURE_JDBC_RESULT_KEY);
-        Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>> id2FutureResult;
-        if (value instanceof Map) {
-            id2FutureResult = (Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>>) value;
-        } else {
+        SessionFutureRegistry<List<JdbcGeneralResult>> registry = FUTURE_JDBC_RESULT.get(connectionSession);
+        if (registry == null) {
             throw new NotFoundException(ResourceType.ODC_ASYNC_SQL_RESULT, "session id", connectionSession.getId());
         }
-        Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>> resultList = id2FutureResult.get(requestId);
-        if (resultList == null) {
+        FutureEntry<List<JdbcGeneralResult>> entry = registry.get(requestId);
+        if (entry == null) {
             throw new NotFoundException(ResourceType.ODC_ASYNC_SQL_RESULT, "request id", requestId);
         }
-        return resultList;
+        return entry;
     }
 
-    @SuppressWarnings("all")
     public static void removeFutureJdbc(@NonNull ConnectionSession connectionSession,
             @NonNull String requestId) {
-        Object value = connectionSession.getAttribute(ConnectionSessionConstants.FUTURE_JDBC_RESULT_KEY);
-        Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>> id2FutureResult;
-        if (value == null) {
-            return;
-        } else if (!(value instanceof Map)) {
-            throw new NullPointerException("Result not found by session id " + connectionSession.getId());
-        } else {
-            id2FutureResult = (Map<String, Pair<Future<List<JdbcGeneralResult>>, Map<String, Object>>>) value;
+        SessionFutureRegistry<List<JdbcGeneralResult>> registry = FUTURE_JDBC_RESULT.get(connectionSession);
+        if (registry != null) {
+            registry.remove(requestId);
         }
-        id2FutureResult.remove(requestId);
+    }
+
+    /**
+     * Get the memory held by the attributes of a {@link ConnectionSession} which grow with the usage,
+     * used to find out leaked async results and stale query caches
+     */
+    public static SessionMemoryUsage getMemoryUsage(@NonNull ConnectionSession connectionSession) {
+        SessionMemoryUsage usage = new SessionMemoryUsage();
+        usage.setSessionId(connectionSession.getId());
+        SessionFutureRegistry<List<JdbcGeneralResult>> registry = FUTURE_JDBC_RESULT.get(connectionSession);
+        if (registry != null) {
+            usage.setFutureResultCount(registry.size());
+            usage.setPendingFutureResultCount(registry.pendingCount());
+        }
+        SessionQueryCache queryCache = QUERY_CACHE.get(connectionSession);
+        if (queryCache != null) {
+            usage.setQueryCacheCount(queryCache.size());
+            usage.setQueryCacheRowCount(queryCache.rowCount());
+        }
+        return usage;
     }
 
     public static void setUserId(@NonNull ConnectionSession connectionSession, @NonNull Long userId) {
-        connectionSession.setAttribute(ConnectionSessionConstants.USER_ID_KEY, userId);
+        USER_ID.set(connectionSession, userId);
     }
 
     public static Long getUserId(@NonNull ConnectionSession connectionSession) {
-        return (Long) connectionSession.getAttribute(ConnectionSessionConstants.USER_ID_KEY);
+        return USER_ID.get(connectionSession);
     }
 
     public static void setTenantName(@NonNull ConnectionSession connectionSession, @NonNull String tenantName) {
-        connectionSession.setAttribute(ConnectionSessionConstants.TENANT_NAME, tenantName);
+        TENANT_NAME.set(connectionSession, tenantName);
     }
 
     public static String getTenantName(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.TENANT_NAME);
+        return TENANT_NAME.get(connectionSession);
     }
 
     public static void setClusterName(@NonNull ConnectionSession connectionSession, @NonNull String tenantName) {
-        connectionSession.setAttribute(ConnectionSessionConstants.CLUSTER_NAME, tenantName);
+        CLUSTER_NAME.set(connectionSession, tenantName);
     }
 
     public static String getClusterName(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.CLUSTER_NAME);
+        return CLUSTER_NAME.get(connectionSession);
     }
 
 
     public static void setCurrentSchema(@NonNull ConnectionSession connectionSession, @NonNull String schema) {
-        connectionSession.setAttribute(ConnectionSessionConstants.CURRENT_SCHEMA_KEY, schema);
+        CURRENT_SCHEMA.set(connectionSession, schema);
     }
 
     public static String getCurrentSchema(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.CURRENT_SCHEMA_KEY);
+        return CURRENT_SCHEMA.get(connectionSession);
     }
 
     public static void setQueryLimit(@NonNull ConnectionSession connectionSession, @NonNull Integer queryLimit) {
-        connectionSession.setAttribute(ConnectionSessionConstants.QUERY_LIMIT_KEY, queryLimit);
+        QUERY_LIMIT.set(connectionSession, queryLimit);
     }
 
     public static Integer getQueryLimit(@NonNull ConnectionSession connectionSession) {
-        return (Integer) connectionSession.getAttribute(ConnectionSessionConstants.QUERY_LIMIT_KEY);
+        return QUERY_LIMIT.get(connectionSession);
     }
 
     public static void setSqlCommentProcessor(@NonNull ConnectionSession connectionSession,
             @NonNull SqlCommentProcessor commentProcessor) {
-        connectionSession.setAttribute(ConnectionSessionConstants.SQL_COMMENT_PROCESSOR_KEY, commentProcessor);
+        SQL_COMMENT_PROCESSOR.set(connectionSession, commentProcessor);
     }
 
     public static SqlCommentProcessor getSqlCommentProcessor(@NonNull ConnectionSession connectionSession) {
-        return (SqlCommentProcessor) connectionSession
-                .getAttribute(ConnectionSessionConstants.SQL_COMMENT_PROCESSOR_KEY);
+        return SQL_COMMENT_PROCESSOR.get(connectionSession);
     }
 
     public static void setPermittedActions(@NonNull ConnectionSession connectionSession,
             @NonNull Set<String> permittedActions) {
-        connectionSession.setAttribute(ConnectionSessionConstants.PERMITTED_ACTIONS_KEY, permittedActions);
+        PERMITTED_ACTIONS.set(connectionSession, permittedActions);
     }
 
-    @SuppressWarnings("all")
     public static Set<String> getPermittedActions(@NonNull ConnectionSession connectionSession) {
-        return (Set<String>) connectionSession.getAttribute(ConnectionSessionConstants.PERMITTED_ACTIONS_KEY);
+        return PERMITTED_ACTIONS.get(connectionSession);
     }
 
     public static void setVisibleScope(@NonNull ConnectionSession connectionSession,
             @NonNull ConnectionVisibleScope visibleScope) {
-        connectionSession.setAttribute(ConnectionSessionConstants.VISIBLE_SCOPE_KEY, visibleScope);
+        VISIBLE_SCOPE.set(connectionSession, visibleScope);
     }
 
     public static ConnectionVisibleScope getVisibleScope(@NonNull ConnectionSession connectionSession) {
-        return (ConnectionVisibleScope) connectionSession.getAttribute(ConnectionSessionConstants.VISIBLE_SCOPE_KEY);
+        return VISIBLE_SCOPE.get(connectionSession);
     }
 
     public static void setConnectionConfig(@NonNull ConnectionSession connectionSession,
             @NonNull Object connectionConfig) {
-        connectionSession.setAttribute(ConnectionSessionConstants.CONNECTION_CONFIG_KEY, connectionConfig);
+        CONNECTION_CONFIG.set(connectionSession, connectionConfig);
     }
 
     public static Object getConnectionConfig(@NonNull ConnectionSession connectionSession) {
-        return connectionSession.getAttribute(ConnectionSessionConstants.CONNECTION_CONFIG_KEY);
+        return CONNECTION_CONFIG.get(connectionSession);
     }
 
     public static void setEventPublisher(@NonNull ConnectionSession connectionSession,
             @NonNull EventPublisher publisher) {
-        connectionSession.setAttribute(ConnectionSessionConstants.EVENT_PUBLISHER_NAME, publisher);
+        EVENT_PUBLISHER.set(connectionSession, publisher);
     }
 
     public static EventPublisher getEventPublisher(@NonNull ConnectionSession connectionSession) {
-        return (EventPublisher) connectionSession.getAttribute(ConnectionSessionConstants.EVENT_PUBLISHER_NAME);
+        return EVENT_PUBLISHER.get(connectionSession);
     }
 
     public static void setConsoleSessionResetFlag(@NonNull ConnectionSession connectionSession,
             @NonNull Boolean reset) {
-        connectionSession.setAttribute(ConnectionSessionConstants.CONNECTION_RESET_KEY, reset);
+        CONNECTION_RESET.set(connectionSession, reset);
     }
 
     public static boolean isConsoleSessionReset(@NonNull ConnectionSession connectionSession) {
-        Object value = connectionSession.getAttribute(ConnectionSessionConstants.CONNECTION_RESET_KEY);
-        if (value == null) {
-            return false;
-        }
-        return (Boolean) value;
+        Boolean value = CONNECTION_RESET.get(connectionSession);
+        return value != null && value;
     }
 
     public static void setColumnAccessor(@NonNull ConnectionSession connectionSession, @NonNull Object columnAccessor) {
-        connectionSession.setAttribute(ConnectionSessionConstants.COLUMN_ACCESSOR_KEY, columnAccessor);
+        COLUMN_ACCESSOR.set(connectionSession, columnAccessor);
     }
 
     public static Object getColumnAccessor(@NonNull ConnectionSession connectionSession) {
-        return connectionSession.getAttribute(ConnectionSessionConstants.COLUMN_ACCESSOR_KEY);
+        return COLUMN_ACCESSOR.get(connectionSession);
     }
 
     public static void setConnectionAccountType(@NonNull ConnectionSession connectionSession,
             @NonNull ConnectionAccountType accountType) {
-        connectionSession.setAttribute(ConnectionSessionConstants.CONNECTION_ACCOUNT_TYPE_KEY, accountType);
+        CONNECTION_ACCOUNT_TYPE.set(connectionSession, accountType);
     }
 
     public static ConnectionAccountType getConnectionAccountType(@NonNull ConnectionSession connectionSession) {
-        return (ConnectionAccountType) connectionSession
-                .getAttribute(ConnectionSessionConstants.CONNECTION_ACCOUNT_TYPE_KEY);
+        return CONNECTION_ACCOUNT_TYPE.get(connectionSession);
     }
 
     public static String getConsoleSessionTimeZone(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.SESSION_TIME_ZONE);
+        return SESSION_TIME_ZONE.get(connectionSession);
     }
 
     public static void setQueryCache(@NonNull ConnectionSession connectionSession, @NonNull VirtualTable virtualTable) {
         setQueryCache(connectionSession, virtualTable, virtualTable.tableId());
     }
 
-    @SuppressWarnings("all")
     public static void setQueryCache(@NonNull ConnectionSession connectionSession, @NonNull VirtualTable virtualTable,
             @NonNull String tableId) {
-        Map<String, VirtualTable> queryCache =
-                (Map<String, VirtualTable>) connectionSession.getAttribute(ConnectionSessionConstants.QUERY_CACHE_KEY);
-        if (queryCache == null) {
-            queryCache = new HashMap<>();
-        }
-        queryCache.put(tableId, virtualTable);
-        connectionSession.setAttribute(ConnectionSessionConstants.QUERY_CACHE_KEY, queryCache);
+        QUERY_CACHE.getOrCreate(connectionSession,
+                () -> new SessionQueryCache(ConnectionSessionConstants.MAX_QUERY_CACHE_COUNT))
+                .put(tableId, virtualTable);
     }
 
-    @SuppressWarnings("all")
     public static VirtualTable getQueryCache(@NonNull ConnectionSession connectionSession, @NonNull String sqlId) {
-        Map<String, VirtualTable> queryCache =
-                (Map<String, VirtualTable>) connectionSession.getAttribute(ConnectionSessionConstants.QUERY_CACHE_KEY);
+        SessionQueryCache queryCache = QUERY_CACHE.get(connectionSession);
         if (queryCache == null) {
             return null;
         }
@@ -364,43 +413,31 @@ public class ConnectionSessionUtil {
 
     public static void setBinaryDataManager(@NonNull ConnectionSession connectionSession,
             @NonNull BinaryDataManager dataManager) {
-        connectionSession.setAttribute(ConnectionSessionConstants.BINARY_FILE_MANAGER_KEY, dataManager);
+        BINARY_FILE_MANAGER.set(connectionSession, dataManager);
     }
 
     public static BinaryDataManager getBinaryDataManager(@NonNull ConnectionSession connectionSession) {
-        return (BinaryDataManager) connectionSession.getAttribute(ConnectionSessionConstants.BINARY_FILE_MANAGER_KEY);
+        return BINARY_FILE_MANAGER.get(connectionSession);
     }
 
     public static void setShowTableColumnInfo(@NonNull ConnectionSession connectionSession,
             Boolean getTableColumnsInfo) {
-        connectionSession.setAttribute(ConnectionSessionConstants.SHOW_TABLE_COLUMN_INFO, getTableColumnsInfo);
+        SHOW_TABLE_COLUMN_INFO.set(connectionSession, getTableColumnsInfo);
     }
 
     public static boolean getShowTableColumnInfo(@NonNull ConnectionSession connectionSession) {
-        Object result = connectionSession.getAttribute(ConnectionSessionConstants.SHOW_TABLE_COLUMN_INFO);
-        if (result == null) {
-            return true;
-        }
-        return (boolean) result;
+        Boolean result = SHOW_TABLE_COLUMN_INFO.get(connectionSession);
+        return result == null || result;
     }
 
-    @SuppressWarnings("all")
     public static void setBinaryContentMetadata(@NonNull ConnectionSession connectionSession, String key,
             BinaryContentMetaData data) {
-        Map<String, BinaryContentMetaData> metadataCache = (Map<String, BinaryContentMetaData>) connectionSession
-                .getAttribute(ConnectionSessionConstants.BINARY_CONTENT_METADATA_CACHE);
-        if (metadataCache == null) {
-            metadataCache = new HashMap<>();
-            connectionSession.setAttribute(ConnectionSessionConstants.BINARY_CONTENT_METADATA_CACHE, metadataCache);
-        }
-        metadataCache.put(key, data);
+        BINARY_CONTENT_METADATA_CACHE.getOrCreate(connectionSession, HashMap::new).put(key, data);
     }
 
-    @SuppressWarnings("all")
     public static BinaryContentMetaData getBinaryContentMetadata(@NonNull ConnectionSession connectionSession,
             String key) {
-        Map<String, BinaryContentMetaData> attribute = (Map<String, BinaryContentMetaData>) connectionSession
-                .getAttribute(ConnectionSessionConstants.BINARY_CONTENT_METADATA_CACHE);
+        Map<String, BinaryContentMetaData> attribute = BINARY_CONTENT_METADATA_CACHE.get(connectionSession);
         return attribute == null ? null : attribute.getOrDefault(key, null);
     }
 
@@ -444,7 +481,7 @@ public class ConnectionSessionUtil {
                 return rs.getString(1);
             });
             Verify.notNull(arch, "Architecture");
-            connectionSession.setAttribute(ConnectionSessionConstants.OB_ARCHITECTURE, arch);
+            OB_ARCHITECTURE.set(connectionSession, arch);
             log.debug("Init architecture completed.");
         } catch (Exception e) {
             log.warn("Query architecture failed, errMsg={}", e.getMessage());
@@ -452,7 +489,7 @@ public class ConnectionSessionUtil {
     }
 
     public static String getNlsDateFormat(@NonNull ConnectionSession session) {
-        Object value = session.getAttribute(ConnectionSessionConstants.NLS_DATE_FORMAT_NAME);
+        Object value = NLS_DATE_FORMAT.get(session);
         return value == null ? null : value.toString();
     }
 
@@ -462,11 +499,11 @@ public class ConnectionSessionUtil {
     }
 
     public static void setNlsDateFormat(@NonNull ConnectionSession session, @NonNull String format) {
-        session.setAttribute(ConnectionSessionConstants.NLS_DATE_FORMAT_NAME, format);
+        NLS_DATE_FORMAT.set(session, format);
     }
 
     public static String getNlsTimestampFormat(@NonNull ConnectionSession session) {
-        Object value = session.getAttribute(ConnectionSessionConstants.NLS_TIMESTAMP_FORMAT_NAME);
+        Object value = NLS_TIMESTAMP_FORMAT.get(session);
         return value == null ? null : value.toString();
     }
 
@@ -486,11 +523,11 @@ public class ConnectionSessionUtil {
     }
 
     public static void setNlsTimestampFormat(@NonNull ConnectionSession session, @NonNull String format) {
-        session.setAttribute(ConnectionSessionConstants.NLS_TIMESTAMP_FORMAT_NAME, format);
+        NLS_TIMESTAMP_FORMAT.set(session, format);
     }
 
     public static String getNlsTimestampTZFormat(@NonNull ConnectionSession session) {
-        Object value = session.getAttribute(ConnectionSessionConstants.NLS_TIMESTAMP_TZ_FORMAT_NAME);
+        Object value = NLS_TIMESTAMP_TZ_FORMAT.get(session);
         return value == null ? null : value.toString();
     }
 
@@ -500,7 +537,7 @@ public class ConnectionSessionUtil {
     }
 
     public static void setNlsTimestampTZFormat(@NonNull ConnectionSession session, @NonNull String format) {
-        session.setAttribute(ConnectionSessionConstants.NLS_TIMESTAMP_TZ_FORMAT_NAME, format);
+        NLS_TIMESTAMP_TZ_FORMAT.set(session, format);
     }
 
     public static void initConsoleSessionTimeZone(@NonNull ConnectionSession connectionSession,
@@ -510,10 +547,10 @@ public class ConnectionSessionUtil {
                     (StatementCallback<String>) stmt -> ((OceanBaseConnection) stmt.getConnection())
                             .getSessionTimeZone());
             Verify.notNull(timeZoneStr, "TimeZone can not be null");
-            connectionSession.setAttribute(ConnectionSessionConstants.SESSION_TIME_ZONE, timeZoneStr);
+            SESSION_TIME_ZONE.set(connectionSession, timeZoneStr);
         } catch (Exception exception) {
             log.warn("Failed to get time zone, session={}", connectionSession, exception);
-            connectionSession.setAttribute(ConnectionSessionConstants.SESSION_TIME_ZONE, defaultTimeZone);
+            SESSION_TIME_ZONE.set(connectionSession, defaultTimeZone);
         }
     }
 
@@ -563,23 +600,32 @@ public class ConnectionSessionUtil {
     }
 
     public static Long getRuleSetId(@NonNull ConnectionSession connectionSession) {
-        return (Long) connectionSession.getAttribute(ConnectionSessionConstants.RULE_SET_ID_NAME);
+        return RULE_SET_ID.get(connectionSession);
     }
 
     public static void setRuleSetId(@NonNull ConnectionSession connectionSession, @NonNull Long ruleSetId) {
-        connectionSession.setAttribute(ConnectionSessionConstants.RULE_SET_ID_NAME, ruleSetId);
+        RULE_SET_ID.set(connectionSession, ruleSetId);
+    }
+
+    public static void setConsoleConnectionId(@NonNull ConnectionSession connectionSession,
+            @NonNull String connectionId) {
+        CONNECTION_ID.set(connectionSession, connectionId);
     }
 
     public static String getConsoleConnectionId(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.CONNECTION_ID_KEY);
+        return CONNECTION_ID.get(connectionSession);
+    }
+
+    public static void setVersion(@NonNull ConnectionSession connectionSession, @NonNull String version) {
+        OB_VERSION.set(connectionSession, version);
     }
 
     public static String getVersion(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.OB_VERSION);
+        return OB_VERSION.get(connectionSession);
     }
 
     public static String getArchitecture(@NonNull ConnectionSession connectionSession) {
-        return (String) connectionSession.getAttribute(ConnectionSessionConstants.OB_ARCHITECTURE);
+        return OB_ARCHITECTURE.get(connectionSession);
     }
 
     private static String getOrCreateFullPathAppendingSuffixToDataPath(@NonNull String suffix) throws IOException {
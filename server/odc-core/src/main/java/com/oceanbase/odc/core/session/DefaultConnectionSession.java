@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
@@ -94,7 +95,7 @@ public class DefaultConnectionSession implements ConnectionSession {
         } else {
             this.taskManagerWrapper = new TaskManagerWrapper(taskManagerFactory);
         }
-        this.attributes = new HashMap<>();
+        this.attributes = new ConcurrentHashMap<>();
         this.dataSourceWrapperMap = new HashMap<>();
         initBinaryDataManager();
         this.extensionExecutor = extensionExecutor;
@@ -189,7 +190,8 @@ public class DefaultConnectionSession implements ConnectionSession {
 
     @Override
     public Object getAttribute(Object key) throws ExpiredSessionException {
-        return getAttributes().get(key);
+        Map<Object, Object> attributes = getAttributes();
+        return key == null ? null : attributes.get(key);
     }
 
     @Override
@@ -203,7 +205,8 @@ public class DefaultConnectionSession implements ConnectionSession {
 
     @Override
     public Object removeAttribute(Object key) throws ExpiredSessionException {
-        return getAttributes().remove(key);
+        Map<Object, Object> attributes = getAttributes();
+        return key == null ? null : attributes.remove(key);
     }
 
     @Override
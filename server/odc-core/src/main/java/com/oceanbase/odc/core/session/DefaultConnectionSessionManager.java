@@ -19,13 +19,11 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
 
+import com.oceanbase.odc.core.session.SessionExpireTimerWheel.ExpireTimeout;
 import com.oceanbase.odc.core.task.TaskManager;
 
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,8 +42,8 @@ public class DefaultConnectionSessionManager extends BaseValidatedConnectionSess
      * delete, update and insert {@link ConnectionSession} object
      */
     private final ConnectionSessionRepository repository;
-    private final DelayQueue<DelayDeleteTaskAction> delayDeleteQueue = new DelayQueue<>();
-    private final Map<String, ConnectionSession> delayDeleteSessionId2Session = new ConcurrentHashMap<>();
+    private final SessionExpireTimerWheel expireTimerWheel;
+    private final Map<String, DelayDeleteEntry> delayDeleteSessionId2Entry = new ConcurrentHashMap<>();
 
     /**
      * Default session event listener, Usedd to monitor the occurrence of session events
@@ -83,29 +81,39 @@ public class DefaultConnectionSessionManager extends BaseValidatedConnectionSess
         super(taskManager);
         this.repository = repository;
         addListener(new InnerSessionEventListener(this));
-        DelayDeleteTask deleteTask = new DelayDeleteTask(delayDeleteQueue);
-        taskManager.submit(deleteTask);
+        this.expireTimerWheel = new SessionExpireTimerWheel(100, TimeUnit.MILLISECONDS, 512);
+        taskManager.submit(this.expireTimerWheel);
     }
 
     public boolean expire(@NonNull ConnectionSession connectionSession, long delay, @NonNull TimeUnit timeUnit) {
-        if (this.delayDeleteSessionId2Session.containsKey(connectionSession.getId())) {
+        String sessionId = connectionSession.getId();
+        DelayDeleteEntry entry = new DelayDeleteEntry(connectionSession);
+        if (this.delayDeleteSessionId2Entry.putIfAbsent(sessionId, entry) != null) {
             return false;
         }
-        this.delayDeleteSessionId2Session.putIfAbsent(connectionSession.getId(), connectionSession);
-        DelayDeleteTaskAction action =
-                new DelayDeleteTaskAction(delay, timeUnit, connectionSession.getId(), delayDeleteSessionId2Session);
-        boolean result = delayDeleteQueue.offer(action);
-        log.info("Session delayed delete task added, sessionId={}, EET={}, operateResult={}",
-                connectionSession.getId(), new Date(action.expiredTime), result);
-        return result;
+        entry.timeout = this.expireTimerWheel.schedule(() -> {
+            if (!this.delayDeleteSessionId2Entry.remove(sessionId, entry)) {
+                return;
+            }
+            connectionSession.expire();
+            log.info("Delayed deletion of connection session successfully, sessionId={}, AET={}", sessionId,
+                    new Date());
+        }, delay, timeUnit);
+        log.info("Session delayed delete task added, sessionId={}, EET={}", sessionId,
+                new Date(System.currentTimeMillis() + timeUnit.toMillis(delay)));
+        return true;
     }
 
     public ConnectionSession cancelExpire(@NonNull ConnectionSession session) {
-        if (!this.delayDeleteSessionId2Session.containsKey(session.getId())) {
+        DelayDeleteEntry entry = this.delayDeleteSessionId2Entry.remove(session.getId());
+        if (entry == null) {
             return null;
         }
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+        }
         log.info("Session delayed deletion canceled, sessionId={}", session.getId());
-        return this.delayDeleteSessionId2Session.remove(session.getId());
+        return entry.session;
     }
 
     @Override
@@ -120,6 +128,10 @@ public class DefaultConnectionSessionManager extends BaseValidatedConnectionSess
 
     @Override
     protected void doRemoveSession(ConnectionSession session) {
+        DelayDeleteEntry entry = this.delayDeleteSessionId2Entry.remove(session.getId());
+        if (entry != null && entry.timeout != null) {
+            entry.timeout.cancel();
+        }
         this.repository.delete(session);
     }
 
@@ -129,78 +141,14 @@ public class DefaultConnectionSessionManager extends BaseValidatedConnectionSess
     }
 
     /**
-     * {@link DelayDeleteTask}
-     *
-     * @author yh263208
-     * @date 2021-11-30 16:29
-     * @since ODC_release_3.2.2
+     * Pending delayed deletion of a {@link ConnectionSession}
      */
-    @Slf4j
-    static class DelayDeleteTask implements Runnable {
-
-        private final DelayQueue<DelayDeleteTaskAction> delayQueue;
+    private static class DelayDeleteEntry {
+        private final ConnectionSession session;
+        private volatile ExpireTimeout timeout;
 
-        public DelayDeleteTask(@NonNull DelayQueue<DelayDeleteTaskAction> delayQueue) {
-            this.delayQueue = delayQueue;
-        }
-
-        @Override
-        public void run() {
-            log.info("Connection session delayed deletion task started successfully");
-            while (!Thread.currentThread().isInterrupted()) {
-                try {
-                    this.delayQueue.take().doAction();
-                } catch (InterruptedException e) {
-                    log.warn("Delay deletion daemon thread is interrupted, task exits", e);
-                    return;
-                } catch (Exception e) {
-                    log.warn("Delay deletion daemon thread is abnormal, task is restarted", e);
-                }
-            }
-        }
-    }
-
-    /**
-     * {@link DelayDeleteTaskAction}
-     *
-     * @author yh263208
-     * @date 2021-11-30 16:59
-     * @since ODC_release_3.2.2
-     */
-    @Getter
-    static class DelayDeleteTaskAction implements Delayed {
-        private final String sessionId;
-        private final long expiredTime;
-        private final Map<String, ConnectionSession> delayDeleteSessionId2Session;
-
-        public DelayDeleteTaskAction(long timeout, TimeUnit timeUnit, @NonNull String sessionId,
-                @NonNull Map<String, ConnectionSession> delayDeleteSessionId2Session) {
-            this.sessionId = sessionId;
-            this.expiredTime = System.currentTimeMillis() + TimeUnit.MILLISECONDS.convert(timeout, timeUnit);
-            this.delayDeleteSessionId2Session = delayDeleteSessionId2Session;
-        }
-
-        @Override
-        public long getDelay(TimeUnit unit) {
-            return unit.convert(expiredTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
-        }
-
-        @Override
-        public int compareTo(Delayed o) {
-            if (!(o instanceof DelayDeleteTaskAction)) {
-                return 1;
-            }
-            return (int) (this.getDelay(TimeUnit.MILLISECONDS) - o.getDelay(TimeUnit.MILLISECONDS));
-        }
-
-        public void doAction() {
-            ConnectionSession session = this.delayDeleteSessionId2Session.get(this.sessionId);
-            if (session == null) {
-                return;
-            }
-            session.expire();
-            log.info("Delayed deletion of connection session successfully, sessionId={}, AET={}", this.sessionId,
-                    new Date());
+        private DelayDeleteEntry(ConnectionSession session) {
+            this.session = session;
         }
     }
 
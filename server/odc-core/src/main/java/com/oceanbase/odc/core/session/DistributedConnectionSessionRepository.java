@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.apache.commons.lang3.Validate;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConnectionSessionRepository} for multi-node deployments. Live {@link ConnectionSession}
+ * objects are kept in a local {@link ConnectionSessionRepository} since they hold connections,
+ * while the owner of every session is published to a {@link ConnectionSessionOwnerRegistry} shared
+ * by all the nodes, so that a node which does not hold a session is able to find the node that
+ * does.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionSessionRepository
+ */
+@Slf4j
+public class DistributedConnectionSessionRepository implements ConnectionSessionRepository {
+
+    private final ConnectionSessionRepository localRepository;
+    private final ConnectionSessionOwnerRegistry ownerRegistry;
+    @Getter
+    private final String localOwner;
+
+    public DistributedConnectionSessionRepository(@NonNull ConnectionSessionRepository localRepository,
+            @NonNull ConnectionSessionOwnerRegistry ownerRegistry, @NonNull String localOwner) {
+        this.localRepository = localRepository;
+        this.ownerRegistry = ownerRegistry;
+        this.localOwner = localOwner;
+        try {
+            int count = ownerRegistry.unregisterByOwner(localOwner);
+            log.info("Sessions left by the previous run are unregistered, owner={}, count={}", localOwner, count);
+        } catch (Exception e) {
+            log.warn("Failed to unregister sessions left by the previous run, owner={}", localOwner, e);
+        }
+    }
+
+    @Override
+    public String store(@NonNull ConnectionSession session) {
+        Validate.notNull(session.getId(), "Session.Id can not be null");
+        String sessionId = this.localRepository.store(session);
+        try {
+            this.ownerRegistry.register(sessionId, this.localOwner);
+        } catch (Exception e) {
+            // the session is still usable on this node, only routing from other nodes is lost
+            log.warn("Failed to register session owner, sessionId={}, owner={}", sessionId, this.localOwner, e);
+        }
+        return sessionId;
+    }
+
+    @Override
+    public ConnectionSession get(@NonNull String sessionId) {
+        return this.localRepository.get(sessionId);
+    }
+
+    @Override
+    public void delete(@NonNull ConnectionSession session) {
+        Validate.notNull(session.getId(), "Session.Id can not be null");
+        this.localRepository.delete(session);
+        try {
+            this.ownerRegistry.unregister(session.getId());
+        } catch (Exception e) {
+            log.warn("Failed to unregister session owner, sessionId={}", session.getId(), e);
+        }
+    }
+
+    @Override
+    public Collection<ConnectionSession> listAllSessions() {
+        return this.localRepository.listAllSessions();
+    }
+
+    /**
+     * Get the owner of a session which is not held by this node
+     *
+     * @param sessionId id of the {@link ConnectionSession}
+     * @return address of the remote owner, null will be returned if the session is held by this node or
+     *         the session does not exist on any node
+     */
+    public String getRemoteOwner(@NonNull String sessionId) {
+        if (this.localRepository.get(sessionId) != null) {
+            return null;
+        }
+        String owner;
+        try {
+            owner = this.ownerRegistry.getOwner(sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to get session owner, sessionId={}", sessionId, e);
+            return null;
+        }
+        return owner == null || Objects.equals(owner, this.localOwner) ? null : owner;
+    }
+
+    /**
+     * Remove the record of a session whose owner is unreachable
+     */
+    public void invalidateRemoteOwner(@NonNull String sessionId) {
+        try {
+            this.ownerRegistry.unregister(sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to unregister session owner, sessionId={}", sessionId, e);
+        }
+    }
+
+}
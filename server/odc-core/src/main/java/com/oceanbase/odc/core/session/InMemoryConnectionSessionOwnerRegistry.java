@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * {@link ConnectionSessionOwnerRegistry} which stores records in memory, used in single node
+ * deployments and as a local stand-in in tests
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionSessionOwnerRegistry
+ */
+public class InMemoryConnectionSessionOwnerRegistry implements ConnectionSessionOwnerRegistry {
+
+    private final Map<String, String> sessionId2Owner = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(@NonNull String sessionId, @NonNull String owner) {
+        this.sessionId2Owner.put(sessionId, owner);
+    }
+
+    @Override
+    public String getOwner(@NonNull String sessionId) {
+        return this.sessionId2Owner.get(sessionId);
+    }
+
+    @Override
+    public void unregister(@NonNull String sessionId) {
+        this.sessionId2Owner.remove(sessionId);
+    }
+
+    @Override
+    public int unregisterByOwner(@NonNull String owner) {
+        int count = 0;
+        for (Map.Entry<String, String> entry : this.sessionId2Owner.entrySet()) {
+            if (Objects.equals(owner, entry.getValue()) && this.sessionId2Owner.remove(entry.getKey(), owner)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, String> listAllOwners() {
+        return Collections.unmodifiableMap(new HashMap<>(this.sessionId2Owner));
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Typed key for the attributes of a {@link ConnectionSession}. The value is stored under the name
+ * of the key, so it is shared with the callers which still access the attribute by the plain
+ * {@link String} name, while the value type is checked at compile time for the typed callers.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public final class SessionAttributeKey<T> {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final Object[] INIT_LOCKS = new Object[LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            INIT_LOCKS[i] = new Object();
+        }
+    }
+
+    @Getter
+    private final String name;
+
+    private SessionAttributeKey(@NonNull String name) {
+        this.name = name;
+    }
+
+    public static <T> SessionAttributeKey<T> of(@NonNull String name) {
+        return new SessionAttributeKey<>(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(@NonNull ConnectionSession connectionSession) {
+        return (T) connectionSession.getAttribute(this.name);
+    }
+
+    public void set(@NonNull ConnectionSession connectionSession, T value) {
+        connectionSession.setAttribute(this.name, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T remove(@NonNull ConnectionSession connectionSession) {
+        return (T) connectionSession.removeAttribute(this.name);
+    }
+
+    /**
+     * Get the value of the attribute, the value will be created if absent. The fast path does not lock,
+     * creation is serialized per session so that concurrent callers always get the same value.
+     */
+    public T getOrCreate(@NonNull ConnectionSession connectionSession, @NonNull Supplier<T> supplier) {
+        T value = get(connectionSession);
+        if (value != null) {
+            return value;
+        }
+        String sessionId = connectionSession.getId();
+        int stripe = sessionId == null ? 0 : (sessionId.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES;
+        synchronized (INIT_LOCKS[stripe]) {
+            value = get(connectionSession);
+            if (value == null) {
+                value = supplier.get();
+                set(connectionSession, value);
+            }
+            return value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.Validate;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed timer wheel used to expire {@link ConnectionSession}. Scheduling and cancelling are both
+ * {@code O(1)} and lock-free for the caller, all the bookkeeping is done by a single worker which
+ * advances the wheel once per tick. Compared to a {@link java.util.concurrent.DelayQueue} the cost
+ * does not grow with the number of pending timeouts, which matters when tens of thousands of
+ * sessions are waiting to be expired. The precision of a timeout is one tick.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+public class SessionExpireTimerWheel implements Runnable {
+
+    private final long tickNanos;
+    private final Set<ExpireTimeout>[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Queue<ExpireTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<ExpireTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private long tick = 0;
+
+    @SuppressWarnings("unchecked")
+    public SessionExpireTimerWheel(long tickDuration, @NonNull TimeUnit timeUnit, int wheelSize) {
+        Validate.isTrue(tickDuration > 0, "TickDuration has to be positive");
+        Validate.isTrue(wheelSize > 0 && (wheelSize & (wheelSize - 1)) == 0, "WheelSize has to be a power of 2");
+        this.tickNanos = timeUnit.toNanos(tickDuration);
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        this.mask = wheelSize - 1;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Schedule a task which will be executed by the worker after the given delay
+     *
+     * @param task task to be executed, should be short since it blocks the wheel
+     * @return handle of the timeout, can be used to cancel the task
+     */
+    public ExpireTimeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit timeUnit) {
+        long deadline = System.nanoTime() + timeUnit.toNanos(Math.max(delay, 0)) - this.startTime;
+        ExpireTimeout timeout = new ExpireTimeout(this, task, deadline);
+        this.pendingTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void run() {
+        log.info("Session expire timer wheel started successfully, tickNanos={}, wheelSize={}",
+                this.tickNanos, this.wheel.length);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                long deadline = waitForNextTick();
+                removeCancelledTimeouts();
+                transferPendingTimeouts();
+                expireTimeouts(this.wheel[(int) (this.tick & this.mask)], deadline);
+                this.tick++;
+            } catch (InterruptedException e) {
+                log.warn("Session expire timer wheel is interrupted, task exits", e);
+                return;
+            } catch (Exception e) {
+                log.warn("Session expire timer wheel is abnormal, task is restarted", e);
+            }
+        }
+    }
+
+    private long waitForNextTick() throws InterruptedException {
+        long deadline = this.tickNanos * (this.tick + 1);
+        long sleepNanos = deadline - (System.nanoTime() - this.startTime);
+        if (sleepNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        }
+        return deadline;
+    }
+
+    private void removeCancelledTimeouts() {
+        ExpireTimeout timeout;
+        while ((timeout = this.cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                timeout.bucket = null;
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        ExpireTimeout timeout;
+        while ((timeout = this.pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / this.tickNanos;
+            timeout.remainingRounds = (calculated - this.tick) / this.wheel.length;
+            // timeouts which are already overdue are expired in the current tick
+            Set<ExpireTimeout> bucket = this.wheel[(int) (Math.max(calculated, this.tick) & this.mask)];
+            bucket.add(timeout);
+            timeout.bucket = bucket;
+        }
+    }
+
+    private void expireTimeouts(Set<ExpireTimeout> bucket, long deadline) {
+        for (ExpireTimeout timeout : bucket.toArray(new ExpireTimeout[0])) {
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            if (timeout.deadline > deadline) {
+                continue;
+            }
+            bucket.remove(timeout);
+            timeout.bucket = null;
+            timeout.expire();
+        }
+    }
+
+    /**
+     * Handle of a scheduled task in {@link SessionExpireTimerWheel}
+     */
+    public static class ExpireTimeout {
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private final SessionExpireTimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+        /**
+         * fields below are only accessed by the worker
+         */
+        private long remainingRounds;
+        private Set<ExpireTimeout> bucket;
+
+        private ExpireTimeout(SessionExpireTimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel the task
+         *
+         * @return false if the task has already been executed or cancelled
+         */
+        public boolean cancel() {
+            if (!this.state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            this.timerWheel.cancelledTimeouts.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return this.state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!this.state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                this.task.run();
+            } catch (Throwable e) {
+                log.warn("Failed to execute an expire task", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry for the asynchronous results of a {@link ConnectionSession}. Register, lookup and
+ * removal are all {@code O(1)}. A result is expected to be removed by the caller once it is
+ * consumed, results which are done but never claimed (eg. the client stops polling) are cleaned up
+ * after a retention period, and the oldest finished results are evicted when the registry grows
+ * beyond its capacity.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+public class SessionFutureRegistry<T> {
+
+    private final Map<String, FutureEntry<T>> id2Entry = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long retentionMillis;
+    private final long cleanIntervalMillis;
+    private final AtomicLong lastCleanTime = new AtomicLong(System.currentTimeMillis());
+
+    public SessionFutureRegistry(int maxEntries, long retention, @NonNull TimeUnit timeUnit) {
+        this.maxEntries = maxEntries;
+        this.retentionMillis = timeUnit.toMillis(retention);
+        this.cleanIntervalMillis = Math.max(this.retentionMillis / 10, 1000);
+    }
+
+    public String register(@NonNull Future<T> future, Map<String, Object> context) {
+        return register(UUID.randomUUID().toString(), future, context);
+    }
+
+    /**
+     * Register a result with an id generated by the caller, used when the id has to be known before the
+     * result is submitted
+     */
+    public String register(@NonNull String id, @NonNull Future<T> future, Map<String, Object> context) {
+        cleanIfNecessary();
+        this.id2Entry.put(id, new FutureEntry<>(future, context, System.currentTimeMillis()));
+        return id;
+    }
+
+    public FutureEntry<T> get(@NonNull String id) {
+        return this.id2Entry.get(id);
+    }
+
+    public FutureEntry<T> remove(@NonNull String id) {
+        return this.id2Entry.remove(id);
+    }
+
+    public int size() {
+        return this.id2Entry.size();
+    }
+
+    public int pendingCount() {
+        return (int) this.id2Entry.values().stream().filter(e -> !e.getFuture().isDone()).count();
+    }
+
+    /**
+     * Remove results which are done and have not been claimed within the retention period, the oldest
+     * done results are also removed if the registry is still over capacity
+     *
+     * @return count of removed results
+     */
+    public int clean() {
+        long now = System.currentTimeMillis();
+        this.lastCleanTime.set(now);
+        int count = 0;
+        for (Map.Entry<String, FutureEntry<T>> entry : this.id2Entry.entrySet()) {
+            FutureEntry<T> value = entry.getValue();
+            if (value.getFuture().isDone() && now - value.getCreateTime() > this.retentionMillis
+                    && this.id2Entry.remove(entry.getKey(), value)) {
+                count++;
+            }
+        }
+        while (this.id2Entry.size() > this.maxEntries) {
+            Map.Entry<String, FutureEntry<T>> oldest = this.id2Entry.entrySet().stream()
+                    .filter(e -> e.getValue().getFuture().isDone())
+                    .min((e1, e2) -> Long.compare(e1.getValue().getCreateTime(), e2.getValue().getCreateTime()))
+                    .orElse(null);
+            if (oldest == null) {
+                break;
+            }
+            if (this.id2Entry.remove(oldest.getKey(), oldest.getValue())) {
+                count++;
+            }
+        }
+        if (count > 0) {
+            log.info("Abandoned async results are cleaned, count={}, remain={}", count, this.id2Entry.size());
+        }
+        return count;
+    }
+
+    private void cleanIfNecessary() {
+        long lastClean = this.lastCleanTime.get();
+        if (this.id2Entry.size() < this.maxEntries
+                && System.currentTimeMillis() - lastClean < this.cleanIntervalMillis) {
+            return;
+        }
+        clean();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FutureEntry<T> {
+        private final Future<T> future;
+        private final Map<String, Object> context;
+        private final long createTime;
+    }
+
+}
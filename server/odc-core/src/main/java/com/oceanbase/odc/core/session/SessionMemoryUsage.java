@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import lombok.Data;
+
+/**
+ * Memory held by the attributes of a {@link ConnectionSession} which grow with the usage
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionSessionUtil#getMemoryUsage(ConnectionSession)
+ */
+@Data
+public class SessionMemoryUsage {
+    private String sessionId;
+    private int futureResultCount;
+    private int pendingFutureResultCount;
+    private int queryCacheCount;
+    private long queryCacheRowCount;
+}
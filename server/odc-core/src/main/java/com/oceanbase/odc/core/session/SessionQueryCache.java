@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.oceanbase.odc.core.sql.execute.cache.table.VirtualTable;
+
+import lombok.NonNull;
+
+/**
+ * Query result cache of a {@link ConnectionSession}, the earliest cached {@link VirtualTable} is
+ * evicted when the cache is full so that a long-lived session does not accumulate the results of
+ * every query it has ever executed
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SessionQueryCache {
+
+    private final Map<String, VirtualTable> tableId2Table = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+
+    public SessionQueryCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public void put(@NonNull String tableId, @NonNull VirtualTable virtualTable) {
+        if (this.tableId2Table.put(tableId, virtualTable) == null) {
+            this.insertionOrder.offer(tableId);
+        }
+        while (this.tableId2Table.size() > this.maxEntries) {
+            String eldest = this.insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            this.tableId2Table.remove(eldest);
+        }
+    }
+
+    public VirtualTable get(@NonNull String tableId) {
+        return this.tableId2Table.get(tableId);
+    }
+
+    public int size() {
+        return this.tableId2Table.size();
+    }
+
+    public long rowCount() {
+        return this.tableId2Table.values().stream().map(VirtualTable::count).filter(c -> c != null)
+                .mapToLong(Long::longValue).sum();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.model;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.tools.sqlparser.BaseSQLParser;
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
+import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Parse result of a sql statement shared by all the consumers of one execution. The ast is built
+ * lazily and at most once, results derived from it (eg. referenced schemas, statement type) can be
+ * cached by {@link #computeIfAbsent(String, Function)} to avoid being computed again.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see SqlTuple
+ */
+public class ParsedStatement {
+
+    @Getter
+    private final String sql;
+    @Getter
+    private final DialectType dialectType;
+    private final Map<String, Object> key2Result = new HashMap<>();
+    private boolean astBuilt = false;
+    private ParseTree ast;
+    private RuntimeException parseError;
+
+    public ParsedStatement(@NonNull String sql, @NonNull DialectType dialectType) {
+        this.sql = sql;
+        this.dialectType = dialectType;
+    }
+
+    /**
+     * @return ast of the sql, built by {@link OBMySQLParser} or {@link OBOracleSQLParser}
+     * @throws com.oceanbase.tools.sqlparser.SyntaxErrorException the same exception will be thrown
+     *         every time if the sql has a syntax error
+     */
+    public synchronized ParseTree getAst() {
+        if (!this.astBuilt) {
+            try {
+                this.ast = getParser(this.dialectType).buildAst(new StringReader(this.sql));
+            } catch (RuntimeException e) {
+                this.parseError = e;
+            }
+            this.astBuilt = true;
+        }
+        if (this.parseError != null) {
+            throw this.parseError;
+        }
+        return this.ast;
+    }
+
+    /**
+     * The mapping function will be called at most once for a key as long as it does not throw, it may
+     * call this method for another key
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T computeIfAbsent(@NonNull String key,
+            @NonNull Function<ParsedStatement, T> mappingFunction) {
+        if (this.key2Result.containsKey(key)) {
+            return (T) this.key2Result.get(key);
+        }
+        T result = mappingFunction.apply(this);
+        this.key2Result.put(key, result);
+        return result;
+    }
+
+    public static boolean isSupported(DialectType dialectType) {
+        return dialectType != null && (dialectType.isMysql() || dialectType.isOracle());
+    }
+
+    private static BaseSQLParser<?, ?> getParser(DialectType dialectType) {
+        if (dialectType.isMysql()) {
+            return new OBMySQLParser();
+        } else if (dialectType.isOracle()) {
+            return new OBOracleSQLParser();
+        }
+        throw new UnsupportedOperationException("Unsupported dialect type, " + dialectType);
+    }
+
+}
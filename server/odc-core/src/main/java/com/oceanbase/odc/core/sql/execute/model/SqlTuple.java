@@ -20,9 +20,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.oceanbase.odc.common.util.TraceWatch;
+import com.oceanbase.odc.core.shared.constant.DialectType;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -50,6 +52,11 @@ public class SqlTuple {
     private final String executedSql;
     @JsonProperty(access = Access.WRITE_ONLY)
     private final TraceWatch sqlWatch;
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private ParsedStatement parsedStatement;
 
     private SqlTuple(@NonNull String sqlId, @NonNull String originalSql, @NonNull String executedSql,
             @NonNull TraceWatch sqlWatch) {
@@ -61,7 +68,19 @@ public class SqlTuple {
 
     public SqlTuple softCopy() {
         String sqlId = this.sqlId + "-" + (++this.copiedTimes);
-        return new SqlTuple(sqlId, this.originalSql, this.executedSql, this.sqlWatch);
+        SqlTuple copied = new SqlTuple(sqlId, this.originalSql, this.executedSql, this.sqlWatch);
+        copied.parsedStatement = this.parsedStatement;
+        return copied;
+    }
+
+    /**
+     * Parse result of the original sql, shared by all the interceptors of one execution
+     */
+    public synchronized ParsedStatement getParsedStatement(@NonNull DialectType dialectType) {
+        if (this.parsedStatement == null || this.parsedStatement.getDialectType() != dialectType) {
+            this.parsedStatement = new ParsedStatement(this.originalSql, dialectType);
+        }
+        return this.parsedStatement;
     }
 
     public static SqlTuple newTuple(@NonNull String originalSql, @NonNull String executedSql) {
@@ -0,0 +1,9 @@
+-- resource checksum table create ddl template
+CREATE TABLE IF NOT EXISTS `${resource_checksum}` (
+ `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT 'id',
+ `script` VARCHAR(128) NOT NULL COMMENT 'resource file name',
+ `checksum` VARCHAR(64) NOT NULL COMMENT 'sha1 checksum of the resource content and its variables',
+ `installed_on` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'installed timestamp',
+ PRIMARY KEY (`id`),
+ CONSTRAINT `uk_${resource_checksum}_script_checksum` UNIQUE (`script`, `checksum`)
+ ) ;
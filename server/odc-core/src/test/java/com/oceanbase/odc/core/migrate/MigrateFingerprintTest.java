@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.migrate;
+
+import java.util.Collections;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * {@link MigrateFingerprintTest}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class MigrateFingerprintTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:fingerprint;MODE=MySQL";
+    private DataSource dataSource;
+
+    @Before
+    public void setUp() throws Exception {
+        Class.forName("org.h2.Driver");
+        dataSource = new SingleConnectionDataSource(JDBC_URL, false);
+        // created by V_4_2_2_8__add_migrate_fingerprint.sql in metadb
+        new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS `migrate_fingerprint` ("
+                + "`fingerprint_key` varchar(64) NOT NULL, `fingerprint` varchar(64) NOT NULL,"
+                + "`update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP, PRIMARY KEY (`fingerprint_key`))");
+    }
+
+    @After
+    public void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists migrate_fingerprint");
+        jdbcTemplate.execute("drop table if exists migrate_schema_history");
+        jdbcTemplate.execute("drop table if exists t_1_for_migrate_test");
+        jdbcTemplate.execute("drop table if exists t_2_for_migrate_test");
+    }
+
+    @Test
+    public void compute_SameInputs_SameFingerprint() {
+        Assert.assertEquals(MigrateFingerprint.compute(configuration(), "4.2.2@1"),
+                MigrateFingerprint.compute(configuration(), "4.2.2@1"));
+    }
+
+    @Test
+    public void compute_BuildChanged_DifferentFingerprint() {
+        Assert.assertNotEquals(MigrateFingerprint.compute(configuration(), "4.2.2@1"),
+                MigrateFingerprint.compute(configuration(), "4.2.2@2"));
+    }
+
+    @Test
+    public void matches_NotSaved_ReturnFalse() {
+        MigrateFingerprint fingerprint = new MigrateFingerprint(dataSource);
+        Assert.assertFalse(fingerprint.matches(MigrateFingerprint.compute(configuration(), "4.2.2@1")));
+    }
+
+    @Test
+    public void matches_TableNotCreated_ReturnFalse() {
+        new JdbcTemplate(dataSource).execute("drop table migrate_fingerprint");
+        MigrateFingerprint fingerprint = new MigrateFingerprint(dataSource);
+        Assert.assertFalse(fingerprint.matches(MigrateFingerprint.compute(configuration(), "4.2.2@1")));
+    }
+
+    @Test
+    public void matches_SavedTwice_MatchLatest() {
+        MigrateFingerprint fingerprint = new MigrateFingerprint(dataSource);
+        fingerprint.save("a");
+        fingerprint.save("b");
+        Assert.assertFalse(fingerprint.matches("a"));
+        Assert.assertTrue(fingerprint.matches("b"));
+    }
+
+    @Test
+    public void launch_NothingChanged_SkipMigrate() {
+        Assert.assertTrue(launch("4.2.2@1"));
+        Assert.assertFalse(launch("4.2.2@1"));
+        Assert.assertTrue(launch("4.2.3@2"));
+    }
+
+    /**
+     * same as the startup of desktop mode metadb migration
+     */
+    private boolean launch(String buildIdentity) {
+        MigrateConfiguration configuration = configuration();
+        MigrateFingerprint migrateFingerprint = new MigrateFingerprint(dataSource);
+        String fingerprint = MigrateFingerprint.compute(configuration, buildIdentity);
+        if (migrateFingerprint.matches(fingerprint)) {
+            return false;
+        }
+        new Migrates(configuration, new DefaultSchemaHistoryRepository(dataSource)).migrate();
+        migrateFingerprint.save(fingerprint);
+        return true;
+    }
+
+    private MigrateConfiguration configuration() {
+        return MigrateConfiguration.builder()
+                .dataSource(dataSource)
+                .resourceLocations(Collections.singletonList("migrate/migrate"))
+                .basePackages(Collections.singletonList("com.oceanbase.odc.core.migrate"))
+                .build();
+    }
+
+}
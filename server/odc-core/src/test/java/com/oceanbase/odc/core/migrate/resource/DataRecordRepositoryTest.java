@@ -17,6 +17,7 @@ package com.oceanbase.odc.core.migrate.resource;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -157,6 +158,40 @@ public class DataRecordRepositoryTest {
         });
     }
 
+    @Test
+    public void findAll_findNonExistsRecords_returnEmpty() throws IOException {
+        ResourceManager manager = getResourceManager();
+        ResourceSpec defaultEntity = getDefaultResourceEntity(manager);
+
+        List<DataRecord> records = new LinkedList<>();
+        for (TableTemplate entity : defaultEntity.getTemplates().subList(0, 2)) {
+            records.addAll(getDataRecords(defaultEntity, manager, entity));
+        }
+        DataRecordRepository repository = new DataRecordRepository(dataSource);
+        List<List<DataRecord>> actual = repository.findAll(records);
+        Assert.assertEquals(records.size(), actual.size());
+        actual.forEach(saved -> Assert.assertTrue(saved.isEmpty()));
+    }
+
+    @Test
+    public void saveAll_permissionAndRole_findAllReturnSaved() throws IOException {
+        ResourceManager manager = getResourceManager();
+        ResourceSpec defaultEntity = getDefaultResourceEntity(manager);
+
+        List<DataRecord> records = new LinkedList<>();
+        for (TableTemplate entity : defaultEntity.getTemplates().subList(0, 2)) {
+            records.addAll(getDataRecords(defaultEntity, manager, entity));
+        }
+        DataRecordRepository repository = new DataRecordRepository(dataSource);
+        Assert.assertEquals(records.size(), repository.saveAll(records));
+        List<List<DataRecord>> actual = repository.findAll(records);
+        Assert.assertEquals(records.size(), actual.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assert.assertEquals(1, actual.get(i).size());
+            Assert.assertTrue(repository.exists(records.get(i)));
+        }
+    }
+
     private List<DataRecord> getDataRecords(ResourceSpec defaultEntity, ResourceManager manager,
             TableTemplate entity) {
         TableSpecDataSpecsMapper mapper = getMapper(defaultEntity, manager);
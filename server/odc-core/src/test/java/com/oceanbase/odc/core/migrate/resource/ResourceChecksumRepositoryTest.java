@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.migrate.resource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.oceanbase.odc.core.migrate.resource.repository.ResourceChecksumRepository;
+
+/**
+ * Test cases for {@link ResourceChecksumRepository}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class ResourceChecksumRepositoryTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:test;MODE=MySQL";
+
+    private DataSource dataSource;
+
+    @Before
+    public void setUp() throws ClassNotFoundException {
+        Class.forName("org.h2.Driver");
+        dataSource = new SingleConnectionDataSource(JDBC_URL, false);
+    }
+
+    @After
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("drop table if exists migrate_resource_checksum");
+    }
+
+    @Test
+    public void listChecksums_twoChecksumsCreated_returnBoth() {
+        ResourceChecksumRepository repository = new ResourceChecksumRepository(dataSource);
+        repository.create("V_1_0_0__a.yaml", "checksum_1");
+        repository.create("V_1_0_0__a.yaml", "checksum_2");
+        repository.create("V_1_0_1__b.yaml", "checksum_1");
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("checksum_1", "checksum_2")),
+                repository.listChecksums("V_1_0_0__a.yaml"));
+    }
+
+    @Test(expected = DuplicateKeyException.class)
+    public void create_duplicatedChecksum_expThrown() {
+        ResourceChecksumRepository repository = new ResourceChecksumRepository(dataSource);
+        repository.create("V_1_0_0__a.yaml", "checksum_1");
+        repository.create("V_1_0_0__a.yaml", "checksum_1");
+    }
+
+}
@@ -88,6 +88,25 @@ public class ResourceFileSpecMigratorTest {
         });
     }
 
+    @Test
+    public void migrate_migrateTwice_nothingDuplicated() throws IOException {
+        ResourceManager manager = getResourceManager();
+        ResourceSpec defaultEntity = getDefaultResourceEntity(manager);
+
+        ResourceSpecMigrator migrator =
+                new ResourceSpecMigrator(new DataRecordRepository(dataSource), getFactory(manager), s -> s, 1);
+        migrator.migrate(defaultEntity);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Long expect = jdbcTemplate.queryForObject("select count(1) from iam_role", Long.class)
+                + jdbcTemplate.queryForObject("select count(1) from iam_permission", Long.class);
+
+        migrator.migrate(defaultEntity);
+        Long actual = jdbcTemplate.queryForObject("select count(1) from iam_role", Long.class)
+                + jdbcTemplate.queryForObject("select count(1) from iam_permission", Long.class);
+        Assert.assertEquals(Long.valueOf(2), expect);
+        Assert.assertEquals(expect, actual);
+    }
+
     private EntityMapperFactory<ResourceSpec, List<DataRecord>> getFactory(@NonNull ResourceManager manager) {
         ResourceConfig config = ResourceConfig.builder()
                 .valueEncoderFactory(new TestValueEncoderFactory())
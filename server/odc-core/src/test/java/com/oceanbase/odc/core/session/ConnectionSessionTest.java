@@ -400,6 +400,36 @@ public class ConnectionSessionTest {
         Assert.assertTrue(sessionManager.retrieveAllSessions().isEmpty());
     }
 
+    @Test
+    public void expire_delayedExpire_sessionRemoved() throws Exception {
+        DefaultConnectionSessionManager sessionManager =
+                (DefaultConnectionSessionManager) getConnectionSessionManager();
+        ConnectionSession connectionSession =
+                sessionManager.start(getSessionConnectionFactory(ConnectType.OB_ORACLE, true));
+
+        Assert.assertTrue(sessionManager.expire(connectionSession, 100, TimeUnit.MILLISECONDS));
+        Assert.assertFalse(sessionManager.expire(connectionSession, 100, TimeUnit.MILLISECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!connectionSession.isExpired() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Assert.assertTrue(connectionSession.isExpired());
+    }
+
+    @Test
+    public void cancelExpire_cancelDelayedExpire_sessionAlive() throws Exception {
+        DefaultConnectionSessionManager sessionManager =
+                (DefaultConnectionSessionManager) getConnectionSessionManager();
+        ConnectionSession connectionSession =
+                sessionManager.start(getSessionConnectionFactory(ConnectType.OB_ORACLE, true));
+
+        sessionManager.expire(connectionSession, 200, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(connectionSession, sessionManager.cancelExpire(connectionSession));
+        Assert.assertNull(sessionManager.cancelExpire(connectionSession));
+        Thread.sleep(500);
+        Assert.assertFalse(connectionSession.isExpired());
+    }
+
     private TestConnectionSessionFactory getSessionConnectionFactory(ConnectType connectType,
             Boolean autoCommit) {
         return new TestConnectionSessionFactory(connectType, autoCommit);
@@ -15,11 +15,23 @@
  */
 package com.oceanbase.odc.core.session;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
+import com.oceanbase.odc.core.shared.constant.ConnectType;
 import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.shared.exception.NotFoundException;
+import com.oceanbase.odc.core.sql.execute.cache.table.VirtualTable;
+import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.core.sql.execute.tool.TestConnectionSession;
 
 public class ConnectionSessionUtilTest {
 
@@ -42,5 +54,54 @@ public class ConnectionSessionUtilTest {
         schema = "quota_schema";
         Assert.assertEquals(ConnectionSessionUtil.getUserOrSchemaString(schema, DialectType.OB_MYSQL), schema);
     }
-}
 
+    @Test
+    public void setFutureJdbc_getAndRemove_succeed() {
+        ConnectionSession session = new TestConnectionSession(true, ConnectType.OB_MYSQL);
+        Future<List<JdbcGeneralResult>> future = CompletableFuture.completedFuture(Collections.emptyList());
+        Map<String, Object> context = Collections.singletonMap("key", "value");
+        String requestId = ConnectionSessionUtil.setFutureJdbc(session, future, context);
+
+        Assert.assertSame(future, ConnectionSessionUtil.getFutureJdbcResult(session, requestId));
+        Assert.assertEquals(context, ConnectionSessionUtil.getFutureJdbcContext(session, requestId));
+        Assert.assertEquals(1, ConnectionSessionUtil.getMemoryUsage(session).getFutureResultCount());
+        ConnectionSessionUtil.removeFutureJdbc(session, requestId);
+        Assert.assertEquals(0, ConnectionSessionUtil.getMemoryUsage(session).getFutureResultCount());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void getFutureJdbcResult_nothingRegistered_notFound() {
+        ConnectionSession session = new TestConnectionSession(true, ConnectType.OB_MYSQL);
+        ConnectionSessionUtil.getFutureJdbcResult(session, "not_exists");
+    }
+
+    @Test
+    public void setQueryCache_overCapacity_earliestEvicted() {
+        ConnectionSession session = new TestConnectionSession(true, ConnectType.OB_MYSQL);
+        VirtualTable table = Mockito.mock(VirtualTable.class);
+        for (int i = 0; i <= ConnectionSessionConstants.MAX_QUERY_CACHE_COUNT; i++) {
+            ConnectionSessionUtil.setQueryCache(session, table, "sql_" + i);
+        }
+
+        Assert.assertNull(ConnectionSessionUtil.getQueryCache(session, "sql_0"));
+        Assert.assertSame(table, ConnectionSessionUtil.getQueryCache(session, "sql_1"));
+        Assert.assertEquals(ConnectionSessionConstants.MAX_QUERY_CACHE_COUNT,
+                ConnectionSessionUtil.getMemoryUsage(session).getQueryCacheCount());
+    }
+
+    @Test
+    public void getVersion_setByAttributeName_succeed() {
+        ConnectionSession session = new TestConnectionSession(true, ConnectType.OB_MYSQL);
+        session.setAttribute(ConnectionSessionConstants.OB_VERSION, "4.2.0");
+        Assert.assertEquals("4.2.0", ConnectionSessionUtil.getVersion(session));
+    }
+
+    @Test
+    public void setConsoleSessionResetFlag_readByAttributeName_succeed() {
+        ConnectionSession session = new TestConnectionSession(true, ConnectType.OB_MYSQL);
+        Assert.assertFalse(ConnectionSessionUtil.isConsoleSessionReset(session));
+        ConnectionSessionUtil.setConsoleSessionResetFlag(session, true);
+        Assert.assertEquals(true, session.getAttribute(ConnectionSessionConstants.CONNECTION_RESET_KEY));
+    }
+
+}
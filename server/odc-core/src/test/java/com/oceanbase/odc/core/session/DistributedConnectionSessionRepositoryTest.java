@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test cases for {@link DistributedConnectionSessionRepository}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class DistributedConnectionSessionRepositoryTest {
+
+    private static final String LOCAL = "127.0.0.1:8989";
+    private static final String REMOTE = "127.0.0.2:8989";
+
+    @Test
+    public void store_storeSession_ownerRegistered() {
+        ConnectionSessionOwnerRegistry registry = new InMemoryConnectionSessionOwnerRegistry();
+        DistributedConnectionSessionRepository repository = getRepository(registry);
+        ConnectionSession session = getSession();
+        repository.store(session);
+
+        Assert.assertEquals(session, repository.get(session.getId()));
+        Assert.assertEquals(LOCAL, registry.getOwner(session.getId()));
+        Assert.assertNull(repository.getRemoteOwner(session.getId()));
+    }
+
+    @Test
+    public void delete_deleteSession_ownerUnregistered() {
+        ConnectionSessionOwnerRegistry registry = new InMemoryConnectionSessionOwnerRegistry();
+        DistributedConnectionSessionRepository repository = getRepository(registry);
+        ConnectionSession session = getSession();
+        repository.store(session);
+        repository.delete(session);
+
+        Assert.assertNull(repository.get(session.getId()));
+        Assert.assertNull(registry.getOwner(session.getId()));
+    }
+
+    @Test
+    public void getRemoteOwner_sessionOwnedByOtherNode_returnOwner() {
+        ConnectionSessionOwnerRegistry registry = new InMemoryConnectionSessionOwnerRegistry();
+        registry.register("remote-session", REMOTE);
+        DistributedConnectionSessionRepository repository = getRepository(registry);
+
+        Assert.assertNull(repository.get("remote-session"));
+        Assert.assertEquals(REMOTE, repository.getRemoteOwner("remote-session"));
+        repository.invalidateRemoteOwner("remote-session");
+        Assert.assertNull(repository.getRemoteOwner("remote-session"));
+    }
+
+    @Test
+    public void new_previousRunLeftSessions_unregistered() {
+        ConnectionSessionOwnerRegistry registry = new InMemoryConnectionSessionOwnerRegistry();
+        registry.register("stale-session", LOCAL);
+        registry.register("remote-session", REMOTE);
+        getRepository(registry);
+
+        Assert.assertNull(registry.getOwner("stale-session"));
+        Assert.assertEquals(REMOTE, registry.getOwner("remote-session"));
+    }
+
+    private DistributedConnectionSessionRepository getRepository(ConnectionSessionOwnerRegistry registry) {
+        return new DistributedConnectionSessionRepository(new InMemorySessionRepository(), registry, LOCAL);
+    }
+
+    private ConnectionSession getSession() {
+        ConnectionSession session = Mockito.mock(ConnectionSession.class);
+        Mockito.when(session.getId()).thenReturn(UUID.randomUUID().toString());
+        return session;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.session.SessionExpireTimerWheel.ExpireTimeout;
+
+/**
+ * Test cases for {@link SessionExpireTimerWheel}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SessionExpireTimerWheelTest {
+
+    private ExecutorService executor;
+    private SessionExpireTimerWheel timerWheel;
+
+    @Before
+    public void setUp() {
+        this.executor = Executors.newSingleThreadExecutor();
+        this.timerWheel = new SessionExpireTimerWheel(10, TimeUnit.MILLISECONDS, 8);
+        this.executor.submit(this.timerWheel);
+    }
+
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void schedule_delayLongerThanOneRound_executed() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        long begin = System.currentTimeMillis();
+        ExpireTimeout timeout = this.timerWheel.schedule(latch::countDown, 200, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - begin >= 190);
+        Assert.assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    public void cancel_cancelBeforeDeadline_notExecuted() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        ExpireTimeout timeout = this.timerWheel.schedule(counter::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        Thread.sleep(300);
+        Assert.assertEquals(0, counter.get());
+        Assert.assertTrue(timeout.isCancelled());
+    }
+
+    @Test
+    public void schedule_manyTimeouts_allExecuted() throws Exception {
+        int count = 10000;
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            this.timerWheel.schedule(latch::countDown, i % 300, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void schedule_taskThrowsException_wheelStillWorks() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        this.timerWheel.schedule(() -> {
+            throw new IllegalStateException("test");
+        }, 10, TimeUnit.MILLISECONDS);
+        this.timerWheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.session;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.session.SessionFutureRegistry.FutureEntry;
+
+/**
+ * Test cases for {@link SessionFutureRegistry}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SessionFutureRegistryTest {
+
+    @Test
+    public void register_getAndRemove_succeed() {
+        SessionFutureRegistry<String> registry = new SessionFutureRegistry<>(10, 1, TimeUnit.MINUTES);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        String id = registry.register(future, null);
+
+        FutureEntry<String> entry = registry.get(id);
+        Assert.assertSame(future, entry.getFuture());
+        Assert.assertEquals(1, registry.pendingCount());
+        Assert.assertSame(entry, registry.remove(id));
+        Assert.assertNull(registry.get(id));
+    }
+
+    @Test
+    public void clean_doneAndExpired_removed() throws Exception {
+        SessionFutureRegistry<String> registry = new SessionFutureRegistry<>(10, 10, TimeUnit.MILLISECONDS);
+        String doneId = registry.register(CompletableFuture.completedFuture("done"), null);
+        String pendingId = registry.register(new CompletableFuture<>(), null);
+        Thread.sleep(50);
+
+        Assert.assertEquals(1, registry.clean());
+        Assert.assertNull(registry.get(doneId));
+        Assert.assertNotNull(registry.get(pendingId));
+    }
+
+    @Test
+    public void register_overCapacity_oldestDoneEvicted() throws Exception {
+        SessionFutureRegistry<String> registry = new SessionFutureRegistry<>(2, 1, TimeUnit.HOURS);
+        String first = registry.register(CompletableFuture.completedFuture("1"), null);
+        Thread.sleep(5);
+        String second = registry.register(CompletableFuture.completedFuture("2"), null);
+        String pending = registry.register(new CompletableFuture<>(), null);
+        registry.register(CompletableFuture.completedFuture("3"), null);
+
+        Assert.assertNull(registry.get(first));
+        Assert.assertNotNull(registry.get(pending));
+        Assert.assertTrue(registry.size() <= 3);
+        Assert.assertNotNull(second);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.core.sql.execute.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.tools.sqlparser.SyntaxErrorException;
+
+/**
+ * Test cases for {@link ParsedStatement}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class ParsedStatementTest {
+
+    @Test
+    public void getAst_calledTwice_sameAstReturned() {
+        ParsedStatement statement = new ParsedStatement("select * from tab", DialectType.OB_MYSQL);
+        ParseTree ast = statement.getAst();
+        Assert.assertNotNull(ast);
+        Assert.assertSame(ast, statement.getAst());
+    }
+
+    @Test
+    public void getAst_syntaxError_sameExceptionThrown() {
+        ParsedStatement statement = new ParsedStatement("selec * fro tab", DialectType.OB_ORACLE);
+        SyntaxErrorException first = null;
+        try {
+            statement.getAst();
+        } catch (SyntaxErrorException e) {
+            first = e;
+        }
+        Assert.assertNotNull(first);
+        try {
+            statement.getAst();
+            Assert.fail();
+        } catch (SyntaxErrorException e) {
+            Assert.assertSame(first, e);
+        }
+    }
+
+    @Test
+    public void computeIfAbsent_calledTwice_computedOnce() {
+        ParsedStatement statement = new ParsedStatement("select * from tab", DialectType.OB_MYSQL);
+        AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            Integer result = statement.computeIfAbsent("KEY", s -> counter.incrementAndGet());
+            Assert.assertEquals(Integer.valueOf(1), result);
+        }
+        Assert.assertEquals(1, counter.get());
+    }
+
+}
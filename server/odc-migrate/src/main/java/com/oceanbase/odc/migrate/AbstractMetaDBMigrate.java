@@ -29,6 +29,7 @@ import java.util.concurrent.locks.Lock;
 import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
@@ -37,6 +38,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import com.oceanbase.odc.common.lang.Holder;
 import com.oceanbase.odc.core.migrate.DefaultSchemaHistoryRepository;
 import com.oceanbase.odc.core.migrate.MigrateConfiguration;
+import com.oceanbase.odc.core.migrate.MigrateFingerprint;
 import com.oceanbase.odc.core.migrate.Migrates;
 
 import lombok.Getter;
@@ -72,8 +74,23 @@ abstract public class AbstractMetaDBMigrate {
                 log.info("init configuration success, migrate starting, initVersion={}",
                         configuration.getInitVersion());
 
+                String buildIdentity = getBuildIdentity();
+                MigrateFingerprint migrateFingerprint = null;
+                String fingerprint = null;
+                if (StringUtils.isNotBlank(buildIdentity)) {
+                    migrateFingerprint = new MigrateFingerprint(configuration.getDataSource());
+                    fingerprint = MigrateFingerprint.compute(configuration, buildIdentity);
+                    if (migrateFingerprint.matches(fingerprint)) {
+                        log.info("migrate skipped, nothing changed since last migration, fingerprint={}",
+                                fingerprint);
+                        return;
+                    }
+                }
                 new Migrates(configuration, new DefaultSchemaHistoryRepository(
                         configuration.getDataSource())).migrate();
+                if (migrateFingerprint != null) {
+                    migrateFingerprint.save(fingerprint);
+                }
                 log.info("migrate success");
             } finally {
                 lock.unlock();
@@ -85,6 +102,15 @@ abstract public class AbstractMetaDBMigrate {
         }
     }
 
+    /**
+     * Identity of the running build, eg. version and build time. The migration will be skipped if
+     * neither the build nor the migrate resources changed since last migration. Return {@code null} to
+     * migrate every time.
+     */
+    protected String getBuildIdentity() {
+        return null;
+    }
+
     protected String getInitVersion() {
         try {
             return innerGetInitVersion();
@@ -0,0 +1,13 @@
+---
+--- v4.2.2
+---
+CREATE TABLE IF NOT EXISTS `connect_session_owner` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT 'Id for session owner',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Record insertion time',
+  `update_time` datetime DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Record modification time',
+  `session_id` varchar(128) NOT NULL COMMENT 'Id of the connection session',
+  `owner` varchar(256) NOT NULL COMMENT 'Address of the node which holds the connection session, eg. host:port',
+  CONSTRAINT `pk_connect_session_owner` PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_connect_session_owner_session_id` (`session_id`),
+  KEY `idx_connect_session_owner_owner` (`owner`)
+);
@@ -0,0 +1,9 @@
+---
+--- v4.2.2
+---
+CREATE TABLE IF NOT EXISTS `migrate_fingerprint` (
+  `fingerprint_key` varchar(64) NOT NULL COMMENT 'Key of the migration',
+  `fingerprint` varchar(64) NOT NULL COMMENT 'Sha1 of the build identity and versions of migrate scripts',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Record modification time',
+  CONSTRAINT `pk_migrate_fingerprint` PRIMARY KEY (`fingerprint_key`)
+);
@@ -0,0 +1,5 @@
+---
+--- v4.2.2
+---
+alter table `flow_instance_node_approval` add column `external_poll_unchanged_times` int NOT NULL DEFAULT 0 COMMENT 'Count of continuous polls of the external approval status without any change';
+alter table `flow_instance_node_approval` add column `external_next_poll_time` datetime DEFAULT NULL COMMENT 'Earliest time to poll the external approval status again, null means polling at once';
@@ -15,6 +15,7 @@
  */
 package com.oceanbase.odc.server.web.controller;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -27,6 +28,7 @@ import org.springframework.beans.ConversionNotSupportedException;
 import org.springframework.beans.PropertyAccessException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -43,6 +45,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.annotation.MethodArgumentConversionNotSupportedException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
@@ -62,6 +65,11 @@ import com.oceanbase.odc.service.common.exception.OdcUncheckedException;
 import com.oceanbase.odc.service.common.response.Error;
 import com.oceanbase.odc.service.common.response.ErrorResponse;
 import com.oceanbase.odc.service.common.util.WebRequestUtils;
+import com.oceanbase.odc.service.dispatch.DispatchResponse;
+import com.oceanbase.odc.service.dispatch.ErrorResponseException;
+import com.oceanbase.odc.service.dispatch.RequestDispatcher;
+import com.oceanbase.odc.service.session.ConnectSessionService;
+import com.oceanbase.odc.service.session.SessionOwnedByOtherNodeException;
 import com.oceanbase.tools.datamocker.model.exception.MockerException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -83,6 +91,10 @@ public class RestExceptionHandler {
 
     @Autowired
     private HttpServletRequest request;
+    @Autowired
+    private RequestDispatcher requestDispatcher;
+    @Autowired
+    private ConnectSessionService sessionService;
 
     /**
      * Handle ConstraintViolationException. Thrown when @Validated fails.
@@ -275,6 +287,31 @@ public class RestExceptionHandler {
         return ResponseEntity.status(ex.httpStatus()).body(response);
     }
 
+    /**
+     * The connection session is held by another node, forward the request to the owner and return the
+     * response as it is
+     */
+    @ExceptionHandler(SessionOwnedByOtherNodeException.class)
+    public ResponseEntity<?> handleSessionOwnedByOtherNodeException(SessionOwnedByOtherNodeException ex,
+            HandlerMethod handlerMethod) {
+        DispatchResponse response;
+        try {
+            response = requestDispatcher.forward(ex.getHost(), ex.getPort());
+        } catch (ErrorResponseException e) {
+            return handleHttpException(e, handlerMethod);
+        } catch (IOException | ResourceAccessException e) {
+            log.warn("Failed to forward request to session owner, sessionId={}, owner={}:{}",
+                    ex.getSessionId(), ex.getHost(), ex.getPort(), e);
+            sessionService.invalidateRemoteOwner(ex.getSessionId());
+            return handleHttpException(ex, handlerMethod);
+        } catch (HttpException e) {
+            return handleHttpException(e, handlerMethod);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(response.getResponseHeaders().getContentType());
+        return ResponseEntity.ok().headers(headers).body(response.getContent());
+    }
+
     @ExceptionHandler(OdcUncheckedException.class)
     public ErrorResponse handleOdcUncheckedException(OdcUncheckedException ex, HandlerMethod handlerMethod) {
         return handleUnknownException(ex.getCheckedException(), handlerMethod);
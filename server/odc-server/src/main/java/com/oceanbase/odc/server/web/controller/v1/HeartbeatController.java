@@ -29,6 +29,7 @@ import com.oceanbase.odc.service.connection.model.MultiSessionsReq;
 import com.oceanbase.odc.service.monitor.MemUnitType;
 import com.oceanbase.odc.service.monitor.MetaInfo;
 import com.oceanbase.odc.service.monitor.MonitorService;
+import com.oceanbase.odc.service.monitor.PrometheusTextMeterRegistry;
 
 import io.swagger.annotations.ApiOperation;
 
@@ -71,4 +72,11 @@ public class HeartbeatController {
         return service.getOdcMetaInfo(type);
     }
 
+    @ApiOperation(value = "metrics", notes = "以 prometheus 文本格式导出 ODC 的监控指标")
+    @RequestMapping(value = "/metrics", method = RequestMethod.GET,
+            produces = PrometheusTextMeterRegistry.CONTENT_TYPE)
+    public String metrics() {
+        return service.scrapeMetrics();
+    }
+
 }
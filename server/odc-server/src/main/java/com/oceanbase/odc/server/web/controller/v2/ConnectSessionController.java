@@ -38,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.oceanbase.odc.core.session.ConnectionSession;
+import com.oceanbase.odc.core.session.SessionMemoryUsage;
 import com.oceanbase.odc.service.common.response.ListResponse;
 import com.oceanbase.odc.service.common.response.Responses;
 import com.oceanbase.odc.service.common.response.SuccessResponse;
@@ -229,4 +230,10 @@ public class ConnectSessionController {
     public SuccessResponse<DBSessionResp> currentSessionStatus(@PathVariable String sessionId) {
         return Responses.success(sessionService.currentDBSession(sessionId));
     }
+
+    @ApiOperation(value = "sessionMemoryUsage", notes = "查询会话缓存的异步执行结果及查询结果的数量")
+    @GetMapping(value = {"/sessions/{sessionId}/memoryUsage"})
+    public SuccessResponse<SessionMemoryUsage> sessionMemoryUsage(@PathVariable String sessionId) {
+        return Responses.success(sessionService.getMemoryUsage(sessionId));
+    }
 }
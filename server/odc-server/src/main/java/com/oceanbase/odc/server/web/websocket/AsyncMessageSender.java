@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.server.web.websocket;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+import javax.websocket.Session;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends messages of a websocket session asynchronously one by one, the async remote endpoint does
+ * not allow a message to be sent before the previous one completes
+ *
+ * @author agent
+ * @date 2026-10-19
+ */
+@Slf4j
+class AsyncMessageSender {
+
+    private final Session session;
+    private final Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean sending = new AtomicBoolean(false);
+
+    AsyncMessageSender(@NonNull Session session) {
+        this.session = session;
+    }
+
+    void send(@NonNull Object message, @Nullable Runnable onComplete) {
+        pendingMessages.offer(new PendingMessage(message, onComplete));
+        sendNext();
+    }
+
+    private void sendNext() {
+        while (!pendingMessages.isEmpty() && sending.compareAndSet(false, true)) {
+            PendingMessage pending = pendingMessages.poll();
+            if (pending == null) {
+                sending.set(false);
+                continue;
+            }
+            try {
+                session.getAsyncRemote().sendObject(pending.message, result -> {
+                    if (!result.isOK()) {
+                        log.warn("Error occurs when send message back, sessionId={}", session.getId(),
+                                result.getException());
+                    }
+                    complete(pending);
+                });
+            } catch (Exception e) {
+                log.warn("Error occurs when send message back, sessionId={}", session.getId(), e);
+                complete(pending);
+            }
+        }
+    }
+
+    private void complete(PendingMessage pending) {
+        sending.set(false);
+        if (pending.onComplete != null) {
+            try {
+                pending.onComplete.run();
+            } catch (Exception e) {
+                log.warn("Error occurs when handle message sent, sessionId={}", session.getId(), e);
+            }
+        }
+        sendNext();
+    }
+
+    private static class PendingMessage {
+        private final Object message;
+        private final Runnable onComplete;
+
+        private PendingMessage(Object message, Runnable onComplete) {
+            this.message = message;
+            this.onComplete = onComplete;
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.server.web.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.websocket.CloseReason;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.ServerEndpoint;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.oceanbase.odc.config.WebSocketEndpointConfigure;
+import com.oceanbase.odc.service.connection.ConnectionStatusNotifier;
+import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
+import com.oceanbase.odc.service.websocket.WebSocketCustomEncoding;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Push channel for connection status. Once a client subscribes, status changes of the connections
+ * whose status the current user has fetched are pushed to the client, the client does not have to
+ * reload the connection list to find out whether a connection in testing status is active.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionStatusNotifier
+ */
+@Slf4j
+@Service
+@ServerEndpoint(value = "/api/v2/webSocket/connections/status",
+        configurator = WebSocketEndpointConfigure.class, encoders = WebSocketCustomEncoding.class)
+public class ConnectionStatusWebSocketServer {
+
+    private static final String PING = "ping";
+    private static final Map<Session, Long> session2UserId = new ConcurrentHashMap<>();
+    private static final Map<Session, AsyncMessageSender> session2Sender = new ConcurrentHashMap<>();
+
+    @Autowired
+    private AuthenticationFacade authenticationFacade;
+    @Autowired
+    private ConnectionStatusNotifier statusNotifier;
+
+    @OnOpen
+    public void onOpen(Session session) {
+        try {
+            long userId = authenticationFacade.currentUserId();
+            AsyncMessageSender sender = new AsyncMessageSender(session);
+            session2Sender.put(session, sender);
+            session2UserId.put(session, userId);
+            statusNotifier.subscribe(userId, session.getId(), body -> sender.send(body, null));
+            log.info("Connection status subscribed, userId={}, webSocketSessionId={}", userId, session.getId());
+        } catch (Exception e) {
+            log.warn("Failed to subscribe connection status, webSocketSessionId={}", session.getId(), e);
+            closeSession(session, new CloseReason(CloseReason.CloseCodes.CANNOT_ACCEPT, e.getMessage()));
+        }
+    }
+
+    @OnMessage
+    public void onMessage(String message, Session session) {
+        if (!PING.equalsIgnoreCase(message)) {
+            log.debug("Unknown message is ignored, webSocketSessionId={}", session.getId());
+        }
+    }
+
+    @OnClose
+    public void onClose(Session session) {
+        unsubscribe(session);
+    }
+
+    @OnError
+    public void onError(Session session, Throwable throwable) {
+        log.info("Connection status channel error, webSocketSessionId={}", session.getId(), throwable);
+        closeSession(session, null);
+    }
+
+    private void unsubscribe(Session session) {
+        session2Sender.remove(session);
+        Long userId = session2UserId.remove(session);
+        if (userId != null) {
+            statusNotifier.unsubscribe(userId, session.getId());
+            log.info("Connection status unsubscribed, userId={}, webSocketSessionId={}", userId, session.getId());
+        }
+    }
+
+    private void closeSession(Session session, CloseReason reason) {
+        unsubscribe(session);
+        try {
+            if (reason == null) {
+                session.close();
+            } else {
+                session.close(reason);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close web socket session, webSocketSessionId={}", session.getId(), e);
+        }
+    }
+
+}
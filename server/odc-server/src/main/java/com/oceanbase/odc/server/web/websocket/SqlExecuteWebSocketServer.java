@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.server.web.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.websocket.CloseReason;
+import javax.websocket.OnClose;
+import javax.websocket.OnError;
+import javax.websocket.OnMessage;
+import javax.websocket.OnOpen;
+import javax.websocket.Session;
+import javax.websocket.server.PathParam;
+import javax.websocket.server.ServerEndpoint;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.oceanbase.odc.config.WebSocketEndpointConfigure;
+import com.oceanbase.odc.core.session.ConnectionSession;
+import com.oceanbase.odc.service.common.util.SidUtils;
+import com.oceanbase.odc.service.session.ConnectSessionService;
+import com.oceanbase.odc.service.session.SqlExecuteResultNotifier;
+import com.oceanbase.odc.service.websocket.WebSocketCustomEncoding;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Push channel for console sql executions. Once a client subscribes to a connection session, the
+ * progress of every execution in the session is pushed to the client, the client only has to fetch
+ * the results after the execution is done instead of polling repeatedly.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see SqlExecuteResultNotifier
+ */
+@Slf4j
+@Service
+@ServerEndpoint(value = "/api/v2/webSocket/sessions/{sessionId}/sqls/results",
+        configurator = WebSocketEndpointConfigure.class, encoders = WebSocketCustomEncoding.class)
+public class SqlExecuteWebSocketServer {
+
+    private static final String PING = "ping";
+    private static final Map<Session, String> session2ConnectionSessionId = new ConcurrentHashMap<>();
+    private static final Map<Session, AsyncMessageSender> session2Sender = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ConnectSessionService sessionService;
+    @Autowired
+    private SqlExecuteResultNotifier resultNotifier;
+
+    @OnOpen
+    public void onOpen(Session session, @PathParam(value = "sessionId") String sessionId) {
+        try {
+            // make sure the connection session exists and belongs to the current user
+            ConnectionSession connectionSession = sessionService.nullSafeGet(SidUtils.getSessionId(sessionId));
+            AsyncMessageSender sender = new AsyncMessageSender(session);
+            session2Sender.put(session, sender);
+            session2ConnectionSessionId.put(session, connectionSession.getId());
+            resultNotifier.subscribe(connectionSession.getId(), session.getId(), body -> sender.send(body, null));
+            log.info("Sql execution result subscribed, sessionId={}, webSocketSessionId={}",
+                    connectionSession.getId(), session.getId());
+        } catch (Exception e) {
+            log.warn("Failed to subscribe sql execution result, sessionId={}", sessionId, e);
+            closeSession(session, new CloseReason(CloseReason.CloseCodes.CANNOT_ACCEPT, e.getMessage()));
+        }
+    }
+
+    @OnMessage
+    public void onMessage(String message, Session session) {
+        if (!PING.equalsIgnoreCase(message)) {
+            log.debug("Unknown message is ignored, webSocketSessionId={}", session.getId());
+        }
+    }
+
+    @OnClose
+    public void onClose(Session session) {
+        unsubscribe(session);
+    }
+
+    @OnError
+    public void onError(Session session, Throwable throwable) {
+        log.info("Sql execution result channel error, webSocketSessionId={}", session.getId(), throwable);
+        closeSession(session, null);
+    }
+
+    private void unsubscribe(Session session) {
+        session2Sender.remove(session);
+        String connectionSessionId = session2ConnectionSessionId.remove(session);
+        if (connectionSessionId != null) {
+            resultNotifier.unsubscribe(connectionSessionId, session.getId());
+            log.info("Sql execution result unsubscribed, sessionId={}, webSocketSessionId={}",
+                    connectionSessionId, session.getId());
+        }
+    }
+
+    private void closeSession(Session session, CloseReason reason) {
+        unsubscribe(session);
+        try {
+            if (reason == null) {
+                session.close();
+            } else {
+                session.close(reason);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close web socket session, webSocketSessionId={}", session.getId(), e);
+        }
+    }
+
+}
@@ -23,11 +23,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -60,6 +61,8 @@ import com.oceanbase.odc.config.WebSocketEndpointConfigure;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.shared.constant.LimitMetric;
+import com.oceanbase.odc.core.shared.exception.OverLimitException;
 import com.oceanbase.odc.service.common.util.SidUtils;
 import com.oceanbase.odc.service.connection.ConnectionService;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
@@ -94,6 +97,7 @@ public class WebSocketServer {
     // record number of websocket connections
     private static final AtomicInteger onlineNum = new AtomicInteger();
     private static final ConcurrentHashMap<Session, OBClientProxy> connectionPool = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Session, AsyncMessageSender> session2Sender = new ConcurrentHashMap<>();
 
     @Autowired
     private ConnectionService connectionService;
@@ -115,16 +119,28 @@ public class WebSocketServer {
      */
     private final String baseScriptFilePath;
     /**
-     * 线程池的最大大小
+     * obclient 进程的最大数量
      */
-    private final int maxPoolSize;
+    private final int maxInstanceCount;
+    /**
+     * one permit is held by each obclient instance from connecting to the close of its session
+     */
+    private final Semaphore instanceSlots;
     private final ScheduledExecutorService scheduleExecutor;
-    private final ThreadPoolExecutor proxyExecutor;
+    /**
+     * obclient 输出的读取是阻塞的，每个进程占用一个线程，线程数量由 maxInstanceCount 限制
+     */
+    private final ExecutorService proxyReadExecutor;
+    /**
+     * 所有 obclient 共享，定期将合并后的输出推送给浏览器
+     */
+    private final ScheduledExecutorService proxyFlushExecutor;
 
     @Autowired
     public WebSocketServer(@Value("${obclient.file.path:/opt/odc/obclient/bin/obclient}") String obclientFilePath,
             @Value("${odc.objectstorage.local.dir:#{systemProperties['user.home'].concat(T(java.io.File).separator).concat('data').concat"
-                    + "(T(java.io.File).separator).concat('files')}}") String baseObjectStorageDir) {
+                    + "(T(java.io.File).separator).concat('files')}}") String baseObjectStorageDir,
+            @Value("${obclient.max-instance-count:256}") int maxInstanceCount) {
         this.obclientFilePath = obclientFilePath;
         this.baseScriptFilePath =
                 baseObjectStorageDir.concat(File.separator).concat(ScriptConstants.SCRIPT_BASE_BUCKET);
@@ -158,13 +174,13 @@ public class WebSocketServer {
             }
         }, 60, 10, TimeUnit.SECONDS);// lower disconnect delay
 
-        this.maxPoolSize = 4 * SystemUtils.availableProcessors();
-        // thread control in threadpool
-        // core pool size equals to max is for submiting new thread without blocking
-        this.proxyExecutor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, 0, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(1),
-                r -> new Thread(r, "Obclient_Read_Thread_" + r.hashCode()),
-                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.maxInstanceCount = maxInstanceCount;
+        this.instanceSlots = new Semaphore(maxInstanceCount);
+        // the number of read threads is limited by maxInstanceCount before the obclient process started
+        this.proxyReadExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("obclient-read-%d").setDaemon(true).build());
+        this.proxyFlushExecutor = new ScheduledThreadPoolExecutor(Math.min(4, SystemUtils.availableProcessors()),
+                new ThreadFactoryBuilder().setNameFormat("obclient-flush-%d").setDaemon(true).build());
         log.info("odc web socket server initialized");
     }
 
@@ -172,7 +188,8 @@ public class WebSocketServer {
     public void destroy() {
         log.info("web socket server destroy...");
         closeAllProxy();
-        ExecutorUtils.gracefulShutdown(proxyExecutor, "webSocketProxyExecutor", 5);
+        ExecutorUtils.gracefulShutdown(proxyFlushExecutor, "webSocketProxyFlushExecutor", 5);
+        ExecutorUtils.gracefulShutdown(proxyReadExecutor, "webSocketProxyReadExecutor", 5);
         ExecutorUtils.gracefulShutdown(scheduleExecutor, "webSocketScheduleExecutor", 5);
         log.info("web socket server destroyed");
     }
@@ -188,8 +205,15 @@ public class WebSocketServer {
         addOnlineCount();
         try {
             log.info("obclient session initializing, resourceId={}, sessionId={}", resourceId, session.getId());
-            OBClientProxy proxy = connectObClient(resourceId, session);
-            connectionPool.put(session, proxy);
+            session2Sender.put(session, new AsyncMessageSender(session));
+            acquireInstanceSlot();
+            try {
+                OBClientProxy proxy = connectObClient(resourceId, session);
+                connectionPool.put(session, proxy);
+            } catch (Exception e) {
+                instanceSlots.release();
+                throw e;
+            }
             log.info("obclient session initialized, resourceId={}, sessionId={}", resourceId, session.getId());
         } catch (Exception e) {
             log.error("Error occurs when connecting obclient, resourceId={}, ", resourceId, e);
@@ -208,6 +232,15 @@ public class WebSocketServer {
         return cmds;
     }
 
+    private void acquireInstanceSlot() {
+        // do not block but throw exception directly if obclient count exceeds maximum limit
+        if (!instanceSlots.tryAcquire()) {
+            throw new OverLimitException(LimitMetric.OBCLIENT_INSTANCE_COUNT, (double) maxInstanceCount,
+                    String.format("active obclient count %d larger than maximum limit %d",
+                            maxInstanceCount - instanceSlots.availablePermits(), maxInstanceCount));
+        }
+    }
+
     private OBClientProxy connectObClient(String resourceId, Session session) {
         // GBK is not supported before OceanBase 1.4.79
         ConnectionConfig connectionConfig = connectionConfigProvider.getConnectionSession(resourceId, session);
@@ -221,11 +254,11 @@ public class WebSocketServer {
         String userWorkDirectory = generateUserFolderPath(authenticationFacade.currentUserIdStr());
         log.debug("user work directory: {}", userWorkDirectory);
 
-        OBClientProxy proxy = new OBClientProxy(this.proxyExecutor, t -> {
+        OBClientProxy proxy = new OBClientProxy(this.proxyReadExecutor, this.proxyFlushExecutor, (t, onComplete) -> {
             WebSocketBody body = new WebSocketBody();
             body.setMethod(STD_OUT);
             body.setParams(new WebSocketParams(t));
-            sendMessage(session, body);
+            sendMessage(session, body, onComplete);
         }, userWorkDirectory);
         // do not print password
         String[] commandToPrint = StringUtils.isBlank(connectionConfig.getPassword()) ? cmds
@@ -326,8 +359,13 @@ public class WebSocketServer {
     public void onClose(Session session) {
         OBClientProxy proxy = connectionPool.remove(session);
         if (null != proxy) {
-            proxy.close();
+            try {
+                proxy.close();
+            } finally {
+                instanceSlots.release();
+            }
         }
+        session2Sender.remove(session);
         subOnlineCount();
         log.info("Terminate connection. Current connnection number is {}", onlineNum);
     }
@@ -357,7 +395,7 @@ public class WebSocketServer {
                 body.setMethod(PING);
                 proxy.setLastAccessTime(System.currentTimeMillis());
             }
-            sendMessage(session, body);
+            sendMessage(session, body, null);
         }
     }
 
@@ -366,16 +404,15 @@ public class WebSocketServer {
         log.info("WebSocket sessionId:[{}] onError when keeping connection with obclient", session.getId(), throwable);
     }
 
-    private void sendMessage(Session session, Object message) {
-        if (session != null) {
-            synchronized (session) {
-                try {
-                    session.getBasicRemote().sendObject(message);
-                } catch (Exception e) {
-                    log.error("Error occurs when send message back", e);
-                }
+    private void sendMessage(Session session, Object message, @Nullable Runnable onComplete) {
+        AsyncMessageSender sender = session == null ? null : session2Sender.get(session);
+        if (sender == null) {
+            if (onComplete != null) {
+                onComplete.run();
             }
+            return;
         }
+        sender.send(message, onComplete);
     }
 
     private void closeSession(Session session, @Nullable CloseReason reason) {
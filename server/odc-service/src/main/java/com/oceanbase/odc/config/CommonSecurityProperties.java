@@ -77,6 +77,7 @@ public class CommonSecurityProperties {
             "/template/zh-cn/*",
             "/template/zh-tw/*"};
 
+    private static final String METRICS_URI = "/api/v1/heartbeat/metrics";
     private static final String LOGOUT_URI = "/api/v2/iam/logout";
     private static final String LOGIN_URI = "/api/v2/iam/login";
     private static final String LOGIN_PAGE = "/index.html";
@@ -110,14 +111,23 @@ public class CommonSecurityProperties {
     @Value("${odc.web.security.cors.allowedOrigins:*}")
     private List<String> corsAllowedOrigins;
 
+    /**
+     * 是否允许未登录访问 prometheus 指标接口，默认关闭，开启后 prometheus 无需登录即可抓取指标
+     */
+    @Value("${odc.metrics.anonymous-scrape-enabled:false}")
+    private boolean metricsAnonymousScrapeEnabled;
+
     @PostConstruct
     public void init() {
         log.info("Common security properties initialized, "
-                + "csrfEnabled={}, corsEnabled={}, corsAllowedOrigins={}",
-                csrfEnabled, corsEnabled, corsAllowedOrigins);
+                + "csrfEnabled={}, corsEnabled={}, corsAllowedOrigins={}, metricsAnonymousScrapeEnabled={}",
+                csrfEnabled, corsEnabled, corsAllowedOrigins, metricsAnonymousScrapeEnabled);
     }
 
     public String[] getAuthWhitelist() {
+        if (metricsAnonymousScrapeEnabled) {
+            return ArrayUtils.add(buildInAuthWhitelist, METRICS_URI);
+        }
         return ArrayUtils.addAll(buildInAuthWhitelist);
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.config;
+
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.oceanbase.odc.service.monitor.DruidDataSourceMetrics;
+import com.oceanbase.odc.service.monitor.PrometheusTextMeterRegistry;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Meters of odc are registered to {@link Metrics#globalRegistry}, a
+ * {@link PrometheusTextMeterRegistry} is added to it so that they can be scraped.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+@Configuration
+public class MetricsConfiguration {
+
+    private final PrometheusTextMeterRegistry registry = new PrometheusTextMeterRegistry();
+    @Autowired
+    private Map<String, ThreadPoolTaskExecutor> name2Executor;
+
+    @Bean
+    public PrometheusTextMeterRegistry prometheusTextMeterRegistry() {
+        Metrics.addRegistry(registry);
+        return registry;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void bindMeters() {
+        new DruidDataSourceMetrics().bindTo(Metrics.globalRegistry);
+        name2Executor.forEach((name, executor) -> {
+            try {
+                new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty())
+                        .bindTo(Metrics.globalRegistry);
+            } catch (IllegalStateException e) {
+                log.warn("Executor is not initialized, skip binding meters, name={}", name);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+}
@@ -16,6 +16,7 @@
 package com.oceanbase.odc.config.jpa;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.persistence.EntityManager;
 import javax.sql.DataSource;
@@ -23,6 +24,8 @@ import javax.sql.DataSource;
 import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -59,4 +62,8 @@ public class EnhancedJpaRepository<T, ID extends Serializable> extends SimpleJpa
         return namedParameterJdbcTemplate;
     }
 
+    public List<T> findAll(Specification<T> spec, Sort sort, int limit) {
+        return getQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
 }
@@ -28,6 +28,7 @@ import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Path;
 import javax.persistence.metamodel.SingularAttribute;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -46,6 +47,12 @@ public interface OdcJpaRepository<T, ID extends Serializable>
 
     EntityManager getEntityManager();
 
+    /**
+     * Find the first {@code limit} entities without the count query of a page, used by keyset
+     * pagination where the count of every page would scan the remaining rows again
+     */
+    List<T> findAll(Specification<T> spec, Sort sort, int limit);
+
     default <Y, E> List<E> partitionFind(Collection<Y> ids, Function<List<Y>, List<E>> func) {
         return partitionFind(ids, 100, func);
     }
@@ -19,15 +19,13 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.oceanbase.odc.config.jpa.OdcJpaRepository;
 import com.oceanbase.odc.core.shared.constant.AuditEventResult;
 
-public interface AuditEventRepository extends JpaSpecificationExecutor<AuditEventEntity>,
-        JpaRepository<AuditEventEntity, Long> {
+public interface AuditEventRepository extends OdcJpaRepository<AuditEventEntity, Long> {
 
     Optional<AuditEventEntity> findFirstByTaskIdAndResult(String taskId, AuditEventResult result);
 
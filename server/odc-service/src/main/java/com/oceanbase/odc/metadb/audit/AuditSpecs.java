@@ -89,6 +89,11 @@ public class AuditSpecs {
         };
     }
 
+    public static Specification<AuditEventEntity> idGreaterThan(Long id) {
+        return (root, query, criteriaBuilder) -> Objects.isNull(id) ? criteriaBuilder.conjunction()
+                : criteriaBuilder.greaterThan(root.get("id"), id);
+    }
+
     public static Specification<AuditEventMetaEntity> of(QueryAuditEventMetaParams params) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = Lists.newArrayList();
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.metadb.connection;
+
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import lombok.NonNull;
+
+/**
+ * {@link ConnectSessionOwnerRepository}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public interface ConnectSessionOwnerRepository extends JpaRepository<ConnectSessionOwnerEntity, Long> {
+
+    Optional<ConnectSessionOwnerEntity> findBySessionId(String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update connect_session_owner set owner=?2 where session_id=?1", nativeQuery = true)
+    int updateOwnerBySessionId(@NonNull String sessionId, @NonNull String owner);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from connect_session_owner where session_id=?1", nativeQuery = true)
+    int deleteBySessionId(@NonNull String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from connect_session_owner where owner=?1", nativeQuery = true)
+    int deleteByOwner(@NonNull String owner);
+
+}
@@ -23,6 +23,12 @@ public interface ConnectionHistoryDAO {
 
     int updateOrInsert(ConnectionHistoryEntity connectionHistoryEntity);
 
+    /**
+     * Multi-row version of {@link #updateOrInsert(ConnectionHistoryEntity)}, entities should not be
+     * empty
+     */
+    int batchUpdateOrInsert(@Param("entities") List<ConnectionHistoryEntity> entities);
+
     List<ConnectionHistoryEntity> listAll();
 
     int deleteAll();
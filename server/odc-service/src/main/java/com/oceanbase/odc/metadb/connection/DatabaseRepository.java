@@ -32,6 +32,8 @@ public interface DatabaseRepository extends JpaRepository<DatabaseEntity, Long>,
 
     List<DatabaseEntity> findByConnectionId(Long connectionId);
 
+    boolean existsByConnectionId(Long connectionId);
+
     List<DatabaseEntity> findByConnectionIdIn(Collection<Long> connectionIds);
 
     List<DatabaseEntity> findByProjectId(Long projectId);
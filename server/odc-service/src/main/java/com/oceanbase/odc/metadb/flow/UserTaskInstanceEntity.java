@@ -119,4 +119,14 @@ public class UserTaskInstanceEntity {
 
     @Column(name = "external_approval_id")
     private Long externalApprovalId;
+
+    /**
+     * Count of continuous polls of the external approval status without any change, shared by all the
+     * odc-server nodes
+     */
+    @Column(name = "external_poll_unchanged_times", nullable = false)
+    private int externalPollUnchangedTimes;
+
+    @Column(name = "external_next_poll_time")
+    private Date externalNextPollTime;
 }
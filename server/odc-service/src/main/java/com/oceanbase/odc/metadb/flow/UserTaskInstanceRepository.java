@@ -16,6 +16,7 @@
 package com.oceanbase.odc.metadb.flow;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,6 +88,19 @@ public interface UserTaskInstanceRepository
     @Modifying
     int updateStatusById(@Param("id") Long id, @Param("status") FlowNodeStatus status);
 
+    @Transactional
+    @Query(value = "update flow_instance_node_approval set external_poll_unchanged_times=:unchangedTimes,"
+            + "external_next_poll_time=:nextPollTime where id=:id", nativeQuery = true)
+    @Modifying
+    int updateExternalPollStateById(@Param("id") Long id, @Param("unchangedTimes") int unchangedTimes,
+            @Param("nextPollTime") Date nextPollTime);
+
+    @Query(value = "select * from flow_instance_node_approval where status=:#{#status.name()} and "
+            + "external_approval_id is not null and external_flow_instance_id is not null and "
+            + "mod(flow_instance_id, :shardCount)=:shard", nativeQuery = true)
+    List<UserTaskInstanceEntity> findExternalByStatusAndShard(@Param("status") FlowNodeStatus status,
+            @Param("shard") int shard, @Param("shardCount") int shardCount);
+
     @Transactional
     @Query("delete from UserTaskInstanceEntity as ut where ut.flowInstanceId=:instanceId")
     @Modifying
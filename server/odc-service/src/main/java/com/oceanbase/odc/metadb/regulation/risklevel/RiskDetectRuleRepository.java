@@ -15,6 +15,7 @@
  */
 package com.oceanbase.odc.metadb.regulation.risklevel;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,5 +24,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 public interface RiskDetectRuleRepository extends JpaRepository<RiskDetectRuleEntity, Long>,
         JpaSpecificationExecutor<RiskDetectRuleEntity> {
     Optional<RiskDetectRuleEntity> findByOrganizationIdAndId(Long organizationId, Long id);
+
+    List<RiskDetectRuleEntity> findByOrganizationId(Long organizationId);
 }
 
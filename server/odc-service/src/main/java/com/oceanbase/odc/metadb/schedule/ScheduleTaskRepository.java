@@ -50,6 +50,11 @@ public interface ScheduleTaskRepository extends JpaRepository<ScheduleTaskEntity
     @Query("update ScheduleTaskEntity st set st.resultJson = ?2 where st.id = ?1")
     int updateTaskResult(Long id, String resultJson);
 
+    @Transactional
+    @Modifying
+    @Query("update ScheduleTaskEntity st set st.resultJson = ?2, st.progressPercentage = ?3 where st.id = ?1")
+    int updateTaskResultAndProgressPercentage(Long id, String resultJson, double progressPercentage);
+
     @Transactional
     @Modifying
     @Query("update ScheduleTaskEntity st set st.parametersJson = ?2 where st.id = ?1")
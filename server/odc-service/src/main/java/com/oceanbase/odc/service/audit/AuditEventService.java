@@ -15,12 +15,18 @@
  */
 package com.oceanbase.odc.service.audit;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +37,7 @@ import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -82,6 +89,8 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Authenticated
 public class AuditEventService {
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
     @Autowired
     private AuditEventRepository auditEventRepository;
 
@@ -123,13 +132,51 @@ public class AuditEventService {
     }
 
     private Page<AuditEvent> list(Specification<AuditEventEntity> specs, Pageable pageable) {
-        return auditEventRepository.findAll(specs, pageable)
-                .map(entity -> {
-                    AuditEvent event = mapper.entityToModel(entity);
-                    event.setActionName(entity.getAction().getLocalizedMessage());
-                    event.setTypeName(entity.getType().getLocalizedMessage());
-                    return event;
-                });
+        return auditEventRepository.findAll(specs, pageable).map(this::entityToModel);
+    }
+
+    /**
+     * Iterate the matched audit events in the order of id, page by page with the last id as the key of
+     * the next page, so only one page is held in memory no matter how many events are matched
+     */
+    private Iterable<AuditEvent> scan(Specification<AuditEventEntity> specs) {
+        return () -> new Iterator<AuditEvent>() {
+            private Iterator<AuditEventEntity> page = Collections.emptyIterator();
+            private Long lastId = null;
+            private boolean exhausted = false;
+            private long scanned = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (!page.hasNext() && !exhausted) {
+                    List<AuditEventEntity> entities = auditEventRepository.findAll(
+                            specs.and(AuditSpecs.idGreaterThan(lastId)), Sort.by("id"), EXPORT_PAGE_SIZE);
+                    exhausted = entities.size() < EXPORT_PAGE_SIZE;
+                    if (!entities.isEmpty()) {
+                        lastId = entities.get(entities.size() - 1).getId();
+                        scanned += entities.size();
+                        log.info("Scanning audit events for export, scannedCount={}, lastId={}", scanned, lastId);
+                    }
+                    page = entities.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public AuditEvent next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return entityToModel(page.next());
+            }
+        };
+    }
+
+    private AuditEvent entityToModel(AuditEventEntity entity) {
+        AuditEvent event = mapper.entityToModel(entity);
+        event.setActionName(entity.getAction().getLocalizedMessage());
+        event.setTypeName(entity.getType().getLocalizedMessage());
+        return event;
     }
 
 
@@ -222,8 +269,7 @@ public class AuditEventService {
                 .connectionIds(req.getConnectionIds())
                 .userIds(req.getUserIds())
                 .build();
-        Page<AuditEvent> records = list(AuditSpecs.of(params), Pageable.unpaged());
-        return getFileDownloadUrl(records, AuditEvent.class, req.getFormat());
+        return getFileDownloadUrl(scan(AuditSpecs.of(params)), AuditEvent.class, req.getFormat());
     }
 
     @PreAuthenticate(actions = "read", resourceType = "ODC_AUDIT_EVENT", isForAll = true)
@@ -238,26 +284,30 @@ public class AuditEventService {
 
     private <T> String getFileDownloadUrl(Iterable<T> records, Class<T> clazz, DataTransferFormat format)
             throws IOException {
-        String csvStr = CSVUtils.buildCSVFormatData(records, clazz);
         String fileId = StringUtils.uuid();
 
         /**
          * TODO: Fix file path traversal after merging code
          */
-        String csvFilePath = String.format("%s/%s", FileManager.generateDir(FileBucket.AUDIT),
-                fileId + DataTransferFormat.CSV.getExtension());
-        File file = new File(csvFilePath);
-        FileUtils.write(file, csvStr);
         String downloadBaseUrl = FileManager.generateBaseDownloadUrl(FileBucket.AUDIT);
         String downloadUrl;
+        File file;
         if (DataTransferFormat.CSV == format) {
+            String csvFilePath = String.format("%s/%s", FileManager.generateDir(FileBucket.AUDIT),
+                    fileId + DataTransferFormat.CSV.getExtension());
+            file = new File(csvFilePath);
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(FileUtils.openOutputStream(file), Charset.defaultCharset()))) {
+                CSVUtils.writeCSVFormatData(records, clazz, writer);
+            }
             downloadUrl = downloadBaseUrl + fileId + DataTransferFormat.CSV.getExtension();
         } else if (DataTransferFormat.EXCEL == format) {
-            String xlsFilePath =
-                    FileConvertUtils.convertCsvToXls(csvFilePath,
-                            FileManager.generateDir(FileBucket.AUDIT) + "/" + fileId
-                                    + DataTransferFormat.EXCEL.getExtension(),
-                            null);
+            /**
+             * write xlsx directly from the records, no intermediate csv file is needed
+             */
+            String xlsFilePath = FileConvertUtils.convertRecordsToXls(records, clazz,
+                    FileManager.generateDir(FileBucket.AUDIT) + "/" + fileId
+                            + DataTransferFormat.EXCEL.getExtension());
             file = new File(xlsFilePath);
             downloadUrl = downloadBaseUrl + fileId + DataTransferFormat.EXCEL.getExtension();
         } else {
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.common.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
+import com.oceanbase.tools.dbbrowser.parser.PLParser;
+import com.oceanbase.tools.sqlparser.OBMySQLParser;
+import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
+import com.oceanbase.tools.sqlparser.util.GrammarDFACache;
+import com.oceanbase.tools.sqlparser.util.TwoStageParsing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manage the runtime of the sql parsers. DFA caches of the grammars are shared statically by all
+ * the parser instances, they are warmed up by a bundled corpus after startup, exposed through
+ * metrics and cleared when grow beyond the limit.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see GrammarDFACache
+ */
+@Slf4j
+@Component
+public class ParserRuntimeManager {
+
+    private static final String CORPUS_LOCATION_PATTERN = "parser/warm-up/%s.sql";
+    private static final String STATEMENT_DELIMITER_LINE = "/";
+    private static final String METRIC_PREFIX = "odc.sql.parser.";
+
+    @Value("${odc.sql-parser.warm-up.enabled:true}")
+    private boolean warmUpEnabled;
+    @Value("${odc.sql-parser.dfa-cache.max-states-per-grammar:300000}")
+    private long maxStatesPerGrammar;
+    private final Map<String, Consumer<String>> grammar2Parser = new HashMap<>();
+    private final Map<String, String> grammar2Corpus = new HashMap<>();
+    private final Map<String, Counter> grammar2EvictionCounter = new HashMap<>();
+    private final ExecutorService warmUpExecutor;
+
+    public ParserRuntimeManager() {
+        grammar2Parser.put("ob_mysql", sql -> new OBMySQLParser().buildAst(new StringReader(sql)));
+        grammar2Parser.put("ob_oracle", sql -> new OBOracleSQLParser().buildAst(new StringReader(sql)));
+        grammar2Parser.put("ob_mysql_pl", PLParser::parseObMysql);
+        grammar2Parser.put("ob_oracle_pl", PLParser::parseObOracle);
+        grammar2Parser.put("oracle_plsql", PLParser::parseOracle);
+        grammar2Corpus.put("oracle_plsql", "ob_oracle_pl");
+        this.warmUpExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("sql-parser-warm-up-%d").setDaemon(true).build());
+    }
+
+    @PostConstruct
+    public void init() {
+        MeterRegistry registry = Metrics.globalRegistry;
+        for (GrammarDFACache cache : GrammarDFACache.all()) {
+            String grammar = cache.getGrammar();
+            Gauge.builder(METRIC_PREFIX + "dfa.states", cache, GrammarDFACache::getDFAStateCount)
+                    .tag("grammar", grammar).register(registry);
+            Gauge.builder(METRIC_PREFIX + "dfa.size", cache, GrammarDFACache::getEstimatedSizeInBytes)
+                    .tag("grammar", grammar).baseUnit("bytes").register(registry);
+            grammar2EvictionCounter.put(grammar, Counter.builder(METRIC_PREFIX + "dfa.evictions")
+                    .tag("grammar", grammar).register(registry));
+        }
+        FunctionCounter.builder(METRIC_PREFIX + "parses", TwoStageParsing.class,
+                c -> TwoStageParsing.getSllParseCount()).tag("prediction_mode", "sll").register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "parses", TwoStageParsing.class,
+                c -> TwoStageParsing.getLlParseCount()).tag("prediction_mode", "ll").register(registry);
+        if (this.warmUpEnabled) {
+            GrammarDFACache.all().forEach(cache -> warmUpExecutor.submit(() -> warmUp(cache)));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ExecutorUtils.gracefulShutdown(warmUpExecutor, "sqlParserWarmUpExecutor", 5);
+    }
+
+    @Scheduled(fixedDelayString = "${odc.sql-parser.dfa-cache.check-interval-millis:300000}")
+    public void evictOversizedCaches() {
+        for (GrammarDFACache cache : GrammarDFACache.all()) {
+            long states = cache.getDFAStateCount();
+            if (states <= this.maxStatesPerGrammar) {
+                continue;
+            }
+            log.info("DFA cache is oversized and will be cleared, grammar={}, states={}, maxStates={}",
+                    cache.getGrammar(), states, this.maxStatesPerGrammar);
+            cache.clear();
+            grammar2EvictionCounter.get(cache.getGrammar()).increment();
+            if (this.warmUpEnabled) {
+                warmUpExecutor.submit(() -> warmUp(cache));
+            }
+        }
+    }
+
+    /**
+     * @return count of the statements failed to be parsed
+     */
+    int warmUp(GrammarDFACache cache) {
+        String grammar = cache.getGrammar();
+        Consumer<String> parser = grammar2Parser.get(grammar);
+        if (parser == null) {
+            return 0;
+        }
+        long startTime = System.currentTimeMillis();
+        List<String> statements = loadCorpus(grammar2Corpus.getOrDefault(grammar, grammar));
+        int failedCount = 0;
+        for (String statement : statements) {
+            try {
+                parser.accept(statement);
+            } catch (Exception e) {
+                failedCount++;
+                log.debug("Failed to parse warm-up statement, grammar={}, statement={}", grammar, statement, e);
+            }
+        }
+        log.info("Warm up sql parser finished, grammar={}, statements={}, failed={}, states={}, cost={}ms",
+                grammar, statements.size(), failedCount, cache.getDFAStateCount(),
+                System.currentTimeMillis() - startTime);
+        return failedCount;
+    }
+
+    private List<String> loadCorpus(String name) {
+        ClassPathResource resource = new ClassPathResource(String.format(CORPUS_LOCATION_PATTERN, name));
+        String content;
+        try (InputStream inputStream = resource.getInputStream()) {
+            content = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Failed to load warm-up corpus, name={}", name, e);
+            return new ArrayList<>();
+        }
+        List<String> statements = new ArrayList<>();
+        StringBuilder buffer = new StringBuilder();
+        for (String line : content.split("\n")) {
+            if (!STATEMENT_DELIMITER_LINE.equals(line.trim())) {
+                buffer.append(line).append('\n');
+                continue;
+            }
+            if (StringUtils.isNotBlank(buffer)) {
+                statements.add(buffer.toString());
+            }
+            buffer.setLength(0);
+        }
+        if (StringUtils.isNotBlank(buffer)) {
+            statements.add(buffer.toString());
+        }
+        return statements;
+    }
+
+}
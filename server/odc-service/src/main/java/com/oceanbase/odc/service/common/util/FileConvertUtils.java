@@ -15,33 +15,58 @@
  */
 package com.oceanbase.odc.service.common.util;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Row.MissingCellPolicy;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.streaming.SXSSFSheet;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
+import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.common.util.CSVUtils;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.PreConditions;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -52,37 +77,57 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class FileConvertUtils {
 
-    private final static int DEFAULT_SHEET_INDEX = 0;
-    private final static int DEFAULT_HEADER_ROW_NUM = 0;
-
     public static List<Map<String, String>> convertXlsRowsToMapList(InputStream inputStream) throws IOException {
         List<Map<String, String>> returnValue = new ArrayList<>();
-        Sheet sheet = new XSSFWorkbook(inputStream).getSheetAt(DEFAULT_SHEET_INDEX);
-        int firstRowNum = sheet.getFirstRowNum();
-        int lastRowNum = sheet.getLastRowNum();
-        if (firstRowNum < DEFAULT_HEADER_ROW_NUM || lastRowNum < DEFAULT_HEADER_ROW_NUM + 1) {
-            // Empty sheet
-            return returnValue;
+        readXlsRows(inputStream, returnValue::add);
+        return returnValue;
+    }
+
+    /**
+     * Read the rows of the first sheet one by one through the event based {@link XSSFReader}, the
+     * workbook is never loaded as a whole. The first row is regarded as the header, each of the rest
+     * not empty rows is handed over to the consumer as a header-to-value map. The stream is spooled to
+     * a temporary file first so that the zip entries are not buffered in memory either.
+     *
+     * @return count of rows consumed
+     */
+    public static int readXlsRows(@NonNull InputStream inputStream, @NonNull Consumer<Map<String, String>> consumer)
+            throws IOException {
+        Path tempFile = Files.createTempFile("odc-xlsx-", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return readXlsRows(tempFile.toFile(), consumer);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-        Row header = sheet.getRow(firstRowNum);
-        int columnNum = getNotBlankColumnNum(header);
-        for (int i = firstRowNum + 1; i <= lastRowNum; i++) {
-            Map<String, String> map = new HashMap<>();
-            Row row = sheet.getRow(i);
-            if (isEmptyRow(row)) {
-                // Skip empty row
-                continue;
+    }
+
+    public static int readXlsRows(@NonNull File file, @NonNull Consumer<Map<String, String>> consumer)
+            throws IOException {
+        OPCPackage pkg = null;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+            RowMapHandler handler = new RowMapHandler(consumer);
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+                    new ReadOnlySharedStringsTable(pkg), handler, new DataFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
             }
-            for (int j = 0; j < columnNum; j++) {
-                DataFormatter formatter = new DataFormatter();
-                String key = formatter.formatCellValue(header.getCell(j));
-                Cell cell = row.getCell(j, MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                String value = formatter.formatCellValue(cell);
-                map.put(key, value);
+            return handler.consumedCount;
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read excel file, reason=" + e.getMessage(), e);
+        } finally {
+            if (pkg != null) {
+                // read only package, nothing to save
+                pkg.revert();
             }
-            returnValue.add(map);
         }
-        return returnValue;
     }
 
     public static String convertCsvToXls(String csvFilePath, String xlsFilePath,
@@ -90,92 +135,148 @@ public class FileConvertUtils {
             throws IOException, IllegalArgumentException {
         PreConditions.notBlank(csvFilePath, "csvFilePath");
         PreConditions.notBlank(xlsFilePath, "xlsFilePath");
-        SXSSFSheet sheet;
         xlsFilePath = xlsFilePath.trim();
-        try (SXSSFWorkbook workBook = new SXSSFWorkbook();
-                FileOutputStream fileOutputStream = new FileOutputStream(xlsFilePath)) {
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(xlsFilePath));
+                Reader in = new FileReader(csvFilePath)) {
             /**
              * Read CSV using org.apache.commons.CSVParser
              */
-            Reader in = new FileReader(csvFilePath);
             Iterable<CSVRecord> records = CSVFormat.DEFAULT
                     .withSkipHeaderRecord(false)
                     .withEscape('\\')
                     .parse(in);
-
             /**
-             * Write Excel using org.apache.poi
+             * CSV does not carry any type, all the cells are written as text
              */
-            sheet = workBook.createSheet();
-            int rowNum = 0;
+            List<String> row = new ArrayList<>();
             for (CSVRecord csvRecord : records) {
-                int column = 0;
-                Row currentRow = sheet.createRow(rowNum);
-                Iterator<String> it = csvRecord.iterator();
-                while (it.hasNext()) {
-                    currentRow.createCell(column++).setCellValue(it.next());
-                }
-                rowNum++;
+                row.clear();
+                csvRecord.iterator().forEachRemaining(row::add);
+                writer.writeRow(row);
             }
             if (CollectionUtils.isNotEmpty(anotherSheetContents)) {
-                SXSSFSheet anotherSheet = workBook.createSheet();
-                rowNum = 0;
-                for (String content : anotherSheetContents) {
-                    Row currentRow = anotherSheet.createRow(rowNum++);
-                    currentRow.createCell(0).setCellValue(content);
-                }
+                writer.writeAnotherSheet(anotherSheetContents);
             }
-            workBook.write(fileOutputStream);
-            // Dispose of temporary files, and will render the workbook unusable.
-            workBook.dispose();
         }
         return xlsFilePath;
     }
 
-    private static int getNotBlankColumnNum(Row row) {
-        int columnNum = 0;
-        for (Cell cell : row) {
-            if (!isEmptyCell(cell)) {
-                columnNum++;
+    /**
+     * Write a {@link ResultSet} into a xlsx file directly without a intermediate CSV file, numeric and
+     * datetime columns are kept as native excel cells
+     *
+     * @return count of data rows written
+     */
+    public static long convertResultSetToXls(@NonNull ResultSet resultSet, String xlsFilePath,
+            List<String> anotherSheetContents) throws IOException, SQLException {
+        return convertResultSetToXls(resultSet, xlsFilePath, anotherSheetContents, Collections.emptyMap());
+    }
+
+    /**
+     * Same as {@link #convertResultSetToXls(ResultSet, String, List)}, values of the columns which own
+     * a text mapper (key is the index of the column starting from 0) are mapped before written
+     *
+     * @return count of data rows written
+     */
+    public static long convertResultSetToXls(@NonNull ResultSet resultSet, String xlsFilePath,
+            List<String> anotherSheetContents, @NonNull Map<Integer, UnaryOperator<String>> textMappers)
+            throws IOException, SQLException {
+        PreConditions.notBlank(xlsFilePath, "xlsFilePath");
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(xlsFilePath.trim()))) {
+            long count = writer.writeResultSet(resultSet, textMappers);
+            if (CollectionUtils.isNotEmpty(anotherSheetContents)) {
+                writer.writeAnotherSheet(anotherSheetContents);
             }
+            return count;
         }
-        return columnNum;
     }
 
-    private static boolean isEmptyRow(Row row) {
-        if (row == null || row.getPhysicalNumberOfCells() == 0 || row.getLastCellNum() <= 0) {
-            return true;
-        }
-        for (Cell cell : row) {
-            if (!isEmptyCell(cell)) {
-                return false;
+    /**
+     * Write records into a xlsx file one by one, the declared fields of the given class make up the
+     * header, which is the same as {@link CSVUtils#writeCSVFormatData(Iterable, Class, Appendable)}.
+     * Numbers, booleans and dates are kept as native excel cells, enums are written by name and other
+     * values are written as json.
+     */
+    public static <T> String convertRecordsToXls(@NonNull Iterable<T> records, @NonNull Class<T> clazz,
+            String xlsFilePath) throws IOException {
+        PreConditions.notBlank(xlsFilePath, "xlsFilePath");
+        xlsFilePath = xlsFilePath.trim();
+        List<Field> fields = Arrays.stream(clazz.getDeclaredFields())
+                .filter(f -> !f.isSynthetic() && !Modifier.isStatic(f.getModifiers()))
+                .collect(Collectors.toList());
+        fields.forEach(f -> f.setAccessible(true));
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(xlsFilePath))) {
+            writer.writeHeader(fields.stream().map(Field::getName).collect(Collectors.toList()));
+            List<Object> row = new ArrayList<>(fields.size());
+            for (T record : records) {
+                row.clear();
+                for (Field field : fields) {
+                    row.add(toCellValue(field.get(record)));
+                }
+                writer.writeRow(row);
             }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to read field value", e);
         }
-        return true;
+        return xlsFilePath;
     }
 
-    private static boolean isEmptyCell(Cell cell) {
-        return cell == null || StringUtils.isBlank(getCellValue(cell));
+    private static Object toCellValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Date
+                || value instanceof TemporalAccessor || value instanceof CharSequence || value instanceof Enum) {
+            return value;
+        }
+        return JsonUtils.toJson(value);
     }
 
-    private static String getCellValue(Cell cell) {
-        if (cell != null) {
-            switch (cell.getCellType()) {
-                case STRING:
-                    return cell.getStringCellValue();
-                case NUMERIC:
-                    if (DateUtil.isCellDateFormatted(cell)) {
-                        return cell.getDateCellValue().toString();
-                    } else {
-                        return Double.toString(cell.getNumericCellValue());
-                    }
-                case BOOLEAN:
-                    return Boolean.toString(cell.getBooleanCellValue());
-                case FORMULA:
-                    return cell.getCellFormula();
+    private static class RowMapHandler implements SheetContentsHandler {
+
+        private final Consumer<Map<String, String>> consumer;
+        private List<String> header;
+        private int columnNum;
+        private final List<String> currentRow = new ArrayList<>();
+        private int consumedCount = 0;
+
+        RowMapHandler(Consumer<Map<String, String>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.currentRow.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (this.header == null) {
+                this.header = new ArrayList<>(this.currentRow);
+                this.columnNum = (int) this.header.stream().filter(StringUtils::isNotBlank).count();
+                return;
             }
+            if (this.currentRow.stream().allMatch(StringUtils::isBlank)) {
+                // Skip empty row
+                return;
+            }
+            Map<String, String> map = new HashMap<>();
+            for (int i = 0; i < this.columnNum; i++) {
+                map.put(valueAt(this.header, i), valueAt(this.currentRow, i));
+            }
+            this.consumer.accept(map);
+            this.consumedCount++;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? this.currentRow.size() : new CellReference(cellReference).getCol();
+            while (this.currentRow.size() < column) {
+                this.currentRow.add(StringUtils.EMPTY);
+            }
+            this.currentRow.add(formattedValue == null ? StringUtils.EMPTY : formattedValue);
+        }
+
+        private static String valueAt(List<String> row, int index) {
+            return index < row.size() ? row.get(index) : StringUtils.EMPTY;
         }
-        return StringUtils.EMPTY;
     }
 
 }
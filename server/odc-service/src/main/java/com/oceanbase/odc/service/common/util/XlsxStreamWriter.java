@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.common.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.lang3.Validate;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.oceanbase.tools.dbbrowser.model.datatype.DataType;
+import com.oceanbase.tools.dbbrowser.model.datatype.JdbcDataTypeFactory;
+
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * {@link XlsxStreamWriter} writes rows into a xlsx file in a single pass. Only the latest
+ * {@code rowAccessWindowSize} rows are kept in memory, the rest are flushed to a compressed
+ * temporary file by {@link SXSSFWorkbook}. Values are written as native excel cells, which means
+ * numbers, dates and booleans keep their types in the spreadsheet.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class XlsxStreamWriter implements Closeable {
+
+    public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MAX_CELL_TEXT_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+    /**
+     * excel stores numbers as double, numbers with more significant digits are written as text to avoid
+     * losing precision
+     */
+    private static final int MAX_NUMERIC_PRECISION = 15;
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private SXSSFSheet sheet;
+    private List<?> header;
+    /**
+     * text written into the cell of a {@code null} value, {@code null} means leaving the cell empty
+     */
+    @Setter
+    private String nullText;
+    private int rowNum;
+    private long totalRowCount;
+    private boolean closed;
+
+    public XlsxStreamWriter(@NonNull OutputStream outputStream) {
+        this(outputStream, DEFAULT_ROW_ACCESS_WINDOW_SIZE);
+    }
+
+    public XlsxStreamWriter(@NonNull OutputStream outputStream, int rowAccessWindowSize) {
+        Validate.isTrue(rowAccessWindowSize > 0, "RowAccessWindowSize has to be positive");
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = createDateStyle("yyyy-mm-dd");
+        this.dateTimeStyle = createDateStyle("yyyy-mm-dd hh:mm:ss");
+    }
+
+    /**
+     * Write the header row, the header will be repeated on the top of every overflow sheet
+     */
+    public void writeHeader(@NonNull List<?> header) {
+        this.header = header;
+        writeRow(header);
+    }
+
+    public void writeRow(@NonNull List<?> values) {
+        if (this.sheet == null || this.rowNum >= MAX_ROWS_PER_SHEET) {
+            boolean overflow = this.sheet != null;
+            this.sheet = this.workbook.createSheet();
+            this.rowNum = 0;
+            if (overflow && this.header != null) {
+                fillRow(this.sheet.createRow(this.rowNum++), this.header);
+            }
+        }
+        fillRow(this.sheet.createRow(this.rowNum++), values);
+        this.totalRowCount++;
+    }
+
+    /**
+     * Write all the rows of a {@link ResultSet}, the column labels are written as the header. Column
+     * types come from {@link JdbcDataTypeFactory} so that each value is read by the most suitable
+     * getter.
+     *
+     * @return count of data rows written
+     */
+    public long writeResultSet(@NonNull ResultSet resultSet) throws SQLException {
+        return writeResultSet(resultSet, Collections.emptyMap());
+    }
+
+    /**
+     * Write all the rows of a {@link ResultSet}, columns which own a text mapper (key is the index of
+     * the column starting from 0) are read as text and written as the mapped text, eg. masked columns
+     *
+     * @return count of data rows written
+     */
+    public long writeResultSet(@NonNull ResultSet resultSet,
+            @NonNull Map<Integer, UnaryOperator<String>> textMappers) throws SQLException {
+        return writeResultSet(resultSet, textMappers, true);
+    }
+
+    /**
+     * Same as {@link #writeResultSet(ResultSet, Map)}, the column labels are not written if
+     * {@code containHeader} is {@code false}
+     *
+     * @return count of data rows written
+     */
+    public long writeResultSet(@NonNull ResultSet resultSet,
+            @NonNull Map<Integer, UnaryOperator<String>> textMappers, boolean containHeader) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> labels = new ArrayList<>(columnCount);
+        List<ColumnKind> kinds = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            labels.add(metaData.getColumnLabel(i + 1));
+            kinds.add(ColumnKind.of(new JdbcDataTypeFactory(metaData, i).generate()));
+        }
+        if (containHeader) {
+            writeHeader(labels);
+        }
+        long count = 0;
+        List<Object> row = new ArrayList<>(columnCount);
+        while (resultSet.next()) {
+            row.clear();
+            for (int i = 0; i < columnCount; i++) {
+                UnaryOperator<String> mapper = textMappers.get(i);
+                if (mapper == null) {
+                    row.add(kinds.get(i).read(resultSet, i + 1));
+                } else {
+                    String value = resultSet.getString(i + 1);
+                    row.add(value == null ? null : mapper.apply(value));
+                }
+            }
+            writeRow(row);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Write each content into the first cell of a row in a separate sheet
+     */
+    public void writeAnotherSheet(@NonNull List<String> contents) {
+        SXSSFSheet anotherSheet = this.workbook.createSheet();
+        int num = 0;
+        for (String content : contents) {
+            setCellValue(anotherSheet.createRow(num++).createCell(0), content);
+        }
+    }
+
+    public long getTotalRowCount() {
+        return this.totalRowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            if (this.workbook.getNumberOfSheets() == 0) {
+                this.workbook.createSheet();
+            }
+            this.workbook.write(this.outputStream);
+        } finally {
+            // Dispose of temporary files, and will render the workbook unusable.
+            this.workbook.dispose();
+            this.workbook.close();
+            this.outputStream.close();
+        }
+    }
+
+    private void fillRow(Row row, List<?> values) {
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i) == null ? this.nullText : values.get(i);
+            if (value != null) {
+                setCellValue(row.createCell(i), value);
+            }
+        }
+    }
+
+    private void setCellValue(Cell cell, Object value) {
+        if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof Number) {
+            setNumericValue(cell, (Number) value);
+        } else if (value instanceof java.sql.Date) {
+            cell.setCellValue((Date) value);
+            cell.setCellStyle(this.dateStyle);
+        } else if (value instanceof java.sql.Time) {
+            setStringValue(cell, value.toString());
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+            cell.setCellStyle(isMidnight((Date) value) ? this.dateStyle : this.dateTimeStyle);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+            cell.setCellStyle(this.dateTimeStyle);
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue((LocalDate) value);
+            cell.setCellStyle(this.dateStyle);
+        } else if (value instanceof byte[]) {
+            setStringValue(cell, Hex.encodeHexString((byte[]) value, false));
+        } else if (value instanceof Enum) {
+            setStringValue(cell, ((Enum<?>) value).name());
+        } else {
+            setStringValue(cell, value.toString());
+        }
+    }
+
+    private void setNumericValue(Cell cell, Number value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            if (decimal.precision() > MAX_NUMERIC_PRECISION) {
+                setStringValue(cell, decimal.toPlainString());
+                return;
+            }
+        } else if (value instanceof BigInteger || value instanceof Long) {
+            if (value.toString().replace("-", "").length() > MAX_NUMERIC_PRECISION) {
+                setStringValue(cell, value.toString());
+                return;
+            }
+        }
+        double d = value.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            setStringValue(cell, value.toString());
+            return;
+        }
+        cell.setCellValue(d);
+    }
+
+    private void setStringValue(Cell cell, String value) {
+        if (value.length() > MAX_CELL_TEXT_LENGTH) {
+            value = value.substring(0, MAX_CELL_TEXT_LENGTH);
+        }
+        cell.setCellValue(value);
+    }
+
+    private CellStyle createDateStyle(String format) {
+        CellStyle style = this.workbook.createCellStyle();
+        style.setDataFormat(this.workbook.getCreationHelper().createDataFormat().getFormat(format));
+        return style;
+    }
+
+    private static boolean isMidnight(Date date) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        return calendar.get(Calendar.HOUR_OF_DAY) == 0 && calendar.get(Calendar.MINUTE) == 0
+                && calendar.get(Calendar.SECOND) == 0 && calendar.get(Calendar.MILLISECOND) == 0;
+    }
+
+    /**
+     * How a column is read from a {@link ResultSet}, decided by the column's {@link DataType}
+     */
+    enum ColumnKind {
+        NUMERIC {
+            @Override
+            Object read(ResultSet resultSet, int columnIndex) throws SQLException {
+                return resultSet.getBigDecimal(columnIndex);
+            }
+        },
+        DATETIME {
+            @Override
+            Object read(ResultSet resultSet, int columnIndex) throws SQLException {
+                Timestamp timestamp = resultSet.getTimestamp(columnIndex);
+                return timestamp == null ? null : new Date(timestamp.getTime());
+            }
+        },
+        TEXT {
+            @Override
+            Object read(ResultSet resultSet, int columnIndex) throws SQLException {
+                return resultSet.getString(columnIndex);
+            }
+        };
+
+        abstract Object read(ResultSet resultSet, int columnIndex) throws SQLException;
+
+        static ColumnKind of(DataType dataType) {
+            String name = dataType.getDataTypeName();
+            if (name == null) {
+                return TEXT;
+            }
+            name = name.trim().toUpperCase(Locale.ROOT);
+            if (name.endsWith(" UNSIGNED")) {
+                name = name.substring(0, name.length() - " UNSIGNED".length()).trim();
+            }
+            switch (name) {
+                case "TINYINT":
+                case "SMALLINT":
+                case "MEDIUMINT":
+                case "INT":
+                case "INTEGER":
+                case "BIGINT":
+                case "DECIMAL":
+                case "NUMERIC":
+                case "NUMBER":
+                case "FLOAT":
+                case "DOUBLE":
+                case "REAL":
+                case "BINARY_FLOAT":
+                case "BINARY_DOUBLE":
+                    return NUMERIC;
+                case "DATE":
+                case "DATETIME":
+                case "TIMESTAMP":
+                    return DATETIME;
+                default:
+                    // time zone aware types, time, year and so on are kept as text
+                    return TEXT;
+            }
+        }
+    }
+
+}
@@ -74,15 +74,14 @@ public class ConnectionBatchImportPreviewer {
         if (!checkFileType(file)) {
             return ConnectionPreviewBatchImportResp.ofFail(ErrorCodes.ImportInvalidFileType);
         }
-        List<Map<String, String>> list;
         List<BatchImportConnection> batchImportConnectionList = new ArrayList<>();
-        try (InputStream inputStream = file.getInputStream()) {
-            list = FileConvertUtils.convertXlsRowsToMapList(inputStream);
-        }
         Map<String, String> envMap = initEnvMap();
-        for (Map<String, String> map : list) {
-            BatchImportConnection batchImportConnection = createBatchImportConnection(map, envMap);
-            batchImportConnectionList.add(batchImportConnection);
+        /**
+         * rows are validated while the excel file is being parsed, the raw rows are not kept
+         */
+        try (InputStream inputStream = file.getInputStream()) {
+            FileConvertUtils.readXlsRows(inputStream,
+                    map -> batchImportConnectionList.add(createBatchImportConnection(map, envMap)));
         }
         return ConnectionPreviewBatchImportResp.ofConnectionExcel(batchImportConnectionList);
     }
@@ -17,13 +17,18 @@ package com.oceanbase.odc.service.connection;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
 import com.oceanbase.odc.core.authority.util.SkipAuthorize;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionUtil;
@@ -33,6 +38,9 @@ import com.oceanbase.odc.service.connection.model.ConnectProperties;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.session.ConnectSessionService;
 
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -54,9 +62,16 @@ public class ConnectionSessionHistoryService {
     @Autowired
     private ConnectProperties connectProperties;
 
+    private static final int BATCH_SIZE = 500;
+    private final Map<HistoryKey, Date> key2FlushedLastAccessTime = new ConcurrentHashMap<>();
+
+    /**
+     * Histories are upserted by multi-row statements of {@link #BATCH_SIZE} rows at most. Sessions
+     * whose last access time has not changed since the last flush are skipped.
+     */
     public void refreshAllSessionHistory() {
         Collection<ConnectionSession> sessions = connectSessionService.listAllSessions();
-        log.info("refresh all session history in db, size={}", sessions.size());
+        Map<HistoryKey, Date> key2LastAccessTime = new HashMap<>();
         for (ConnectionSession session : sessions) {
             if (session.isExpired()) {
                 continue;
@@ -65,9 +80,24 @@ public class ConnectionSessionHistoryService {
             Date lastAccessTime = session.getLastAccessTime();
             Object connectionConfig = ConnectionSessionUtil.getConnectionConfig(session);
             if (Objects.nonNull(userId) && Objects.nonNull(lastAccessTime) && Objects.nonNull(connectionConfig)) {
-                updateOrInsert(((ConnectionConfig) connectionConfig).getId(), userId, lastAccessTime);
+                key2LastAccessTime.merge(new HistoryKey(((ConnectionConfig) connectionConfig).getId(), userId),
+                        lastAccessTime, (d1, d2) -> d1.after(d2) ? d1 : d2);
             }
         }
+        // forget the keys whose sessions are all closed
+        key2FlushedLastAccessTime.keySet().retainAll(key2LastAccessTime.keySet());
+        List<ConnectionHistoryEntity> entities = key2LastAccessTime.entrySet().stream().filter(e -> {
+            Date flushed = key2FlushedLastAccessTime.get(e.getKey());
+            return flushed == null || e.getValue().after(flushed);
+        }).map(e -> ConnectionHistoryEntity.of(e.getKey().getConnectionId(), e.getKey().getUserId(), e.getValue()))
+                .collect(Collectors.toList());
+        log.info("refresh all session history in db, sessionCount={}, changedCount={}", sessions.size(),
+                entities.size());
+        for (List<ConnectionHistoryEntity> batch : Lists.partition(entities, BATCH_SIZE)) {
+            connectionHistoryDAO.batchUpdateOrInsert(batch);
+            batch.forEach(e -> key2FlushedLastAccessTime.put(new HistoryKey(e.getConnectionId(), e.getUserId()),
+                    e.getLastAccessTime()));
+        }
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -84,4 +114,13 @@ public class ConnectionSessionHistoryService {
         return connectionHistoryDAO
                 .listInactiveConnections(connectProperties.getTempExpireAfterInactiveIntervalSeconds());
     }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class HistoryKey {
+        private final Long connectionId;
+        private final Long userId;
+    }
+
 }
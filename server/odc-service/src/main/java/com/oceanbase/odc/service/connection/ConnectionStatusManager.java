@@ -18,12 +18,15 @@ package com.oceanbase.odc.service.connection;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
@@ -35,11 +38,14 @@ import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.ConnectType;
 import com.oceanbase.odc.core.shared.constant.ConnectionAccountType;
 import com.oceanbase.odc.core.shared.constant.ConnectionStatus;
+import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.shared.constant.ErrorCode;
 import com.oceanbase.odc.plugin.connect.api.TestResult;
 import com.oceanbase.odc.service.common.SystemTimeService;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig.SSLConfig;
 import com.oceanbase.odc.service.connection.model.ConnectionTestResult;
+import com.oceanbase.odc.service.connection.model.OBTenantEndpoint;
 import com.oceanbase.odc.service.connection.model.TestConnectionReq;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
 import com.oceanbase.odc.service.iam.model.User;
@@ -52,7 +58,10 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Fetch connection status in async mode, for performance purpose
+ * Fetch connection status in async mode, for performance purpose. Connections with the same connect
+ * config share one in-flight check, and the number of concurrent checks against one host is
+ * limited. Once the status of a connection changed, it is pushed to the users who have fetched it
+ * by {@link ConnectionStatusNotifier}.
  * 
  * @author yizhou.xw
  * @version : ConnectionStatusManager.java, v 0.1 2021-07-28 13:09
@@ -70,6 +79,9 @@ public class ConnectionStatusManager {
     @Value("${odc.connect.removeExpiredIntervalSeconds:60}")
     private long removeExpiredIntervalSeconds = 60L;
 
+    @Value("${odc.connect.statusCheckMaxConcurrencyPerHost:4}")
+    private int statusCheckMaxConcurrencyPerHost = 4;
+
     @Autowired
     private ConnectionTesting connectionTesting;
     @Autowired
@@ -78,12 +90,19 @@ public class ConnectionStatusManager {
     private ConnectionEncryption connectionEncryption;
     @Autowired
     private AuthenticationFacade authenticationFacade;
+    @Autowired
+    private ConnectionStatusNotifier statusNotifier;
 
     @Autowired
     @Qualifier("connectionStatusCheckExecutor")
     public ThreadPoolTaskExecutor statusCheckExecutor;
 
     private final Map<CheckKey, CheckState> connect2State = new ConcurrentHashMap<>();
+    private final Map<ProbeKey, Probe> probeKey2Probe = new ConcurrentHashMap<>();
+    /**
+     * number of running checks of each endpoint, an endpoint is removed once no check is running
+     */
+    private final Map<String, Integer> endpoint2RunningChecks = new ConcurrentHashMap<>();
     private volatile long nextRemoveExpiredTimeMillis = 0;
 
     CheckState getAndRefreshStatus(ConnectionConfig connection) {
@@ -100,10 +119,18 @@ public class ConnectionStatusManager {
         synchronized (checkState) {
             if ((checkState.nextCheckTimeMillis <= currentTimeMillis)
                     && (statusCheckExecutor.getMaxPoolSize() - statusCheckExecutor.getActiveCount() > 0)) {
-                statusCheckExecutor.submit(new CheckTask(connection, checkState, checkKey.getAccountType()));
+                // mark as checking to avoid resubmitting before the check finished
+                checkState.nextCheckTimeMillis = currentTimeMillis + statusCheckIntervalSeconds * 1000L;
+                if (!submitCheck(connection, checkKey, checkState)) {
+                    checkState.nextCheckTimeMillis = 0L;
+                }
             }
             checkState.lastAccessTimeMillis = currentTimeMillis;
         }
+        User user = authenticationFacade.currentUser();
+        if (user != null && user.getId() != null) {
+            checkState.viewerIds.add(user.getId());
+        }
         removeExpired(currentTimeMillis);
         return checkState;
     }
@@ -113,6 +140,103 @@ public class ConnectionStatusManager {
      */
     void clear() {
         connect2State.clear();
+        probeKey2Probe.clear();
+        endpoint2RunningChecks.clear();
+    }
+
+    /**
+     * @return {@code false} if the check can not be started now, it will be retried at next access
+     */
+    private boolean submitCheck(ConnectionConfig connection, CheckKey checkKey, CheckState checkState) {
+        CheckTask checkTask = new CheckTask(connection, checkKey.getAccountType());
+        ProbeKey probeKey = new ProbeKey(connection, checkTask.testConnectionReq);
+        AtomicBoolean created = new AtomicBoolean(false);
+        probeKey2Probe.compute(probeKey, (k, probe) -> {
+            if (probe == null) {
+                probe = new Probe();
+                created.set(true);
+            }
+            probe.subscribers.put(checkKey, checkState);
+            return probe;
+        });
+        if (!created.get()) {
+            // an identical check is running, the result will be shared
+            return true;
+        }
+        String endpoint = probeKey.endpoint();
+        if (!tryAcquirePermit(endpoint)) {
+            abandon(probeKey);
+            return false;
+        }
+        try {
+            statusCheckExecutor.submit(() -> {
+                ConnectionTestResult result = null;
+                try {
+                    result = checkTask.call();
+                } finally {
+                    releasePermit(endpoint);
+                    if (result != null) {
+                        Probe probe = probeKey2Probe.remove(probeKey);
+                        if (probe != null) {
+                            onChecked(probe, result);
+                        }
+                    } else {
+                        abandon(probeKey);
+                    }
+                }
+                return result;
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            releasePermit(endpoint);
+            abandon(probeKey);
+            return false;
+        }
+    }
+
+    private boolean tryAcquirePermit(String endpoint) {
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        endpoint2RunningChecks.compute(endpoint, (k, running) -> {
+            int count = running == null ? 0 : running;
+            if (count >= statusCheckMaxConcurrencyPerHost) {
+                return running;
+            }
+            acquired.set(true);
+            return count + 1;
+        });
+        return acquired.get();
+    }
+
+    private void releasePermit(String endpoint) {
+        endpoint2RunningChecks.computeIfPresent(endpoint, (k, running) -> running <= 1 ? null : running - 1);
+    }
+
+    /**
+     * the probe is dropped without a result, subscribers that joined it are rescheduled so that they
+     * will be checked again at next access instead of staying in testing status
+     */
+    private void abandon(ProbeKey probeKey) {
+        Probe probe = probeKey2Probe.remove(probeKey);
+        if (probe == null) {
+            return;
+        }
+        probe.subscribers.values().forEach(checkState -> checkState.nextCheckTimeMillis = 0L);
+    }
+
+    private void onChecked(Probe probe, ConnectionTestResult result) {
+        long nextCheckTimeMillis = systemTimeService.currentTimeMillis() + statusCheckIntervalSeconds * 1000L;
+        probe.subscribers.forEach((checkKey, checkState) -> {
+            checkState.nextCheckTimeMillis = nextCheckTimeMillis;
+            ConnectionStatus previousStatus = checkState.status;
+            checkState.refresh(result);
+            if (previousStatus != checkState.status) {
+                try {
+                    statusNotifier.onStatusChanged(checkKey.id, checkState, checkState.viewerIds);
+                } catch (Exception e) {
+                    log.warn("Failed to notify connection status change, connectionId={}", checkKey.id, e);
+                }
+            }
+        });
     }
 
     private void removeExpired(long currentTimeMillis) {
@@ -154,6 +278,53 @@ public class ConnectionStatusManager {
         }
     }
 
+    /**
+     * Identifies what a connection test actually does, connections with the same key always get the
+     * same test result
+     */
+    @EqualsAndHashCode
+    private static class ProbeKey {
+        final ConnectType type;
+        final DialectType dialectType;
+        final String host;
+        final Integer port;
+        final OBTenantEndpoint obTenantEndpoint;
+        final String clusterName;
+        final String tenantName;
+        final String obTenantName;
+        final String username;
+        final String password;
+        final String defaultSchema;
+        final SSLConfig sslConfig;
+        final String sessionInitScript;
+        final Map<String, Object> jdbcUrlParameters;
+
+        private ProbeKey(ConnectionConfig connection, TestConnectionReq req) {
+            this.type = req.getType();
+            this.dialectType = req.getDialectType();
+            this.host = req.getHost();
+            this.port = req.getPort();
+            this.obTenantEndpoint = connection.getEndpoint();
+            this.clusterName = req.getClusterName();
+            this.tenantName = req.getTenantName();
+            this.obTenantName = connection.getOBTenantName();
+            this.username = req.getUsername();
+            this.password = req.getPassword();
+            this.defaultSchema = req.getDefaultSchema();
+            this.sslConfig = req.getSslConfig();
+            this.sessionInitScript = connection.getSessionInitScript();
+            this.jdbcUrlParameters = connection.getJdbcUrlParameters();
+        }
+
+        String endpoint() {
+            return host + ":" + port;
+        }
+    }
+
+    private static class Probe {
+        final Map<CheckKey, CheckState> subscribers = new ConcurrentHashMap<>();
+    }
+
     @Getter
     public static class CheckState implements Serializable {
 
@@ -163,9 +334,15 @@ public class ConnectionStatusManager {
         private ConnectionStatus status;
         private ConnectType type;
         @Getter(AccessLevel.NONE)
-        private long nextCheckTimeMillis;
+        private volatile long nextCheckTimeMillis;
         @Getter(AccessLevel.NONE)
         private long lastAccessTimeMillis;
+        /**
+         * users who have fetched the status, they are notified once the status changed
+         */
+        @JsonIgnore
+        @Getter(AccessLevel.NONE)
+        private final Set<Long> viewerIds = ConcurrentHashMap.newKeySet();
 
         public CheckState() {
             this.status = ConnectionStatus.TESTING;
@@ -196,10 +373,9 @@ public class ConnectionStatusManager {
 
     private class CheckTask implements Callable<ConnectionTestResult> {
         final TestConnectionReq testConnectionReq;
-        final CheckState checkState;
         final User user;
 
-        CheckTask(ConnectionConfig connection, CheckState checkState, ConnectionAccountType accountType) {
+        CheckTask(ConnectionConfig connection, ConnectionAccountType accountType) {
             this.testConnectionReq = TestConnectionReq.fromConnection(connection, accountType);
             this.user = authenticationFacade.currentUser();
             if (Objects.isNull(connection.getPassword())) {
@@ -219,12 +395,10 @@ public class ConnectionStatusManager {
                             connection.getId(), e.getMessage());
                 }
             }
-            this.checkState = checkState;
         }
 
         @Override
         public ConnectionTestResult call() {
-            checkState.nextCheckTimeMillis = systemTimeService.currentTimeMillis() + statusCheckIntervalSeconds * 1000L;
             ConnectionTestResult result;
             Long connectionId = this.testConnectionReq.getId();
             try {
@@ -237,7 +411,6 @@ public class ConnectionStatusManager {
             } finally {
                 SecurityContextUtils.clear();
             }
-            this.checkState.refresh(result);
             return result;
         }
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.connection;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.service.connection.ConnectionStatusManager.CheckState;
+import com.oceanbase.odc.service.websocket.WebSocketBody;
+import com.oceanbase.odc.service.websocket.WebSocketParams;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes connection status changes to subscribed clients, so that clients do not have to reload the
+ * connection list until a connection leaves testing status. Only users who have fetched the status
+ * of a connection are notified of it.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionStatusManager
+ */
+@Slf4j
+@Component
+public class ConnectionStatusNotifier {
+
+    public static final String STATUS_CHANGED_METHOD = "connectionStatusChanged";
+    private final Map<Long, Map<String, Consumer<WebSocketBody>>> userId2Subscribers = new ConcurrentHashMap<>();
+
+    public void subscribe(@NonNull Long userId, @NonNull String subscriberId,
+            @NonNull Consumer<WebSocketBody> subscriber) {
+        this.userId2Subscribers.computeIfAbsent(userId, u -> new ConcurrentHashMap<>())
+                .put(subscriberId, subscriber);
+    }
+
+    public void unsubscribe(@NonNull Long userId, @NonNull String subscriberId) {
+        this.userId2Subscribers.computeIfPresent(userId, (u, subscribers) -> {
+            subscribers.remove(subscriberId);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public boolean hasSubscriber(@NonNull Long userId) {
+        return this.userId2Subscribers.containsKey(userId);
+    }
+
+    public void onStatusChanged(@NonNull Long connectionId, @NonNull CheckState checkState,
+            @NonNull Collection<Long> userIds) {
+        if (userIds.stream().noneMatch(this.userId2Subscribers::containsKey)) {
+            return;
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("connectionId", connectionId);
+        data.put("status", checkState.getStatus());
+        data.put("type", checkState.getType());
+        data.put("errorCode", checkState.getErrorCode());
+        data.put("errorMessage", checkState.getErrorMessage());
+        WebSocketBody body = new WebSocketBody().setId(String.valueOf(connectionId))
+                .setMethod(STATUS_CHANGED_METHOD).setParams(new WebSocketParams(JsonUtils.toJson(data)));
+        for (Long userId : userIds) {
+            Map<String, Consumer<WebSocketBody>> subscribers = this.userId2Subscribers.get(userId);
+            if (subscribers == null) {
+                continue;
+            }
+            subscribers.forEach((id, subscriber) -> {
+                try {
+                    subscriber.accept(body);
+                } catch (Exception e) {
+                    log.warn("Failed to push connection status, connectionId={}, userId={}, subscriberId={}",
+                            connectionId, userId, id, e);
+                }
+            });
+        }
+    }
+
+}
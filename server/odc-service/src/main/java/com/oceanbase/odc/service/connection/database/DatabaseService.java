@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
@@ -37,6 +39,7 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -142,6 +145,10 @@ public class DatabaseService {
     @Autowired
     private OrganizationService organizationService;
 
+    @Autowired
+    @Lazy
+    private DatabaseSyncManager databaseSyncManager;
+
     @Transactional(rollbackFor = Exception.class)
     @SkipAuthorize("internal authenticated")
     public Database detail(@NonNull Long id) {
@@ -179,7 +186,7 @@ public class DatabaseService {
         if (Objects.nonNull(params.getDataSourceId())
                 && authenticationFacade.currentUser().getOrganizationType() == OrganizationType.INDIVIDUAL) {
             try {
-                internalSyncDataSourceSchemas(params.getDataSourceId());
+                refreshIndividualDataSourceSchemas(params.getDataSourceId());
             } catch (Exception ex) {
                 log.warn("sync data sources in individual space failed when listing databases, errorMessage={}",
                         ex.getLocalizedMessage());
@@ -224,6 +231,21 @@ public class DatabaseService {
         return entitiesToModels(entities);
     }
 
+    /**
+     * the listing is served from the last synced snapshot while a refresh runs in the background, wait
+     * for the refresh only if the datasource has never been synced
+     */
+    private void refreshIndividualDataSourceSchemas(@NonNull Long dataSourceId)
+            throws InterruptedException, ExecutionException {
+        ConnectionConfig connection = connectionService.getForConnectionSkipPermissionCheck(dataSourceId);
+        horizontalDataPermissionValidator.checkCurrentOrganization(connection);
+        boolean synced = databaseRepository.existsByConnectionId(dataSourceId);
+        Future<Boolean> future = databaseSyncManager.submitSyncDataSourceTask(connection);
+        if (!synced) {
+            future.get();
+        }
+    }
+
     @SkipAuthorize("internal authenticated")
     public List<ConnectionConfig> statsConnectionConfig() {
         QueryDatabaseParams params = QueryDatabaseParams.builder().build();
@@ -450,8 +472,17 @@ public class DatabaseService {
                 jdbcTemplate.batchUpdate(deleteSql, toDelete);
             }
 
+            /**
+             * only databases whose attributes have been changed are updated
+             */
             List<Object[]> toUpdate = existedDatabasesInDb.stream()
                     .filter(database -> latestDatabaseNames.contains(database.getName()))
+                    .filter(database -> {
+                        DatabaseEntity latest = latestDatabaseName2Database.get(database.getName()).get(0);
+                        return !Objects.equals(latest.getTableCount(), database.getTableCount())
+                                || !Objects.equals(latest.getCollationName(), database.getCollationName())
+                                || !Objects.equals(latest.getCharsetName(), database.getCharsetName());
+                    })
                     .map(database -> {
                         DatabaseEntity latest = latestDatabaseName2Database.get(database.getName()).get(0);
                         return new Object[] {latest.getTableCount(), latest.getCollationName(), latest.getCharsetName(),
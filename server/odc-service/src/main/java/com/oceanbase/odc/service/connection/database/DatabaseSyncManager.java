@@ -15,7 +15,10 @@
  */
 package com.oceanbase.odc.service.connection.database;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,12 +49,57 @@ public class DatabaseSyncManager {
     @Qualifier("syncDatabaseTaskExecutor")
     private ThreadPoolTaskExecutor executor;
 
+    /**
+     * at most one sync task is in flight for a datasource, duplicated requests are coalesced into it
+     */
+    private final Map<Long, SyncTask> dataSourceId2SyncTask = new ConcurrentHashMap<>();
+
     @SkipAuthorize("internal usage")
     public Future<Boolean> submitSyncDataSourceTask(@NonNull ConnectionConfig connection) {
-        return doExecute(() -> executor.submit(() -> {
-            SecurityContextUtils.setCurrentUser(connection.getCreatorId(), connection.getOrganizationId(), null);
-            return databaseService.internalSyncDataSourceSchemas(connection.getId());
-        }));
+        return dataSourceId2SyncTask.compute(connection.getId(), (id, syncTask) -> {
+            if (syncTask != null) {
+                /**
+                 * a queued task reads the latest datasource when it starts, a running one has to sync once more to
+                 * make sure changes made after it started are synced
+                 */
+                if (syncTask.started.get()) {
+                    syncTask.rerun.set(true);
+                }
+                log.debug("Sync datasource task coalesced, dataSourceId={}", id);
+                return syncTask;
+            }
+            SyncTask newTask = new SyncTask();
+            newTask.future = doExecute(() -> executor.submit(() -> {
+                newTask.started.set(true);
+                SecurityContextUtils.setCurrentUser(connection.getCreatorId(), connection.getOrganizationId(), null);
+                try {
+                    return syncUntilNoRerun(id, newTask);
+                } finally {
+                    dataSourceId2SyncTask.remove(id, newTask);
+                }
+            }));
+            return newTask;
+        }).future;
+    }
+
+    private Boolean syncUntilNoRerun(Long dataSourceId, SyncTask syncTask) throws InterruptedException {
+        while (true) {
+            Boolean result = databaseService.internalSyncDataSourceSchemas(dataSourceId);
+            AtomicBoolean again = new AtomicBoolean(false);
+            dataSourceId2SyncTask.compute(dataSourceId, (id, current) -> {
+                if (current != syncTask) {
+                    return current;
+                }
+                if (syncTask.rerun.getAndSet(false)) {
+                    again.set(true);
+                    return syncTask;
+                }
+                return null;
+            });
+            if (!again.get()) {
+                return result;
+            }
+        }
     }
 
     private Future<Boolean> doExecute(Supplier<Future<Boolean>> supplier) {
@@ -61,4 +109,10 @@ public class DatabaseSyncManager {
             throw new BadRequestException("sync database failed");
         }
     }
+
+    private static class SyncTask {
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final AtomicBoolean rerun = new AtomicBoolean(false);
+        private volatile Future<Boolean> future;
+    }
 }
@@ -26,6 +26,7 @@ import org.springframework.jdbc.core.StatementCallback;
 import com.oceanbase.odc.core.datasource.DataSourceFactory;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionConstants;
+import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.sql.execute.GeneralSyncJdbcExecutor;
@@ -60,7 +61,7 @@ public class ConnectionInfoUtil {
         try {
             String sessionId = queryConnectionId(statement, connectionSession.getDialectType());
             Verify.notNull(sessionId, "SessionId");
-            connectionSession.setAttribute(ConnectionSessionConstants.CONNECTION_ID_KEY, sessionId);
+            ConnectionSessionUtil.setConsoleConnectionId(connectionSession, sessionId);
         } catch (Exception exception) {
             log.warn("Failed to get database session ID, session={}", connectionSession, exception);
         }
@@ -78,7 +79,7 @@ public class ConnectionInfoUtil {
         if (version == null) {
             throw new IllegalStateException("DB version can not be null");
         }
-        connectionSession.setAttribute(ConnectionSessionConstants.OB_VERSION, version);
+        ConnectionSessionUtil.setVersion(connectionSession, version);
         log.debug("Init DB version completed.");
     }
 
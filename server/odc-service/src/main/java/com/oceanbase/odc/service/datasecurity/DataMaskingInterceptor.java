@@ -35,7 +35,9 @@ import com.oceanbase.odc.core.shared.constant.OdcConstants;
 import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
 import com.oceanbase.odc.core.sql.execute.cache.table.VirtualTable;
 import com.oceanbase.odc.core.sql.execute.model.JdbcColumnMetaData;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.odc.core.sql.execute.model.SqlExecuteStatus;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumn;
 import com.oceanbase.odc.service.datasecurity.util.DataMaskingUtil;
 import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
@@ -81,7 +83,7 @@ public class DataMaskingInterceptor extends BaseTimeConsumingInterceptor {
         }
         try {
             List<Set<SensitiveColumn>> resultSetSensitiveColumns =
-                    maskingService.getResultSetSensitiveColumns(response.getExecuteSql(), session);
+                    maskingService.getResultSetSensitiveColumns(getParsedStatement(response, session), session);
             if (!DataMaskingUtil.isSensitiveColumnExists(resultSetSensitiveColumns)) {
                 return;
             }
@@ -104,6 +106,15 @@ public class DataMaskingInterceptor extends BaseTimeConsumingInterceptor {
         }
     }
 
+    private ParsedStatement getParsedStatement(SqlExecuteResult response, ConnectionSession session) {
+        SqlTuple sqlTuple = response.getSqlTuple();
+        // parse result of the original sql can only be reused when the sql is not rewritten
+        if (sqlTuple != null && Objects.equals(sqlTuple.getOriginalSql(), response.getExecuteSql())) {
+            return sqlTuple.getParsedStatement(session.getDialectType());
+        }
+        return new ParsedStatement(response.getExecuteSql(), session.getDialectType());
+    }
+
     @Override
     protected String getExecuteStageName() {
         return SqlExecuteStages.DATA_MASKING;
@@ -15,7 +15,6 @@
  */
 package com.oceanbase.odc.service.datasecurity;
 
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,6 +46,7 @@ import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.shared.exception.UnsupportedException;
 import com.oceanbase.odc.core.sql.execute.model.JdbcColumnMetaData;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.datasecurity.accessor.DatasourceColumnAccessor;
 import com.oceanbase.odc.service.datasecurity.extractor.ColumnExtractor;
@@ -58,9 +58,9 @@ import com.oceanbase.odc.service.datasecurity.model.MaskingAlgorithm;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumn;
 import com.oceanbase.odc.service.datasecurity.util.MaskingAlgorithmUtil;
 import com.oceanbase.odc.service.session.model.SqlExecuteResult;
+import com.oceanbase.tools.sqlparser.BaseSQLParser;
 import com.oceanbase.tools.sqlparser.OBMySQLParser;
 import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
-import com.oceanbase.tools.sqlparser.SQLParser;
 import com.oceanbase.tools.sqlparser.statement.Statement;
 
 import lombok.NonNull;
@@ -86,10 +86,20 @@ public class DataMaskingService {
 
     @SkipAuthorize("odc internal usages")
     public List<Set<SensitiveColumn>> getResultSetSensitiveColumns(@NotBlank String sql, ConnectionSession session) {
+        return getResultSetSensitiveColumns(new ParsedStatement(sql, session.getDialectType()), session);
+    }
+
+    /**
+     * the ast of the {@link ParsedStatement} will be reused if it has been built by others
+     */
+    @SkipAuthorize("odc internal usages")
+    public List<Set<SensitiveColumn>> getResultSetSensitiveColumns(@NotNull ParsedStatement statement,
+            ConnectionSession session) {
         List<Set<SensitiveColumn>> result = new ArrayList<>();
+        String sql = statement.getSql();
         Statement stmt;
         try {
-            stmt = getSqlParser(session.getDialectType()).parse(new StringReader(sql));
+            stmt = getSqlParser(session.getDialectType()).buildStatement(statement.getAst());
         } catch (Exception e) {
             log.warn("Parse sql failed, sql={}", sql, e);
             throw new IllegalStateException("Parse sql failed, details=" + e.getMessage());
@@ -218,7 +228,7 @@ public class DataMaskingService {
                 && columnService.existsInCurrentOrganization();
     }
 
-    private SQLParser getSqlParser(DialectType dialectType) {
+    private BaseSQLParser<?, ?> getSqlParser(DialectType dialectType) {
         if (Objects.nonNull(dialectType) && dialectType.isMysql()) {
             return new OBMySQLParser();
         } else if (dialectType == DialectType.OB_ORACLE) {
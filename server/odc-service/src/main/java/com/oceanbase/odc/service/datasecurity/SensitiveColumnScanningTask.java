@@ -19,19 +19,23 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
+import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
 import com.oceanbase.odc.service.connection.database.model.Database;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumn;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumnMeta;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumnScanningTaskInfo;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumnScanningTaskInfo.ScanningTaskStatus;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveColumnType;
 import com.oceanbase.odc.service.datasecurity.model.SensitiveRule;
+import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
+import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
 import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
+import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
 
 /**
  * @author gaoda.xy
@@ -42,57 +46,81 @@ public class SensitiveColumnScanningTask implements Callable<Void> {
     private final Database database;
     private final SensitiveColumnRecognizer recognizer;
     private final SensitiveColumnScanningTaskInfo taskInfo;
-    private final Map<String, List<DBTableColumn>> table2Columns;
-    private final Map<String, List<DBTableColumn>> view2Columns;
+    private final ConnectionConfig connectionConfig;
+    private final int objectCount;
     private final Set<SensitiveColumnMeta> existsSensitiveColumns;
+    private int finishedObjectCount = 0;
 
+    /**
+     * @param objectCount count of tables and views in the database, progress of the task is reported
+     *        against it
+     */
     public SensitiveColumnScanningTask(Database database, List<SensitiveRule> rules,
             SensitiveColumnScanningTaskInfo taskInfo, List<SensitiveColumnMeta> existsSensitiveColumns,
-            Map<String, List<DBTableColumn>> table2Columns, Map<String, List<DBTableColumn>> view2Columns) {
+            ConnectionConfig connectionConfig, int objectCount) {
         this.database = database;
         this.recognizer = new SensitiveColumnRecognizer(rules);
-        this.table2Columns = table2Columns;
-        this.view2Columns = view2Columns;
+        this.connectionConfig = connectionConfig;
+        this.objectCount = objectCount;
         this.taskInfo = taskInfo;
         this.existsSensitiveColumns = new HashSet<>(existsSensitiveColumns);
     }
 
     @Override
     public Void call() throws Exception {
+        ConnectionSession session = null;
         try {
             taskInfo.setStatus(ScanningTaskStatus.RUNNING);
-            scanColumns(table2Columns, SensitiveColumnType.TABLE_COLUMN);
-            scanColumns(view2Columns, SensitiveColumnType.VIEW_COLUMN);
+            session = new DefaultConnectSessionFactory(connectionConfig).generateSession();
+            DBSchemaAccessor accessor = DBSchemaAccessors.create(session);
+            accessor.listBasicTableColumns(database.getName(),
+                    (tableName, columns) -> scanColumns(tableName, columns, SensitiveColumnType.TABLE_COLUMN));
+            accessor.listBasicViewColumns(database.getName(),
+                    (viewName, columns) -> scanColumns(viewName, columns, SensitiveColumnType.VIEW_COLUMN));
+            // objects without any column or dropped after counting are regarded as finished
+            while (finishedObjectCount < objectCount) {
+                finishObject();
+            }
         } catch (Exception e) {
             taskInfo.setCompleteTime(new Date());
             taskInfo.setStatus(ScanningTaskStatus.FAILED);
             taskInfo.setErrorCode(ErrorCodes.Unexpected);
             taskInfo.setErrorMsg(String.format("Some errors happen when scanning sensitive column, database=%s",
                     database.getName()));
+        } finally {
+            if (session != null) {
+                session.expire();
+            }
         }
         return null;
     }
 
-    private void scanColumns(Map<String, List<DBTableColumn>> object2Columns, SensitiveColumnType columnType) {
-        for (String objectName : object2Columns.keySet()) {
-            List<SensitiveColumn> sensitiveColumns = new ArrayList<>();
-            for (DBTableColumn dbTableColumn : object2Columns.get(objectName)) {
-                if (recognizer.recognize(dbTableColumn) && !existsSensitiveColumns
-                        .contains(new SensitiveColumnMeta(database.getId(), objectName, dbTableColumn.getName()))) {
-                    SensitiveColumn column = new SensitiveColumn();
-                    column.setType(columnType);
-                    column.setDatabase(database);
-                    column.setTableName(objectName);
-                    column.setColumnName(dbTableColumn.getName());
-                    column.setMaskingAlgorithmId(recognizer.maskingAlgorithmId());
-                    column.setSensitiveRuleId(recognizer.sensitiveRuleId());
-                    column.setLevel(recognizer.sensitiveLevel());
-                    sensitiveColumns.add(column);
-                }
+    private void scanColumns(String objectName, List<DBTableColumn> columns, SensitiveColumnType columnType) {
+        List<SensitiveColumn> sensitiveColumns = new ArrayList<>();
+        for (DBTableColumn dbTableColumn : columns) {
+            if (recognizer.recognize(dbTableColumn) && !existsSensitiveColumns
+                    .contains(new SensitiveColumnMeta(database.getId(), objectName, dbTableColumn.getName()))) {
+                SensitiveColumn column = new SensitiveColumn();
+                column.setType(columnType);
+                column.setDatabase(database);
+                column.setTableName(objectName);
+                column.setColumnName(dbTableColumn.getName());
+                column.setMaskingAlgorithmId(recognizer.maskingAlgorithmId());
+                column.setSensitiveRuleId(recognizer.sensitiveRuleId());
+                column.setLevel(recognizer.sensitiveLevel());
+                sensitiveColumns.add(column);
             }
-            taskInfo.addSensitiveColumns(sensitiveColumns);
-            taskInfo.addFinishedTableCount();
         }
+        taskInfo.addSensitiveColumns(sensitiveColumns);
+        // objects created after counting are not reported, otherwise the whole task may succeed too early
+        if (finishedObjectCount < objectCount) {
+            finishObject();
+        }
+    }
+
+    private void finishObject() {
+        finishedObjectCount++;
+        taskInfo.addFinishedTableCount();
     }
 
 }
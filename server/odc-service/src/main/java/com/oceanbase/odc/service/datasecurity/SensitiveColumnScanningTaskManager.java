@@ -17,11 +17,10 @@ package com.oceanbase.odc.service.datasecurity;
 
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,7 +28,6 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
-import com.google.common.collect.Sets;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.shared.PreConditions;
 import com.oceanbase.odc.core.shared.Verify;
@@ -43,7 +41,6 @@ import com.oceanbase.odc.service.datasecurity.model.SensitiveColumnScanningTaskI
 import com.oceanbase.odc.service.datasecurity.model.SensitiveRule;
 import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
 import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
-import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
 
 import lombok.extern.slf4j.Slf4j;
@@ -69,19 +66,15 @@ public class SensitiveColumnScanningTaskManager {
             Long projectId = databases.get(0).getProject().getId();
             Verify.notNull(projectId, "projectId");
             DBSchemaAccessor accessor = DBSchemaAccessors.create(session);
-            Map<Database, Map<String, List<DBTableColumn>>> database2Table2ColumnsList = new HashMap<>();
-            Map<Database, Map<String, List<DBTableColumn>>> database2View2ColumnsList = new HashMap<>();
+            // only names are listed here, columns are streamed by the sub tasks
+            Map<Database, Integer> database2ObjectCount = new LinkedHashMap<>();
             int objectCount = 0;
             for (Database database : databases) {
-                Map<String, List<DBTableColumn>> table2Columns = accessor.listBasicTableColumns(database.getName());
-                if (!table2Columns.isEmpty()) {
-                    objectCount += table2Columns.keySet().size();
-                    database2Table2ColumnsList.put(database, table2Columns);
-                }
-                Map<String, List<DBTableColumn>> view2Columns = accessor.listBasicViewColumns(database.getName());
-                if (!view2Columns.isEmpty()) {
-                    objectCount += view2Columns.keySet().size();
-                    database2View2ColumnsList.put(database, view2Columns);
+                int count = accessor.showTables(database.getName()).size()
+                        + accessor.listViews(database.getName()).size();
+                if (count > 0) {
+                    objectCount += count;
+                    database2ObjectCount.put(database, count);
                 }
             }
             SensitiveColumnScanningTaskInfo taskInfo = new SensitiveColumnScanningTaskInfo(projectId, objectCount);
@@ -90,17 +83,15 @@ public class SensitiveColumnScanningTaskManager {
                 taskInfo.setStatus(ScanningTaskStatus.SUCCESS);
             }
             cache.put(taskInfo.getTaskId(), taskInfo);
-            Set<Database> targetDatabases =
-                    Sets.union(database2Table2ColumnsList.keySet(), database2View2ColumnsList.keySet());
-            for (Database database : targetDatabases) {
+            for (Map.Entry<Database, Integer> entry : database2ObjectCount.entrySet()) {
+                Database database = entry.getKey();
                 List<SensitiveColumnMeta> sensitiveColumns = Collections.emptyList();
                 if (databaseId2SensitiveColumns != null) {
                     sensitiveColumns =
                             databaseId2SensitiveColumns.getOrDefault(database.getId(), Collections.emptyList());
                 }
                 SensitiveColumnScanningTask subTask = new SensitiveColumnScanningTask(database, rules, taskInfo,
-                        sensitiveColumns, database2Table2ColumnsList.getOrDefault(database, new HashMap<>()),
-                        database2View2ColumnsList.getOrDefault(database, new HashMap<>()));
+                        sensitiveColumns, connectionConfig, entry.getValue());
                 try {
                     executor.submit(subTask);
                 } catch (RejectedExecutionException e) {
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.validation.Valid;
@@ -140,10 +141,14 @@ public class SensitiveColumnService {
                 DatabaseWithAllColumns databaseColumn = new DatabaseWithAllColumns();
                 databaseColumn.setDatabaseId(database.getId());
                 databaseColumn.setDatabaseName(database.getName());
-                databaseColumn.setTable2Columns(getFilteringExistColumns(database.getId(),
-                        accessor.listBasicTableColumns(database.getName()), exists));
-                databaseColumn.setView2Columns(getFilteringExistColumns(database.getId(),
-                        accessor.listBasicViewColumns(database.getName()), exists));
+                Map<String, List<DBTableColumn>> table2Columns = new HashMap<>();
+                accessor.listBasicTableColumns(database.getName(),
+                        filteringExistColumns(database.getId(), exists, table2Columns));
+                databaseColumn.setTable2Columns(table2Columns);
+                Map<String, List<DBTableColumn>> view2Columns = new HashMap<>();
+                accessor.listBasicViewColumns(database.getName(),
+                        filteringExistColumns(database.getId(), exists, view2Columns));
+                databaseColumn.setView2Columns(view2Columns);
                 databaseColumn.setDataTypeUnits(versionDiffConfigService.getDatatypeList(session));
                 if (!databaseColumn.getTable2Columns().isEmpty() || !databaseColumn.getView2Columns().isEmpty()) {
                     databaseColumns.add(databaseColumn);
@@ -477,24 +482,22 @@ public class SensitiveColumnService {
                 .collect(Collectors.groupingBy(SensitiveColumnMeta::getDatabaseId));
     }
 
-    private Map<String, List<DBTableColumn>> getFilteringExistColumns(Long databaseId,
-            Map<String, List<DBTableColumn>> tableColumns, Set<SensitiveColumnMeta> exists) {
-        Map<String, List<DBTableColumn>> filtered = new HashMap<>();
-        for (Map.Entry<String, List<DBTableColumn>> entry : tableColumns.entrySet()) {
-            if (CollectionUtils.isEmpty(entry.getValue())) {
-                continue;
+    private BiConsumer<String, List<DBTableColumn>> filteringExistColumns(Long databaseId,
+            Set<SensitiveColumnMeta> exists, Map<String, List<DBTableColumn>> filtered) {
+        return (objectName, tableColumns) -> {
+            if (CollectionUtils.isEmpty(tableColumns)) {
+                return;
             }
             List<DBTableColumn> columns = new ArrayList<>();
-            for (DBTableColumn dbTableColumn : entry.getValue()) {
-                if (!exists.contains(new SensitiveColumnMeta(databaseId, entry.getKey(), dbTableColumn.getName()))) {
+            for (DBTableColumn dbTableColumn : tableColumns) {
+                if (!exists.contains(new SensitiveColumnMeta(databaseId, objectName, dbTableColumn.getName()))) {
                     columns.add(dbTableColumn);
                 }
             }
             if (CollectionUtils.isNotEmpty(columns)) {
-                filtered.put(entry.getKey(), columns);
+                filtered.computeIfAbsent(objectName, k -> new ArrayList<>()).addAll(columns);
             }
-        }
-        return filtered;
+        };
     }
 
 }
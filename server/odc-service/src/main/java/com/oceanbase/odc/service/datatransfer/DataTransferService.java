@@ -215,6 +215,8 @@ public class DataTransferService {
                     logger.warn("Failed to init load task, reason : {}", e.getMessage(), e);
                     throw e;
                 }
+                transferTask.setPipelineEnabled(dataTransferProperties.isPipelinedImportEnabled());
+                transferTask.setMaxConcurrentDataTasks(dataTransferProperties.getMaxConcurrentDataLoads());
                 return BaseDataTransferTask.start(executor, transferTask);
             } else if (transferType == DataTransferType.EXPORT) {
                 BaseParameterFactory<DumpParameter> factory = new DumpParameterFactory(workingDir, logDir,
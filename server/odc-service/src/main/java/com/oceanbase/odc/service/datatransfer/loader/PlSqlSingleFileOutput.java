@@ -20,7 +20,10 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang.ArrayUtils;
 
@@ -62,24 +65,14 @@ public class PlSqlSingleFileOutput extends AbstractThirdPartyOutput {
 
     @Override
     public void toObLoaderDumperCompatibleFormat(File dest) throws Exception {
-        List<String> sqls = new SqlSplitterForThirdParty(true, true, true).split(origin);
         try (FileWriter fileWriter = new FileWriter(dest);
                 BufferedWriter writer = new BufferedWriter(fileWriter)) {
-            char delimiter = DEFAULT_SQL_DELIMITER;
-
-            for (String sql : sqls) {
-                char currentDelimiter = getDelimiter(sql);
-                if (currentDelimiter != DEFAULT_PL_DELIMITER && currentDelimiter != DEFAULT_SQL_DELIMITER) {
-                    sql += DEFAULT_SQL_DELIMITER;
-                    currentDelimiter = DEFAULT_SQL_DELIMITER;
-                }
-                if (currentDelimiter != delimiter) {
-                    delimiter = currentDelimiter;
-                    sql = DELIMITER_NAME + BLANK_SPACE + delimiter + LINE_BREAK + sql;
-                }
-                writer.write(sql + LINE_BREAK + LINE_BREAK);
+            CompatibleFormatWriter compatibleWriter = new CompatibleFormatWriter(writer);
+            try {
+                new SqlSplitterForThirdParty(true, true, true).split(origin, compatibleWriter);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
             }
-
             writer.flush();
         }
     }
@@ -89,14 +82,46 @@ public class PlSqlSingleFileOutput extends AbstractThirdPartyOutput {
         return "plsql";
     }
 
-    private char getDelimiter(String input) {
-        char[] chars = input.toCharArray();
-        for (int i = chars.length - 1; i >= 0; i--) {
-            if (ArrayUtils.contains(BLANK_CHARACTERS, chars[i])) {
+    private static char getDelimiter(String input) {
+        for (int i = input.length() - 1; i >= 0; i--) {
+            char c = input.charAt(i);
+            if (ArrayUtils.contains(BLANK_CHARACTERS, c)) {
                 continue;
             }
-            return chars[i];
+            return c;
         }
         return DEFAULT_SQL_DELIMITER;
     }
+
+    /**
+     * Writes statements out as soon as they are split, switching the delimiter between sql and pl
+     */
+    private static class CompatibleFormatWriter implements Consumer<String> {
+        private final Writer writer;
+        private char delimiter = DEFAULT_SQL_DELIMITER;
+
+        CompatibleFormatWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(String sql) {
+            char currentDelimiter = getDelimiter(sql);
+            if (currentDelimiter != DEFAULT_PL_DELIMITER && currentDelimiter != DEFAULT_SQL_DELIMITER) {
+                sql += DEFAULT_SQL_DELIMITER;
+                currentDelimiter = DEFAULT_SQL_DELIMITER;
+            }
+            try {
+                if (currentDelimiter != delimiter) {
+                    delimiter = currentDelimiter;
+                    writer.write(DELIMITER_NAME + BLANK_SPACE + delimiter + LINE_BREAK);
+                }
+                writer.write(sql);
+                writer.write(LINE_BREAK);
+                writer.write(LINE_BREAK);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -21,9 +21,8 @@ import java.io.FileReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import lombok.Getter;
 
@@ -82,36 +81,53 @@ public class SqlSplitterForThirdParty {
     }
 
     public List<String> split(File input) throws Exception {
+        List<String> sqls = new ArrayList<>();
+        split(input, sqls::add);
+        return sqls;
+    }
+
+    /**
+     * Streaming version of {@link #split(File)}, every statement is handed to the consumer as soon as
+     * it is complete, so only the statements being built are held in memory no matter how large the
+     * file is.
+     */
+    public void split(File input, Consumer<String> consumer) throws Exception {
+        // trailing comments may still be appended to the latest pl, so it is kept until the next one comes
         List<String> pls = new ArrayList<>();
         StringBuilder builderForPl = new StringBuilder();
+        SqlSplitterForThirdParty sqlSplitter = new SqlSplitterForThirdParty(true, true, true);
         try (BufferedReader reader = new BufferedReader(new FileReader(input))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 addLineOracleForPl(pls, builderForPl, line);
+                while (pls.size() > 1) {
+                    sqlSplitter.splitPl(pls.remove(0), consumer);
+                }
             }
         }
         if (builderForPl.length() > 0) {
             pls.add(builderForPl.toString());
         }
+        for (String pl : pls) {
+            sqlSplitter.splitPl(pl, consumer);
+        }
+    }
 
-        this.preserveFormat = true;
-        this.preserveSingleComments = true;
-        this.preserveMultiComments = true;
-
-        return pls.stream().map(String::trim).flatMap(sql -> {
-            if (sql.endsWith("/")) {
-                return Stream.of(sql);
-            }
-            List<String> sqls = new ArrayList<>();
-            StringBuilder builderForSql = new StringBuilder();
-            for (String line : sql.split("\n")) {
-                addLineOracleForSql(sqls, builderForSql, line);
-            }
-            if (builderForSql.length() > 0) {
-                sqls.add(builderForSql.toString());
-            }
-            return sqls.stream();
-        }).collect(Collectors.toList());
+    private void splitPl(String pl, Consumer<String> consumer) {
+        String sql = pl.trim();
+        if (sql.endsWith("/")) {
+            consumer.accept(sql);
+            return;
+        }
+        List<String> sqls = new ArrayList<>();
+        StringBuilder builderForSql = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            addLineOracleForSql(sqls, builderForSql, line);
+        }
+        if (builderForSql.length() > 0) {
+            sqls.add(builderForSql.toString());
+        }
+        sqls.forEach(consumer);
     }
 
     private void addLineOracleForSql(List<String> sqls, StringBuilder builder, String line) {
@@ -31,4 +31,16 @@ public class DataTransferProperties {
 
     private String useServerPrepStmts;
 
+    /**
+     * Load the data of a table as soon as its schema is loaded when importing both schema and data.
+     * Once a schema fails no more data is loaded, but the data of tables loaded before that is kept.
+     */
+    private boolean pipelinedImportEnabled = false;
+
+    /**
+     * Max count of data loading tasks running at the same time for one pipelined import task, the
+     * loader threads of the import task are divided between the schema loading and them
+     */
+    private int maxConcurrentDataLoads = 2;
+
 }
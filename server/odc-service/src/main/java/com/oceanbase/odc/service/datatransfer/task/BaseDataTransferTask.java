@@ -17,7 +17,16 @@ package com.oceanbase.odc.service.datatransfer.task;
 
 import static com.oceanbase.odc.service.datatransfer.model.DataTransferConstants.LOG_PATH_NAME;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
@@ -29,6 +38,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.ThreadContext;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.service.flow.task.model.DataTransferTaskResult;
 import com.oceanbase.tools.loaddump.common.enums.DataFormat;
@@ -51,6 +61,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public abstract class BaseDataTransferTask<T extends BaseParameter> implements Callable<DataTransferTaskResult> {
+    private static final long PIPELINE_WATCH_INTERVAL_MILLIS = 100;
     protected final T parameter;
     private final boolean transferData;
     private final boolean transferSchema;
@@ -59,6 +70,10 @@ public abstract class BaseDataTransferTask<T extends BaseParameter> implements C
     private volatile DataTransferTaskContext context;
     @Setter
     protected boolean mergeSchemaFiles;
+    @Setter
+    private boolean pipelineEnabled;
+    @Setter
+    private int maxConcurrentDataTasks = 2;
 
     public BaseDataTransferTask(@NonNull T parameter, boolean transferData, boolean transferSchema) {
         this.parameter = parameter;
@@ -122,25 +137,33 @@ public abstract class BaseDataTransferTask<T extends BaseParameter> implements C
         }
         try {
             String fileSuffix = parameter.getFileSuffix();
-            if (transferSchema) {
-                log.info("Begin transferring schema");
+            PipelinedDataTransfer pipelinedTransfer =
+                    transferSchema && transferData && pipelineEnabled ? getPipelinedDataTransfer(parameter) : null;
+            if (pipelinedTransfer != null && CollectionUtils.isNotEmpty(pipelinedTransfer.getTableNames())) {
+                log.info("Begin transferring schema and data, tableCount={}", pipelinedTransfer.getTableNames().size());
                 parameter.setFileSuffix(DataFormat.SQL.getDefaultFileSuffix());
-                TaskContext taskContext = startTransferSchema(parameter);
-                if (taskContext == null) {
-                    throw new NullPointerException("Schema task context is null");
+                transferPipelined(pipelinedTransfer, fileSuffix);
+            } else {
+                if (transferSchema) {
+                    log.info("Begin transferring schema");
+                    parameter.setFileSuffix(DataFormat.SQL.getDefaultFileSuffix());
+                    TaskContext taskContext = startTransferSchema(parameter);
+                    if (taskContext == null) {
+                        throw new NullPointerException("Schema task context is null");
+                    }
+                    context.schemaContext = taskContext;
+                    syncWaitFinished(taskContext);
                 }
-                context.schemaContext = taskContext;
-                syncWaitFinished(taskContext);
-            }
-            if (transferData) {
-                log.info("Begin transferring data");
-                parameter.setFileSuffix(fileSuffix);
-                TaskContext taskContext = startTransferData(parameter);
-                if (taskContext == null) {
-                    throw new NullPointerException("Data task context is null");
+                if (transferData) {
+                    log.info("Begin transferring data");
+                    parameter.setFileSuffix(fileSuffix);
+                    TaskContext taskContext = startTransferData(parameter);
+                    if (taskContext == null) {
+                        throw new NullPointerException("Data task context is null");
+                    }
+                    context.dataContext = taskContext;
+                    syncWaitFinished(taskContext);
                 }
-                context.dataContext = taskContext;
-                syncWaitFinished(taskContext);
             }
             DataTransferTaskResult result = DataTransferTaskResult.of(context);
             afterHandle(parameter, context, result);
@@ -164,22 +187,119 @@ public abstract class BaseDataTransferTask<T extends BaseParameter> implements C
     protected abstract void afterHandle(T parameter, DataTransferTaskContext context,
             DataTransferTaskResult result) throws Exception;
 
+    /**
+     * Only used when {@link #pipelineEnabled} is set
+     *
+     * @return {@code null} means the data can only be transferred after all schema objects are
+     *         transferred
+     */
+    protected PipelinedDataTransfer getPipelinedDataTransfer(T parameter) {
+        return null;
+    }
+
+    /**
+     * Transfer the data of a table as soon as its schema succeeds, at most
+     * {@link #maxConcurrentDataTasks} data tasks are running at the same time. The threads of the
+     * parameter are divided between the schema task and the data tasks, each of them owns one thread at
+     * least. Tables become ready during a data task running are transferred by the next one together.
+     * No more data task is started once a schema object fails. The progress of the schema task is
+     * polled every {@link #PIPELINE_WATCH_INTERVAL_MILLIS}, since the loader does not publish any
+     * event.
+     */
+    private void transferPipelined(PipelinedDataTransfer pipelinedTransfer, String dataFileSuffix)
+            throws Exception {
+        int totalThreads = parameter.getThreads();
+        try {
+            transferPipelined(pipelinedTransfer, dataFileSuffix, Math.max(1, totalThreads));
+        } finally {
+            parameter.setThreads(totalThreads);
+        }
+    }
+
+    private void transferPipelined(PipelinedDataTransfer pipelinedTransfer, String dataFileSuffix,
+            int totalThreads) throws Exception {
+        Set<String> tableNames = pipelinedTransfer.getTableNames();
+        int maxDataTasks = Math.max(1, maxConcurrentDataTasks);
+        int threads = Math.max(1, totalThreads / (maxDataTasks + 1));
+        parameter.setThreads(Math.max(1, totalThreads - threads * maxDataTasks));
+        TaskContext schemaContext = startTransferSchema(parameter);
+        if (schemaContext == null) {
+            throw new NullPointerException("Schema task context is null");
+        }
+        context.schemaContext = schemaContext;
+        CompositeTaskContext dataContext = new CompositeTaskContext(tableNames.size());
+        context.dataContext = dataContext;
+
+        Map<String, String> objectName2TableName = new HashMap<>();
+        tableNames.forEach(name -> objectName2TableName.put(
+                StringUtils.unquoteOracleIdentifier(StringUtils.unquoteMySqlIdentifier(name)), name));
+        Set<String> pendingTableNames = new LinkedHashSet<>(tableNames);
+        Deque<String> readyTableNames = new ArrayDeque<>();
+        List<TaskContext> runningContexts = new LinkedList<>();
+        boolean schemaFinished = false;
+        boolean schemaFailed = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (!schemaFinished) {
+                // read the state before the details, no detail will be missed
+                boolean allFinished = schemaContext.isAllTasksFinished();
+                for (TaskDetail detail : schemaContext.getAllTaskDetails()) {
+                    if (detail.isFailure()) {
+                        schemaFailed = true;
+                    } else if (detail.isSuccess() && ObjectType.TABLE.getName().equalsIgnoreCase(detail.getType())) {
+                        String tableName = objectName2TableName.get(detail.getObject());
+                        if (tableName != null && pendingTableNames.remove(tableName)) {
+                            readyTableNames.add(tableName);
+                        }
+                    }
+                }
+                if (allFinished && isFinished(schemaContext)) {
+                    // tables whose schema task is not recognized are transferred after all
+                    readyTableNames.addAll(pendingTableNames);
+                    pendingTableNames.clear();
+                    schemaFinished = true;
+                }
+            }
+            Iterator<TaskContext> iterator = runningContexts.iterator();
+            while (iterator.hasNext()) {
+                if (isFinished(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+            int freeSlots = maxDataTasks - runningContexts.size();
+            while (!schemaFailed && freeSlots > 0 && !readyTableNames.isEmpty()) {
+                int batchSize = (readyTableNames.size() + freeSlots - 1) / freeSlots;
+                Set<String> batch = new LinkedHashSet<>();
+                while (batch.size() < batchSize) {
+                    batch.add(readyTableNames.poll());
+                }
+                TaskContext taskContext = pipelinedTransfer.startTransferData(batch, dataFileSuffix, threads);
+                if (taskContext == null) {
+                    throw new NullPointerException("Data task context is null");
+                }
+                dataContext.add(taskContext, batch.size());
+                runningContexts.add(taskContext);
+                freeSlots--;
+            }
+            if (schemaFinished && readyTableNames.isEmpty() && runningContexts.isEmpty()) {
+                dataContext.complete();
+                log.info(dataContext.getSummary().toHumanReadableFormat());
+                return;
+            }
+            try {
+                Thread.sleep(PIPELINE_WATCH_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+        throw new InterruptedException("loop interrupted");
+    }
+
     @SuppressWarnings("all")
     private void syncWaitFinished(@NonNull TaskContext context) throws InterruptedException {
         while (!Thread.currentThread().isInterrupted()) {
-            if (context.isAllTasksSuccessed()) {
-                shutdownContext(context);
+            if (isFinished(context)) {
                 return;
-            } else if (context.isAllTasksFinished()) {
-                shutdownContext(context);
-                Collection<TaskDetail> failedTasks = context.getFailureTaskDetails();
-                if (CollectionUtils.isEmpty(failedTasks)) {
-                    throw new IllegalStateException("No failed task details");
-                }
-                String errorMsg = failedTasks.stream()
-                        .map(i -> i.getSchemaTable() + ": " + i.getError())
-                        .collect(Collectors.joining("\n"));
-                throw new IllegalStateException(errorMsg);
             }
             try {
                 Thread.sleep(sleepInterval);
@@ -191,6 +311,28 @@ public abstract class BaseDataTransferTask<T extends BaseParameter> implements C
         throw new InterruptedException("loop interrupted");
     }
 
+    /**
+     * @return {@code true} if all tasks are successful, the context will be shutdown
+     * @throws IllegalStateException if all tasks are finished but some of them failed
+     */
+    private boolean isFinished(@NonNull TaskContext context) {
+        if (context.isAllTasksSuccessed()) {
+            shutdownContext(context);
+            return true;
+        } else if (context.isAllTasksFinished()) {
+            shutdownContext(context);
+            Collection<TaskDetail> failedTasks = context.getFailureTaskDetails();
+            if (CollectionUtils.isEmpty(failedTasks)) {
+                throw new IllegalStateException("No failed task details");
+            }
+            String errorMsg = failedTasks.stream()
+                    .map(i -> i.getSchemaTable() + ": " + i.getError())
+                    .collect(Collectors.joining("\n"));
+            throw new IllegalStateException(errorMsg);
+        }
+        return false;
+    }
+
     private void shutdownContext(TaskContext context) {
         try {
             context.shutdown();
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.datatransfer.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import com.oceanbase.tools.loaddump.common.enums.LoadStatus;
+import com.oceanbase.tools.loaddump.common.model.Progress;
+import com.oceanbase.tools.loaddump.common.model.RuntimeMetrics;
+import com.oceanbase.tools.loaddump.common.model.ServerStatus;
+import com.oceanbase.tools.loaddump.common.model.Summary;
+import com.oceanbase.tools.loaddump.common.model.TaskDetail;
+import com.oceanbase.tools.loaddump.context.TaskContext;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CompositeTaskContext}, a {@link TaskContext} consists of several ones, each of them
+ * transfers a part of the tables. Contexts can be added while the composite one is running, it is
+ * not finished until {@link #complete()} is called.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+public class CompositeTaskContext extends TaskContext {
+
+    private final int expectedTableCount;
+    private final List<Member> members = new CopyOnWriteArrayList<>();
+    private volatile boolean completed = false;
+
+    /**
+     * @param expectedTableCount count of all tables to be transferred, used to calculate the progress
+     *        before all contexts are added
+     */
+    public CompositeTaskContext(int expectedTableCount) {
+        this.expectedTableCount = expectedTableCount;
+    }
+
+    public void add(@NonNull TaskContext context, int tableCount) {
+        if (completed) {
+            throw new IllegalStateException("Composite task context is completed");
+        }
+        members.add(new Member(context, tableCount));
+    }
+
+    /**
+     * No more context will be added
+     */
+    public void complete() {
+        this.completed = true;
+    }
+
+    @Override
+    public RuntimeMetrics getRuntimeMetrics() {
+        RuntimeMetrics metrics = new RuntimeMetrics();
+        long count = 0;
+        long total = 0;
+        long throughput = 0;
+        for (Member member : members) {
+            RuntimeMetrics item = member.context.getRuntimeMetrics();
+            count += item.getCount();
+            total += item.getTotal();
+            throughput += item.getThroughput();
+        }
+        metrics.setCount(count);
+        metrics.setTotal(total);
+        metrics.setThroughput(throughput);
+        metrics.setProgress(getProgress().getProgress());
+        return metrics;
+    }
+
+    @Override
+    public Progress getProgress() {
+        int running = 0;
+        int finished = 0;
+        double finishedTables = 0;
+        int tableCount = 0;
+        for (Member member : members) {
+            Progress item = member.context.getProgress();
+            running += item.getRunning();
+            finished += item.getFinished();
+            finishedTables += item.getProgress() * member.tableCount;
+            tableCount += member.tableCount;
+        }
+        int total = Math.max(expectedTableCount, tableCount);
+        double progress = total == 0 ? (completed ? 1 : 0) : finishedTables / total;
+        return new Progress(running, finished, progress);
+    }
+
+    @Override
+    public Summary getSummary() {
+        return new Summary("Summary of data transfer", getAllTaskDetails());
+    }
+
+    @Override
+    public ServerStatus getServerStatus() {
+        Map<String, Map<Long, LoadStatus>> loadStatusMap = new HashMap<>();
+        for (Member member : members) {
+            ServerStatus status = member.context.getServerStatus();
+            if (status != null && status.getLoadStatusMap() != null) {
+                status.getLoadStatusMap().forEach((k, v) -> loadStatusMap.computeIfAbsent(k, t -> new HashMap<>())
+                        .putAll(v));
+            }
+        }
+        return new ServerStatus(loadStatusMap);
+    }
+
+    @Override
+    public boolean isThreadPoolAlive() {
+        return members.stream().anyMatch(m -> m.context.isThreadPoolAlive());
+    }
+
+    @Override
+    public boolean isAllTasksFinished() {
+        return completed && members.stream().allMatch(m -> m.context.isAllTasksFinished());
+    }
+
+    @Override
+    public boolean isAllTasksSuccessed() {
+        return completed && members.stream().allMatch(m -> m.context.isAllTasksSuccessed());
+    }
+
+    @Override
+    public Collection<TaskDetail> getAllTaskDetails() {
+        List<TaskDetail> taskDetails = new ArrayList<>();
+        members.forEach(m -> taskDetails.addAll(m.context.getAllTaskDetails()));
+        return taskDetails;
+    }
+
+    @Override
+    public Collection<TaskDetail> getFailureTaskDetails() {
+        return members.stream().flatMap(m -> m.context.getFailureTaskDetails().stream())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isUploading() {
+        return members.stream().anyMatch(m -> m.context.isUploading());
+    }
+
+    @Override
+    public void shutdown() throws Exception {
+        for (Member member : members) {
+            member.context.shutdown();
+        }
+    }
+
+    @Override
+    public void shutdownNow() throws Exception {
+        for (Member member : members) {
+            try {
+                member.context.shutdownNow();
+            } catch (Exception e) {
+                log.warn("Failed to shutdown task context immediately", e);
+            }
+        }
+    }
+
+    @Override
+    public void stopLogReporter() {
+        members.forEach(m -> m.context.stopLogReporter());
+    }
+
+    private static class Member {
+        private final TaskContext context;
+        private final int tableCount;
+
+        private Member(TaskContext context, int tableCount) {
+            this.context = context;
+            this.tableCount = tableCount;
+        }
+    }
+
+}
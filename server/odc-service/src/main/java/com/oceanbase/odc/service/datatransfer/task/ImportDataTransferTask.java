@@ -20,15 +20,20 @@ import static com.oceanbase.odc.service.datatransfer.model.DataTransferConstants
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.ThreadContext;
+import org.springframework.beans.BeanUtils;
 
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.service.flow.task.model.DataTransferTaskResult;
 import com.oceanbase.tools.loaddump.client.LoadClient;
 import com.oceanbase.tools.loaddump.common.enums.DataFormat;
+import com.oceanbase.tools.loaddump.common.enums.ObjectType;
 import com.oceanbase.tools.loaddump.common.model.LoadParameter;
 import com.oceanbase.tools.loaddump.context.TaskContext;
 
@@ -62,6 +67,11 @@ public class ImportDataTransferTask extends BaseDataTransferTask<LoadParameter>
         return loadClient.loadRecord();
     }
 
+    @Override
+    protected PipelinedDataTransfer getPipelinedDataTransfer(LoadParameter parameter) {
+        return isExternalSql() ? null : new PipelinedLoad(parameter);
+    }
+
     @Override
     protected TaskContext startTransferSchema(LoadParameter parameter) throws Exception {
         if (isExternalSql()) {
@@ -99,4 +109,46 @@ public class ImportDataTransferTask extends BaseDataTransferTask<LoadParameter>
         return parameter.getDataFormat() == DataFormat.MIX && parameter.isExternal();
     }
 
+    /**
+     * Loads the data of a part of the tables by a new {@link LoadClient}, the parameter is copied from
+     * the one of the import task except the white list
+     */
+    static class PipelinedLoad implements PipelinedDataTransfer {
+
+        private final LoadParameter parameter;
+
+        PipelinedLoad(@NonNull LoadParameter parameter) {
+            this.parameter = parameter;
+        }
+
+        @Override
+        public Set<String> getTableNames() {
+            Set<String> tableNames = parameter.getWhiteListMap().get(ObjectType.TABLE);
+            return tableNames == null ? Collections.emptySet() : tableNames;
+        }
+
+        @Override
+        public TaskContext startTransferData(Set<String> tableNames, String fileSuffix, int threads)
+                throws Exception {
+            LoadParameter tableParameter = new LoadParameter();
+            // runtime states are initialized by the load client itself
+            BeanUtils.copyProperties(parameter, tableParameter, "database", "connectionKey", "controlManager",
+                    "formatMap");
+            tableParameter.getBlackListMap().putAll(parameter.getBlackListMap());
+            tableParameter.getColumnNameMapping().putAll(parameter.getColumnNameMapping());
+            tableParameter.getExcludeDataTypes().addAll(parameter.getExcludeDataTypes());
+            tableParameter.getExcludeColumnNames().addAll(parameter.getExcludeColumnNames());
+            tableParameter.getIncludeColumnNames().addAll(parameter.getIncludeColumnNames());
+            tableParameter.getWhiteListMap().put(ObjectType.TABLE, new HashSet<>(tableNames));
+            tableParameter.setFileSuffix(fileSuffix);
+            tableParameter.setThreads(threads);
+            ThreadContext.put(LOG_PATH_NAME, parameter.getLogsPath());
+            return loadRecord(tableParameter);
+        }
+
+        protected TaskContext loadRecord(LoadParameter tableParameter) throws Exception {
+            return new LoadClient.Builder(tableParameter).build().loadRecord();
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.datatransfer.task;
+
+import java.util.Set;
+
+import com.oceanbase.tools.loaddump.context.TaskContext;
+
+/**
+ * {@link PipelinedDataTransfer}, transfers the data of a part of the tables, so that the data of a
+ * table can be transferred as soon as its schema is transferred
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public interface PipelinedDataTransfer {
+
+    /**
+     * @return names of the tables can be transferred in pipeline, the same as the ones in the white
+     *         list
+     */
+    Set<String> getTableNames();
+
+    /**
+     * @param tableNames subset of {@link #getTableNames()}
+     * @param fileSuffix suffix of data files
+     * @param threads count of threads used to transfer the data
+     */
+    TaskContext startTransferData(Set<String> tableNames, String fileSuffix, int threads) throws Exception;
+
+}
@@ -16,8 +16,12 @@
 package com.oceanbase.odc.service.db;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.validation.constraints.NotBlank;
@@ -105,9 +109,13 @@ public class DBTableService {
             @NotEmpty List<String> tableNames) {
         DBSchemaAccessor schemaAccessor = DBSchemaAccessors.create(connectionSession);
         List<DBTable> tables = new ArrayList<>();
-        Map<String, List<DBTableColumn>> tableName2Columns = schemaAccessor.listTableColumns(schemaName);
-        Map<String, List<DBTableIndex>> tableName2Indexes = schemaAccessor.listTableIndexes(schemaName);
-        Map<String, List<DBTableConstraint>> tableName2Constraints = schemaAccessor.listTableConstraints(schemaName);
+        Set<String> names = new HashSet<>(tableNames);
+        Map<String, List<DBTableColumn>> tableName2Columns = new HashMap<>();
+        schemaAccessor.listTableColumns(schemaName, collectIfContains(names, tableName2Columns));
+        Map<String, List<DBTableIndex>> tableName2Indexes = new HashMap<>();
+        schemaAccessor.listTableIndexes(schemaName, collectIfContains(names, tableName2Indexes));
+        Map<String, List<DBTableConstraint>> tableName2Constraints = new HashMap<>();
+        schemaAccessor.listTableConstraints(schemaName, collectIfContains(names, tableName2Constraints));
         Map<String, DBTableOptions> tableName2Options = schemaAccessor.listTableOptions(schemaName);
         for (String tableName : tableNames) {
             if (!tableName2Columns.containsKey(tableName)) {
@@ -177,4 +185,16 @@ public class DBTableService {
         return SchemaPluginUtil.getTableExtension(connectionSession.getDialectType());
     }
 
+    /**
+     * metadata of the whole schema is streamed, only the required tables are held in memory
+     */
+    private <T> BiConsumer<String, List<T>> collectIfContains(Set<String> tableNames,
+            Map<String, List<T>> tableName2Objects) {
+        return (tableName, objects) -> {
+            if (tableNames.contains(tableName)) {
+                tableName2Objects.computeIfAbsent(tableName, t -> new ArrayList<>()).addAll(objects);
+            }
+        };
+    }
+
 }
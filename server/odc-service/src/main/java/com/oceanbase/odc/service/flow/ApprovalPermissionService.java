@@ -18,6 +18,7 @@ package com.oceanbase.odc.service.flow;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -256,6 +257,18 @@ public class ApprovalPermissionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Same as {@link #listApprovableExternalInstances()}, only instances whose flow instance id modulo
+     * {@code shardCount} equals to {@code shard} are listed
+     */
+    public List<UserTaskInstanceEntity> listApprovableExternalInstances(int shard, int shardCount) {
+        return userTaskInstanceRepository.findExternalByStatusAndShard(FlowNodeStatus.EXECUTING, shard, shardCount);
+    }
+
+    public void updateExternalPollState(@NonNull Long approvalInstanceId, int unchangedTimes, Date nextPollTime) {
+        userTaskInstanceRepository.updateExternalPollStateById(approvalInstanceId, unchangedTimes, nextPollTime);
+    }
+
     public Map<Long, Set<UserEntity>> getCandidatesByFlowInstanceIds(@NonNull Collection<Long> flowInstanceIds) {
 
         // find executing approval instance
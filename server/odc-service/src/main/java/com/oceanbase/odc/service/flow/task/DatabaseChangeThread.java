@@ -423,9 +423,9 @@ public class DatabaseChangeThread extends Thread {
     private GeneralSqlType parseSqlType(String sql) {
         GeneralSqlType sqlType = GeneralSqlType.OTHER;
         if (connectionSession.getDialectType().isOracle()) {
-            sqlType = ParserUtil.getGeneralSqlType(ParserUtil.parseOracleType(sql));
+            sqlType = ParserUtil.getGeneralSqlType(ParserUtil.classifyOracleType(sql, 0));
         } else if (connectionSession.getDialectType().isMysql()) {
-            sqlType = ParserUtil.getGeneralSqlType(ParserUtil.parseMysqlType(sql));
+            sqlType = ParserUtil.getGeneralSqlType(ParserUtil.classifyMysqlType(sql, 0));
         }
         return sqlType;
     }
@@ -21,6 +21,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -121,7 +122,8 @@ public class PreCheckRuntimeFlowableTask extends BaseODCFlowTaskDelegate<Void> {
             riskLevelDescriber.setSqlCheckResult(sqlCheckResult.getMaxLevel() + "");
         }
         try {
-            RiskLevel riskLevel = approvalFlowConfigSelector.select(riskLevelDescriber);
+            RiskLevel riskLevel =
+                    approvalFlowConfigSelector.select(Collections.singletonList(riskLevelDescriber)).get(0);
             taskEntity.setRiskLevelId(riskLevel.getId());
             taskEntity.setExecutionExpirationIntervalSeconds(
                     riskLevel.getApprovalFlowConfig().getExecutionExpirationIntervalSeconds());
@@ -86,19 +86,18 @@ public class UserBatchImportPreviewer {
         if (!checkFileType(file)) {
             return UserPreviewBatchImportResp.ofFail(ErrorCodes.ImportInvalidFileType);
         }
-        List<Map<String, String>> list;
         List<BatchImportUser> batchImportUserList = new ArrayList<>();
-        try (InputStream inputStream = file.getInputStream()) {
-            list = FileConvertUtils.convertXlsRowsToMapList(inputStream);
-        }
         Long organizationId = authenticationFacade.currentOrganizationId();
         Set<String> accountNames = userService.getByOrganizationId(organizationId).stream().map(User::getAccountName)
                 .collect(Collectors.toSet());
         Map<String, Role> roleName2RoleMap = roleService.list(Pageable.unpaged()).getContent().stream()
                 .collect(Collectors.toMap(Role::getName, role -> role, (k1, k2) -> k1));
-        for (Map<String, String> map : list) {
-            BatchImportUser batchImportUser = createBatchImportUser(map, accountNames, roleName2RoleMap);
-            batchImportUserList.add(batchImportUser);
+        /**
+         * rows are validated while the excel file is being parsed, the raw rows are not kept
+         */
+        try (InputStream inputStream = file.getInputStream()) {
+            FileConvertUtils.readXlsRows(inputStream,
+                    map -> batchImportUserList.add(createBatchImportUser(map, accountNames, roleName2RoleMap)));
         }
         return UserPreviewBatchImportResp.ofUserExcel(batchImportUserList);
     }
@@ -125,6 +124,8 @@ public class UserBatchImportPreviewer {
             batchImportUser.setErrorMessage("file content error:" + USER_ACCOUNTNAME.getLocalizedMessage());
         } else {
             batchImportUser.setAccountName(accountName);
+            // duplicated account names in the same file are rejected by import as well
+            accountNames.add(accountName);
         }
         String name = map.get(USER_NAME.getLocalizedMessage());
         if (StringUtils.isEmpty(name) || name.length() > NAME_MAX_LENGTH || !SPACE_PATTERN.matcher(name).matches()) {
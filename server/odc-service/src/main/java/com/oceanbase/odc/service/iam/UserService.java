@@ -35,6 +35,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.sql.DataSource;
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -42,6 +43,7 @@ import javax.validation.constraints.NotNull;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -49,6 +51,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -181,6 +184,15 @@ public class UserService {
     @Autowired
     private UserOrganizationService userOrganizationService;
 
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * relations of imported users are inserted through jdbc batches of this size
+     */
+    @Value("${odc.iam.batch-import.batch-size:500}")
+    private int batchImportBatchSize;
+
     private final OrganizationMapper organizationMapper = OrganizationMapper.INSTANCE;
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
     private final List<Consumer<PasswordChangeEvent>> postPasswordChangeHooks = new ArrayList<>();
@@ -994,9 +1006,12 @@ public class UserService {
     }
 
     private void batchBindOrganization(@NonNull Map<String, UserEntity> map) {
-        for (UserEntity entity : map.values()) {
-            userOrganizationService.bindUserToOrganization(entity.getId(), entity.getOrganizationId());
-        }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "insert into iam_user_organization(user_id, organization_id) values(?,?)",
+                map.values(), batchImportBatchSize, (ps, entity) -> {
+                    ps.setLong(1, entity.getId());
+                    ps.setLong(2, entity.getOrganizationId());
+                });
     }
 
     private void batchBindRoles(List<CreateUserReq> createUserReqs, Map<String, UserEntity> map) {
@@ -1014,9 +1029,9 @@ public class UserService {
                 .collect(Collectors.toMap(RoleEntity::getId, entity -> entity));
         Verify.equals(roleIds.size(), roleId2Entity.keySet().size(), "roleIds.size()");
         Long creatorId = authenticationFacade.currentUserId();
+        List<UserRoleEntity> userRoleEntities = new ArrayList<>();
         for (CreateUserReq createUserReq : createUserReqs) {
             if (CollectionUtils.isNotEmpty(createUserReq.getRoleIds())) {
-                List<UserRoleEntity> userRoleEntities = new ArrayList<>();
                 for (Long id : createUserReq.getRoleIds()) {
                     Role role = new Role(roleId2Entity.get(id));
                     PreConditions.validArgumentState(role.getType() != RoleType.INTERNAL, ErrorCodes.BadArgument,
@@ -1030,9 +1045,16 @@ public class UserService {
                     userRoleEntity.setRoleId(role.id());
                     userRoleEntities.add(userRoleEntity);
                 }
-                userRoleRepository.saveAll(userRoleEntities);
             }
         }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "insert into iam_user_role(user_id, role_id, creator_id, organization_id) values(?,?,?,?)",
+                userRoleEntities, batchImportBatchSize, (ps, entity) -> {
+                    ps.setLong(1, entity.getUserId());
+                    ps.setLong(2, entity.getRoleId());
+                    ps.setLong(3, entity.getCreatorId());
+                    ps.setLong(4, entity.getOrganizationId());
+                });
     }
 
     @SkipAuthorize
@@ -16,26 +16,41 @@
 package com.oceanbase.odc.service.integration;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.apache.commons.collections4.CollectionUtils;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
 import com.oceanbase.odc.metadb.flow.FlowInstanceEntity;
 import com.oceanbase.odc.metadb.flow.UserTaskInstanceEntity;
 import com.oceanbase.odc.service.flow.ApprovalPermissionService;
@@ -50,6 +65,13 @@ import com.oceanbase.odc.service.integration.model.TemplateVariables.Variable;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Pending external approvals are partitioned into shards by the hash of flow instance id, each
+ * shard is guarded by its own jdbc lock so that shards are handled by different odc-server nodes
+ * concurrently, shards held by the current node are synchronized in parallel as well. Within a
+ * shard, statuses are queried concurrently through a bounded executor per integration, so that a
+ * slow integration does not stall the others. Instances whose status has not changed are polled
+ * less and less frequently, the poll state is kept in metadb since shards move between nodes.
+ *
  * @author gaoda.xy
  * @date 2023/4/13 11:40
  */
@@ -69,9 +91,35 @@ public class ApprovalSynchronizer {
     @Autowired
     private RuntimeService runtimeService;
 
+    @Value("${odc.integration.approval.sync.shard-count:8}")
+    private int shardCount;
+
+    @Value("${odc.integration.approval.sync.concurrency-per-integration:16}")
+    private int concurrencyPerIntegration;
+
+    /**
+     * max time to wait for the status of all the instances in one shard
+     */
+    @Value("${odc.integration.approval.sync.status-timeout-seconds:10}")
+    private long statusTimeoutSeconds;
+
+    @Value("${odc.integration.approval.sync.max-backoff-seconds:60}")
+    private long maxBackoffSeconds;
+
+    /**
+     * max count of status queries waiting for execution per integration, instances beyond that are left
+     * to the next round
+     */
+    @Value("${odc.integration.approval.sync.queue-capacity-per-integration:1024}")
+    private int queueCapacityPerIntegration;
+
+    private final Map<Long, ThreadPoolExecutor> integrationId2Executor = new ConcurrentHashMap<>();
+    private volatile ThreadPoolExecutor shardExecutor;
+    private Clock clock = Clock.systemDefaultZone();
+
     private static final String LOCK_NAME = "APPROVAL_INTEGRATION_SCHEDULE";
-    private static final long LOCK_TIMEOUT_SECONDS = 3;
     private static final long SYNCHRONIZE_INTERVAL_SECONDS = 5;
+    private static final int MAX_BACKOFF_SHIFT = 16;
 
     @Scheduled(initialDelay = 10000L, fixedDelay = SYNCHRONIZE_INTERVAL_SECONDS * 1000L)
     public void run() {
@@ -82,46 +130,121 @@ public class ApprovalSynchronizer {
         }
     }
 
+    @PreDestroy
+    public void destroy() {
+        if (shardExecutor != null) {
+            ExecutorUtils.gracefulShutdown(shardExecutor, "approvalSyncShardExecutor", 5);
+        }
+        integrationId2Executor.forEach((integrationId, executor) -> ExecutorUtils.gracefulShutdown(executor,
+                "approvalSyncExecutor-" + integrationId, 5));
+        integrationId2Executor.clear();
+    }
+
     private void syncApprovalStatus() throws InterruptedException {
-        Lock lock = jdbcLockRegistry.obtain(LOCK_NAME);
-        if (!lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
-            log.info("Skip current synchronize due to trying lock failed, may other odc-server node is handling");
+        List<UserTaskInstanceEntity> entities = approvalPermissionService.listApprovableExternalInstances();
+        releaseIdleExecutors(
+                entities.stream().map(UserTaskInstanceEntity::getExternalApprovalId).collect(Collectors.toSet()));
+        if (CollectionUtils.isEmpty(entities)) {
             return;
         }
+        // instances of a shard are listed again under the lock, they may be settled by another node since
+        // this listing
+        Set<Integer> pendingShards =
+                entities.stream().map(e -> shardOf(e.getFlowInstanceId())).collect(Collectors.toSet());
+        // shuffle to make different nodes start from different shards
+        List<Integer> shards = new ArrayList<>(pendingShards);
+        Collections.shuffle(shards);
+        ThreadPoolExecutor executor = getShardExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Integer shard : shards) {
+            futures.add(executor.submit(() -> {
+                Lock lock = jdbcLockRegistry.obtain(LOCK_NAME + "_" + shard);
+                if (!lock.tryLock()) {
+                    log.debug("Skip synchronizing shard due to trying lock failed, shard={}", shard);
+                    return null;
+                }
+                try {
+                    syncShard(approvalPermissionService.listApprovableExternalInstances(shard,
+                            Math.max(shardCount, 1)));
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            }));
+        }
         try {
-            List<UserTaskInstanceEntity> entities = approvalPermissionService.listApprovableExternalInstances();
-            if (CollectionUtils.isEmpty(entities)) {
-                return;
-            }
-            Set<Long> flowInstanceIds =
-                    entities.stream().map(UserTaskInstanceEntity::getFlowInstanceId).collect(Collectors.toSet());
-            Map<Long, ProcessInstance> flowInstanceId2ProcessInstance =
-                    getFlowInstanceId2ProcessInstance(flowInstanceIds);
-            entities.forEach(entity -> {
-                ProcessInstance processInstance;
-                TemplateVariables variables = new TemplateVariables();
+            for (Future<?> future : futures) {
                 try {
-                    processInstance = flowInstanceId2ProcessInstance.get(entity.getFlowInstanceId());
-                    variables = FlowTaskUtil.getTemplateVariables(processInstance.getProcessVariables());
-                    variables.setAttribute(Variable.PROCESS_INSTANCE_ID, entity.getExternalFlowInstanceId());
-                    update(entity.getFlowInstanceId(), entity.getExternalApprovalId(), processInstance, variables);
-                } catch (Exception e) {
-                    log.warn(
-                            "Failed to synchronize external approval status, flowInstanceId={}, integrationId={}, externalProcessInstanceId={}, variables={}",
-                            entity.getFlowInstanceId(), entity.getExternalApprovalId(),
-                            entity.getExternalFlowInstanceId(), variables, e);
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.warn("Failed to synchronize external approval status of a shard", e.getCause());
                 }
-            });
-        } finally {
-            lock.unlock();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+    }
+
+    private void syncShard(List<UserTaskInstanceEntity> entities) throws InterruptedException {
+        long now = clock.millis();
+        List<UserTaskInstanceEntity> dueEntities = entities.stream()
+                .filter(e -> e.getExternalNextPollTime() == null || e.getExternalNextPollTime().getTime() <= now)
+                .collect(Collectors.toList());
+        if (dueEntities.isEmpty()) {
+            return;
+        }
+        Map<Long, ProcessInstance> flowInstanceId2ProcessInstance = getFlowInstanceId2ProcessInstance(
+                dueEntities.stream().map(UserTaskInstanceEntity::getFlowInstanceId).collect(Collectors.toSet()));
+        Map<Long, ApprovalProperties> integrationId2Properties = new HashMap<>();
+        List<StatusQuery> queries = new ArrayList<>();
+        for (UserTaskInstanceEntity entity : dueEntities) {
+            TemplateVariables variables = new TemplateVariables();
+            try {
+                ApprovalProperties properties = integrationId2Properties.computeIfAbsent(
+                        entity.getExternalApprovalId(),
+                        id -> (ApprovalProperties) integrationService.getIntegrationProperties(id));
+                ProcessInstance processInstance = flowInstanceId2ProcessInstance.get(entity.getFlowInstanceId());
+                variables = FlowTaskUtil.getTemplateVariables(processInstance.getProcessVariables());
+                variables.setAttribute(Variable.PROCESS_INSTANCE_ID, entity.getExternalFlowInstanceId());
+                TemplateVariables finalVariables = variables;
+                Future<ApprovalStatus> future = getExecutor(entity.getExternalApprovalId())
+                        .submit(() -> approvalClient.status(properties, finalVariables));
+                queries.add(new StatusQuery(entity, processInstance, properties, variables, future));
+            } catch (RejectedExecutionException e) {
+                log.debug("Too many pending status queries, defer to the next round, flowInstanceId={}, "
+                        + "integrationId={}", entity.getFlowInstanceId(), entity.getExternalApprovalId());
+            } catch (Exception e) {
+                backoff(entity);
+                logFailure(entity, variables, e);
+            }
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(statusTimeoutSeconds);
+        for (StatusQuery query : queries) {
+            UserTaskInstanceEntity entity = query.entity;
+            try {
+                long timeout = Math.max(0, deadline - System.currentTimeMillis());
+                ApprovalStatus status = query.future.get(timeout, TimeUnit.MILLISECONDS);
+                update(entity, status, query.processInstance, query.properties, query.variables);
+            } catch (InterruptedException e) {
+                queries.forEach(q -> q.future.cancel(true));
+                throw e;
+            } catch (TimeoutException e) {
+                query.future.cancel(true);
+                backoff(entity);
+                log.warn("Query external approval status timeout, flowInstanceId={}, integrationId={}, "
+                        + "externalProcessInstanceId={}", entity.getFlowInstanceId(),
+                        entity.getExternalApprovalId(), entity.getExternalFlowInstanceId());
+            } catch (Exception e) {
+                backoff(entity);
+                logFailure(entity, query.variables, e);
+            }
         }
     }
 
-    private void update(Long flowInstanceId, Long externalApprovalId, ProcessInstance processInstance,
-            TemplateVariables variables) throws IOException {
-        ApprovalProperties properties =
-                (ApprovalProperties) integrationService.getIntegrationProperties(externalApprovalId);
-        ApprovalStatus status = approvalClient.status(properties, variables);
+    private void update(UserTaskInstanceEntity entity, ApprovalStatus status, ProcessInstance processInstance,
+            ApprovalProperties properties, TemplateVariables variables) throws IOException {
+        Long flowInstanceId = entity.getFlowInstanceId();
         switch (status) {
             case APPROVED:
                 flowInstanceService.approve(flowInstanceId, "Approved by external approval service", true);
@@ -141,7 +264,86 @@ public class ApprovalSynchronizer {
         if (new Date().after(approvalExpireTime)) {
             approvalClient.cancel(properties, variables);
             flowInstanceService.cancel(flowInstanceId, true);
+            return;
+        }
+        backoff(entity);
+    }
+
+    /**
+     * The n-th continuous poll without any change delays the next poll for 2^(n-1) intervals, which is
+     * limited by max backoff
+     */
+    private void backoff(UserTaskInstanceEntity entity) {
+        int unchangedTimes = entity.getExternalPollUnchangedTimes() + 1;
+        long delayMillis = Math.min(
+                TimeUnit.SECONDS.toMillis(SYNCHRONIZE_INTERVAL_SECONDS) << Math.min(unchangedTimes - 1,
+                        MAX_BACKOFF_SHIFT),
+                TimeUnit.SECONDS.toMillis(Math.max(maxBackoffSeconds, SYNCHRONIZE_INTERVAL_SECONDS)));
+        // make sure the instance is polled in the round right after the delay
+        Date nextPollTime = new Date(clock.millis() + delayMillis - 1000L);
+        try {
+            approvalPermissionService.updateExternalPollState(entity.getId(), unchangedTimes, nextPollTime);
+        } catch (Exception e) {
+            log.warn("Failed to save external approval poll state, flowInstanceId={}", entity.getFlowInstanceId(),
+                    e);
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor(Long integrationId) {
+        return integrationId2Executor.computeIfAbsent(integrationId, id -> {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrencyPerIntegration,
+                    concurrencyPerIntegration, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(Math.max(queueCapacityPerIntegration, 1)),
+                    new ThreadFactoryBuilder().setNameFormat("approval-sync-" + id + "-%d").setDaemon(true)
+                            .build());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    /**
+     * Executors of integrations which have no pending instance any more are shut down, eg. the
+     * integration is deleted or disabled
+     */
+    private void releaseIdleExecutors(Set<Long> activeIntegrationIds) {
+        integrationId2Executor.entrySet().removeIf(entry -> {
+            if (activeIntegrationIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().shutdown();
+            return true;
+        });
+    }
+
+    private ThreadPoolExecutor getShardExecutor() {
+        if (shardExecutor == null) {
+            synchronized (this) {
+                if (shardExecutor == null) {
+                    int poolSize = Math.max(shardCount, 1);
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                                    .setNameFormat("approval-sync-shard-%d").setDaemon(true).build());
+                    executor.allowCoreThreadTimeOut(true);
+                    shardExecutor = executor;
+                }
+            }
         }
+        return shardExecutor;
+    }
+
+    /**
+     * the same as the shard filter of
+     * {@link ApprovalPermissionService#listApprovableExternalInstances(int, int)}
+     */
+    private int shardOf(Long flowInstanceId) {
+        return (int) Math.floorMod(flowInstanceId, (long) Math.max(shardCount, 1));
+    }
+
+    private void logFailure(UserTaskInstanceEntity entity, TemplateVariables variables, Exception e) {
+        log.warn(
+                "Failed to synchronize external approval status, flowInstanceId={}, integrationId={}, externalProcessInstanceId={}, variables={}",
+                entity.getFlowInstanceId(), entity.getExternalApprovalId(),
+                entity.getExternalFlowInstanceId(), variables, e);
     }
 
     private Map<Long, ProcessInstance> getFlowInstanceId2ProcessInstance(Collection<Long> flowInstanceIds) {
@@ -161,4 +363,21 @@ public class ApprovalSynchronizer {
         return map;
     }
 
+    private static class StatusQuery {
+        private final UserTaskInstanceEntity entity;
+        private final ProcessInstance processInstance;
+        private final ApprovalProperties properties;
+        private final TemplateVariables variables;
+        private final Future<ApprovalStatus> future;
+
+        StatusQuery(UserTaskInstanceEntity entity, ProcessInstance processInstance, ApprovalProperties properties,
+                TemplateVariables variables, Future<ApprovalStatus> future) {
+            this.entity = entity;
+            this.processInstance = processInstance;
+            this.properties = properties;
+            this.variables = variables;
+            this.future = future;
+        }
+    }
+
 }
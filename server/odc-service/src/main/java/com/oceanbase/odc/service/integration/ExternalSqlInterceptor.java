@@ -20,6 +20,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,15 +31,16 @@ import com.oceanbase.odc.common.json.JsonUtils;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.shared.constant.OrganizationType;
+import com.oceanbase.odc.core.shared.exception.NotFoundException;
 import com.oceanbase.odc.core.shared.exception.UnexpectedException;
 import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
-import com.oceanbase.odc.metadb.integration.IntegrationEntity;
 import com.oceanbase.odc.service.common.util.SqlUtils;
 import com.oceanbase.odc.service.config.SystemConfigService;
 import com.oceanbase.odc.service.config.model.Configuration;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
 import com.oceanbase.odc.service.integration.client.SqlInterceptorClient;
+import com.oceanbase.odc.service.integration.client.SqlInterceptorClient.VerdictKey;
 import com.oceanbase.odc.service.integration.model.SqlCheckStatus;
 import com.oceanbase.odc.service.integration.model.SqlInterceptorProperties;
 import com.oceanbase.odc.service.integration.model.TemplateVariables;
@@ -76,6 +79,8 @@ public class ExternalSqlInterceptor extends BaseTimeConsumingInterceptor {
     private SqlConsoleRuleService sqlConsoleRuleService;
 
     private static final String ODC_SITE_URL = "odc.site.url";
+    private static final String CHECK_RESULT_KEY = "EXTERNAL_SQL_CHECK_RESULT";
+    private static final String RULESET_ID_KEY = "EXTERNAL_SQL_CHECK_RULESET_ID";
 
     @Override
     public boolean doPreHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
@@ -90,15 +95,42 @@ public class ExternalSqlInterceptor extends BaseTimeConsumingInterceptor {
             return true;
         }
         Long externalSqlInterceptorId = externalSqlInterceptorIdOpt.get().longValue();
-        Optional<IntegrationEntity> interceptorOpt =
-                integrationService.findIntegrationById(externalSqlInterceptorId);
-        if (!interceptorOpt.isPresent()) {
+        SqlInterceptorProperties properties;
+        try {
+            // properties are cached and evicted when the integration is updated
+            properties = (SqlInterceptorProperties) integrationService.getIntegrationProperties(
+                    externalSqlInterceptorId);
+        } catch (NotFoundException e) {
             return true;
         }
-        SqlInterceptorProperties properties =
-                (SqlInterceptorProperties) integrationService.getIntegrationProperties(interceptorOpt.get().getId());
         TemplateVariables variables = buildTemplateVariables(request.getSql(), session);
-        SqlCheckStatus result = sqlInterceptorClient.check(properties, variables);
+        ConnectionConfig connection = (ConnectionConfig) ConnectionSessionUtil.getConnectionConfig(session);
+        VerdictKey key = new VerdictKey(properties, authenticationFacade.currentUserId(),
+                connection == null ? null : connection.getId(), request.getSql().trim());
+        // remote check runs concurrently with the other interceptors, see doAwaitPreHandle
+        context.put(CHECK_RESULT_KEY, sqlInterceptorClient.checkAsync(properties, variables, key));
+        context.put(RULESET_ID_KEY, ruleSetId);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected boolean doAwaitPreHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
+            @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {
+        CompletableFuture<SqlCheckStatus> future = (CompletableFuture<SqlCheckStatus>) context.get(CHECK_RESULT_KEY);
+        if (future == null) {
+            return true;
+        }
+        Long ruleSetId = (Long) context.get(RULESET_ID_KEY);
+        SqlCheckStatus result;
+        try {
+            result = future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
         switch (result) {
             case IN_WHITE_LIST:
                 return true;
@@ -126,6 +158,11 @@ public class ExternalSqlInterceptor extends BaseTimeConsumingInterceptor {
             @NonNull ConnectionSession session, @NonNull Map<String, Object> context) {}
 
 
+    @Override
+    protected boolean isPreHandleAsync() {
+        return true;
+    }
+
     @Override
     protected String getExecuteStageName() {
         return SqlExecuteStages.EXTERNAL_SQL_INTERCEPTION;
@@ -136,6 +173,7 @@ public class ExternalSqlInterceptor extends BaseTimeConsumingInterceptor {
         // set SQL content
         variables.setAttribute(Variable.SQL_CONTENT, sql);
         // set SQL content json array
+        // not the statements split by the console, which may keep comments or not be split at all
         List<String> statements = SqlUtils.split(session, sql, true);
         variables.setAttribute(Variable.SQL_CONTENT_JSON_ARRAY, JsonUtils.toJson(statements));
         // set user related variables
@@ -212,6 +212,7 @@ public class IntegrationService {
         }
         applicationContext.publishEvent(IntegrationEvent.createPreDelete(new IntegrationConfig(entity)));
         integrationRepository.delete(entity);
+        updateCache(entity.getId());
         log.info("An external integration has been deleted, integration: {}", entity);
         return config;
     }
@@ -268,6 +269,7 @@ public class IntegrationService {
                     .publishEvent(IntegrationEvent.createPreUpdate(new IntegrationConfig(entity), preConfig,
                             entity.getSalt()));
             integrationRepository.saveAndFlush(entity);
+            updateCache(entity.getId());
             log.info("An external integration has been updated, integration: {}", entity);
         }
         return new IntegrationConfig(entity);
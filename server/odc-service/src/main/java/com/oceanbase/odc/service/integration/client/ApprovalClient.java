@@ -19,12 +19,14 @@ import javax.annotation.PostConstruct;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.google.common.base.MoreObjects;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
 import com.oceanbase.odc.core.shared.exception.ExternalServiceError;
@@ -63,6 +65,20 @@ public class ApprovalClient {
     @Value("${odc.integration.approval.socket-timeout-seconds:30}")
     private int socketTimeoutSeconds;
 
+    /**
+     * approval statuses are synchronized concurrently, the default 2 connections per route of http
+     * client is not enough
+     */
+    @Value("${odc.integration.approval.max-concurrent-requests:64}")
+    private int maxConcurrentRequests;
+
+    /**
+     * statuses are polled periodically, a status query waiting longer than this is pointless and only
+     * holds a pooled connection, which limits the timeouts configured by the integration
+     */
+    @Value("${odc.integration.approval.status-request-timeout-seconds:10}")
+    private int statusRequestTimeoutSeconds;
+
     @PostConstruct
     public void init() {
         RequestConfig requestConfig = RequestConfig.custom()
@@ -72,6 +88,8 @@ public class ApprovalClient {
                 .build();
         this.httpClient = HttpClientBuilder.create()
                 .setDefaultRequestConfig(requestConfig)
+                .setMaxConnTotal(maxConcurrentRequests)
+                .setMaxConnPerRoute(maxConcurrentRequests)
                 .build();
         log.debug("Approval integration HTTP client initialized, requestConfig={}", requestConfig);
     }
@@ -126,6 +144,7 @@ public class ApprovalClient {
         } catch (Exception e) {
             throw new UnexpectedException("Build request failed: " + e.getMessage());
         }
+        limitTimeout(request, statusRequestTimeoutSeconds);
         OdcIntegrationResponse response;
         try {
             response = httpClient.execute(request, new OdcIntegrationResponseHandler());
@@ -193,6 +212,25 @@ public class ApprovalClient {
         return variables.process(expression);
     }
 
+    private static void limitTimeout(HttpUriRequest request, int timeoutSeconds) {
+        if (!(request instanceof HttpRequestBase) || timeoutSeconds <= 0) {
+            return;
+        }
+        HttpRequestBase requestBase = (HttpRequestBase) request;
+        RequestConfig origin = MoreObjects.firstNonNull(requestBase.getConfig(), RequestConfig.DEFAULT);
+        int timeoutMillis = timeoutSeconds * 1000;
+        requestBase.setConfig(RequestConfig.copy(origin)
+                .setConnectionRequestTimeout(limit(origin.getConnectionRequestTimeout(), timeoutMillis))
+                .setConnectTimeout(limit(origin.getConnectTimeout(), timeoutMillis))
+                .setSocketTimeout(limit(origin.getSocketTimeout(), timeoutMillis))
+                .build());
+    }
+
+    private static int limit(int timeoutMillis, int maxTimeoutMillis) {
+        // zero or negative timeout means infinite
+        return timeoutMillis <= 0 ? maxTimeoutMillis : Math.min(timeoutMillis, maxTimeoutMillis);
+    }
+
     private void checkResponse(OdcIntegrationResponse response, String expression) {
         boolean valid;
         try {
@@ -15,7 +15,15 @@
  */
 package com.oceanbase.odc.service.integration.client;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
@@ -25,6 +33,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
 import com.oceanbase.odc.core.shared.Verify;
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
 import com.oceanbase.odc.core.shared.exception.ExternalServiceError;
@@ -41,6 +53,7 @@ import com.oceanbase.odc.service.integration.model.TemplateVariables;
 import com.oceanbase.odc.service.integration.model.TemplateVariables.Variable;
 import com.oceanbase.odc.service.integration.util.EncryptionUtil;
 
+import lombok.Data;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
@@ -62,6 +75,18 @@ public class SqlInterceptorClient {
     @Value("${odc.integration.sql-interceptor.socket-timeout-seconds:30}")
     private int socketTimeoutSeconds;
 
+    @Value("${odc.integration.sql-interceptor.max-concurrent-requests:32}")
+    private int maxConcurrentRequests;
+
+    /**
+     * ttl of the cached check results, 0 means check results will not be cached
+     */
+    @Value("${odc.integration.sql-interceptor.verdict-cache-ttl-seconds:60}")
+    private long verdictCacheTtlSeconds;
+
+    private ThreadPoolExecutor checkExecutor;
+    private Cache<VerdictKey, SqlCheckStatus> verdictCache;
+
     @PostConstruct
     public void init() {
         RequestConfig requestConfig = RequestConfig.custom()
@@ -71,10 +96,53 @@ public class SqlInterceptorClient {
                 .build();
         this.httpClient = HttpClientBuilder.create()
                 .setDefaultRequestConfig(requestConfig)
+                .setMaxConnTotal(maxConcurrentRequests)
+                .setMaxConnPerRoute(maxConcurrentRequests)
                 .build();
+        // run in caller thread if too many requests are waiting
+        this.checkExecutor = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(maxConcurrentRequests * 4),
+                new ThreadFactoryBuilder().setNameFormat("sql-interceptor-check-%d").setDaemon(true).build(),
+                new CallerRunsPolicy());
+        this.checkExecutor.allowCoreThreadTimeOut(true);
+        this.verdictCache = Caffeine.newBuilder().maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(verdictCacheTtlSeconds, 0))).build();
         log.debug("SQL interceptor integration HTTP client initialized, requestConfig={}", requestConfig);
     }
 
+    @PreDestroy
+    public void destroy() {
+        ExecutorUtils.gracefulShutdown(checkExecutor, "sqlInterceptorCheckExecutor", 5);
+    }
+
+    /**
+     * Check the status of SQL content asynchronously, the result will be cached for the same sql
+     * executed by the same user on the same datasource
+     *
+     * @param key Key of the check result, null means the result will not be cached
+     * @return Future of the check result {@link SqlCheckStatus}
+     */
+    public CompletableFuture<SqlCheckStatus> checkAsync(@NonNull SqlInterceptorProperties properties,
+            TemplateVariables variables, VerdictKey key) {
+        if (key != null && verdictCacheTtlSeconds > 0) {
+            SqlCheckStatus status = verdictCache.getIfPresent(key);
+            if (status != null) {
+                return CompletableFuture.completedFuture(status);
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            SqlCheckStatus status = check(properties, variables);
+            if (key != null && verdictCacheTtlSeconds > 0) {
+                verdictCache.put(key, status);
+            }
+            return status;
+        }, checkExecutor);
+    }
+
+    public void invalidateVerdicts() {
+        verdictCache.invalidateAll();
+    }
+
     /**
      * Check the status of SQL content
      *
@@ -118,4 +186,17 @@ public class SqlInterceptorClient {
             throw new UnexpectedException("Extract SQL check result failed: " + e.getMessage());
         }
     }
+
+    /**
+     * Key of a check result, check results are reused only if the properties of the interceptor remain
+     * the same
+     */
+    @Data
+    public static class VerdictKey {
+        private final SqlInterceptorProperties properties;
+        private final Long userId;
+        private final Long connectionId;
+        private final String sql;
+    }
+
 }
@@ -39,6 +39,7 @@ import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
 import com.oceanbase.odc.service.integration.IntegrationEvent;
 import com.oceanbase.odc.service.integration.IntegrationEventHandler;
 import com.oceanbase.odc.service.integration.IntegrationService;
+import com.oceanbase.odc.service.integration.client.SqlInterceptorClient;
 import com.oceanbase.odc.service.integration.model.IntegrationType;
 import com.oceanbase.odc.service.regulation.ruleset.RuleService;
 import com.oceanbase.odc.service.regulation.ruleset.SqlConsoleRuleService;
@@ -58,6 +59,8 @@ public class SqlInterceptorEventHandler implements IntegrationEventHandler {
     private SqlConsoleRuleService sqlConsoleRuleService;
     @Autowired
     private EnvironmentService environmentService;
+    @Autowired
+    private SqlInterceptorClient sqlInterceptorClient;
 
     @Override
     public boolean support(IntegrationEvent integrationEvent) {
@@ -70,6 +73,7 @@ public class SqlInterceptorEventHandler implements IntegrationEventHandler {
     @Override
     public void preDelete(IntegrationEvent integrationEvent) {
         usageCheck(integrationEvent.getCurrentConfig().getId(), AuditEventAction.DELETE_INTEGRATION);
+        sqlInterceptorClient.invalidateVerdicts();
     }
 
     @Override
@@ -77,6 +81,7 @@ public class SqlInterceptorEventHandler implements IntegrationEventHandler {
         if (!integrationEvent.getCurrentConfig().getEnabled() && integrationEvent.getPreConfig().getEnabled()) {
             usageCheck(integrationEvent.getCurrentConfig().getId(), AuditEventAction.DISABLE_INTEGRATION);
         }
+        sqlInterceptorClient.invalidateVerdicts();
     }
 
     private void usageCheck(Long integrationId, AuditEventAction auditEventAction) {
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor;
+
+import java.util.function.ToIntFunction;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.druid.stat.DruidDataSourceStatManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+
+/**
+ * {@link DruidDataSourceMetrics}, exposes the connection pool status of all living
+ * {@link DruidDataSource}s. Datasources are created for each connection session, the values are
+ * aggregated to avoid a time series for every session.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class DruidDataSourceMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "odc.datasource.druid.";
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "count", this, m -> sum(d -> 1))
+                .description("Count of living druid datasources").strongReference(true).register(registry);
+        Gauge.builder(METRIC_PREFIX + "connections", this, m -> sum(DruidDataSource::getActiveCount))
+                .tag("state", "active").strongReference(true).register(registry);
+        Gauge.builder(METRIC_PREFIX + "connections", this, m -> sum(DruidDataSource::getPoolingCount))
+                .tag("state", "idle").strongReference(true).register(registry);
+        Gauge.builder(METRIC_PREFIX + "wait.threads", this, m -> sum(DruidDataSource::getWaitThreadCount))
+                .description("Count of threads waiting for a connection").strongReference(true)
+                .register(registry);
+    }
+
+    private double sum(ToIntFunction<DruidDataSource> function) {
+        long sum = 0;
+        // instances are registered and unregistered with the class locked
+        synchronized (DruidDataSourceStatManager.class) {
+            for (DruidDataSource dataSource : DruidDataSourceStatManager.getDruidDataSourceInstances()) {
+                sum += function.applyAsInt(dataSource);
+            }
+        }
+        return sum;
+    }
+
+}
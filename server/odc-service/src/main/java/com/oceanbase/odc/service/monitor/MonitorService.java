@@ -18,6 +18,7 @@ package com.oceanbase.odc.service.monitor;
 import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.oceanbase.odc.core.authority.util.SkipAuthorize;
@@ -42,6 +43,17 @@ public class MonitorService {
      * 内存转换的进率
      */
     private static long MEM_RADIX = 1024;
+    @Autowired
+    private PrometheusTextMeterRegistry meterRegistry;
+
+    /**
+     * 以 prometheus 文本格式导出 ODC 的监控指标
+     *
+     * @return prometheus 文本格式的指标
+     */
+    public String scrapeMetrics() {
+        return meterRegistry.scrape();
+    }
 
     /**
      * 获取操作系统的名称
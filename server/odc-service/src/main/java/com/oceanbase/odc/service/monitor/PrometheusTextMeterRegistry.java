@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.cumulative.CumulativeDistributionSummary;
+import io.micrometer.core.instrument.cumulative.CumulativeTimer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.pause.PauseDetector;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link PrometheusTextMeterRegistry}, a {@link SimpleMeterRegistry} which is able to render all
+ * meters in the prometheus text exposition format, so that the meters can be scraped without any
+ * prometheus client library. Histograms never roll over, the bucket counts are cumulative since the
+ * start of the process as prometheus requires.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class PrometheusTextMeterRegistry extends SimpleMeterRegistry {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    public PrometheusTextMeterRegistry() {
+        this(Clock.SYSTEM);
+    }
+
+    public PrometheusTextMeterRegistry(Clock clock) {
+        super(SimpleConfig.DEFAULT, clock);
+        config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .expiry(Duration.ofDays(1825))
+                        .bufferLength(1)
+                        .build().merge(config);
+            }
+        });
+    }
+
+    /**
+     * Percentile histograms are ignored by {@link SimpleMeterRegistry}, as buckets are aggregable in
+     * prometheus, they should be published
+     */
+    @Override
+    protected Timer newTimer(Meter.Id id, DistributionStatisticConfig config, PauseDetector pauseDetector) {
+        return new CumulativeTimer(id, clock, config, pauseDetector, getBaseTimeUnit(), true);
+    }
+
+    @Override
+    protected DistributionSummary newDistributionSummary(Meter.Id id, DistributionStatisticConfig config,
+            double scale) {
+        return new CumulativeDistributionSummary(id, clock, config, scale, true);
+    }
+
+    public String scrape() {
+        // samples of a metric family must be grouped, meters with the same name but different tags are
+        // rendered into one family
+        Map<String, StringBuilder> name2Family = new TreeMap<>();
+        for (Meter meter : getMeters()) {
+            String name = sanitize(meter.getId().getName());
+            meter.use(
+                    gauge -> writeGauge(name2Family, name, gauge, gauge.value()),
+                    counter -> writeCounter(name2Family, name, counter, counter.count()),
+                    timer -> writeTimer(name2Family, name, timer),
+                    summary -> writeSummary(name2Family, name, summary),
+                    longTaskTimer -> writeLongTaskTimer(name2Family, name, longTaskTimer),
+                    timeGauge -> writeGauge(name2Family, name + "_seconds", timeGauge,
+                            timeGauge.value(TimeUnit.SECONDS)),
+                    functionCounter -> writeCounter(name2Family, name, functionCounter, functionCounter.count()),
+                    functionTimer -> writeFunctionTimer(name2Family, name, functionTimer),
+                    other -> writeMeter(name2Family, name, other));
+        }
+        return String.join("", name2Family.values());
+    }
+
+    private void writeGauge(Map<String, StringBuilder> name2Family, String name, Meter meter, double value) {
+        writeSample(getFamily(name2Family, name, "gauge", meter), name, meter, null, value);
+    }
+
+    private void writeCounter(Map<String, StringBuilder> name2Family, String name, Meter meter, double count) {
+        String counterName = name.endsWith("_total") ? name : name + "_total";
+        writeSample(getFamily(name2Family, counterName, "counter", meter), counterName, meter, null, count);
+    }
+
+    private void writeTimer(Map<String, StringBuilder> name2Family, String name, Timer timer) {
+        String timerName = name + "_seconds";
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        writeHistogram(name2Family, timerName, timer, snapshot, bucket -> bucket.bucket(TimeUnit.SECONDS),
+                snapshot.total(TimeUnit.SECONDS));
+        writeGauge(name2Family, timerName + "_max", timer, snapshot.max(TimeUnit.SECONDS));
+    }
+
+    private void writeSummary(Map<String, StringBuilder> name2Family, String name, DistributionSummary summary) {
+        HistogramSnapshot snapshot = summary.takeSnapshot();
+        writeHistogram(name2Family, name, summary, snapshot, CountAtBucket::bucket, snapshot.total());
+        writeGauge(name2Family, name + "_max", summary, snapshot.max());
+    }
+
+    private void writeLongTaskTimer(Map<String, StringBuilder> name2Family, String name, LongTaskTimer timer) {
+        writeGauge(name2Family, name + "_active_count", timer, timer.activeTasks());
+        writeGauge(name2Family, name + "_duration_seconds", timer, timer.duration(TimeUnit.SECONDS));
+    }
+
+    private void writeFunctionTimer(Map<String, StringBuilder> name2Family, String name, FunctionTimer timer) {
+        String timerName = name + "_seconds";
+        StringBuilder family = getFamily(name2Family, timerName, "summary", timer);
+        writeSample(family, timerName + "_count", timer, null, timer.count());
+        writeSample(family, timerName + "_sum", timer, null, timer.totalTime(TimeUnit.SECONDS));
+    }
+
+    private void writeMeter(Map<String, StringBuilder> name2Family, String name, Meter meter) {
+        StringBuilder family = getFamily(name2Family, name, "untyped", meter);
+        for (Measurement measurement : meter.measure()) {
+            writeSample(family, name + "_" + measurement.getStatistic().getTagValueRepresentation(), meter, null,
+                    measurement.getValue());
+        }
+    }
+
+    /**
+     * Meters without histogram buckets are exposed as summaries with count and sum only
+     */
+    private void writeHistogram(Map<String, StringBuilder> name2Family, String name, Meter meter,
+            HistogramSnapshot snapshot, ToDoubleFunction<CountAtBucket> bucketBound, double total) {
+        StringBuilder family;
+        if (snapshot.histogramCounts().length == 0) {
+            family = getFamily(name2Family, name, "summary", meter);
+        } else {
+            family = getFamily(name2Family, name, "histogram", meter);
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                writeSample(family, name + "_bucket", meter, format(bucketBound.applyAsDouble(bucket)),
+                        bucket.count());
+            }
+            writeSample(family, name + "_bucket", meter, "+Inf", snapshot.count());
+        }
+        writeSample(family, name + "_count", meter, null, snapshot.count());
+        writeSample(family, name + "_sum", meter, null, total);
+    }
+
+    private StringBuilder getFamily(Map<String, StringBuilder> name2Family, String name, String type, Meter meter) {
+        return name2Family.computeIfAbsent(name, k -> {
+            StringBuilder builder = new StringBuilder();
+            String description = meter.getId().getDescription();
+            if (description != null) {
+                builder.append("# HELP ").append(name).append(' ').append(escape(description, false)).append('\n');
+            }
+            return builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        });
+    }
+
+    private void writeSample(StringBuilder builder, String name, Meter meter, String le, double value) {
+        builder.append(name);
+        List<Tag> tags = meter.getId().getTags();
+        if (!tags.isEmpty() || le != null) {
+            builder.append('{');
+            boolean first = true;
+            for (Tag tag : tags) {
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                builder.append(sanitize(tag.getKey())).append("=\"").append(escape(tag.getValue(), true)).append('"');
+            }
+            if (le != null) {
+                builder.append(first ? "" : ",").append("le=\"").append(le).append('"');
+            }
+            builder.append('}');
+        }
+        builder.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    private static String sanitize(String name) {
+        String sanitized = name.replaceAll("[^a-zA-Z0-9_:]", "_");
+        return Character.isDigit(sanitized.charAt(0)) ? "_" + sanitized : sanitized;
+    }
+
+    private static String escape(String value, boolean quoted) {
+        String escaped = value.replace("\\", "\\\\").replace("\n", "\\n");
+        return quoted ? escaped.replace("\"", "\\\"") : escaped;
+    }
+
+}
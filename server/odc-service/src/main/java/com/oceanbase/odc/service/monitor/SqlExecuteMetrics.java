@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.common.util.TraceStage;
+import com.oceanbase.odc.common.util.TraceWatch;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link SqlExecuteMetrics}, records the stages of a finished sql execution into timers, one timer
+ * for each stage, dialect type and sql type, so that the latency distribution of every stage can be
+ * observed.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+@Component
+public class SqlExecuteMetrics {
+
+    public static final String STAGE_TIMER_NAME = "odc.sql.execute.stage";
+    private static final Duration MIN_EXPECTED_DURATION = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofMinutes(10);
+    private final MeterRegistry registry;
+
+    public SqlExecuteMetrics() {
+        this(Metrics.globalRegistry);
+    }
+
+    public SqlExecuteMetrics(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Record all stopped stages of the {@link TraceWatch}, including the sub stages. Stages not stopped
+     * yet or without a name are ignored.
+     */
+    public void record(@NonNull TraceWatch traceWatch, DialectType dialectType, String sqlType) {
+        try {
+            Tags tags = Tags.of("dialect", dialectType == null ? "UNKNOWN" : dialectType.name(),
+                    "sql_type", StringUtils.isBlank(sqlType) ? "UNKNOWN" : sqlType);
+            List<TraceStage> stages;
+            synchronized (traceWatch.getStageList()) {
+                stages = new ArrayList<>(traceWatch.getStageList());
+            }
+            stages.forEach(stage -> record(stage, tags));
+        } catch (Exception e) {
+            log.warn("Failed to record sql execute metrics, traceId={}", traceWatch.getId(), e);
+        }
+    }
+
+    private void record(TraceStage stage, Tags tags) {
+        if (!stage.isStopped() || StringUtils.isBlank(stage.getMessage())) {
+            return;
+        }
+        Timer.builder(STAGE_TIMER_NAME)
+                .tags(tags).tag("stage", stage.getMessage())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED_DURATION)
+                .maximumExpectedValue(MAX_EXPECTED_DURATION)
+                .register(registry)
+                .record(stage.getTime(TimeUnit.MICROSECONDS), TimeUnit.MICROSECONDS);
+        new ArrayList<>(stage.getSubStageList()).forEach(subStage -> record(subStage, tags));
+    }
+
+}
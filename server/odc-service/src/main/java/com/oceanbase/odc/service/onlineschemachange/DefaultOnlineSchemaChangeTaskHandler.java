@@ -70,6 +70,7 @@ import com.oceanbase.odc.service.onlineschemachange.model.OnlineSchemaChangeSqlT
 import com.oceanbase.odc.service.onlineschemachange.oms.openapi.ProjectOpenApiService;
 import com.oceanbase.odc.service.onlineschemachange.oms.request.ProjectControlRequest;
 import com.oceanbase.odc.service.onlineschemachange.pipeline.BaseCreateOmsProjectValve;
+import com.oceanbase.odc.service.onlineschemachange.pipeline.CopyTableDataValve;
 import com.oceanbase.odc.service.onlineschemachange.pipeline.DefaultLinkPipeline;
 import com.oceanbase.odc.service.onlineschemachange.pipeline.OscValveContext;
 import com.oceanbase.odc.service.onlineschemachange.pipeline.Pipeline;
@@ -132,6 +133,9 @@ public class DefaultOnlineSchemaChangeTaskHandler implements OnlineSchemaChangeT
         preparePipeline.setBasic(SpringContextUtil.getBean(BaseCreateOmsProjectValve.class));
         Map<LinkType, Pipeline> prepareLinks = new HashMap<>();
         prepareLinks.put(LinkType.OMS, preparePipeline);
+        Pipeline copyDataPipeline = new DefaultLinkPipeline();
+        copyDataPipeline.setBasic(SpringContextUtil.getBean(CopyTableDataValve.class));
+        prepareLinks.put(LinkType.ODC, copyDataPipeline);
         this.preparePipelineMap = Collections.unmodifiableMap(prepareLinks);
 
         Pipeline completePipeline = new DefaultLinkPipeline();
@@ -174,8 +178,9 @@ public class DefaultOnlineSchemaChangeTaskHandler implements OnlineSchemaChangeT
             prepareSchema(valveContext.getParameter(), valveContext.getTaskParameter(),
                     connectionSession, scheduleTaskId);
             valveContext.setConnectionSession(connectionSession);
-            valveContext.setLinkType(LinkType.OMS);
-            preparePipelineMap.get(LinkType.OMS).invoke(valveContext);
+            LinkType linkType = valveContext.getTaskParameter().getLinkType();
+            valveContext.setLinkType(linkType);
+            preparePipelineMap.get(linkType).invoke(valveContext);
 
         } catch (Exception e) {
             log.warn("Failed to start osc job with taskId={}.", scheduleTaskId, e);
@@ -213,6 +218,9 @@ public class DefaultOnlineSchemaChangeTaskHandler implements OnlineSchemaChangeT
         ScheduleTaskEntity scheduleTask = scheduleTaskService.nullSafeGetById(scheduleTaskId);
         OnlineSchemaChangeScheduleTaskParameters parameters = JsonUtils.fromJson(scheduleTask.getParametersJson(),
                 OnlineSchemaChangeScheduleTaskParameters.class);
+        if (parameters.getLinkType() == LinkType.ODC) {
+            SpringContextUtil.getBean(CopyTableDataValve.class).cancel(scheduleTaskId);
+        }
         completeHandler.onOscScheduleTaskCancel(parameters.getOmsProjectId(),
                 parameters.getUid(), scheduleId, scheduleTaskId);
     }
@@ -313,8 +321,18 @@ public class DefaultOnlineSchemaChangeTaskHandler implements OnlineSchemaChangeT
     private void continueComplete(Long scheduleId, Long scheduleTaskId) {
 
         OscValveContext valveContext = getOscValveContext(scheduleId, scheduleTaskId);
+        Pipeline completePipeline = completePipelineMap.get(valveContext.getTaskParameter().getLinkType());
+        if (completePipeline == null) {
+            // task is completed by the link itself, eg. odc link swaps table as soon as data catches up,
+            // unless the link has gone with the previous process of this server
+            if (SpringContextUtil.getBean(CopyTableDataValve.class).isOrphaned(valveContext.getScheduleTask())) {
+                log.warn("Link of schedule task has gone, schedule task id {}", scheduleTaskId);
+                failedOscTask(valveContext);
+            }
+            return;
+        }
         try {
-            completePipelineMap.get(LinkType.OMS).invoke(valveContext);
+            completePipeline.invoke(valveContext);
             if (valveContext.isSwapSucceedCallBack()) {
                 completeHandler.onOscScheduleTaskSuccess(valveContext.getTaskParameter().getOmsProjectId(),
                         valveContext.getTaskParameter().getUid(), valveContext.getSchedule().getId(),
@@ -20,6 +20,8 @@ import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Configuration;
 
+import com.oceanbase.odc.service.onlineschemachange.model.LinkType;
+
 import lombok.Data;
 
 /**
@@ -38,6 +40,14 @@ public class OnlineSchemaChangeProperties {
 
     private boolean enableFullVerify;
 
+    /**
+     * Link used to transfer data for new tasks, set to {@link LinkType#ODC} if oms is not deployed
+     */
+    private LinkType linkType = LinkType.OMS;
+
+    @NestedConfigurationProperty
+    private OdcLinkProperties odcLink = new OdcLinkProperties();
+
     @Data
     public static class OmsProperties {
         private String url;
@@ -45,4 +55,21 @@ public class OnlineSchemaChangeProperties {
         private String region;
     }
 
+    @Data
+    public static class OdcLinkProperties {
+        private int initialChunkSize = 1000;
+        private int minChunkSize = 100;
+        private int maxChunkSize = 50000;
+        /**
+         * Expected time cost of each chunk, chunk size is adjusted to approach it
+         */
+        private long chunkTargetMillis = 500;
+        private int catchUpMaxRounds = 10;
+        private long catchUpConvergedRows = 100;
+        /**
+         * Max count of tables copied at the same time on one odc server
+         */
+        private int maxConcurrentTasks = 4;
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Adjust the row count of next chunk by the latency of last chunk, so that every chunk takes about
+ * {@code targetMillis} no matter how wide the rows are or how busy the database is. The size grows
+ * or shrinks at most twice per chunk to avoid oscillating on a single slow or fast chunk.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+public class ChunkSizeTuner {
+
+    private static final double MAX_FACTOR = 2.0D;
+    private static final double MIN_FACTOR = 0.5D;
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetMillis;
+    private int chunkSize;
+
+    public ChunkSizeTuner(int initialChunkSize, int minChunkSize, int maxChunkSize, long targetMillis) {
+        Validate.isTrue(minChunkSize > 0, "MinChunkSize has to be positive");
+        Validate.isTrue(maxChunkSize >= minChunkSize, "MaxChunkSize can not be less than minChunkSize");
+        Validate.isTrue(targetMillis > 0, "TargetMillis has to be positive");
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetMillis = targetMillis;
+        this.chunkSize = clamp(initialChunkSize);
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Feed back the latency of a finished chunk
+     *
+     * @param rows row count of the finished chunk
+     * @param elapsedMillis time cost of the finished chunk
+     * @return chunk size for next chunk
+     */
+    public int feedback(long rows, long elapsedMillis) {
+        if (rows <= 0) {
+            return this.chunkSize;
+        }
+        double factor = (double) this.targetMillis / Math.max(elapsedMillis, 1L);
+        factor = Math.max(MIN_FACTOR, Math.min(MAX_FACTOR, factor));
+        // the last chunk of a table may be much smaller than the chunk size, scale by the actual rows
+        long next = Math.round(Math.min(rows, this.chunkSize) * factor);
+        if (rows < this.chunkSize && next < this.chunkSize) {
+            return this.chunkSize;
+        }
+        this.chunkSize = clamp(next);
+        return this.chunkSize;
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(this.minChunkSize, Math.min(this.maxChunkSize, size));
+    }
+
+}
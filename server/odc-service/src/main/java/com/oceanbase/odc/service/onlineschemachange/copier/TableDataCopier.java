@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.Validate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import com.oceanbase.odc.common.util.StringUtils;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TableDataCopier} copies rows from origin table to new table without any external data
+ * transfer service. It works in MySQL mode only and consists of three phases:
+ *
+ * <pre>
+ * 1. copy: rows are copied in key ranged chunks by {@code INSERT INTO ... SELECT}, the chunk size is
+ *    adjusted by {@link ChunkSizeTuner} according to the observed latency. The key range and the
+ *    checksum of origin rows taken before copying are recorded for each chunk;
+ * 2. catch up: neither trigger nor binlog is needed, every round compares the checksum of each
+ *    recorded range of origin table with the recorded one, only the changed ranges are diffed row by
+ *    row against new table, changed rows are copied again and vanished rows are deleted. Rounds stop
+ *    when the changed rows converge;
+ * 3. sync: a last round invoked by the cutover when writes on origin table are blocked, only the
+ *    ranges changed since the last round are diffed.
+ * </pre>
+ *
+ * Rows are never replaced in new table, a row that can not be inserted, e.g. violates a unique key
+ * added by the new table, leaves its range dirty. Dirty ranges are retried since the conflicting
+ * row may be fixed by a later range, and the copy fails if they are still dirty at the end.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+@Slf4j
+public class TableDataCopier {
+
+    private static final int DIRTY_RETRY_TIMES = 3;
+
+    private final JdbcOperations jdbcOperations;
+    private final TableDataCopyParameters parameters;
+    private final ChunkSizeTuner chunkSizeTuner;
+    private final String originTable;
+    private final String newTable;
+    private final String columns;
+    private final List<String> keyColumns;
+    /**
+     * 1-based indexes of key columns in the selected columns
+     */
+    private final int[] keyIndexesInRow;
+    private final int[] keyIndexesInKey;
+    private final String checksumExpression;
+    /**
+     * key ranges recorded by {@link #copy()}, they cover all keys from minimum to maximum
+     */
+    private final List<Chunk> chunks = new ArrayList<>();
+    @Setter
+    private LongConsumer progressListener;
+    @Getter
+    private volatile long copiedRowCount;
+    private volatile boolean cancelled;
+
+    public TableDataCopier(@NonNull JdbcOperations jdbcOperations, @NonNull TableDataCopyParameters parameters) {
+        Validate.isTrue(CollectionUtils.isNotEmpty(parameters.getColumnNames()), "ColumnNames can not be empty");
+        Validate.isTrue(CollectionUtils.isNotEmpty(parameters.getKeyColumnNames()), "KeyColumnNames can not be empty");
+        this.jdbcOperations = jdbcOperations;
+        this.parameters = parameters;
+        this.chunkSizeTuner = new ChunkSizeTuner(parameters.getInitialChunkSize(), parameters.getMinChunkSize(),
+                parameters.getMaxChunkSize(), parameters.getChunkTargetMillis());
+        this.originTable = qualify(parameters.getSchemaName(), parameters.getOriginTableName());
+        this.newTable = qualify(parameters.getSchemaName(), parameters.getNewTableName());
+        List<String> quotedColumns = quote(parameters.getColumnNames());
+        this.columns = String.join(", ", quotedColumns);
+        this.keyColumns = quote(parameters.getKeyColumnNames());
+        this.keyIndexesInRow = new int[keyColumns.size()];
+        this.keyIndexesInKey = new int[keyColumns.size()];
+        for (int i = 0; i < keyColumns.size(); i++) {
+            int index = parameters.getColumnNames().indexOf(parameters.getKeyColumnNames().get(i));
+            Validate.isTrue(index >= 0, "Key column is not copied, column=" + parameters.getKeyColumnNames().get(i));
+            this.keyIndexesInRow[i] = index + 1;
+            this.keyIndexesInKey[i] = i + 1;
+        }
+        // null markers make sure that ('a', NULL) and (NULL, 'a') have different checksums
+        String nullMarkers = quotedColumns.stream().map(c -> c + " IS NULL").collect(Collectors.joining(", "));
+        this.checksumExpression = "CRC32(CONCAT_WS('#', " + this.columns + ", CONCAT(" + nullMarkers + ")))";
+    }
+
+    public long countOriginRows() {
+        Long count = jdbcOperations.queryForObject("SELECT COUNT(*) FROM " + originTable, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Copy all rows of origin table into new table chunk by chunk
+     *
+     * @return affected rows
+     */
+    public long copy() {
+        long total = 0;
+        List<Object> lower = null;
+        chunks.clear();
+        do {
+            checkCancelled();
+            long start = System.currentTimeMillis();
+            List<Object> upper = nextBoundary(lower, chunkSizeTuner.getChunkSize());
+            // the checksum is taken before copying, any later write makes the range differ from it
+            Checksum origin = checksum(originTable, lower, upper);
+            List<Object> args = new ArrayList<>();
+            String sql = "INSERT INTO " + newTable + " (" + columns + ") SELECT " + columns + " FROM "
+                    + originTable + rangeCondition(lower, upper, args);
+            int rows;
+            try {
+                rows = jdbcOperations.update(sql, args.toArray());
+            } catch (DataIntegrityViolationException e) {
+                log.info("Failed to copy chunk, it will be synced row by row, newTable={}, reason={}",
+                        newTable, e.getMessage());
+                rows = 0;
+            }
+            chunks.add(new Chunk(lower, upper, rows == origin.count ? origin : null));
+            chunkSizeTuner.feedback(Math.max(rows, origin.count), System.currentTimeMillis() - start);
+            total += rows;
+            this.copiedRowCount = total;
+            if (progressListener != null) {
+                progressListener.accept(total);
+            }
+            lower = upper;
+        } while (lower != null);
+        log.info("Copy rows finished, originTable={}, newTable={}, affectedRows={}", originTable, newTable, total);
+        return total;
+    }
+
+    /**
+     * Repeat {@link #sync()} until the changed rows converge or max rounds reached
+     *
+     * @return whether the changed rows converged
+     * @throws IllegalStateException if some rows can not be inserted into new table
+     */
+    public boolean catchUp() {
+        for (int round = 1; round <= parameters.getCatchUpMaxRounds(); round++) {
+            long changed = sync();
+            log.info("Catch up round finished, round={}, changedRows={}, newTable={}", round, changed, newTable);
+            if (changed <= parameters.getCatchUpConvergedRows()) {
+                // fail before the cutover blocks writes if some rows can never be inserted
+                syncUntilClean();
+                return true;
+            }
+        }
+        log.warn("Catch up does not converge after {} rounds, newTable={}", parameters.getCatchUpMaxRounds(),
+                newTable);
+        return false;
+    }
+
+    /**
+     * Sync the ranges changed since the last round, and retry the dirty ones until they are clean.
+     * Invoked by the cutover when writes on origin table are blocked.
+     *
+     * @return changed rows of new table
+     * @throws IllegalStateException if some rows can not be inserted into new table
+     */
+    public long syncUntilClean() {
+        long changed = sync();
+        for (int i = 0; i < DIRTY_RETRY_TIMES && chunks.stream().anyMatch(Chunk::isDirty); i++) {
+            changed += sync();
+        }
+        long dirtyChunks = chunks.stream().filter(Chunk::isDirty).count();
+        if (dirtyChunks > 0) {
+            throw new IllegalStateException(String.format("Some rows of origin table can not be inserted into "
+                    + "new table, they may violate the constraints of new table, newTable=%s, dirtyChunks=%d",
+                    newTable, dirtyChunks));
+        }
+        return changed;
+    }
+
+    /**
+     * Make the ranges of new table changed since the last round consistent with origin table once,
+     * {@link #copy()} must be called before
+     *
+     * @return changed rows of new table
+     */
+    public long sync() {
+        long changed = 0;
+        for (Chunk chunk : chunks) {
+            checkCancelled();
+            Checksum origin = checksum(originTable, chunk.lower, chunk.upper);
+            if (origin.equals(chunk.checksum)) {
+                continue;
+            }
+            SyncResult result = syncRows(chunk.lower, chunk.upper);
+            changed += result.changedRows;
+            chunk.checksum = result.clean ? origin : null;
+        }
+        return changed;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    private SyncResult syncRows(List<Object> lower, List<Object> upper) {
+        Map<List<Object>, Row> newRows = new HashMap<>();
+        List<Object> args = new ArrayList<>();
+        String condition = rangeCondition(lower, upper, args);
+        jdbcOperations.query("SELECT " + columns + " FROM " + newTable + condition, args.toArray(),
+                rs -> {
+                    Row row = readRow(rs);
+                    newRows.put(row.getKey(), row);
+                });
+        List<Object[]> toCopy = new ArrayList<>();
+        List<Object[]> toDelete = new ArrayList<>();
+        jdbcOperations.query("SELECT " + columns + " FROM " + originTable + condition, args.toArray(),
+                rs -> {
+                    Row row = readRow(rs);
+                    Row newRow = newRows.remove(row.getKey());
+                    if (newRow == null || !newRow.values.equals(row.values)) {
+                        toCopy.add(row.rawKey);
+                    }
+                    if (newRow != null && !newRow.values.equals(row.values)) {
+                        toDelete.add(newRow.rawKey);
+                    }
+                });
+        long vanished = newRows.size();
+        newRows.values().forEach(r -> toDelete.add(r.rawKey));
+        String keyCondition = keyColumns.stream().map(c -> c + " = ?").collect(Collectors.joining(" AND "));
+        if (!toDelete.isEmpty()) {
+            jdbcOperations.batchUpdate("DELETE FROM " + newTable + " WHERE " + keyCondition, toDelete);
+        }
+        // rows are inserted one by one, so that a row violating the constraints of new table fails alone
+        String insertSql = "INSERT INTO " + newTable + " (" + columns + ") SELECT " + columns + " FROM "
+                + originTable + " WHERE " + keyCondition;
+        long inserted = 0;
+        for (Object[] key : toCopy) {
+            try {
+                inserted += jdbcOperations.update(insertSql, key);
+            } catch (DataIntegrityViolationException e) {
+                log.info("Failed to insert row, it will be retried, newTable={}, reason={}", newTable,
+                        e.getMessage());
+            }
+        }
+        // a row vanished from origin table after diffing also leaves the range dirty, it is diffed again
+        return new SyncResult(toCopy.size() + vanished, inserted == toCopy.size());
+    }
+
+    private List<Object> nextBoundary(List<Object> lower, int chunkSize) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT " + String.join(", ", keyColumns) + " FROM " + originTable
+                + rangeCondition(lower, null, args) + " ORDER BY " + String.join(", ", keyColumns)
+                + " LIMIT 1 OFFSET " + (chunkSize - 1);
+        List<Object[]> boundaries =
+                jdbcOperations.query(sql, args.toArray(), (rs, rowNum) -> rawKeyOf(rs, keyIndexesInKey));
+        return boundaries.isEmpty() ? null : Collections.unmodifiableList(Arrays.asList(boundaries.get(0)));
+    }
+
+    private Checksum checksum(String table, List<Object> lower, List<Object> upper) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT COUNT(*), SUM(" + checksumExpression + ") FROM " + table
+                + rangeCondition(lower, upper, args);
+        return jdbcOperations.queryForObject(sql, args.toArray(),
+                (rs, rowNum) -> new Checksum(rs.getLong(1), rs.getBigDecimal(2)));
+    }
+
+    /**
+     * Key range is left open and right closed, a null bound means unbounded
+     */
+    private String rangeCondition(List<Object> lower, List<Object> upper, List<Object> args) {
+        List<String> conditions = new ArrayList<>(2);
+        if (lower != null) {
+            conditions.add(compareKey(">"));
+            args.addAll(lower);
+        }
+        if (upper != null) {
+            conditions.add(compareKey("<="));
+            args.addAll(upper);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private String compareKey(String operator) {
+        if (keyColumns.size() == 1) {
+            return keyColumns.get(0) + " " + operator + " ?";
+        }
+        String placeholders = keyColumns.stream().map(c -> "?").collect(Collectors.joining(", "));
+        return "(" + String.join(", ", keyColumns) + ") " + operator + " (" + placeholders + ")";
+    }
+
+    private Object[] rawKeyOf(ResultSet rs, int[] keyIndexes) throws SQLException {
+        Object[] key = new Object[keyIndexes.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = rs.getObject(keyIndexes[i]);
+        }
+        return key;
+    }
+
+    private Row readRow(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        List<Object> values = new ArrayList<>(metaData.getColumnCount());
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            values.add(normalize(rs.getObject(i)));
+        }
+        return new Row(rawKeyOf(rs, keyIndexesInRow), values);
+    }
+
+    /**
+     * Column types of new table may be changed, values are normalized before comparing
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return value;
+            }
+        }
+        if (value instanceof Number) {
+            BigDecimal decimal = new BigDecimal(value.toString());
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        } else if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).getTime();
+        }
+        return value;
+    }
+
+    private void checkCancelled() {
+        if (this.cancelled) {
+            throw new IllegalStateException("Table data copy is cancelled, newTable=" + newTable);
+        }
+    }
+
+    private static String qualify(String schemaName, String tableName) {
+        String table = StringUtils.quoteMysqlIdentifier(tableName);
+        return schemaName == null ? table : StringUtils.quoteMysqlIdentifier(schemaName) + "." + table;
+    }
+
+    private static List<String> quote(List<String> names) {
+        return names.stream().map(StringUtils::quoteMysqlIdentifier).collect(Collectors.toList());
+    }
+
+    private static class Chunk {
+        private final List<Object> lower;
+        private final List<Object> upper;
+        /**
+         * checksum of origin rows when the range was made consistent, null if the range is dirty
+         */
+        private Checksum checksum;
+
+        Chunk(List<Object> lower, List<Object> upper, Checksum checksum) {
+            this.lower = lower;
+            this.upper = upper;
+            this.checksum = checksum;
+        }
+
+        boolean isDirty() {
+            return checksum == null;
+        }
+    }
+
+    private static class SyncResult {
+        private final long changedRows;
+        private final boolean clean;
+
+        SyncResult(long changedRows, boolean clean) {
+            this.changedRows = changedRows;
+            this.clean = clean;
+        }
+    }
+
+    private class Row {
+        private final Object[] rawKey;
+        private final List<Object> values;
+
+        Row(Object[] rawKey, List<Object> values) {
+            this.rawKey = rawKey;
+            this.values = values;
+        }
+
+        List<Object> getKey() {
+            List<Object> key = new ArrayList<>(keyIndexesInRow.length);
+            for (int index : keyIndexesInRow) {
+                key.add(values.get(index - 1));
+            }
+            return key;
+        }
+    }
+
+    private static class Checksum {
+        private final long count;
+        private final BigDecimal sum;
+
+        Checksum(long count, BigDecimal sum) {
+            this.count = count;
+            this.sum = sum;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Checksum)) {
+                return false;
+            }
+            Checksum that = (Checksum) o;
+            return count == that.count && (sum == null ? that.sum == null
+                    : that.sum != null && sum.compareTo(that.sum) == 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, sum == null ? null : sum.stripTrailingZeros());
+        }
+    }
+
+}
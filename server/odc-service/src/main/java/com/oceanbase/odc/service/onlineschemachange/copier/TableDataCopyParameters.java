@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+@Data
+@Builder
+public class TableDataCopyParameters {
+
+    /**
+     * Schema of both tables, tables are not qualified if it is null
+     */
+    private String schemaName;
+
+    /**
+     * Unwrapped origin table name
+     */
+    private String originTableName;
+
+    /**
+     * Unwrapped new table name
+     */
+    private String newTableName;
+
+    /**
+     * Columns copied from origin table to new table
+     */
+    private List<String> columnNames;
+
+    /**
+     * Columns of primary key or not nullable unique key, used to split chunks
+     */
+    private List<String> keyColumnNames;
+
+    @Builder.Default
+    private int initialChunkSize = 1000;
+
+    @Builder.Default
+    private int minChunkSize = 100;
+
+    @Builder.Default
+    private int maxChunkSize = 50000;
+
+    @Builder.Default
+    private long chunkTargetMillis = 500;
+
+    /**
+     * Max catch up rounds before cutover
+     */
+    @Builder.Default
+    private int catchUpMaxRounds = 10;
+
+    /**
+     * Catch up is converged when the rows changed in a round are no more than this value
+     */
+    @Builder.Default
+    private long catchUpConvergedRows = 100;
+
+}
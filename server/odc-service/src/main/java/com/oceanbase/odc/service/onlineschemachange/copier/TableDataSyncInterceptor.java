@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import com.oceanbase.odc.service.onlineschemachange.rename.RenameTableInterceptor;
+import com.oceanbase.odc.service.onlineschemachange.rename.RenameTableParameters;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sync the ranges changed since last catch up round right before renaming, writes on origin table
+ * have been blocked by the lock interceptor at this time. Renaming is refused if some rows can not
+ * be inserted into new table.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+@Slf4j
+public class TableDataSyncInterceptor implements RenameTableInterceptor {
+
+    private final TableDataCopier copier;
+
+    public TableDataSyncInterceptor(TableDataCopier copier) {
+        this.copier = copier;
+    }
+
+    @Override
+    public void preRename(RenameTableParameters parameters) {
+        long changed = copier.syncUntilClean();
+        log.info("Synced rows before rename, table={}, changedRows={}", parameters.getOriginTableName(), changed);
+    }
+
+    @Override
+    public void renameSucceed(RenameTableParameters parameters) {
+
+    }
+
+    @Override
+    public void renameFailed(RenameTableParameters parameters) {
+
+    }
+
+    @Override
+    public void postRenamed(RenameTableParameters parameters) {
+
+    }
+}
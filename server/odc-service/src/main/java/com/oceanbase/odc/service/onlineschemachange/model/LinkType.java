@@ -26,5 +26,9 @@ public enum LinkType {
     /**
      * transfer data from old table to new table by oms
      */
-    OMS
+    OMS,
+    /**
+     * transfer data from old table to new table by odc itself, chunk by chunk
+     */
+    ODC
 }
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.pipeline;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.oceanbase.odc.common.concurrent.ExecutorUtils;
+import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.core.session.ConnectionSession;
+import com.oceanbase.odc.core.session.ConnectionSessionConstants;
+import com.oceanbase.odc.core.session.ConnectionSessionUtil;
+import com.oceanbase.odc.core.shared.constant.ErrorCodes;
+import com.oceanbase.odc.core.shared.constant.TaskStatus;
+import com.oceanbase.odc.core.shared.exception.UnsupportedException;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskEntity;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskRepository;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskSpecs;
+import com.oceanbase.odc.service.common.model.HostProperties;
+import com.oceanbase.odc.service.common.util.SpringContextUtil;
+import com.oceanbase.odc.service.db.browser.DBObjectOperators;
+import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
+import com.oceanbase.odc.service.dispatch.TaskDispatchChecker;
+import com.oceanbase.odc.service.onlineschemachange.OnlineSchemaChangeTaskHandler;
+import com.oceanbase.odc.service.onlineschemachange.configuration.OnlineSchemaChangeProperties;
+import com.oceanbase.odc.service.onlineschemachange.configuration.OnlineSchemaChangeProperties.OdcLinkProperties;
+import com.oceanbase.odc.service.onlineschemachange.copier.TableDataCopier;
+import com.oceanbase.odc.service.onlineschemachange.copier.TableDataCopyParameters;
+import com.oceanbase.odc.service.onlineschemachange.copier.TableDataSyncInterceptor;
+import com.oceanbase.odc.service.onlineschemachange.model.LinkType;
+import com.oceanbase.odc.service.onlineschemachange.model.OnlineSchemaChangeScheduleTaskParameters;
+import com.oceanbase.odc.service.onlineschemachange.model.OnlineSchemaChangeScheduleTaskResult;
+import com.oceanbase.odc.service.onlineschemachange.oms.enums.OmsStepName;
+import com.oceanbase.odc.service.onlineschemachange.rename.DefaultRenameTableInvoker;
+import com.oceanbase.odc.service.onlineschemachange.rename.LockRenameTableFactory;
+import com.oceanbase.odc.service.onlineschemachange.rename.LockUserInterceptor;
+import com.oceanbase.odc.service.onlineschemachange.subtask.OscTaskCompleteHandler;
+import com.oceanbase.odc.service.schedule.model.JobType;
+import com.oceanbase.odc.service.session.DBSessionManageFacade;
+import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
+import com.oceanbase.odc.service.task.model.ExecutorInfo;
+import com.oceanbase.tools.dbbrowser.model.DBConstraintType;
+import com.oceanbase.tools.dbbrowser.model.DBObjectType;
+import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
+import com.oceanbase.tools.dbbrowser.model.DBTableConstraint;
+import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transfer data from origin table to new table by {@link TableDataCopier} and swap table names as
+ * soon as the new table catches up, no oms project or polling job is involved. The copy runs in a
+ * background thread, the schedule task is completed by the thread itself. The executor of the
+ * schedule task is recorded, so that tasks whose copy thread died with the server can be failed.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+@Slf4j
+@Component
+public class CopyTableDataValve extends BaseValve {
+
+    private static final long PROGRESS_UPDATE_INTERVAL_MILLIS = 5000;
+
+    @Autowired
+    private ScheduleTaskRepository scheduleTaskRepository;
+    @Autowired
+    private OscTaskCompleteHandler completeHandler;
+    @Autowired
+    private DBSessionManageFacade dbSessionManageFacade;
+    @Autowired
+    private OnlineSchemaChangeProperties oscProperties;
+    @Autowired
+    private HostProperties hostProperties;
+    @Autowired
+    private TaskDispatchChecker dispatchChecker;
+
+    private final Map<Long, TableDataCopier> scheduleTaskId2Copier = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newFixedThreadPool(oscProperties.getOdcLink().getMaxConcurrentTasks(),
+                new ThreadFactoryBuilder().setNameFormat("osc-copy-table-data-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduleTaskId2Copier.values().forEach(TableDataCopier::cancel);
+        ExecutorUtils.gracefulShutdown(executor, "osc-copy-table-data", 5);
+    }
+
+    @Override
+    public void invoke(ValveContext valveContext) {
+        OscValveContext context = (OscValveContext) valveContext;
+        Long taskId = context.getScheduleTask().getId();
+        log.info("Start execute {}, schedule task id {}", getClass().getSimpleName(), taskId);
+        ConnectionSession session = context.getConnectionSession();
+        if (!session.getDialectType().isMysql()) {
+            throw new UnsupportedException(
+                    String.format("DialectType '%s' not supported by odc link", session.getDialectType()));
+        }
+        if (!(new LockRenameTableFactory().generate(session, dbSessionManageFacade) instanceof LockUserInterceptor)) {
+            // rows written between the last sync and the rename would be lost
+            throw new UnsupportedException(String.format("Odc link is not supported by %s %s, writes on origin "
+                    + "table can not be blocked during swapping table names", session.getConnectType(),
+                    ConnectionSessionUtil.getVersion(session)));
+        }
+        TableDataCopyParameters copyParameters = getCopyParameters(session, context.getTaskParameter());
+        scheduleTaskRepository.updateExecutor(taskId, JsonUtils.toJson(new ExecutorInfo(hostProperties)));
+        executor.submit(() -> copyAndSwap(context, copyParameters));
+    }
+
+    /**
+     * Whether the schedule task is running but its copy thread has gone, that is the task was started
+     * by a previous process of this server
+     */
+    public boolean isOrphaned(ScheduleTaskEntity scheduleTask) {
+        if (scheduleTask.getStatus() != TaskStatus.RUNNING || scheduleTask.getExecutor() == null) {
+            return false;
+        }
+        ExecutorInfo executorInfo = JsonUtils.fromJson(scheduleTask.getExecutor(), ExecutorInfo.class);
+        if (executorInfo == null || !dispatchChecker.isThisMachine(executorInfo)) {
+            return false;
+        }
+        ExecutorInfo current = new ExecutorInfo(hostProperties);
+        return executorInfo.getPid() != current.getPid() || executorInfo.getJvmStartTime() != current.getJvmStartTime();
+    }
+
+    /**
+     * Copy threads do not survive restarts, fail the tasks left running by the previous process
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failOrphanedTasks() {
+        List<ScheduleTaskEntity> scheduleTasks;
+        try {
+            scheduleTasks = scheduleTaskRepository.findAll(Specification
+                    .where(ScheduleTaskSpecs.jobGroupEquals(JobType.ONLINE_SCHEMA_CHANGE_COMPLETE.name())));
+        } catch (Exception e) {
+            log.warn("Failed to list online schema change tasks", e);
+            return;
+        }
+        scheduleTasks.stream().filter(this::isOrphaned).forEach(scheduleTask -> {
+            OnlineSchemaChangeScheduleTaskParameters parameters = JsonUtils.fromJson(
+                    scheduleTask.getParametersJson(), OnlineSchemaChangeScheduleTaskParameters.class);
+            if (parameters == null || parameters.getLinkType() != LinkType.ODC) {
+                return;
+            }
+            log.warn("Copy thread of schedule task has gone with the previous process, mark it failed, "
+                    + "schedule task id {}", scheduleTask.getId());
+            completeHandler.onOscScheduleTaskFailed(null, parameters.getUid(),
+                    Long.valueOf(scheduleTask.getJobName()), scheduleTask.getId());
+        });
+    }
+
+    /**
+     * Stop copying data of a schedule task running on this server
+     */
+    public void cancel(Long scheduleTaskId) {
+        TableDataCopier copier = scheduleTaskId2Copier.get(scheduleTaskId);
+        if (copier != null) {
+            copier.cancel();
+            log.info("Table data copy is cancelled, schedule task id {}", scheduleTaskId);
+        }
+    }
+
+    private void copyAndSwap(OscValveContext context, TableDataCopyParameters copyParameters) {
+        ScheduleTaskEntity scheduleTask = context.getScheduleTask();
+        OnlineSchemaChangeScheduleTaskParameters taskParameter = context.getTaskParameter();
+        Long scheduleId = context.getSchedule().getId();
+        ConnectionSession session = new DefaultConnectSessionFactory(context.getConnectionConfig()).generateSession();
+        TableDataCopier copier = null;
+        try {
+            ConnectionSessionUtil.setCurrentSchema(session, taskParameter.getDatabaseName());
+            copier = new TableDataCopier(session.getSyncJdbcExecutor(ConnectionSessionConstants.BACKEND_DS_KEY),
+                    copyParameters);
+            scheduleTaskId2Copier.put(scheduleTask.getId(), copier);
+
+            OnlineSchemaChangeScheduleTaskResult result = new OnlineSchemaChangeScheduleTaskResult(taskParameter);
+            result.setCurrentStep(OmsStepName.FULL_TRANSFER.name());
+            result.setFullTransferEstimatedCount(copier.countOriginRows());
+            long[] lastUpdateTime = new long[] {0};
+            copier.setProgressListener(rows -> {
+                if (System.currentTimeMillis() - lastUpdateTime[0] >= PROGRESS_UPDATE_INTERVAL_MILLIS) {
+                    lastUpdateTime[0] = System.currentTimeMillis();
+                    updateProgress(scheduleTask, result, rows);
+                }
+            });
+            copier.copy();
+            updateProgress(scheduleTask, result, copier.getCopiedRowCount());
+            if (!copier.catchUp()) {
+                throw new IllegalStateException("New table can not catch up with origin table, changed rows "
+                        + "do not converge, try again when there are fewer writes");
+            }
+
+            new DefaultRenameTableInvoker(session, dbSessionManageFacade,
+                    Collections.singletonList(new TableDataSyncInterceptor(copier)))
+                            .invoke(taskParameter, context.getParameter());
+            completeHandler.onOscScheduleTaskSuccess(null, taskParameter.getUid(), scheduleId, scheduleTask.getId());
+        } catch (Exception e) {
+            if (copier != null && copier.isCancelled()) {
+                return;
+            }
+            log.warn("Failed to copy table data, schedule task id {}", scheduleTask.getId(), e);
+            completeHandler.onOscScheduleTaskFailed(null, taskParameter.getUid(), scheduleId, scheduleTask.getId());
+            dropNewTable(session, taskParameter);
+        } finally {
+            scheduleTaskId2Copier.remove(scheduleTask.getId());
+            session.expire();
+        }
+        // schedule next task immediately instead of waiting for the check job
+        SpringContextUtil.getBean(OnlineSchemaChangeTaskHandler.class).complete(scheduleId, scheduleTask.getId());
+    }
+
+    private void updateProgress(ScheduleTaskEntity scheduleTask, OnlineSchemaChangeScheduleTaskResult result,
+            long copiedRows) {
+        long estimated = Math.max(result.getFullTransferEstimatedCount(), copiedRows);
+        double percentage = estimated == 0 ? 100D : copiedRows * 100D / estimated;
+        result.setFullTransferFinishedCount(copiedRows);
+        result.setFullTransferProgressPercentage(percentage);
+        try {
+            scheduleTaskRepository.updateTaskResultAndProgressPercentage(scheduleTask.getId(),
+                    JsonUtils.toJson(result), percentage);
+        } catch (Exception e) {
+            log.warn("Failed to update progress, schedule task id {}", scheduleTask.getId(), e);
+        }
+    }
+
+    private TableDataCopyParameters getCopyParameters(ConnectionSession session,
+            OnlineSchemaChangeScheduleTaskParameters taskParameter) {
+        DBSchemaAccessor accessor = DBSchemaAccessors.create(session);
+        String database = taskParameter.getDatabaseName();
+        String tableName = taskParameter.getOriginTableNameUnwrapped();
+        List<String> columnNames = getCopiedColumnNames(
+                accessor.listTableColumns(database, tableName),
+                accessor.listTableColumns(database, taskParameter.getNewTableNameUnwrapped()));
+        List<DBTableConstraint> constraints = accessor.listTableConstraints(database, tableName);
+        Optional<DBTableConstraint> key = constraints.stream()
+                .filter(c -> c.getType() == DBConstraintType.PRIMARY_KEY).findFirst();
+        if (!key.isPresent()) {
+            // nullable unique keys have been rejected by the validator
+            key = constraints.stream().filter(c -> c.getType() == DBConstraintType.UNIQUE_KEY).findFirst();
+        }
+        if (!key.isPresent() || CollectionUtils.isEmpty(key.get().getColumnNames())) {
+            throw new UnsupportedException(ErrorCodes.NoUniqueKeyExists, new Object[] {tableName},
+                    "There is no primary key or not nullable unique key in table " + tableName);
+        }
+        OdcLinkProperties properties = oscProperties.getOdcLink();
+        return TableDataCopyParameters.builder()
+                .schemaName(database)
+                .originTableName(tableName)
+                .newTableName(taskParameter.getNewTableNameUnwrapped())
+                .columnNames(columnNames)
+                .keyColumnNames(key.get().getColumnNames())
+                .initialChunkSize(properties.getInitialChunkSize())
+                .minChunkSize(properties.getMinChunkSize())
+                .maxChunkSize(properties.getMaxChunkSize())
+                .chunkTargetMillis(properties.getChunkTargetMillis())
+                .catchUpMaxRounds(properties.getCatchUpMaxRounds())
+                .catchUpConvergedRows(properties.getCatchUpConvergedRows())
+                .build();
+    }
+
+    /**
+     * Columns dropped or renamed by the new table are not copied, columns added by the new table are
+     * filled by their default values
+     */
+    static List<String> getCopiedColumnNames(List<DBTableColumn> originColumns, List<DBTableColumn> newColumns) {
+        Set<String> newColumnNames = newColumns.stream().map(c -> c.getName().toLowerCase())
+                .collect(Collectors.toSet());
+        return originColumns.stream().map(DBTableColumn::getName)
+                .filter(name -> newColumnNames.contains(name.toLowerCase())).collect(Collectors.toList());
+    }
+
+    private void dropNewTable(ConnectionSession session, OnlineSchemaChangeScheduleTaskParameters taskParameter) {
+        try {
+            if (CollectionUtils.isNotEmpty(DBSchemaAccessors.create(session)
+                    .showTablesLike(taskParameter.getDatabaseName(), taskParameter.getNewTableNameUnwrapped()))) {
+                DBObjectOperators.create(session).drop(DBObjectType.TABLE, taskParameter.getDatabaseName(),
+                        taskParameter.getNewTableNameUnwrapped());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to drop new table {}", taskParameter.getNewTableNameWithSchema(), e);
+        }
+    }
+
+}
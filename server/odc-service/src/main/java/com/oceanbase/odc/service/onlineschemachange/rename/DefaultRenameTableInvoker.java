@@ -16,6 +16,7 @@
 package com.oceanbase.odc.service.onlineschemachange.rename;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -48,6 +49,14 @@ public class DefaultRenameTableInvoker implements RenameTableInvoker {
 
     public DefaultRenameTableInvoker(ConnectionSession connSession,
             DBSessionManageFacade dbSessionManageFacade) {
+        this(connSession, dbSessionManageFacade, Collections.emptyList());
+    }
+
+    /**
+     * @param extraInterceptors interceptors invoked after the table is locked
+     */
+    public DefaultRenameTableInvoker(ConnectionSession connSession,
+            DBSessionManageFacade dbSessionManageFacade, List<RenameTableInterceptor> extraInterceptors) {
         List<RenameTableInterceptor> interceptors = new LinkedList<>();
 
         LockRenameTableFactory lockRenameTableFactory = new LockRenameTableFactory();
@@ -55,6 +64,7 @@ public class DefaultRenameTableInvoker implements RenameTableInvoker {
                 lockRenameTableFactory.generate(connSession, dbSessionManageFacade);
         interceptors.add(lockInterceptor);
         interceptors.add(new ForeignKeyInterceptor(connSession));
+        interceptors.addAll(extraInterceptors);
         this.interceptors = interceptors;
         this.connectionSession = connSession;
         this.renameTableHandler = RenameTableHandlers.getForeignKeyHandler(connSession);
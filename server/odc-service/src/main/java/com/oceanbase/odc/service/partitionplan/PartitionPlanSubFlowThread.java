@@ -17,6 +17,7 @@ package com.oceanbase.odc.service.partitionplan;
 
 import java.util.List;
 
+import com.oceanbase.odc.core.shared.constant.TaskErrorStrategy;
 import com.oceanbase.odc.core.shared.constant.TaskType;
 import com.oceanbase.odc.service.flow.FlowInstanceService;
 import com.oceanbase.odc.service.flow.model.CreateFlowInstanceReq;
@@ -50,7 +51,8 @@ public class PartitionPlanSubFlowThread extends Thread {
     public PartitionPlanSubFlowThread(Long parentFlowInstanceId,
             Long databaseId, List<String> sqls, FlowInstanceService flowInstanceService, User user) {
         DatabaseChangeParameters taskParameters = new DatabaseChangeParameters();
-        taskParameters.setErrorStrategy("ABORT");
+        // statements of different tables are independent, failure of one table should not block the others
+        taskParameters.setErrorStrategy(TaskErrorStrategy.CONTINUE.name());
         StringBuilder sqlContent = new StringBuilder();
         for (String sql : sqls) {
             sqlContent.append(sql).append("\n");
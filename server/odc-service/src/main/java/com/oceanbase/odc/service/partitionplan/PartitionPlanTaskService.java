@@ -17,9 +17,14 @@ package com.oceanbase.odc.service.partitionplan;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -39,8 +44,10 @@ import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.db.browser.DBSchemaAccessors;
 import com.oceanbase.odc.service.flow.FlowInstanceService;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
+import com.oceanbase.odc.service.partitionplan.model.PartitionPlanTaskResult;
 import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
 import com.oceanbase.tools.dbbrowser.model.DBTable;
+import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
 import com.oceanbase.tools.dbbrowser.model.DBTablePartition;
 import com.oceanbase.tools.dbbrowser.model.DBTablePartitionDefinition;
 import com.oceanbase.tools.dbbrowser.schema.DBSchemaAccessor;
@@ -72,22 +79,58 @@ public class PartitionPlanTaskService {
     @Autowired
     private AuthenticationFacade authenticationFacade;
 
-    public void executePartitionPlan(Long flowInstanceId, List<TablePartitionPlanEntity> tablePlans)
-            throws Exception {
+    public PartitionPlanTaskResult executePartitionPlan(Long flowInstanceId,
+            List<TablePartitionPlanEntity> tablePlans) throws Exception {
+        PartitionPlanTaskResult result = new PartitionPlanTaskResult();
+        result.setTableCount(tablePlans.size());
         Set<Long> databaseIds = tablePlans.stream().map(TablePartitionPlanEntity::getDatabaseId).collect(
                 Collectors.toSet());
         Optional<Long> databaseId = databaseIds.stream().findFirst();
         if (!databaseId.isPresent() || databaseIds.size() != 1) {
             log.warn("Table plans belongs to multi database,its not allow here.");
-            return;
+            return result;
         }
         ConnectionConfig conn = databaseService.findDataSourceForConnectById(databaseId.get());
         DefaultConnectSessionFactory factory = new DefaultConnectSessionFactory(conn);
         ConnectionSession connectionSession = factory.generateSession();
         try {
             DBSchemaAccessor accessor = DBSchemaAccessors.create(connectionSession);
+            List<String> addPartitionSqls = new LinkedList<>();
+            List<String> dropPartitionSqls = new LinkedList<>();
+            long baseDate = System.currentTimeMillis();
+            Map<String, List<TablePartitionPlanEntity>> schema2TablePlans = tablePlans.stream()
+                    .collect(Collectors.groupingBy(TablePartitionPlanEntity::getSchemaName, LinkedHashMap::new,
+                            Collectors.toList()));
+            for (Entry<String, List<TablePartitionPlanEntity>> entry : schema2TablePlans.entrySet()) {
+                Map<String, DBTable> tableName2Table;
+                try {
+                    tableName2Table = getTables(accessor, entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    log.warn("Failed to load partitions, schema={}", entry.getKey(), e);
+                    entry.getValue().forEach(tablePlan -> result.getFailedTables().put(getTableKey(tablePlan),
+                            e.getLocalizedMessage()));
+                    continue;
+                }
+                for (TablePartitionPlanEntity tablePlan : entry.getValue()) {
+                    try {
+                        DBTable table = tableName2Table.get(tablePlan.getTableName());
+                        // drop DDL must be generated first, generating add DDL will modify the partition
+                        // definitions
+                        dropPartitionSqls.addAll(createDropPartitionDDL(baseDate, table, tablePlan));
+                        addPartitionSqls.addAll(createAddPartitionDDL(baseDate, table, tablePlan));
+                    } catch (Exception e) {
+                        // failure of one table should not prevent the others from being processed
+                        log.warn("Failed to generate partition DDL, table={}", getTableKey(tablePlan), e);
+                        result.getFailedTables().put(getTableKey(tablePlan), e.getLocalizedMessage());
+                    }
+                }
+            }
+            result.setAddPartitionSqlCount(addPartitionSqls.size());
+            result.setDropPartitionSqlCount(dropPartitionSqls.size());
+            log.info("Partition DDL generated, flowInstanceId={}, tableCount={}, failedTables={}, "
+                    + "addPartitionSqlCount={}, dropPartitionSqlCount={}", flowInstanceId, tablePlans.size(),
+                    result.getFailedTables().keySet(), addPartitionSqls.size(), dropPartitionSqls.size());
             // Task 1:生成 ADD PARTITION DDL，并发起数据库变更流程
-            List<String> addPartitionSqls = createAddPartitionDDL(accessor, tablePlans);
             if (!addPartitionSqls.isEmpty()) {
                 PartitionPlanSubFlowThread partitionPlanSubFlowThread =
                         new PartitionPlanSubFlowThread(flowInstanceId,
@@ -96,7 +139,6 @@ public class PartitionPlanTaskService {
                 partitionPlanSubFlowThread.start();
             }
             // Task 2:查找过期分区，并发起数据库变更流程
-            List<String> dropPartitionSqls = createDropPartitionDDL(accessor, tablePlans);
             if (!dropPartitionSqls.isEmpty()) {
                 PartitionPlanSubFlowThread partitionPlanSubFlowThread =
                         new PartitionPlanSubFlowThread(flowInstanceId,
@@ -111,56 +153,52 @@ public class PartitionPlanTaskService {
                 // eat exception
             }
         }
+        return result;
     }
 
     /**
      * 生成 Add 分区 DDL
      */
-    private List<String> createAddPartitionDDL(DBSchemaAccessor accessor, List<TablePartitionPlanEntity> tablePlans)
+    private List<String> createAddPartitionDDL(long baseDate, DBTable table, TablePartitionPlanEntity tablePlan)
             throws ParseException {
         List<String> sqls = new LinkedList<>();
-        long baseDate = System.currentTimeMillis();
-        for (TablePartitionPlanEntity tablePlan : tablePlans) {
-            // 查询表分区
-            DBTable table = getTable(accessor, tablePlan.getSchemaName(), tablePlan.getTableName());
-            List<DBTablePartitionDefinition> definitions = table.getPartition().getPartitionDefinitions();
-            // 分区计划生效中，但表被删除
-            if (definitions.isEmpty()) {
-                log.warn("No partition found,table={}.{}", tablePlan.getSchemaName(), tablePlan.getTableName());
-                continue;
+        List<DBTablePartitionDefinition> definitions = table.getPartition().getPartitionDefinitions();
+        // 分区计划生效中，但表被删除
+        if (definitions.isEmpty()) {
+            log.warn("No partition found,table={}.{}", tablePlan.getSchemaName(), tablePlan.getTableName());
+            return sqls;
+        }
+        // 获取最右边界分区
+        List<String> maxValues = definitions.get(definitions.size() - 1).getMaxValues();
+        if (CollectionUtils.isEmpty(maxValues) || Objects.isNull(maxValues.get(0))
+                || "MAXVALUE".equals(maxValues.get(0))) {
+            log.warn("Invalid partition max right bound:{}", maxValues);
+            return sqls;
+        }
+        // 计算预创建分区最大右边界
+        long maxRightBound = PartitionPlanFunction.getPartitionRightBound(baseDate,
+                tablePlan.getPreCreatePartitionCount() * tablePlan.getPartitionInterval(),
+                tablePlan.getPartitionIntervalUnit());
+        PartitionExpressionType expressionType = PartitionPlanFunction.getPartitionExpressionType(table);
+        switch (expressionType) {
+            case DATE: {
+                sqls.addAll(getCreateSqlForDateRangePartition(baseDate, maxRightBound, table.getPartition(),
+                        tablePlan));
+                break;
             }
-            // 获取最右边界分区
-            List<String> maxValues = definitions.get(definitions.size() - 1).getMaxValues();
-            if (CollectionUtils.isEmpty(maxValues) || Objects.isNull(maxValues.get(0))
-                    || "MAXVALUE".equals(maxValues.get(0))) {
-                log.warn("Invalid partition max right bound:{}", maxValues);
-                continue;
+            case UNIX_TIMESTAMP: {
+                sqls.addAll(
+                        getCreateSqlForUnixTimeStampRangePartition(baseDate, maxRightBound, table.getPartition(),
+                                tablePlan));
+                break;
             }
-            // 计算预创建分区最大右边界
-            long maxRightBound = PartitionPlanFunction.getPartitionRightBound(baseDate,
-                    tablePlan.getPreCreatePartitionCount() * tablePlan.getPartitionInterval(),
-                    tablePlan.getPartitionIntervalUnit());
-            PartitionExpressionType expressionType = PartitionPlanFunction.getPartitionExpressionType(table);
-            switch (expressionType) {
-                case DATE: {
-                    sqls.addAll(getCreateSqlForDateRangePartition(baseDate, maxRightBound, table.getPartition(),
-                            tablePlan));
-                    break;
-                }
-                case UNIX_TIMESTAMP: {
-                    sqls.addAll(
-                            getCreateSqlForUnixTimeStampRangePartition(baseDate, maxRightBound, table.getPartition(),
-                                    tablePlan));
-                    break;
-                }
-                case OTHER: {
-                    log.warn("Unsupported partition expression!{}.{}:{}", table.getSchemaName(),
-                            table.getName(), table.getPartition().getPartitionOption().getExpression());
-                    break;
-                }
-                default: {
-                    break;
-                }
+            case OTHER: {
+                log.warn("Unsupported partition expression!{}.{}:{}", table.getSchemaName(),
+                        table.getName(), table.getPartition().getPartitionOption().getExpression());
+                break;
+            }
+            default: {
+                break;
             }
         }
         return sqls;
@@ -173,15 +211,14 @@ public class PartitionPlanTaskService {
         DBTablePartitionDefinition right = definitions.get(definitions.size() - 1);
         String maxValue = right.getMaxValues().get(0);
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+        SimpleDateFormat suffixFormat = new SimpleDateFormat(partitionPlan.getPartitionNamingSuffixExpression());
         long currentRightBound = Math.max(sdf.parse(maxValue.substring(1, maxValue.length() - 1)).getTime(), baseDate);
         List<String> returnValue = new LinkedList<>();
         while (currentRightBound < maxRightBound) {
             currentRightBound = PartitionPlanFunction.getPartitionRightBound(currentRightBound,
                     partitionPlan.getPartitionInterval(),
                     partitionPlan.getPartitionIntervalUnit());
-            right.setName(partitionPlan.getPartitionNamingPrefix()
-                    + new SimpleDateFormat(partitionPlan.getPartitionNamingSuffixExpression())
-                            .format(currentRightBound));
+            right.setName(partitionPlan.getPartitionNamingPrefix() + suffixFormat.format(currentRightBound));
             right.getMaxValues().set(0, String.format("'%s'", sdf.format(new Date(currentRightBound))));
             returnValue.add(getCreateSql(partition));
         }
@@ -193,14 +230,13 @@ public class PartitionPlanTaskService {
         List<DBTablePartitionDefinition> definitions = partition.getPartitionDefinitions();
         DBTablePartitionDefinition right = definitions.get(definitions.size() - 1);
         long currentRightBound = Math.max(Long.parseLong(right.getMaxValues().get(0)) * 1000, baseDate);
+        SimpleDateFormat suffixFormat = new SimpleDateFormat(partitionPlan.getPartitionNamingSuffixExpression());
         List<String> returnValue = new LinkedList<>();
         while (currentRightBound < maxRightBound) {
             currentRightBound = PartitionPlanFunction.getPartitionRightBound(currentRightBound,
                     partitionPlan.getPartitionInterval(),
                     partitionPlan.getPartitionIntervalUnit());
-            right.setName(partitionPlan.getPartitionNamingPrefix() +
-                    new SimpleDateFormat(partitionPlan.getPartitionNamingSuffixExpression())
-                            .format(currentRightBound));
+            right.setName(partitionPlan.getPartitionNamingPrefix() + suffixFormat.format(currentRightBound));
             right.getMaxValues().set(0, String.valueOf(currentRightBound / 1000));
             returnValue.add(getCreateSql(partition));
         }
@@ -210,36 +246,31 @@ public class PartitionPlanTaskService {
     /**
      * 生成 Drop 分区 DDL
      */
-    private List<String> createDropPartitionDDL(DBSchemaAccessor accessor, List<TablePartitionPlanEntity> tablePlans)
+    private List<String> createDropPartitionDDL(long baseDate, DBTable table, TablePartitionPlanEntity tablePlan)
             throws ParseException {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
         List<String> sqls = new LinkedList<>();
-        long baseDate = System.currentTimeMillis();
-        for (TablePartitionPlanEntity tablePlan : tablePlans) {
-            // 查找表所有分区
-            DBTable table = getTable(accessor, tablePlan.getSchemaName(), tablePlan.getTableName());
-            List<DBTablePartitionDefinition> definitions = table.getPartition().getPartitionDefinitions();
-            if (definitions.isEmpty()) {
-                continue;
+        List<DBTablePartitionDefinition> definitions = table.getPartition().getPartitionDefinitions();
+        if (definitions.isEmpty()) {
+            return sqls;
+        }
+        PartitionExpressionType expressionType = PartitionPlanFunction.getPartitionExpressionType(table);
+        // 查询结果按升序排列，从左开始查找到第一个未过期的分区则停止
+        for (DBTablePartitionDefinition definition : definitions) {
+            if (expressionType == PartitionExpressionType.OTHER) {
+                log.warn("Unsupported partition expression!{}.{}:{}", table.getSchemaName(),
+                        table.getName(), table.getPartition().getPartitionOption().getExpression());
+                break;
             }
-            PartitionExpressionType expressionType = PartitionPlanFunction.getPartitionExpressionType(table);
-            // 查询结果按升序排列，从左开始查找到第一个未过期的分区则停止
-            for (DBTablePartitionDefinition definition : definitions) {
-                if (expressionType == PartitionExpressionType.OTHER) {
-                    log.warn("Unsupported partition expression!{}.{}:{}", table.getSchemaName(),
-                            table.getName(), table.getPartition().getPartitionOption().getExpression());
-                    break;
-                }
-                String maxValue = definition.getMaxValues().get(0);
-                long partitionRightBound =
-                        expressionType == PartitionExpressionType.UNIX_TIMESTAMP ? Long.parseLong(maxValue) * 1000
-                                : sdf.parse(maxValue.substring(1, maxValue.length() - 1)).getTime();
-                if (!PartitionPlanFunction.isExpirePartition(baseDate, partitionRightBound, tablePlan.getExpirePeriod(),
-                        tablePlan.getExpirePeriodUnit())) {
-                    break;
-                }
-                sqls.add(getDeleteSql(table.getSchemaName(), table.getName(), definition.getName()));
+            String maxValue = definition.getMaxValues().get(0);
+            long partitionRightBound =
+                    expressionType == PartitionExpressionType.UNIX_TIMESTAMP ? Long.parseLong(maxValue) * 1000
+                            : sdf.parse(maxValue.substring(1, maxValue.length() - 1)).getTime();
+            if (!PartitionPlanFunction.isExpirePartition(baseDate, partitionRightBound, tablePlan.getExpirePeriod(),
+                    tablePlan.getExpirePeriodUnit())) {
+                break;
             }
+            sqls.add(getDeleteSql(table.getSchemaName(), table.getName(), definition.getName()));
         }
         return sqls;
     }
@@ -263,15 +294,31 @@ public class PartitionPlanTaskService {
         return sqlBuilder.toString();
     }
 
-    private DBTable getTable(DBSchemaAccessor accessor, String schemaName, String tableName) {
-        DBTable table = new DBTable();
-        table.setSchemaName(schemaName);
-        table.setName(tableName);
-        DBTablePartition partition = accessor.getPartition(schemaName, tableName);
-        partition.setTableName(tableName);
-        partition.setSchemaName(schemaName);
-        table.setPartition(partition);
-        table.setColumns(accessor.listTableColumns(schemaName, tableName));
-        return table;
+    /**
+     * partitions and columns of the planned tables in a schema are loaded with one query each
+     */
+    private Map<String, DBTable> getTables(DBSchemaAccessor accessor, String schemaName,
+            List<TablePartitionPlanEntity> tablePlans) {
+        List<String> tableNames = tablePlans.stream().map(TablePartitionPlanEntity::getTableName).distinct()
+                .collect(Collectors.toList());
+        Map<String, DBTablePartition> tableName2Partition = accessor.getPartitions(schemaName, tableNames);
+        Map<String, List<DBTableColumn>> tableName2Columns = accessor.listBasicTableColumns(schemaName, tableNames);
+        Map<String, DBTable> tableName2Table = new HashMap<>();
+        for (String tableName : tableNames) {
+            DBTable table = new DBTable();
+            table.setSchemaName(schemaName);
+            table.setName(tableName);
+            DBTablePartition partition = tableName2Partition.get(tableName);
+            partition.setTableName(tableName);
+            partition.setSchemaName(schemaName);
+            table.setPartition(partition);
+            table.setColumns(tableName2Columns.getOrDefault(tableName, Collections.emptyList()));
+            tableName2Table.put(tableName, table);
+        }
+        return tableName2Table;
+    }
+
+    private String getTableKey(TablePartitionPlanEntity tablePlan) {
+        return tablePlan.getSchemaName() + "." + tablePlan.getTableName();
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.partitionplan.model;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * Result of one partition plan execution, tables whose partition DDL can not be generated are kept
+ * in {@link #failedTables} with the reason, the others are still planned
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Data
+public class PartitionPlanTaskResult implements Serializable {
+
+    private int tableCount;
+    private int addPartitionSqlCount;
+    private int dropPartitionSqlCount;
+    /**
+     * schema.table -> failure reason
+     */
+    private Map<String, String> failedTables = new LinkedHashMap<>();
+
+    public boolean isSuccess() {
+        return failedTables.isEmpty();
+    }
+
+}
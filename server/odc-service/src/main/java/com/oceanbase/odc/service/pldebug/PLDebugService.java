@@ -74,6 +74,8 @@ import lombok.extern.slf4j.Slf4j;
 @SkipAuthorize("inside connect session")
 public class PLDebugService {
 
+    private static final long DEBUG_PING_INTERVAL_SECONDS = 60;
+
     private final Map<String, PLDebugSession> debugId2Session = new ConcurrentHashMap<>();
 
     @Value("${odc.pldebug.thread-pool.size:0}")
@@ -86,6 +88,7 @@ public class PLDebugService {
     private SessionProperties sessionProperties;
     private ThreadPoolExecutor debugSessionExecutor;
     private ScheduledExecutorService debugMonitorExecutor;
+    private ThreadPoolExecutor debugPingExecutor;
 
     @Autowired
     private AuthenticationFacade authenticationFacade;
@@ -109,6 +112,12 @@ public class PLDebugService {
                 .setNameFormat("pldebug-monitor-%d")
                 .build();
         debugMonitorExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        // a skipped ping is retried in the next round, there is no need to queue pings without limit
+        debugPingExecutor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxPoolSize),
+                new ThreadFactoryBuilder().setNameFormat("pldebug-ping-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.DiscardPolicy());
+        debugPingExecutor.allowCoreThreadTimeOut(true);
         debugMonitorExecutor.scheduleWithFixedDelay(new Runnable() {
             @Override
             public void run() {
@@ -129,6 +138,16 @@ public class PLDebugService {
                 }
             }
         }, 5, 10, TimeUnit.MINUTES);
+        // ping all debug sessions from a shared pool instead of a thread for each session, pings are not
+        // executed by the monitor thread so that an unresponsive session does not delay the others
+        debugMonitorExecutor.scheduleWithFixedDelay(
+                () -> debugId2Session.values().forEach(session -> debugPingExecutor.execute(() -> {
+                    try {
+                        session.ping();
+                    } catch (Exception e) {
+                        log.debug("Failed to ping pldebug session={}", session.getSessionId(), e);
+                    }
+                })), DEBUG_PING_INTERVAL_SECONDS, DEBUG_PING_INTERVAL_SECONDS, TimeUnit.SECONDS);
         log.info("PLDebug Service initialize finished");
     }
 
@@ -137,6 +156,7 @@ public class PLDebugService {
         log.info("PLDebug Service start to destroy...");
         ExecutorUtils.gracefulShutdown(debugSessionExecutor, "debugSessionExecutor", 5);
         ExecutorUtils.gracefulShutdown(debugMonitorExecutor, "debugMonitorExecutor", 5);
+        ExecutorUtils.gracefulShutdown(debugPingExecutor, "debugPingExecutor", 5);
         log.info("PLDebug Service destroyed");
     }
 
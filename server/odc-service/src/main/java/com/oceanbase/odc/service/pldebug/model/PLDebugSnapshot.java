@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.pldebug.model;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * State of the debuggee fetched together with a debug operation, it keeps valid until the next
+ * operation since the debuggee is suspended in between
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Data
+public class PLDebugSnapshot {
+    /**
+     * {@code null} means variables are not available at this point
+     */
+    private List<PLDebugVariable> variables;
+    private PLDebugPrintBacktrace backtrace;
+}
@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.Validate;
 
@@ -50,11 +51,13 @@ import com.oceanbase.odc.service.pldebug.model.PLDebugBreakpoint;
 import com.oceanbase.odc.service.pldebug.model.PLDebugErrorCode;
 import com.oceanbase.odc.service.pldebug.model.PLDebugPrintBacktrace;
 import com.oceanbase.odc.service.pldebug.model.PLDebugResult;
+import com.oceanbase.odc.service.pldebug.model.PLDebugSnapshot;
 import com.oceanbase.odc.service.pldebug.model.PLDebugStatusReason;
 import com.oceanbase.odc.service.pldebug.model.PLDebugVariable;
 import com.oceanbase.odc.service.pldebug.model.StartPLDebugReq;
 import com.oceanbase.odc.service.pldebug.operator.DBPLOperators;
 import com.oceanbase.odc.service.pldebug.operator.GetPLErrorCallBack;
+import com.oceanbase.odc.service.pldebug.util.CallProceduresBlockCallBack;
 import com.oceanbase.tools.dbbrowser.model.DBBasicPLObject;
 import com.oceanbase.tools.dbbrowser.model.DBFunction;
 import com.oceanbase.tools.dbbrowser.model.DBObjectType;
@@ -68,6 +71,7 @@ import com.oceanbase.tools.dbbrowser.model.DBType;
 import com.oceanbase.tools.dbbrowser.parser.PLParser;
 import com.oceanbase.tools.dbbrowser.parser.listener.OracleModeParserListener;
 import com.oceanbase.tools.dbbrowser.parser.result.ParseOraclePLResult;
+import com.oceanbase.tools.dbbrowser.util.OracleSqlBuilder;
 
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -94,6 +98,11 @@ public class DebuggerSession extends AbstractDebugSession {
     private Map<PackageKey, DBPackageDetail> debugPackageMap = new HashMap<>();
     private CurrentDebugPLObject currentDebugPLObject;
     private volatile StackInfo currentStackInfo;
+    /**
+     * out params of backtrace and values procedures fetched by the last step operation, only parsed
+     * when the snapshot is acquired
+     */
+    private volatile List<List<DBPLParam>> snapshotResults;
     private String ddl;
     private String packageName;
     private DBObjectType plType;
@@ -261,18 +270,58 @@ public class DebuggerSession extends AbstractDebugSession {
     }
 
     public void continueAbort() {
+        this.snapshotResults = null;
         executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE, OdcConstants.PROCEDURE_CNT_ABORT, prepareContinueParams());
     }
 
 
     public List<PLDebugVariable> getVariables() {
-        List<PLDebugVariable> variables = new ArrayList<>();
+        return parseVariables(executeDebugProcedure(getValuesProcedure()));
+    }
+
+    /**
+     * Get variables and backtrace of the suspended debuggee. The state fetched by the last step
+     * operation will be used if present, otherwise fetch them in one round trip.
+     */
+    public PLDebugSnapshot getSnapshot() {
+        List<List<DBPLParam>> results = this.snapshotResults;
+        if (results == null) {
+            results = executeDebugProcedures(Arrays.asList(getBacktraceProcedure(), getValuesProcedure()));
+        }
+        PLDebugSnapshot snapshot = new PLDebugSnapshot();
+        snapshot.setBacktrace(parseBacktrace(results.get(0)));
+        snapshot.setVariables(parseVariablesQuietly(results.get(1)));
+        return snapshot;
+    }
+
+    private DBProcedure getValuesProcedure() {
         List<DBPLParam> params = new ArrayList<>();
         params.add(DBPLParam.of("scalar_values", DBPLParamMode.OUT, "VARCHAR2"));
         params.add(DBPLParam.of("result", DBPLParamMode.OUT, "BINARY_INTEGER"));
-        List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
-                OdcConstants.PROCEDURE_GET_VALUES, params);
+        return DBProcedure.of(OdcConstants.PL_DEBUG_PACKAGE, OdcConstants.PROCEDURE_GET_VALUES, params);
+    }
+
+    private DBProcedure getBacktraceProcedure() {
+        List<DBPLParam> params = new ArrayList<>();
+        params.add(DBPLParam.of("listing", DBPLParamMode.INOUT, "VARCHAR2"));
+        params.add(DBPLParam.of("status", DBPLParamMode.OUT, "BINARY_INTEGER"));
+        return DBProcedure.of(OdcConstants.PL_DEBUG_PACKAGE, OdcConstants.PROCEDURE_PRINT_BACKTRACE, params);
+    }
 
+    private List<PLDebugVariable> parseVariablesQuietly(List<DBPLParam> result) {
+        try {
+            return parseVariables(result);
+        } catch (Exception e) {
+            log.debug("Failed to parse `get_values` result, debugId={}", debugId, e);
+            return null;
+        }
+    }
+
+    private List<PLDebugVariable> parseVariables(List<DBPLParam> result) {
+        List<PLDebugVariable> variables = new ArrayList<>();
+        if (result.get(1).getDefaultValue() == null) {
+            throw OBException.executePlFailed("Error occurs when executing `get_values` operation, no result");
+        }
         int ret = Integer.parseInt(result.get(1).getDefaultValue());
         if (ret != PLDebugErrorCode.success.getId()) {
             PLDebugErrorCode exceptionEnum = PLDebugErrorCode.getEnumById(ret);
@@ -311,12 +360,10 @@ public class DebuggerSession extends AbstractDebugSession {
     }
 
     public PLDebugPrintBacktrace getBacktrace() {
-        List<DBPLParam> params = new ArrayList<>();
-        params.add(DBPLParam.of("listing", DBPLParamMode.INOUT, "VARCHAR2"));
-        params.add(DBPLParam.of("status", DBPLParamMode.OUT, "BINARY_INTEGER"));
-        List<DBPLParam> result =
-                executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE, OdcConstants.PROCEDURE_PRINT_BACKTRACE, params);
+        return parseBacktrace(executeDebugProcedure(getBacktraceProcedure()));
+    }
 
+    private PLDebugPrintBacktrace parseBacktrace(List<DBPLParam> result) {
         PLDebugPrintBacktrace printBacktrace = new PLDebugPrintBacktrace();
         String listing = result.get(0).getDefaultValue();
         if (StringUtils.isNotEmpty(listing)) {
@@ -523,28 +570,19 @@ public class DebuggerSession extends AbstractDebugSession {
     }
 
     public Boolean stepOver() {
-        List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
-                OdcConstants.PROCEDURE_CNT_NEXT_LINE, prepareContinueParams());
-        trackCurrentStackInfo(result);
-        return continueResultHandler(result);
+        return continueWithSnapshot(OdcConstants.PROCEDURE_CNT_NEXT_LINE, false);
     }
 
     public Boolean resume() {
-        List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
-                OdcConstants.PROCEDURE_CNT_NEXT_BREAKPOINT, prepareContinueParams());
-        trackCurrentStackInfo(result);
-        return continueResultHandler(result);
+        return continueWithSnapshot(OdcConstants.PROCEDURE_CNT_NEXT_BREAKPOINT, false);
     }
 
     public Boolean stepIn() {
-        List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
-                OdcConstants.PROCEDURE_CNT_STEP_IN, prepareContinueParams());
-        trackCurrentStackInfo(result);
-        updateInLinePlObject();
-        return continueResultHandler(result);
+        return continueWithSnapshot(OdcConstants.PROCEDURE_CNT_STEP_IN, true);
     }
 
     public Boolean stepInForStartingDebug() {
+        this.snapshotResults = null;
         int tryTimes = 0;
         int depth = currentStackInfo.stackDepth;
         List<DBPLParam> result = new ArrayList<>();
@@ -563,18 +601,49 @@ public class DebuggerSession extends AbstractDebugSession {
     }
 
     public Boolean stepOut() {
-        List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
-                OdcConstants.PROCEDURE_CNT_STEP_OUT, prepareContinueParams());
-        trackCurrentStackInfo(result);
-        return continueResultHandler(result);
+        return continueWithSnapshot(OdcConstants.PROCEDURE_CNT_STEP_OUT, false);
     }
 
     public Boolean resumeIgnoreBreakpoints() {
+        this.snapshotResults = null;
         List<DBPLParam> result = executeDebugProcedure(OdcConstants.PL_DEBUG_PACKAGE,
                 OdcConstants.PROCEDURE_CNT_EXIT, prepareContinueParams());
         return continueResultHandler(result);
     }
 
+    /**
+     * Continue the debuggee and fetch the backtrace and variables after it suspends in the same
+     * anonymous block, so that a step costs one round trip instead of three
+     */
+    private Boolean continueWithSnapshot(String continueProcedureName, boolean updateInLinePlObject) {
+        this.snapshotResults = null;
+        List<List<DBPLParam>> results = executeDebugProcedures(Arrays.asList(
+                DBProcedure.of(OdcConstants.PL_DEBUG_PACKAGE, continueProcedureName, prepareContinueParams()),
+                getBacktraceProcedure(), getValuesProcedure()));
+        trackCurrentStackInfo(results.get(0));
+        if (updateInLinePlObject) {
+            updateInLinePlObject();
+        }
+        Boolean ret = continueResultHandler(results.get(0));
+        if (results.get(1).get(1).getDefaultValue() != null) {
+            // null status means failed to fetch backtrace, it will be fetched again when acquired
+            this.snapshotResults = results.subList(1, 3);
+        }
+        return ret;
+    }
+
+    private List<List<DBPLParam>> executeDebugProcedures(List<DBProcedure> procedures) {
+        try {
+            // -1 means statement queryTimeout will be default 0, same as executeProcedure
+            return getJdbcOperations().execute(new CallProceduresBlockCallBack(procedures, -1,
+                    new OracleSqlBuilder()));
+        } catch (Exception e) {
+            throw OBException.executePlFailed(String.format("Error occurs when calling procedures={%s}, message=%s",
+                    procedures.stream().map(DBProcedure::getProName).collect(Collectors.joining(",")),
+                    e.getMessage()));
+        }
+    }
+
     private List<DBPLParam> executeDebugProcedure(String packageName, String proName,
             List<DBPLParam> params) {
         DBProcedure odcProcedure = DBProcedure.of(packageName, proName, params);
@@ -19,14 +19,11 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.oceanbase.odc.common.concurrent.ExecutorUtils;
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
@@ -35,12 +32,12 @@ import com.oceanbase.odc.service.db.model.DBMSOutput;
 import com.oceanbase.odc.service.pldebug.model.DBPLError;
 import com.oceanbase.odc.service.pldebug.model.PLDebugBreakpoint;
 import com.oceanbase.odc.service.pldebug.model.PLDebugContextResp;
-import com.oceanbase.odc.service.pldebug.model.PLDebugPrintBacktrace;
 import com.oceanbase.odc.service.pldebug.model.PLDebugResult;
+import com.oceanbase.odc.service.pldebug.model.PLDebugSnapshot;
 import com.oceanbase.odc.service.pldebug.model.PLDebugVariable;
 import com.oceanbase.odc.service.pldebug.model.StartPLDebugReq;
 
-import lombok.Data;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,21 +46,30 @@ import lombok.extern.slf4j.Slf4j;
  * @date 2021/11/18
  */
 
-@Data
 @Slf4j
 public class PLDebugSession {
+
+    private static final int PING_TIMEOUT_SECONDS = 10;
+
     /**
      * ODC 维护的 PL 调试会话 ID，注意和 OBServer 的 debugId 概念不同，这里是维护 ODC 全局唯一的 debugSessionId
      */
+    @Getter
     private final String sessionId;
     /**
      * 发起调试的用户
      */
+    @Getter
     private final long userId;
     private volatile boolean debugOn;
     private DebuggeeSession debuggeeSession;
     private DebuggerSession debuggerSession;
-    private ScheduledExecutorService scheduleExecutor;
+    /**
+     * guards the debugger connection, the session holds no thread of its own and is driven by requests
+     * and the shared ping task of {@code PLDebugService}
+     */
+    private final Lock lock = new ReentrantLock();
+    @Getter
     private Long lastAccessTime;
     private Long timeoutMilliSeconds;
     @Setter
@@ -72,22 +78,29 @@ public class PLDebugSession {
     public PLDebugSession(long userId) {
         this.sessionId = StringUtils.uuid();
         this.userId = userId;
-        ThreadFactory threadFactory = new ThreadFactoryBuilder()
-                .setNameFormat("PLDebug-schedule-ping-%d")
-                .build();
-        scheduleExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
-        scheduleExecutor.scheduleWithFixedDelay(new Runnable() {
-            @Override
-            public void run() {
-                if (Objects.nonNull(debuggerSession) && debuggerSession.detectSessionAlive()) {
-                    try (Statement stmt = debuggerSession.getConnection().createStatement()) {
-                        stmt.execute("CALL DBMS_DEBUG.PING()");
-                    } catch (Exception e) {
-                        log.debug("Failed to call DBMS_DEBUG.PING()", e);
-                    }
+    }
+
+    /**
+     * Keep the debuggee alive, skipped if an operation is in progress since the debugger connection is
+     * busy and the debuggee is active at this time
+     */
+    public void ping() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (Objects.nonNull(debuggerSession) && debuggerSession.detectSessionAlive()) {
+                try (Statement stmt = debuggerSession.getConnection().createStatement()) {
+                    // the lock is held during the ping, a hanging ping would block the next operation
+                    stmt.setQueryTimeout(PING_TIMEOUT_SECONDS);
+                    stmt.execute("CALL DBMS_DEBUG.PING()");
+                } catch (Exception e) {
+                    log.debug("Failed to call DBMS_DEBUG.PING()", e);
                 }
             }
-        }, 60, 60, TimeUnit.SECONDS);
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void touch() {
@@ -118,13 +131,21 @@ public class PLDebugSession {
         this.timeoutMilliSeconds = timeoutSeconds * 1000;
     }
 
-    public synchronized void end() throws Exception {
-        closeDebugger();
-        closeDebuggee();
-        ExecutorUtils.gracefulShutdown(scheduleExecutor, "debugPingScheduleExecutor", 5);
+    public void end() throws Exception {
+        lock.lock();
+        try {
+            closeDebugger();
+            closeDebuggee();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public PLDebugContextResp getContext() {
+        return locked(this::doGetContext);
     }
 
-    public synchronized PLDebugContextResp getContext() {
+    private PLDebugContextResp doGetContext() {
         PLDebugContextResp plDebugContextResp = new PLDebugContextResp();
         // terminated
         boolean terminated = !debuggerSession.detectSessionAlive() || !debuggeeSession.detectSessionAlive();
@@ -137,16 +158,10 @@ public class PLDebugSession {
 
         List<DBPLError> errors = new ArrayList<>();
         if (debugOn) {
-            // variables
-            try {
-                List<PLDebugVariable> variables = debuggerSession.getVariables();
-                plDebugContextResp.setVariables(variables);
-            } catch (Exception e) {
-                log.debug("Failed to parse `get_values` result when getting context");
-            }
-            // backtrace
-            PLDebugPrintBacktrace backtrace = debuggerSession.getBacktrace();
-            plDebugContextResp.setBacktrace(backtrace);
+            // variables and backtrace, fetched together with the last step operation
+            PLDebugSnapshot snapshot = debuggerSession.getSnapshot();
+            plDebugContextResp.setVariables(snapshot.getVariables());
+            plDebugContextResp.setBacktrace(snapshot.getBacktrace());
         } else {
             // dbms output
             DBMSOutput dbmsOutput = debuggeeSession.getOutput();
@@ -174,40 +189,49 @@ public class PLDebugSession {
         return plDebugContextResp;
     }
 
-    public synchronized List<PLDebugBreakpoint> setBreakpoints(List<PLDebugBreakpoint> breakpoints) {
-        return debuggerSession.setBreakpoints(breakpoints);
+    public List<PLDebugBreakpoint> setBreakpoints(List<PLDebugBreakpoint> breakpoints) {
+        return locked(() -> debuggerSession.setBreakpoints(breakpoints));
+    }
+
+    public Boolean deleteBreakpoints(List<PLDebugBreakpoint> breakpoints) {
+        return locked(() -> debuggerSession.deleteBreakpoints(breakpoints));
     }
 
-    public synchronized Boolean deleteBreakpoints(List<PLDebugBreakpoint> breakpoints) {
-        return debuggerSession.deleteBreakpoints(breakpoints);
+    public List<PLDebugBreakpoint> listBreakpoints() {
+        return locked(() -> debuggerSession.listBreakpoints());
     }
 
-    public synchronized List<PLDebugBreakpoint> listBreakpoints() {
-        return debuggerSession.listBreakpoints();
+    public List<PLDebugVariable> getVariables() {
+        return locked(() -> debuggerSession.getVariables());
     }
 
-    public synchronized List<PLDebugVariable> getVariables() {
-        return debuggerSession.getVariables();
+    public Boolean stepOver() {
+        return locked(() -> debuggerSession.stepOver());
     }
 
-    public synchronized Boolean stepOver() {
-        return debuggerSession.stepOver();
+    public Boolean resume() {
+        return locked(() -> debuggerSession.resume());
     }
 
-    public synchronized Boolean resume() {
-        return debuggerSession.resume();
+    public Boolean stepIn() {
+        return locked(() -> debuggerSession.stepIn());
     }
 
-    public synchronized Boolean stepIn() {
-        return debuggerSession.stepIn();
+    public Boolean stepOut() {
+        return locked(() -> debuggerSession.stepOut());
     }
 
-    public synchronized Boolean stepOut() {
-        return debuggerSession.stepOut();
+    public Boolean resumeIgnoreBreakpoints() {
+        return locked(() -> debuggerSession.resumeIgnoreBreakpoints());
     }
 
-    public synchronized Boolean resumeIgnoreBreakpoints() {
-        return debuggerSession.resumeIgnoreBreakpoints();
+    private <T> T locked(Supplier<T> supplier) {
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public String getDebugId() {
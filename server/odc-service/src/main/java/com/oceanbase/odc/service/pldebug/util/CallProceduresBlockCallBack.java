@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.pldebug.util;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.Validate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+
+import com.oceanbase.odc.common.util.StringUtils;
+import com.oceanbase.odc.core.shared.constant.ErrorCodes;
+import com.oceanbase.odc.core.shared.exception.BadArgumentException;
+import com.oceanbase.odc.core.sql.util.DBPLObjectUtil;
+import com.oceanbase.odc.core.sql.util.JdbcDataTypeUtil;
+import com.oceanbase.tools.dbbrowser.model.DBPLParam;
+import com.oceanbase.tools.dbbrowser.model.DBPLParamMode;
+import com.oceanbase.tools.dbbrowser.model.DBProcedure;
+import com.oceanbase.tools.dbbrowser.util.SqlBuilder;
+
+import lombok.NonNull;
+
+/**
+ * {@link CallProceduresBlockCallBack}, call several procedures in one anonymous block so that they
+ * cost only one round trip. The first procedure is the main operation, its error will be thrown
+ * out. The following ones are best effort, their errors will be ignored and the out params of them
+ * will be {@code null}.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class CallProceduresBlockCallBack implements ConnectionCallback<List<List<DBPLParam>>> {
+
+    private final List<DBProcedure> procedures;
+    private final SqlBuilder sqlBuilder;
+    private final int timeoutSeconds;
+
+    public CallProceduresBlockCallBack(@NonNull List<DBProcedure> procedures,
+            int timeoutSeconds, @NonNull SqlBuilder sqlBuilder) {
+        Validate.notEmpty(procedures, "Procedures can not be empty");
+        for (DBProcedure procedure : procedures) {
+            Validate.notBlank(procedure.getProName(), "Procedure name can not be blank");
+            DBPLObjectUtil.checkParams(procedure);
+        }
+        this.procedures = procedures;
+        this.sqlBuilder = sqlBuilder;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * @return out params of each procedure, in the same order as the procedures
+     */
+    @Override
+    public List<List<DBPLParam>> doInConnection(Connection con) throws SQLException, DataAccessException {
+        try (CallableStatement stmt = con.prepareCall(generateBlock())) {
+            if (this.timeoutSeconds > 0) {
+                stmt.setQueryTimeout(this.timeoutSeconds);
+            }
+            int index = 1;
+            for (DBProcedure procedure : procedures) {
+                for (DBPLParam param : getParams(procedure)) {
+                    DBPLParamMode type = param.getParamMode();
+                    String dataType = param.getDataType();
+                    if (type == DBPLParamMode.IN || type == DBPLParamMode.INOUT) {
+                        try {
+                            JdbcDataTypeUtil.setValueIntoStatement(stmt, index, dataType, param.getDefaultValue());
+                        } catch (Exception e) {
+                            throw new BadArgumentException(ErrorCodes.ArgumentValueAndTypeMismatched,
+                                    new Object[] {param.getParamName(), param.getDefaultValue(), dataType}, null);
+                        }
+                    }
+                    if (type == DBPLParamMode.OUT || type == DBPLParamMode.INOUT) {
+                        stmt.registerOutParameter(index,
+                                JdbcDataTypeUtil.parseDataType(dataType).getVendorTypeNumber());
+                    }
+                    index++;
+                }
+            }
+            stmt.executeQuery();
+            List<List<DBPLParam>> results = new ArrayList<>();
+            index = 1;
+            for (DBProcedure procedure : procedures) {
+                List<DBPLParam> result = new ArrayList<>();
+                for (DBPLParam param : getParams(procedure)) {
+                    DBPLParamMode type = param.getParamMode();
+                    if (type == DBPLParamMode.OUT || type == DBPLParamMode.INOUT) {
+                        Object value = JdbcDataTypeUtil.getValueFromStatement(stmt, index, param.getDataType());
+                        DBPLParam item = new DBPLParam();
+                        item.setDefaultValue(value == null ? null : String.valueOf(value));
+                        item.setParamName(param.getParamName());
+                        item.setParamMode(param.getParamMode());
+                        item.setDataType(param.getDataType());
+                        result.add(item);
+                    }
+                    index++;
+                }
+                results.add(result);
+            }
+            return results;
+        }
+    }
+
+    private String generateBlock() {
+        sqlBuilder.append("BEGIN ");
+        for (int i = 0; i < procedures.size(); i++) {
+            if (i > 0) {
+                sqlBuilder.append("BEGIN ");
+            }
+            DBProcedure procedure = procedures.get(i);
+            if (StringUtils.isNotBlank(procedure.getPackageName())) {
+                sqlBuilder.identifier(procedure.getPackageName()).append(".");
+            }
+            sqlBuilder.identifier(procedure.getProName()).append("(")
+                    .append(getParams(procedure).stream().map(p -> "?").collect(Collectors.joining(", ")))
+                    .append("); ");
+            if (i > 0) {
+                sqlBuilder.append("EXCEPTION WHEN OTHERS THEN NULL; END; ");
+            }
+        }
+        return sqlBuilder.append("END;").toString();
+    }
+
+    private List<DBPLParam> getParams(DBProcedure procedure) {
+        return procedure.getParams() == null ? new ArrayList<>() : procedure.getParams();
+    }
+
+}
@@ -20,6 +20,7 @@ import javax.sql.DataSource;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
@@ -38,6 +39,13 @@ public class QuartzConfiguration {
     @Autowired
     private OdcJobListener odcJobListener;
 
+    /**
+     * delay to start the scheduler asynchronously after the application started, non-positive value
+     * means start synchronously during the startup
+     */
+    @Value("${odc.quartz.startup-delay-seconds:0}")
+    private int startupDelaySeconds;
+
     private final String defaultSchedulerName = "ODC-SCHEDULER";
 
     @Bean
@@ -45,6 +53,9 @@ public class QuartzConfiguration {
         SchedulerFactoryBean schedulerFactoryBean = new SchedulerFactoryBean();
         schedulerFactoryBean.setDataSource(dataSource);
         schedulerFactoryBean.setSchedulerName(defaultSchedulerName);
+        if (startupDelaySeconds > 0) {
+            schedulerFactoryBean.setStartupDelay(startupDelaySeconds);
+        }
         return schedulerFactoryBean;
     }
 
@@ -17,6 +17,7 @@ package com.oceanbase.odc.service.regulation.approval;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -25,7 +26,6 @@ import com.oceanbase.odc.core.authority.util.SkipAuthorize;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
 import com.oceanbase.odc.service.regulation.risklevel.RiskDetectService;
 import com.oceanbase.odc.service.regulation.risklevel.RiskLevelService;
-import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRule;
 import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevel;
 import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevelDescriber;
 
@@ -48,20 +48,22 @@ public class ApprovalFlowConfigSelector {
     @Autowired
     private AuthenticationFacade authenticationFacade;
 
+    /**
+     * Select the risk levels of the describers in one batch, the risk detect rules are compiled once
+     * for all of them
+     *
+     * @return selected risk level of each describer, in the same order as the describers
+     */
     @SkipAuthorize("internal usage")
-    public RiskLevel select(RiskLevelDescriber describer) {
+    public List<RiskLevel> select(List<RiskLevelDescriber> describers) {
         /**
-         * find all risk detect rules
+         * get all hit risk level with the compiled risk detect rules
          */
-        List<RiskDetectRule> rules =
-                riskDetectService.listAllByOrganizationId(authenticationFacade.currentOrganizationId());
-        /**
-         * get all hit risk level
-         */
-        Set<RiskLevel> matched = riskDetectService.detect(rules, describer);
+        List<Set<RiskLevel>> matched =
+                riskDetectService.detect(authenticationFacade.currentOrganizationId(), describers);
         /**
          * determine the final selected risk level
          */
-        return riskLevelService.findHighestRiskLevel(matched);
+        return matched.stream().map(riskLevelService::findHighestRiskLevel).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.regulation.risklevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.oceanbase.odc.service.regulation.risklevel.model.BaseTreeNode;
+import com.oceanbase.odc.service.regulation.risklevel.model.BooleanOperator;
+import com.oceanbase.odc.service.regulation.risklevel.model.ConditionExpression;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRule;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRuleCondition;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRuleConditionGroup;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevelDescriber;
+import com.oceanbase.odc.service.regulation.risklevel.operator.OperatorFactory;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @Author: agent
+ * @Date: 2026/10/19
+ * @Description: [Compiled form of the risk detect rules of an organization. Operators of every
+ *               condition are resolved once, and a rule whose root requires an equals/in match on
+ *               environment, project, database or task type is only evaluated for the describers
+ *               carrying one of the required values.]
+ */
+@Slf4j
+public class RiskDetectRuleIndex {
+    private static final Set<ConditionExpression> INDEXED_EXPRESSIONS = EnumSet.of(
+            ConditionExpression.ENVIRONMENT_ID, ConditionExpression.PROJECT_NAME,
+            ConditionExpression.DATABASE_NAME, ConditionExpression.TASK_TYPE);
+
+    private final Map<ConditionExpression, Map<String, List<CompiledRule>>> indexedRules =
+            new EnumMap<>(ConditionExpression.class);
+    private final List<CompiledRule> unindexedRules = new ArrayList<>();
+    @Getter
+    private final int ruleCount;
+
+    public RiskDetectRuleIndex(@NonNull List<RiskDetectRule> rules) {
+        for (RiskDetectRule rule : rules) {
+            BaseTreeNode rootNode = rule.getRootNode();
+            if (Objects.isNull(rootNode)) {
+                continue;
+            }
+            List<RiskDetectRuleCondition> illegalConditions = new ArrayList<>();
+            CompiledRule compiled =
+                    new CompiledRule(rule.getRiskLevelId(), compile(rootNode, illegalConditions));
+            /**
+             * a rule with illegal conditions is evaluated for every describer, so that it fails the same way as
+             * the original tree evaluation instead of being skipped by the index
+             */
+            RiskDetectRuleCondition indexCondition =
+                    illegalConditions.isEmpty() ? findIndexCondition(rootNode) : null;
+            if (indexCondition == null) {
+                this.unindexedRules.add(compiled);
+                continue;
+            }
+            Map<String, List<CompiledRule>> value2Rules = this.indexedRules.computeIfAbsent(
+                    indexCondition.getExpression(), e -> new HashMap<>());
+            for (String value : getIndexValues(indexCondition)) {
+                value2Rules.computeIfAbsent(value, v -> new ArrayList<>()).add(compiled);
+            }
+        }
+        this.ruleCount = rules.size();
+    }
+
+    public boolean isEmpty() {
+        return this.ruleCount == 0;
+    }
+
+    /**
+     * @return ids of the risk levels whose rules match the describer
+     */
+    public Set<Long> match(@NonNull RiskLevelDescriber describer) {
+        Set<Long> matched = new HashSet<>();
+        for (CompiledRule rule : this.unindexedRules) {
+            rule.evaluateInto(describer, matched);
+        }
+        for (Map.Entry<ConditionExpression, Map<String, List<CompiledRule>>> entry : this.indexedRules.entrySet()) {
+            List<CompiledRule> candidates = entry.getValue().get(describer.describe(entry.getKey()));
+            if (candidates == null) {
+                continue;
+            }
+            for (CompiledRule rule : candidates) {
+                rule.evaluateInto(describer, matched);
+            }
+        }
+        return matched;
+    }
+
+    public List<Set<Long>> match(@NonNull List<RiskLevelDescriber> describers) {
+        return describers.stream().map(this::match).collect(Collectors.toList());
+    }
+
+    private static Predicate<RiskLevelDescriber> compile(BaseTreeNode node,
+            List<RiskDetectRuleCondition> illegalConditions) {
+        if (node instanceof RiskDetectRuleConditionGroup) {
+            RiskDetectRuleConditionGroup group = (RiskDetectRuleConditionGroup) node;
+            if (group.getChildren() == null) {
+                return node::evaluate;
+            }
+            List<Predicate<RiskLevelDescriber>> children = group.getChildren().stream()
+                    .map(child -> compile(child, illegalConditions)).collect(Collectors.toList());
+            if (group.getBooleanOperator() == BooleanOperator.AND) {
+                return describer -> children.stream().allMatch(child -> child.test(describer));
+            }
+            return describer -> children.stream().anyMatch(child -> child.test(describer));
+        } else if (node instanceof RiskDetectRuleCondition) {
+            RiskDetectRuleCondition condition = (RiskDetectRuleCondition) node;
+            try {
+                Predicate<String> predicate = OperatorFactory.createOperator(condition.getOperator())
+                        .compile(condition.getValue());
+                ConditionExpression expression = condition.getExpression();
+                return describer -> predicate.test(describer.describe(expression));
+            } catch (Exception e) {
+                // keep the original evaluation so that an illegal condition fails the same way as before
+                log.warn("Failed to compile risk detect rule condition, condition={}", condition, e);
+                illegalConditions.add(condition);
+                return node::evaluate;
+            }
+        }
+        return node::evaluate;
+    }
+
+    /**
+     * A condition can be used as the index key of a rule when the rule can not match without it, which
+     * is either the root itself or a direct child of an {@code AND} root.
+     */
+    private static RiskDetectRuleCondition findIndexCondition(BaseTreeNode rootNode) {
+        if (isIndexable(rootNode)) {
+            return (RiskDetectRuleCondition) rootNode;
+        }
+        if (!(rootNode instanceof RiskDetectRuleConditionGroup)) {
+            return null;
+        }
+        RiskDetectRuleConditionGroup group = (RiskDetectRuleConditionGroup) rootNode;
+        if (group.getBooleanOperator() != BooleanOperator.AND || group.getChildren() == null) {
+            return null;
+        }
+        return (RiskDetectRuleCondition) group.getChildren().stream()
+                .filter(RiskDetectRuleIndex::isIndexable).findFirst().orElse(null);
+    }
+
+    private static boolean isIndexable(BaseTreeNode node) {
+        if (!(node instanceof RiskDetectRuleCondition)) {
+            return false;
+        }
+        RiskDetectRuleCondition condition = (RiskDetectRuleCondition) node;
+        if (!INDEXED_EXPRESSIONS.contains(condition.getExpression()) || condition.getValue() == null) {
+            return false;
+        }
+        if (StringUtils.equalsIgnoreCase(condition.getOperator(), "equals")) {
+            return true;
+        }
+        return StringUtils.equalsIgnoreCase(condition.getOperator(), "in") && condition.getValue() instanceof List;
+    }
+
+    private static Set<String> getIndexValues(RiskDetectRuleCondition condition) {
+        Object value = condition.getValue();
+        if (!(value instanceof List)) {
+            return Collections.singleton(value.toString());
+        }
+        // describer values are always strings, other elements can never be matched
+        return ((List<?>) value).stream().filter(v -> v instanceof String).map(v -> (String) v)
+                .collect(Collectors.toSet());
+    }
+
+    private static class CompiledRule {
+        private final Long riskLevelId;
+        private final Predicate<RiskLevelDescriber> predicate;
+
+        CompiledRule(Long riskLevelId, Predicate<RiskLevelDescriber> predicate) {
+            this.riskLevelId = riskLevelId;
+            this.predicate = predicate;
+        }
+
+        void evaluateInto(RiskLevelDescriber describer, Set<Long> matched) {
+            if (!matched.contains(this.riskLevelId) && this.predicate.test(describer)) {
+                matched.add(this.riskLevelId);
+            }
+        }
+    }
+
+}
@@ -15,9 +15,12 @@
  */
 package com.oceanbase.odc.service.regulation.risklevel;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -25,12 +28,17 @@ import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.oceanbase.odc.core.authority.util.Authenticated;
 import com.oceanbase.odc.core.authority.util.PreAuthenticate;
 import com.oceanbase.odc.core.authority.util.SkipAuthorize;
@@ -49,12 +57,14 @@ import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevel;
 import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevelDescriber;
 
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * @Author: Lebie
  * @Date: 2023/6/15 18:51
  * @Description: []
  */
+@Slf4j
 @Service
 @Authenticated
 public class RiskDetectService {
@@ -73,6 +83,20 @@ public class RiskDetectService {
     @Autowired
     private UserService userService;
 
+    /**
+     * compiled rules of each organization, evicted on local rule changes and expired for the changes
+     * made on other nodes
+     */
+    private final LoadingCache<Long, RiskDetectRuleIndex> ruleIndexCache;
+
+    public RiskDetectService(
+            @Value("${odc.risk-detect.rule-index.cache-expire-seconds:60}") long cacheExpireSeconds) {
+        this.ruleIndexCache = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofSeconds(cacheExpireSeconds))
+                .build(this::buildRuleIndex);
+    }
+
     @SkipAuthorize("internal usage")
     public List<RiskDetectRule> list(@NonNull QueryRiskDetectRuleParams params) {
         params.setOrganizationId(authenticationFacade.currentOrganizationId());
@@ -102,6 +126,31 @@ public class RiskDetectService {
         return matched;
     }
 
+    /**
+     * Detect the risk levels of many describers in one batch, the rules of the organization are
+     * compiled once and shared by all the describers.
+     *
+     * @return matched risk levels of each describer, in the same order as the describers
+     */
+    @SkipAuthorize("internal usage")
+    public List<Set<RiskLevel>> detect(@NonNull Long organizationId, @NonNull List<RiskLevelDescriber> describers) {
+        RiskDetectRuleIndex ruleIndex = ruleIndexCache.get(organizationId);
+        if (ruleIndex.isEmpty()) {
+            RiskLevel defaultRiskLevel = riskLevelService.findDefaultRiskLevel();
+            return describers.stream().map(describer -> {
+                Set<RiskLevel> matched = new HashSet<>();
+                matched.add(defaultRiskLevel);
+                return matched;
+            }).collect(Collectors.toList());
+        }
+        Map<Long, RiskLevel> id2RiskLevel = new HashMap<>();
+        return ruleIndex.match(describers).stream()
+                .map(riskLevelIds -> riskLevelIds.stream()
+                        .map(id -> id2RiskLevel.computeIfAbsent(id, this::getRiskLevel))
+                        .collect(Collectors.toSet()))
+                .collect(Collectors.toList());
+    }
+
     @SkipAuthorize("internal authenticated")
     public RiskDetectRule detail(@NonNull Long id) {
         RiskDetectRuleEntity ruleEntity = findByOrganizationIdAndId(authenticationFacade.currentOrganizationId(), id);
@@ -123,6 +172,7 @@ public class RiskDetectService {
         entity.setOrganizationId(organizationId);
         entity.setBuiltIn(false);
         RiskDetectRuleEntity savedRule = riskDetectRuleRepository.save(entity);
+        invalidateRuleIndexAfterTx(organizationId);
         return entityToModel(savedRule);
     }
 
@@ -133,6 +183,7 @@ public class RiskDetectService {
         RiskDetectRuleEntity savedRule = findByOrganizationIdAndId(authenticationFacade.currentOrganizationId(), id);
         savedRule.setName(updateEntity.getName());
         savedRule.setValueJson(updateEntity.getValueJson());
+        invalidateRuleIndexAfterTx(savedRule.getOrganizationId());
         return entityToModel(riskDetectRuleRepository.save(savedRule));
     }
 
@@ -141,6 +192,7 @@ public class RiskDetectService {
     public RiskDetectRule delete(@NonNull Long id) {
         RiskDetectRuleEntity saved = findByOrganizationIdAndId(authenticationFacade.currentOrganizationId(), id);
         riskDetectRuleRepository.delete(saved);
+        invalidateRuleIndexAfterTx(saved.getOrganizationId());
         return entityToModel(saved);
     }
 
@@ -153,7 +205,7 @@ public class RiskDetectService {
 
     private List<RiskDetectRule> innerList(@NonNull QueryRiskDetectRuleParams params) {
         Specification<RiskDetectRuleEntity> specs = RiskDetectRuleSpecs.riskLevelIdEqual(params.getRiskLevelId())
-                .and(RiskDetectRuleSpecs.organizationIdEqual(authenticationFacade.currentOrganizationId()))
+                .and(RiskDetectRuleSpecs.organizationIdEqual(params.getOrganizationId()))
                 .and(RiskDetectRuleSpecs.nameLike(params.getName()));
         List<RiskDetectRuleEntity> ruleEntities = riskDetectRuleRepository
                 .findAll(specs, PageRequest.of(0, Integer.MAX_VALUE, Sort.by("id")))
@@ -166,11 +218,41 @@ public class RiskDetectService {
                 .collect(Collectors.toList());
     }
 
+    private RiskDetectRuleIndex buildRuleIndex(@NonNull Long organizationId) {
+        List<RiskDetectRule> rules = riskDetectRuleRepository.findByOrganizationId(organizationId).stream()
+                .map(ruleMapper::entityToModel).collect(Collectors.toList());
+        return new RiskDetectRuleIndex(rules);
+    }
+
+    /**
+     * the compiled rules are evicted at once and again after the transaction completes, so that a
+     * concurrent detection can not keep the rules read before the change is committed
+     */
+    private void invalidateRuleIndexAfterTx(@NonNull Long organizationId) {
+        ruleIndexCache.invalidate(organizationId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    ruleIndexCache.invalidate(organizationId);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to register rule index invalidation, organizationId={}", organizationId, e);
+        }
+    }
+
+    private RiskLevel getRiskLevel(@NonNull Long riskLevelId) {
+        return riskLevelService.findById(riskLevelId).orElseThrow(
+                () -> new NotFoundException(ResourceType.ODC_RISK_LEVEL, "id", riskLevelId));
+    }
+
     private RiskDetectRule entityToModel(RiskDetectRuleEntity ruleEntity) {
         RiskDetectRule rule = ruleMapper.entityToModel(ruleEntity);
-        rule.setRiskLevel(
-                riskLevelService.findById(ruleEntity.getRiskLevelId()).orElseThrow(() -> new NotFoundException(
-                        ResourceType.ODC_RISK_LEVEL, "id", ruleEntity.getRiskLevelId())));
+        rule.setRiskLevel(getRiskLevel(ruleEntity.getRiskLevelId()));
         rule.setCreator(new InnerUser(userService.nullSafeGet(ruleEntity.getCreatorId())));
         return rule;
     }
@@ -15,8 +15,11 @@
  */
 package com.oceanbase.odc.service.regulation.risklevel.operator;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.validation.constraints.NotNull;
 
@@ -38,4 +41,13 @@ public class InOperator implements Operator {
         }
         return ((List<?>) value).contains(expression);
     }
+
+    @Override
+    public Predicate<String> compile(@NotNull Object value) {
+        if (!(value instanceof List)) {
+            throw new UnexpectedException("value should be a string list in InOperator");
+        }
+        Set<?> targets = new HashSet<>((List<?>) value);
+        return expression -> Objects.nonNull(expression) && targets.contains(expression);
+    }
 }
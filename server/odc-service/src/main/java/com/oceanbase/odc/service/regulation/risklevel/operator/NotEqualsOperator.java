@@ -16,6 +16,7 @@
 package com.oceanbase.odc.service.regulation.risklevel.operator;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import javax.validation.constraints.NotNull;
 
@@ -32,5 +33,10 @@ public class NotEqualsOperator implements Operator {
         }
         return !expression.equals(value.toString());
     }
-}
 
+    @Override
+    public Predicate<String> compile(@NotNull Object value) {
+        String target = value.toString();
+        return expression -> Objects.nonNull(expression) && !target.equals(expression);
+    }
+}
@@ -15,8 +15,11 @@
  */
 package com.oceanbase.odc.service.regulation.risklevel.operator;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javax.validation.constraints.NotNull;
 
@@ -34,8 +37,17 @@ public class NotInOperator implements Operator {
             return false;
         }
         if (!(value instanceof List)) {
-            throw new UnexpectedException("value should be a string list in InOperator");
+            throw new UnexpectedException("value should be a string list in NotInOperator");
         }
         return !((List<?>) value).contains(expression);
     }
+
+    @Override
+    public Predicate<String> compile(@NotNull Object value) {
+        if (!(value instanceof List)) {
+            throw new UnexpectedException("value should be a string list in NotInOperator");
+        }
+        Set<?> targets = new HashSet<>((List<?>) value);
+        return expression -> Objects.nonNull(expression) && !targets.contains(expression);
+    }
 }
@@ -15,8 +15,18 @@
  */
 package com.oceanbase.odc.service.regulation.risklevel.operator;
 
+import java.util.function.Predicate;
+
 import javax.validation.constraints.NotNull;
 
 public interface Operator {
     boolean evaluate(String expression, @NotNull Object value);
+
+    /**
+     * Bind the operator to a fixed condition value, so that the value only has to be prepared once when
+     * the same condition is evaluated many times
+     */
+    default Predicate<String> compile(@NotNull Object value) {
+        return expression -> evaluate(expression, value);
+    }
 }
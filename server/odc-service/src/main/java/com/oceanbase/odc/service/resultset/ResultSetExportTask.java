@@ -16,12 +16,16 @@
 package com.oceanbase.odc.service.resultset;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -44,10 +49,13 @@ import com.oceanbase.odc.core.datamasking.config.MaskConfig;
 import com.oceanbase.odc.core.datamasking.masker.AbstractDataMasker;
 import com.oceanbase.odc.core.datamasking.masker.DataMaskerFactory;
 import com.oceanbase.odc.core.datamasking.masker.MaskValueType;
+import com.oceanbase.odc.core.datamasking.masker.ValueMeta;
+import com.oceanbase.odc.core.datasource.SingleConnectionDataSource;
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionConstants;
 import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.shared.PreConditions;
+import com.oceanbase.odc.core.shared.constant.ConnectionAccountType;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.shared.exception.OBException;
 import com.oceanbase.odc.core.shared.exception.UnexpectedException;
@@ -55,18 +63,20 @@ import com.oceanbase.odc.core.shared.exception.UnsupportedException;
 import com.oceanbase.odc.core.sql.execute.SyncJdbcExecutor;
 import com.oceanbase.odc.service.common.FileManager;
 import com.oceanbase.odc.service.common.model.FileBucket;
-import com.oceanbase.odc.service.common.util.FileConvertUtils;
 import com.oceanbase.odc.service.common.util.SpringContextUtil;
+import com.oceanbase.odc.service.common.util.XlsxStreamWriter;
 import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 import com.oceanbase.odc.service.connection.model.OBTenantEndpoint;
 import com.oceanbase.odc.service.datasecurity.DataMaskingFunction;
 import com.oceanbase.odc.service.datasecurity.model.MaskingAlgorithm;
 import com.oceanbase.odc.service.datasecurity.util.MaskingAlgorithmUtil;
+import com.oceanbase.odc.service.datatransfer.model.DataTransferConstants;
 import com.oceanbase.odc.service.datatransfer.model.DataTransferFormat;
 import com.oceanbase.odc.service.flow.task.OssTaskReferManager;
 import com.oceanbase.odc.service.flow.task.model.ResultSetExportResult;
 import com.oceanbase.odc.service.objectstorage.cloud.CloudObjectStorageService;
 import com.oceanbase.odc.service.resultset.ResultSetExportTaskParameter.CSVFormat;
+import com.oceanbase.odc.service.session.factory.OBConsoleDataSourceFactory;
 import com.oceanbase.tools.loaddump.client.DumpClient;
 import com.oceanbase.tools.loaddump.client.DumpClient.Builder;
 import com.oceanbase.tools.loaddump.common.enums.DataFormat;
@@ -97,6 +107,7 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
     private final String taskId;
     private final String fileName;
     private final CloudObjectStorageService cloudObjectStorageService;
+    private final ConnectionConfig connectionConfig;
     @Getter
     private TaskContext taskContext;
 
@@ -107,6 +118,7 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
         this.fileName = parameter.getFileName();
         this.parameter = parameter;
         this.cloudObjectStorageService = cloudObjectStorageService;
+        this.connectionConfig = (ConnectionConfig) ConnectionSessionUtil.getConnectionConfig(session);
         initDumpParameter(session);
     }
 
@@ -114,7 +126,10 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
         this.dumpParameter = new DumpParameter();
         initBaseParameter();
         initSessionParameter(session);
-        setMaskConfig(session);
+        if (DataTransferFormat.EXCEL != parameter.getFileFormat()) {
+            // excel is written from the result set directly, columns are masked by ordinal at that time
+            setMaskConfig(session);
+        }
     }
 
     private void initCSVParameter(ResultSetExportTaskParameter parameter) {
@@ -192,24 +207,12 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
             this.dumpParameter.setFileSuffix(".csv");
             initCSVParameter(parameter);
         } else if (DataTransferFormat.EXCEL == parameter.getFileFormat()) {
-            this.dumpParameter.setDataFormat(DataFormat.CSV);
-            this.dumpParameter.setFileSuffix(".csv");
-            initExcelParameter(parameter);
+            this.dumpParameter.setFileSuffix(DataTransferFormat.EXCEL.getExtension());
         } else {
             throw new UnsupportedException(parameter.getFileFormat() + " not supported");
         }
     }
 
-    private void initExcelParameter(ResultSetExportTaskParameter req) {
-        this.initCSVParameter(req);
-        this.dumpParameter.setEscapeCharacter('\\');
-        this.dumpParameter.setColumnSeparator(',');
-        this.dumpParameter.setColumnDelimiter('\"');
-        this.dumpParameter.setLineSeparator("\n");
-        this.dumpParameter.setIgnoreEmptyLine(false);
-        this.dumpParameter.setNullString("null");
-    }
-
     private void initSessionParameter(ConnectionSession session) {
         ConnectionConfig connectionConfig = (ConnectionConfig) ConnectionSessionUtil.getConnectionConfig(session);
         this.dumpParameter.setHost(connectionConfig.getHost());
@@ -307,6 +310,9 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
 
     @Override
     public ResultSetExportResult call() throws Exception {
+        if (DataTransferFormat.EXCEL == parameter.getFileFormat()) {
+            return exportExcel();
+        }
         try {
             DumpClient dumpClient = new Builder(this.dumpParameter).build();
             taskContext = dumpClient.dumpRecord();
@@ -338,21 +344,6 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
                         FileUtils.touch(origin);
                     }
 
-                    /**
-                     * OBDumper 不支持 excel 导出，需要先生成 csv, 然后使用工具类转换成 xlsx
-                     */
-                    if (DataTransferFormat.EXCEL == parameter.getFileFormat()) {
-                        String excelFilePath = getDumpFilePath(DataTransferFormat.EXCEL.getExtension());
-                        try {
-                            FileConvertUtils.convertCsvToXls(localResultSetFilePath, excelFilePath,
-                                    parameter.isSaveSql() ? Arrays.asList(parameter.getSql()) : null);
-                        } catch (Exception ex) {
-                            LOGGER.warn("CSV has been dumped successfully, but converting to Excel failed.");
-                            throw ex;
-                        }
-                        origin = new File(excelFilePath);
-                    }
-
                     try {
                         handleExportFile(origin);
                     } catch (Exception e) {
@@ -373,6 +364,78 @@ public class ResultSetExportTask implements Callable<ResultSetExportResult> {
         return ResultSetExportResult.succeed(fileName);
     }
 
+    /**
+     * OBDumper does not support excel, the result set is fetched by cursor and written into a xlsx file
+     * in a single pass instead of being dumped as csv and converted afterwards
+     */
+    private ResultSetExportResult exportExcel() throws Exception {
+        File excelFile = new File(getDumpFilePath(DataTransferFormat.EXCEL.getExtension()));
+        FileUtils.forceMkdirParent(excelFile);
+        OBConsoleDataSourceFactory factory =
+                new OBConsoleDataSourceFactory(connectionConfig, ConnectionAccountType.MAIN, true, false);
+        factory.resetSchema(origin -> dumpParameter.getConnectDatabaseName());
+        factory.resetParameters(origin -> {
+            origin.put("useCursorFetch", "true");
+            return origin;
+        });
+        try (SingleConnectionDataSource dataSource = (SingleConnectionDataSource) factory.getDataSource();
+                Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(parameter.getSql())) {
+            statement.setFetchSize(DataTransferConstants.MAX_CURSOR_FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery();
+                    XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(excelFile))) {
+                // keep the same output as the csv converted one, null is written as text "null"
+                writer.setNullText("null");
+                CSVFormat csvFormat = parameter.getCsvFormat();
+                long rowCount = writer.writeResultSet(resultSet, getMaskingMappers(resultSet.getMetaData()),
+                        csvFormat == null || csvFormat.isContainColumnHeader());
+                if (parameter.isSaveSql()) {
+                    writer.writeAnotherSheet(Collections.singletonList(parameter.getSql()));
+                }
+                LOGGER.info("Result set has been written into excel, rowCount={}", rowCount);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("ResultSetExportTask has been finished with some unexpected error when writing excel.");
+            FileUtils.deleteQuietly(excelFile);
+            throw e;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            Thread.interrupted();
+            FileUtils.deleteQuietly(excelFile);
+            throw new InterruptedException("ResultSetExportTask has been interrupted by force");
+        }
+        try {
+            handleExportFile(excelFile);
+        } catch (Exception e) {
+            LOGGER.warn("Post processing export file failed.");
+            throw e;
+        }
+        LOGGER.info("ResultSetExportTask has been executed successfully");
+        return ResultSetExportResult.succeed(fileName);
+    }
+
+    private Map<Integer, UnaryOperator<String>> getMaskingMappers(ResultSetMetaData metaData) throws SQLException {
+        Map<Integer, UnaryOperator<String>> mappers = new HashMap<>();
+        List<MaskingAlgorithm> algorithms = parameter.getRowDataMaskingAlgorithms();
+        if (!needDataMasking(algorithms)) {
+            return mappers;
+        }
+        DataMaskerFactory maskerFactory = new DataMaskerFactory();
+        int columnCount = Math.min(algorithms.size(), metaData.getColumnCount());
+        for (int index = 0; index < columnCount; index++) {
+            MaskingAlgorithm algorithm = algorithms.get(index);
+            if (Objects.isNull(algorithm)) {
+                continue;
+            }
+            String columnName = metaData.getColumnName(index + 1);
+            MaskConfig maskConfig = MaskingAlgorithmUtil.toSingleFieldMaskConfig(algorithm, columnName);
+            AbstractDataMasker masker = maskerFactory.createDataMasker(MaskValueType.SINGLE_VALUE.name(), maskConfig);
+            ValueMeta valueMeta = new ValueMeta(metaData.getColumnTypeName(index + 1), columnName);
+            mappers.put(index, value -> masker.mask(value, valueMeta));
+        }
+        return mappers;
+    }
+
     private void shutdownContext(@NonNull TaskContext context) {
         try {
             context.shutdown();
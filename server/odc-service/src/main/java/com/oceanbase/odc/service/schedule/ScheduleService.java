@@ -504,7 +504,7 @@ public class ScheduleService {
         riskLevelDescriber.setProjectName(database.getProject().getName());
         riskLevelDescriber.setEnvironmentId(database.getEnvironment().getId().toString());
         riskLevelDescriber.setTaskType(TaskType.ALTER_SCHEDULE.name());
-        RiskLevel riskLevel = approvalFlowConfigSelector.select(riskLevelDescriber);
+        RiskLevel riskLevel = approvalFlowConfigSelector.select(Collections.singletonList(riskLevelDescriber)).get(0);
         return riskLevel.getApprovalFlowConfig().getNodes().stream().filter(node -> node.getResourceRoleName() != null)
                 .map(
                         node -> ResourceRoleName.valueOf(node.getResourceRoleName()))
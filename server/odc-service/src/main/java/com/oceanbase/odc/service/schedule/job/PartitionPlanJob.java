@@ -22,12 +22,16 @@ import org.quartz.JobExecutionContext;
 import org.quartz.SchedulerException;
 
 import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.core.shared.constant.TaskStatus;
 import com.oceanbase.odc.metadb.partitionplan.DatabasePartitionPlanEntity;
 import com.oceanbase.odc.metadb.partitionplan.TablePartitionPlanEntity;
 import com.oceanbase.odc.metadb.schedule.ScheduleEntity;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskEntity;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskRepository;
 import com.oceanbase.odc.service.common.util.SpringContextUtil;
 import com.oceanbase.odc.service.partitionplan.PartitionPlanService;
 import com.oceanbase.odc.service.partitionplan.PartitionPlanTaskService;
+import com.oceanbase.odc.service.partitionplan.model.PartitionPlanTaskResult;
 import com.oceanbase.odc.service.quartz.util.ScheduleTaskUtils;
 import com.oceanbase.odc.service.schedule.ScheduleService;
 import com.oceanbase.odc.service.schedule.model.PartitionPlanJobParameters;
@@ -50,6 +54,8 @@ public class PartitionPlanJob implements OdcJob {
 
     private final ScheduleService scheduleService;
 
+    private final ScheduleTaskRepository scheduleTaskRepository;
+
 
 
     public PartitionPlanJob() {
@@ -59,6 +65,8 @@ public class PartitionPlanJob implements OdcJob {
         partitionPlanService = SpringContextUtil.getBean(PartitionPlanService.class);
 
         scheduleService = SpringContextUtil.getBean(ScheduleService.class);
+
+        scheduleTaskRepository = SpringContextUtil.getBean(ScheduleTaskRepository.class);
     }
 
     @Override
@@ -92,11 +100,17 @@ public class PartitionPlanJob implements OdcJob {
                 throw new RuntimeException(e);
             }
         }
+        ScheduleTaskEntity taskEntity = (ScheduleTaskEntity) context.getResult();
         try {
-            partitionPlanTaskService.executePartitionPlan(databasePartitionPlan.getFlowInstanceId(),
-                    tablePartitionPlans);
+            PartitionPlanTaskResult result = partitionPlanTaskService.executePartitionPlan(
+                    databasePartitionPlan.getFlowInstanceId(), tablePartitionPlans);
+            scheduleTaskRepository.updateTaskResult(taskEntity.getId(), JsonUtils.toJson(result));
+            // tables failed to be planned are skipped, the task is failed to make them visible
+            scheduleTaskRepository.updateStatusById(taskEntity.getId(),
+                    result.isSuccess() ? TaskStatus.DONE : TaskStatus.FAILED);
         } catch (Exception e) {
             log.warn("Create partition-plan database change task failed.", e);
+            scheduleTaskRepository.updateStatusById(taskEntity.getId(), TaskStatus.FAILED);
         }
     }
 
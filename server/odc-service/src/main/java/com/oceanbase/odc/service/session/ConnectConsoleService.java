@@ -24,6 +24,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +42,7 @@ import org.apache.commons.lang3.Validate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.StatementCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -87,6 +90,7 @@ import com.oceanbase.odc.service.db.session.KillSessionResult;
 import com.oceanbase.odc.service.dml.ValueEncodeType;
 import com.oceanbase.odc.service.feature.AllFeatures;
 import com.oceanbase.odc.service.feature.Features;
+import com.oceanbase.odc.service.monitor.SqlExecuteMetrics;
 import com.oceanbase.odc.service.session.interceptor.SqlCheckInterceptor;
 import com.oceanbase.odc.service.session.interceptor.SqlExecuteInterceptorService;
 import com.oceanbase.odc.service.session.model.BinaryContent;
@@ -125,11 +129,15 @@ public class ConnectConsoleService {
     @Autowired
     private SqlExecuteInterceptorService sqlInterceptService;
     @Autowired
+    private SqlExecuteMetrics sqlExecuteMetrics;
+    @Autowired
     private DBSessionManageFacade dbSessionManageFacade;
     @Autowired
     private DefaultDBSessionManage defaultDbSessionManage;
     @Autowired
     private ConnectionService connectionService;
+    @Autowired
+    private SqlExecuteResultNotifier resultNotifier;
 
     public SqlExecuteResult queryTableOrViewData(@NotNull String sessionId,
             @NotNull @Valid QueryTableOrViewDataReq req) throws Exception {
@@ -256,10 +264,32 @@ public class ConnectConsoleService {
         statementCallBack.setMaxCachedSize(sessionProperties.getResultSetMaxCachedSize());
         statementCallBack.setMaxCachedLines(sessionProperties.getResultSetMaxCachedLines());
 
+        if (!resultNotifier.hasSubscriber(connectionSession.getId())) {
+            Future<List<JdbcGeneralResult>> futureResult = connectionSession.getAsyncJdbcExecutor(
+                    ConnectionSessionConstants.CONSOLE_DS_KEY).execute(statementCallBack);
+            String id = ConnectionSessionUtil.setFutureJdbc(connectionSession, futureResult, context);
+            response.setRequestId(id);
+            return response;
+        }
+        // the request id has to be known before execution so that the progress can be pushed
+        String requestId = UUID.randomUUID().toString();
+        String connectionSessionId = connectionSession.getId();
+        statementCallBack.setResultConsumer(r -> resultNotifier.onStatementDone(connectionSessionId, requestId, r));
+        // the client fetches the result as soon as it is notified, the future has to be registered by then
+        CompletableFuture<Void> executed = new CompletableFuture<>();
+        CompletableFuture<Void> registered = new CompletableFuture<>();
+        executed.runAfterBoth(registered, () -> resultNotifier.onExecutionDone(connectionSessionId, requestId));
         Future<List<JdbcGeneralResult>> futureResult = connectionSession.getAsyncJdbcExecutor(
-                ConnectionSessionConstants.CONSOLE_DS_KEY).execute(statementCallBack);
-        String id = ConnectionSessionUtil.setFutureJdbc(connectionSession, futureResult, context);
-        response.setRequestId(id);
+                ConnectionSessionConstants.CONSOLE_DS_KEY).execute((StatementCallback<List<JdbcGeneralResult>>) s -> {
+                    try {
+                        return statementCallBack.doInStatement(s);
+                    } finally {
+                        executed.complete(null);
+                    }
+                });
+        ConnectionSessionUtil.setFutureJdbc(connectionSession, requestId, futureResult, context);
+        registered.complete(null);
+        response.setRequestId(requestId);
         return response;
     }
 
@@ -287,6 +317,8 @@ public class ConnectConsoleService {
                 } catch (Exception e) {
                     throw new IllegalStateException(e);
                 }
+                sqlExecuteMetrics.record(result.getTraceWatch(), connectionSession.getDialectType(),
+                        result.getSqlType());
                 return result;
             }).collect(Collectors.toList());
         } catch (InterruptedException | ExecutionException e) {
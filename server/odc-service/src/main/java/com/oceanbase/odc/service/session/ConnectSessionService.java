@@ -44,7 +44,9 @@ import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionRepository;
 import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.session.DefaultConnectionSessionManager;
+import com.oceanbase.odc.core.session.DistributedConnectionSessionRepository;
 import com.oceanbase.odc.core.session.InMemorySessionRepository;
+import com.oceanbase.odc.core.session.SessionMemoryUsage;
 import com.oceanbase.odc.core.shared.PreConditions;
 import com.oceanbase.odc.core.shared.constant.ConnectionAccountType;
 import com.oceanbase.odc.core.shared.constant.DialectType;
@@ -63,6 +65,7 @@ import com.oceanbase.odc.core.task.DefaultTaskManager;
 import com.oceanbase.odc.core.task.ExecuteMonitorTaskManager;
 import com.oceanbase.odc.metadb.collaboration.EnvironmentEntity;
 import com.oceanbase.odc.metadb.collaboration.EnvironmentRepository;
+import com.oceanbase.odc.service.common.model.HostProperties;
 import com.oceanbase.odc.service.common.util.SidUtils;
 import com.oceanbase.odc.service.config.UserConfigFacade;
 import com.oceanbase.odc.service.config.model.UserConfig;
@@ -84,6 +87,7 @@ import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
 import com.oceanbase.odc.service.iam.auth.AuthorizationFacade;
 import com.oceanbase.odc.service.lab.model.LabProperties;
 import com.oceanbase.odc.service.session.factory.DefaultConnectSessionFactory;
+import com.oceanbase.odc.service.task.model.ExecutorInfo;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -120,6 +124,11 @@ public class ConnectSessionService {
     private SessionLimitService limitService;
     private ExecuteMonitorTaskManager monitorTaskManager;
     private DefaultConnectionSessionManager connectionSessionManager;
+    private DistributedConnectionSessionRepository distributedRepository;
+    @Autowired
+    private MetaDBConnectionSessionOwnerRegistry ownerRegistry;
+    @Autowired
+    private HostProperties hostProperties;
     @Autowired
     private VersionDiffConfigService configService;
     @Autowired
@@ -140,6 +149,13 @@ public class ConnectSessionService {
         log.info("Start to initialize the connection session module");
         this.monitorTaskManager = new ExecuteMonitorTaskManager();
         ConnectionSessionRepository repository = new InMemorySessionRepository();
+        if (sessionProperties.isOwnerRegistryEnabled()) {
+            ExecutorInfo executorInfo = new ExecutorInfo(hostProperties);
+            this.distributedRepository = new DistributedConnectionSessionRepository(repository, ownerRegistry,
+                    executorInfo.getHost() + ":" + executorInfo.getPort());
+            repository = this.distributedRepository;
+            log.info("Connection session owner registry is enabled, owner={}", distributedRepository.getLocalOwner());
+        }
         this.connectionSessionManager = new DefaultConnectionSessionManager(
                 new DefaultTaskManager("connection-session-management"), repository);
         this.connectionSessionManager.addListener(new SessionLimitListener(limitService));
@@ -261,9 +277,15 @@ public class ConnectSessionService {
 
     public void close(@NotNull String sessionId, long delay, @NotNull TimeUnit timeUnit) {
         ConnectionSession connectionSession = getWithCreatorCheck(sessionId);
+        log.info("Session is going to be closed, memoryUsage={}",
+                ConnectionSessionUtil.getMemoryUsage(connectionSession));
         connectionSessionManager.expire(connectionSession, delay, timeUnit);
     }
 
+    public SessionMemoryUsage getMemoryUsage(@NotNull String sessionId) {
+        return ConnectionSessionUtil.getMemoryUsage(nullSafeGet(SidUtils.getSessionId(sessionId)));
+    }
+
     public Set<String> close(@NotNull Set<String> sessionIds, long delay, @NotNull TimeUnit timeUnit) {
         Set<String> closedSessionIds = new HashSet<>();
         sessionIds.forEach(s -> {
@@ -280,6 +302,7 @@ public class ConnectSessionService {
     public ConnectionSession nullSafeGet(@NotNull String sessionId) {
         ConnectionSession session = connectionSessionManager.getSession(sessionId);
         if (session == null) {
+            throwIfOwnedByOtherNode(sessionId);
             throw new NotFoundException(ResourceType.ODC_SESSION, "ID", sessionId);
         }
         if (!Objects.equals(ConnectionSessionUtil.getUserId(session), authenticationFacade.currentUserId())) {
@@ -290,6 +313,16 @@ public class ConnectSessionService {
         return session;
     }
 
+    /**
+     * Remove the owner record of a session whose owner node is unreachable, the session is treated as
+     * not existing afterwards
+     */
+    public void invalidateRemoteOwner(@NotNull String sessionId) {
+        if (this.distributedRepository != null) {
+            this.distributedRepository.invalidateRemoteOwner(sessionId);
+        }
+    }
+
     public Collection<ConnectionSession> listAllSessions() {
         return this.connectionSessionManager.retrieveAllSessions();
     }
@@ -334,6 +367,23 @@ public class ConnectSessionService {
                 .build();
     }
 
+    private void throwIfOwnedByOtherNode(String sessionId) {
+        if (this.distributedRepository == null) {
+            return;
+        }
+        String owner = this.distributedRepository.getRemoteOwner(sessionId);
+        int index = owner == null ? -1 : owner.lastIndexOf(':');
+        if (index <= 0) {
+            return;
+        }
+        try {
+            Integer port = Integer.parseInt(owner.substring(index + 1));
+            throw new SessionOwnedByOtherNodeException(sessionId, owner.substring(0, index), port);
+        } catch (NumberFormatException e) {
+            log.warn("Illegal session owner, sessionId={}, owner={}", sessionId, owner);
+        }
+    }
+
     private Boolean getAutoCommit(ConnectionConfig connectionConfig, UserConfig userConfig) {
         if (DialectType.OB_ORACLE.equals(connectionConfig.getDialectType())) {
             return "ON".equalsIgnoreCase(userConfig.getOracleAutoCommitMode());
@@ -374,6 +424,7 @@ public class ConnectSessionService {
     private ConnectionSession getWithCreatorCheck(@NonNull String sessionId) {
         ConnectionSession session = connectionSessionManager.getSession(sessionId);
         if (session == null) {
+            throwIfOwnedByOtherNode(sessionId);
             throw new NotFoundException(ResourceType.ODC_SESSION, "ID", sessionId);
         }
         if (!Objects.equals(ConnectionSessionUtil.getUserId(session), authenticationFacade.currentUserId())) {
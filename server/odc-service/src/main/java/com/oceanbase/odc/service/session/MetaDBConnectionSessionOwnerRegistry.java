@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.core.session.ConnectionSessionOwnerRegistry;
+import com.oceanbase.odc.metadb.connection.ConnectSessionOwnerEntity;
+import com.oceanbase.odc.metadb.connection.ConnectSessionOwnerRepository;
+
+import lombok.NonNull;
+
+/**
+ * {@link ConnectionSessionOwnerRegistry} backed by the metadb, shared by all the nodes of a
+ * deployment
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ * @see ConnectionSessionOwnerRegistry
+ */
+@Component
+public class MetaDBConnectionSessionOwnerRegistry implements ConnectionSessionOwnerRegistry {
+
+    @Autowired
+    private ConnectSessionOwnerRepository repository;
+
+    @Override
+    public void register(@NonNull String sessionId, @NonNull String owner) {
+        if (this.repository.updateOwnerBySessionId(sessionId, owner) > 0) {
+            return;
+        }
+        ConnectSessionOwnerEntity entity = new ConnectSessionOwnerEntity();
+        entity.setSessionId(sessionId);
+        entity.setOwner(owner);
+        try {
+            this.repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            // the record is inserted concurrently, overwrite it
+            this.repository.updateOwnerBySessionId(sessionId, owner);
+        }
+    }
+
+    @Override
+    public String getOwner(@NonNull String sessionId) {
+        Optional<ConnectSessionOwnerEntity> optional = this.repository.findBySessionId(sessionId);
+        return optional.map(ConnectSessionOwnerEntity::getOwner).orElse(null);
+    }
+
+    @Override
+    public void unregister(@NonNull String sessionId) {
+        this.repository.deleteBySessionId(sessionId);
+    }
+
+    @Override
+    public int unregisterByOwner(@NonNull String owner) {
+        return this.repository.deleteByOwner(owner);
+    }
+
+    @Override
+    public Map<String, String> listAllOwners() {
+        return this.repository.findAll().stream().collect(Collectors.toMap(
+                ConnectSessionOwnerEntity::getSessionId, ConnectSessionOwnerEntity::getOwner, (a, b) -> b));
+    }
+
+}
@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -123,6 +124,11 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
     private long maxCachedSize = 1024 * 1024 * 1024; // 1 GB
     @Setter
     private Integer dbmsoutputMaxRows = null;
+    /**
+     * Called once the result of a statement is available, used to push the progress to clients
+     */
+    @Setter
+    private Consumer<JdbcGeneralResult> resultConsumer = null;
 
     public OdcStatementCallBack(@NonNull List<SqlTuple> sqls, @NonNull ConnectionSession connectionSession) {
         this(sqls, connectionSession, null, null);
@@ -185,6 +191,7 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
                     executeResults = Collections.singletonList(JdbcGeneralResult.canceledResult(sqlTuple));
                 }
                 returnVal.addAll(executeResults);
+                notifyResults(executeResults);
             }
             Optional<JdbcGeneralResult> failed = returnVal
                     .stream().filter(r -> r.getStatus() == SqlExecuteStatus.FAILED).findFirst();
@@ -215,6 +222,19 @@ public class OdcStatementCallBack implements StatementCallback<List<JdbcGeneralR
         return returnVal;
     }
 
+    private void notifyResults(List<JdbcGeneralResult> results) {
+        if (this.resultConsumer == null) {
+            return;
+        }
+        for (JdbcGeneralResult result : results) {
+            try {
+                this.resultConsumer.accept(result);
+            } catch (Exception e) {
+                log.warn("Failed to notify sql execution result, sqlId={}", result.getSqlTuple().getSqlId(), e);
+            }
+        }
+    }
+
     private void applyConnectionSettings(Statement statement) throws SQLException {
         if (statement.getConnection() instanceof OceanBaseConnection) {
             // init jdbc statistic collect
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import com.oceanbase.odc.core.shared.constant.ResourceType;
+import com.oceanbase.odc.core.shared.exception.NotFoundException;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Thrown when a {@link com.oceanbase.odc.core.session.ConnectionSession} is not held by this node
+ * but by another node of the deployment, the request should be forwarded to the owner
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Getter
+public class SessionOwnedByOtherNodeException extends NotFoundException {
+
+    private final String sessionId;
+    private final String host;
+    private final Integer port;
+
+    public SessionOwnedByOtherNodeException(@NonNull String sessionId, @NonNull String host, @NonNull Integer port) {
+        super(ResourceType.ODC_SESSION, "ID", sessionId);
+        this.sessionId = sessionId;
+        this.host = host;
+        this.port = port;
+    }
+
+}
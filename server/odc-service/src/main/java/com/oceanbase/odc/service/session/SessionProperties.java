@@ -134,4 +134,11 @@ public class SessionProperties {
     @Value("${odc.session.full-link-trace-timeout-seconds:60}")
     private int fullLinkTraceTimeoutSeconds;
 
+    /**
+     * Whether to publish the owner of connection sessions to the metadb, so that requests arriving at a
+     * node which does not hold the session can be forwarded to the owner in multi-node deployments
+     */
+    @Value("${odc.session.owner-registry.enabled:false}")
+    private boolean ownerRegistryEnabled = false;
+
 }
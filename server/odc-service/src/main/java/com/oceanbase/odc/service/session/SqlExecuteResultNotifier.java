@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.service.websocket.WebSocketBody;
+import com.oceanbase.odc.service.websocket.WebSocketParams;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes the progress of console sql executions to subscribed clients, so that clients do not have
+ * to poll the result of an execution repeatedly. A subscriber is notified once the result of each
+ * statement is available and once the whole execution is done, it is expected to fetch the results
+ * of the execution only once after that.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@Slf4j
+@Component
+public class SqlExecuteResultNotifier {
+
+    public static final String STATEMENT_DONE_METHOD = "sqlExecuteStatementDone";
+    public static final String EXECUTION_DONE_METHOD = "sqlExecuteDone";
+    private final Map<String, Map<String, Consumer<WebSocketBody>>> sessionId2Subscribers =
+            new ConcurrentHashMap<>();
+
+    public void subscribe(@NonNull String sessionId, @NonNull String subscriberId,
+            @NonNull Consumer<WebSocketBody> subscriber) {
+        this.sessionId2Subscribers.computeIfAbsent(sessionId, s -> new ConcurrentHashMap<>())
+                .put(subscriberId, subscriber);
+    }
+
+    public void unsubscribe(@NonNull String sessionId, @NonNull String subscriberId) {
+        this.sessionId2Subscribers.computeIfPresent(sessionId, (s, subscribers) -> {
+            subscribers.remove(subscriberId);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    public boolean hasSubscriber(@NonNull String sessionId) {
+        return this.sessionId2Subscribers.containsKey(sessionId);
+    }
+
+    public void onStatementDone(@NonNull String sessionId, @NonNull String requestId,
+            @NonNull JdbcGeneralResult result) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("requestId", requestId);
+        data.put("sqlId", result.getSqlTuple().getSqlId());
+        data.put("status", result.getStatus());
+        publish(sessionId, STATEMENT_DONE_METHOD, requestId, data);
+    }
+
+    public void onExecutionDone(@NonNull String sessionId, @NonNull String requestId) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("requestId", requestId);
+        publish(sessionId, EXECUTION_DONE_METHOD, requestId, data);
+    }
+
+    private void publish(String sessionId, String method, String requestId, Map<String, Object> data) {
+        Map<String, Consumer<WebSocketBody>> subscribers = this.sessionId2Subscribers.get(sessionId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        WebSocketBody body = new WebSocketBody().setId(requestId).setMethod(method)
+                .setParams(new WebSocketParams(JsonUtils.toJson(data)));
+        subscribers.forEach((id, subscriber) -> {
+            try {
+                subscriber.accept(body);
+            } catch (Exception e) {
+                log.warn("Failed to push sql execution progress, sessionId={}, subscriberId={}", sessionId, id, e);
+            }
+        });
+    }
+
+}
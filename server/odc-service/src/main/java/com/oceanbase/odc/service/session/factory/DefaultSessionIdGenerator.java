@@ -15,6 +15,7 @@
  */
 package com.oceanbase.odc.service.session.factory;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.oceanbase.odc.core.session.ConnectionSessionIdGenerator;
@@ -23,7 +24,12 @@ import com.oceanbase.odc.service.connection.model.ConnectionConfig;
 
 public class DefaultSessionIdGenerator implements ConnectionSessionIdGenerator {
 
-    private static final AtomicLong SESSION_ID_COUNTER = new AtomicLong(10000);
+    /**
+     * counter starts at a random point so that session ids from different nodes or different runs of
+     * the same node will hardly collide in the shared session owner registry
+     */
+    private static final AtomicLong SESSION_ID_COUNTER =
+            new AtomicLong(10000 + ThreadLocalRandom.current().nextLong(Integer.MAX_VALUE) * 1000);
     private final ConnectionConfig connectionConfig;
 
     public DefaultSessionIdGenerator(ConnectionConfig connectionConfig) {
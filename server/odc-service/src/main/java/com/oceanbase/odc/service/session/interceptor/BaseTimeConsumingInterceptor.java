@@ -33,19 +33,25 @@ public abstract class BaseTimeConsumingInterceptor implements SqlExecuteIntercep
     @Override
     public boolean preHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
             @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {
-        List<TraceStage> stageList = response.getSqls().stream()
-                .map(v -> v.getSqlTuple().getSqlWatch().start(getExecuteStageName()))
-                .collect(Collectors.toList());
+        List<TraceStage> stageList = startStages(response);
         try {
             return doPreHandle(request, response, session, context);
         } finally {
-            for (TraceStage stage : stageList) {
-                try {
-                    stage.close();
-                } catch (Exception e) {
-                    // eat exception
-                }
-            }
+            closeStages(stageList);
+        }
+    }
+
+    @Override
+    public boolean awaitPreHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
+            @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {
+        if (!isPreHandleAsync()) {
+            return true;
+        }
+        List<TraceStage> stageList = startStages(response);
+        try {
+            return doAwaitPreHandle(request, response, session, context);
+        } finally {
+            closeStages(stageList);
         }
     }
 
@@ -62,9 +68,37 @@ public abstract class BaseTimeConsumingInterceptor implements SqlExecuteIntercep
         return true;
     }
 
+    protected boolean doAwaitPreHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
+            @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {
+        return true;
+    }
+
+    /**
+     * @return whether {@link #doAwaitPreHandle} needs to be called
+     */
+    protected boolean isPreHandleAsync() {
+        return false;
+    }
+
     protected void doAfterCompletion(@NonNull SqlExecuteResult response,
             @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {}
 
     protected abstract String getExecuteStageName();
 
+    private List<TraceStage> startStages(SqlAsyncExecuteResp response) {
+        return response.getSqls().stream()
+                .map(v -> v.getSqlTuple().getSqlWatch().start(getExecuteStageName()))
+                .collect(Collectors.toList());
+    }
+
+    private void closeStages(List<TraceStage> stageList) {
+        for (TraceStage stage : stageList) {
+            try {
+                stage.close();
+            } catch (Exception e) {
+                // eat exception
+            }
+        }
+    }
+
 }
@@ -67,8 +67,9 @@ public class DatabasePermissionInterceptor extends BaseTimeConsumingInterceptor
         }
         ConnectionConfig connectionConfig = (ConnectionConfig) ConnectionSessionUtil.getConnectionConfig(session);
         Set<String> allDatabaseNames = SchemaExtractor.listSchemaNames(response.getSqls().stream()
-                .map(sqlTuplesWithViolation -> sqlTuplesWithViolation.getSqlTuple().getOriginalSql())
-                .collect(Collectors.toList()), session.getDialectType());
+                .map(sqlTuplesWithViolation -> sqlTuplesWithViolation.getSqlTuple()
+                        .getParsedStatement(session.getDialectType()))
+                .collect(Collectors.toList()));
         Set<String> unauthorizedDatabaseNames =
                 databaseService.filterUnAuthorizedDatabaseNames(allDatabaseNames, connectionConfig.getId());
         if (CollectionUtils.isNotEmpty(unauthorizedDatabaseNames)) {
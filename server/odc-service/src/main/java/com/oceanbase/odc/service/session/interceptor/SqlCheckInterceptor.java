@@ -96,7 +96,8 @@ public class SqlCheckInterceptor extends BaseTimeConsumingInterceptor {
             SqlCheckContext checkContext = new SqlCheckContext((long) response.getSqls().size());
             response.getSqls().forEach(v -> {
                 String sql = v.getSqlTuple().getOriginalSql();
-                List<CheckViolation> violations = sqlChecker.check(Collections.singletonList(sql), checkContext);
+                List<CheckViolation> violations = sqlChecker.checkParsed(Collections.singletonList(
+                        v.getSqlTuple().getParsedStatement(session.getDialectType())), checkContext);
                 List<Rule> vRules = sqlCheckService.fullFillRiskLevel(rules, violations);
                 v.getViolatedRules().addAll(vRules.stream().filter(r -> r.getLevel() > 0).collect(Collectors.toList()));
                 sql2Violations.put(sql, violations);
@@ -31,6 +31,7 @@ import com.oceanbase.odc.core.session.ConnectionSessionUtil;
 import com.oceanbase.odc.core.shared.constant.DialectType;
 import com.oceanbase.odc.core.shared.constant.OrganizationType;
 import com.oceanbase.odc.core.sql.execute.SqlExecuteStages;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.odc.core.sql.execute.model.SqlExecuteStatus;
 import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
 import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
@@ -58,6 +59,7 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class SqlConsoleInterceptor extends BaseTimeConsumingInterceptor {
 
+    private static final String BASIC_RESULT_KEY = "BASIC_RESULT";
     @Autowired
     private AuthenticationFacade authenticationFacade;
     @Autowired
@@ -95,7 +97,7 @@ public class SqlConsoleInterceptor extends BaseTimeConsumingInterceptor {
         }
         Map<String, BasicResult> sqlId2BasicResult = new HashMap<>();
         sqlTuples.forEach(sql -> sqlId2BasicResult.putIfAbsent(sql.getSqlId(),
-                determineSqlType(sql.getOriginalSql(), session.getDialectType())));
+                determineSqlType(sql, session.getDialectType())));
 
         boolean forbiddenToCreatePL =
                 sqlConsoleRuleService.isForbidden(SqlConsoleRules.NOT_ALLOWED_CREATE_PL, session);
@@ -159,6 +161,14 @@ public class SqlConsoleInterceptor extends BaseTimeConsumingInterceptor {
         return authenticationFacade.currentUser().getOrganizationType() == OrganizationType.INDIVIDUAL;
     }
 
+    private BasicResult determineSqlType(@NonNull SqlTuple sqlTuple, @NonNull DialectType dialectType) {
+        if (!ParsedStatement.isSupported(dialectType)) {
+            return determineSqlType(sqlTuple.getOriginalSql(), dialectType);
+        }
+        return sqlTuple.getParsedStatement(dialectType).computeIfAbsent(BASIC_RESULT_KEY,
+                statement -> determineSqlType(statement.getSql(), dialectType));
+    }
+
     private BasicResult determineSqlType(@NonNull String sql, @NonNull DialectType dialectType) {
         BasicResult basicResult = new BasicResult(SqlType.OTHERS);
         if (dialectType.isMysql()) {
@@ -48,6 +48,18 @@ public interface SqlExecuteInterceptor extends Ordered {
         return true;
     }
 
+    /**
+     * method will be called after {@link #preHandle} of all the interceptors returned true.
+     * Interceptors which started asynchronous checks in {@link #preHandle} can wait for the results
+     * here, so that the checks can overlap with other interceptors
+     *
+     * @return whether to execute this sql
+     */
+    default boolean awaitPreHandle(@NonNull SqlAsyncExecuteReq request, @NonNull SqlAsyncExecuteResp response,
+            @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {
+        return true;
+    }
+
     default void afterCompletion(@NonNull SqlExecuteResult response,
             @NonNull ConnectionSession session, @NonNull Map<String, Object> context) throws Exception {}
 
@@ -74,6 +74,12 @@ public class SqlExecuteInterceptorService {
             }
             return false;
         }
+        for (SqlExecuteInterceptor interceptor : interceptors) {
+            if (interceptor.awaitPreHandle(request, response, session, context)) {
+                continue;
+            }
+            return false;
+        }
         return true;
     }
 
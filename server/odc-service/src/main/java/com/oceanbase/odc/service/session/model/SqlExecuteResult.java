@@ -35,6 +35,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.oceanbase.odc.common.util.TraceStage;
@@ -109,6 +110,11 @@ public class SqlExecuteResult {
     private Boolean allowExport;
     private boolean existSensitiveData = false;
     private List<String> whereColumns;
+    /**
+     * sql tuple this result comes from, holds the parse result shared by interceptors
+     */
+    @JsonIgnore
+    private SqlTuple sqlTuple;
 
     public static SqlExecuteResult emptyResult(@NonNull SqlTuple sqlTuple, @NonNull SqlExecuteStatus status) {
         SqlExecuteResult result = new SqlExecuteResult(sqlTuple.getExecutedSql(), sqlTuple.getSqlId());
@@ -116,6 +122,7 @@ public class SqlExecuteResult {
         result.total = 0;
         result.originSql = sqlTuple.getOriginalSql();
         result.traceWatch = sqlTuple.getSqlWatch();
+        result.sqlTuple = sqlTuple;
         return result;
     }
 
@@ -301,9 +308,9 @@ public class SqlExecuteResult {
         try {
             BasicResult basicResult = new BasicResult(SqlType.UNKNOWN);
             if (dialectType.isMysql()) {
-                basicResult = ParserUtil.parseMysqlType(executeSql, 15000);
+                basicResult = ParserUtil.classifyMysqlType(executeSql, 15000);
             } else if (dialectType.isOracle()) {
-                basicResult = ParserUtil.parseOracleType(executeSql, 15000);
+                basicResult = ParserUtil.classifyOracleType(executeSql, 15000);
             }
             this.generalSqlType = ParserUtil.getGeneralSqlType(basicResult);
             if (Objects.isNull(basicResult.getSqlType()) || SqlType.UNKNOWN == basicResult.getSqlType()) {
@@ -340,6 +347,7 @@ public class SqlExecuteResult {
 
     private void init(@NonNull JdbcGeneralResult generalResult) {
         this.connectionReset = generalResult.isConnectionReset();
+        this.sqlTuple = generalResult.getSqlTuple();
         this.sqlId = generalResult.getSqlTuple().getSqlId();
         this.executeSql = generalResult.getSqlTuple().getExecutedSql();
         this.originSql = generalResult.getSqlTuple().getOriginalSql();
@@ -16,8 +16,9 @@
 
 package com.oceanbase.odc.service.session.util;
 
-import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -28,8 +29,7 @@ import org.antlr.v4.runtime.tree.ParseTree;
 
 import com.oceanbase.odc.common.util.StringUtils;
 import com.oceanbase.odc.core.shared.constant.DialectType;
-import com.oceanbase.tools.sqlparser.OBMySQLParser;
-import com.oceanbase.tools.sqlparser.OBOracleSQLParser;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.tools.sqlparser.adapter.mysql.MySQLFromReferenceFactory;
 import com.oceanbase.tools.sqlparser.adapter.oracle.OracleFromReferenceFactory;
 import com.oceanbase.tools.sqlparser.obmysql.OBParser.Create_database_stmtContext;
@@ -51,53 +51,64 @@ import lombok.Getter;
  */
 public class SchemaExtractor {
 
+    private static final String SCHEMA_NAMES_KEY = "SCHEMA_NAMES";
+
     public static Set<String> listSchemaNames(List<String> sqls, DialectType dialectType) {
+        if (!ParsedStatement.isSupported(dialectType)) {
+            return new HashSet<>();
+        }
+        return listSchemaNames(sqls.stream().map(sql -> new ParsedStatement(sql, dialectType))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * the referenced schema names are cached in {@link ParsedStatement}, which will not be extracted
+     * again for the same statement
+     */
+    public static Set<String> listSchemaNames(Collection<ParsedStatement> statements) {
         Set<String> databaseNames = new HashSet<>();
-        for (String sql : sqls) {
-            if (dialectType.isMysql()) {
-                OBMySQLParser sqlParser = new OBMySQLParser();
-                try {
-                    ParseTree root = sqlParser.buildAst(new StringReader(sql));
-                    OBMySQLRelationFactorVisitor visitor =
-                            new OBMySQLRelationFactorVisitor();
-                    visitor.visit(root);
-                    List<RelationFactor> relationFactorList = visitor.getRelationFactorList();
-                    databaseNames
-                            .addAll(relationFactorList.stream().map(
-                                    relationFactor -> StringUtils.unquoteMySqlIdentifier(relationFactor.getSchema()))
-                                    .filter(Objects::nonNull)
-                                    .collect(Collectors.toSet()));
-                } catch (Exception ex) {
-                    // just eat exception due to parse failed
-                }
-
-            } else if (dialectType.isOracle()) {
-                OBOracleSQLParser sqlParser = new OBOracleSQLParser();
-                try {
-                    ParseTree root = sqlParser.buildAst(new StringReader(sql));
-                    OBOracleRelationFactorVisitor visitor =
-                            new OBOracleRelationFactorVisitor();
-                    visitor.visit(root);
-                    List<RelationFactor> relationFactorList = visitor.getRelationFactorList();
-                    databaseNames
-                            .addAll(relationFactorList.stream().map(relationFactor -> {
-                                String schema = relationFactor.getSchema();
-                                if (StringUtils.startsWith(schema, "\"") && StringUtils.endsWith(schema, "\"")) {
-                                    schema = StringUtils.unquoteOracleIdentifier(schema);
-                                } else {
-                                    schema = StringUtils.upperCase(schema);
-                                }
-                                return schema;
-                            }).filter(Objects::nonNull)
-                                    .collect(Collectors.toSet()));
-                } catch (Exception ex) {
-                    // just eat exception due to parse failed
-                }
+        for (ParsedStatement statement : statements) {
+            if (!ParsedStatement.isSupported(statement.getDialectType())) {
+                continue;
             }
+            databaseNames.addAll(statement.computeIfAbsent(SCHEMA_NAMES_KEY, SchemaExtractor::doListSchemaNames));
         }
         return databaseNames;
     }
 
+    private static Set<String> doListSchemaNames(ParsedStatement statement) {
+        try {
+            return extractSchemaNames(statement.getAst(), statement.getDialectType());
+        } catch (Exception ex) {
+            // just eat exception due to parse failed
+            return Collections.emptySet();
+        }
+    }
+
+    private static Set<String> extractSchemaNames(ParseTree root, DialectType dialectType) {
+        if (dialectType.isMysql()) {
+            OBMySQLRelationFactorVisitor visitor = new OBMySQLRelationFactorVisitor();
+            visitor.visit(root);
+            List<RelationFactor> relationFactorList = visitor.getRelationFactorList();
+            return relationFactorList.stream().map(
+                    relationFactor -> StringUtils.unquoteMySqlIdentifier(relationFactor.getSchema()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+        }
+        OBOracleRelationFactorVisitor visitor = new OBOracleRelationFactorVisitor();
+        visitor.visit(root);
+        List<RelationFactor> relationFactorList = visitor.getRelationFactorList();
+        return relationFactorList.stream().map(relationFactor -> {
+            String schema = relationFactor.getSchema();
+            if (StringUtils.startsWith(schema, "\"") && StringUtils.endsWith(schema, "\"")) {
+                schema = StringUtils.unquoteOracleIdentifier(schema);
+            } else {
+                schema = StringUtils.upperCase(schema);
+            }
+            return schema;
+        }).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
     private static class OBMySQLRelationFactorVisitor extends OBParserBaseVisitor<RelationFactor> {
         @Getter
         private final List<RelationFactor> relationFactorList = new ArrayList<>();
@@ -17,9 +17,12 @@ package com.oceanbase.odc.service.sqlcheck;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.odc.core.sql.split.SqlCommentProcessor;
 import com.oceanbase.odc.core.sql.split.SqlSplitter;
 import com.oceanbase.odc.service.sqlcheck.model.CheckViolation;
@@ -71,6 +74,28 @@ abstract class BaseSqlChecker implements SqlChecker {
     }
 
     public List<CheckViolation> check(@NonNull List<String> sqls, SqlCheckContext context) {
+        return check(sqls.stream().map(s -> parse(s, () -> doParse(s))), context);
+    }
+
+    /**
+     * check statements which have been parsed by others, the parse result will be reused
+     */
+    public List<CheckViolation> checkParsed(@NonNull List<ParsedStatement> statements, SqlCheckContext context) {
+        return check(statements.stream().map(s -> parse(s.getSql(), () -> doParse(s))), context);
+    }
+
+    private Statement parse(String sql, Supplier<Statement> parser) {
+        try {
+            return parser.get();
+        } catch (Exception e) {
+            if (e instanceof SyntaxErrorException) {
+                return new SyntaxErrorStatement(sql, (SyntaxErrorException) e);
+            }
+        }
+        return null;
+    }
+
+    private List<CheckViolation> check(Stream<Statement> statements, SqlCheckContext context) {
         final SqlCheckContext checkContext;
         if (context != null) {
             checkContext = context;
@@ -78,16 +103,7 @@ abstract class BaseSqlChecker implements SqlChecker {
         } else {
             checkContext = new SqlCheckContext();
         }
-        List<Statement> sqlHolders = sqls.stream().map(s -> {
-            try {
-                return doParse(s);
-            } catch (Exception e) {
-                if (e instanceof SyntaxErrorException) {
-                    return new SyntaxErrorStatement(s, (SyntaxErrorException) e);
-                }
-            }
-            return null;
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+        List<Statement> sqlHolders = statements.filter(Objects::nonNull).collect(Collectors.toList());
         if (checkContext.currentStmtIndex == null) {
             checkContext.currentStmtIndex = 0L;
         }
@@ -116,6 +132,10 @@ abstract class BaseSqlChecker implements SqlChecker {
 
     protected abstract Statement doParse(String sql);
 
+    protected Statement doParse(ParsedStatement statement) {
+        return doParse(statement.getSql());
+    }
+
     protected abstract List<CheckViolation> doCheck(Statement statement, SqlCheckContext context);
 
 }
@@ -23,18 +23,20 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.springframework.jdbc.core.JdbcOperations;
 
 import com.oceanbase.odc.core.session.ConnectionSession;
 import com.oceanbase.odc.core.session.ConnectionSessionConstants;
 import com.oceanbase.odc.core.shared.constant.DialectType;
+import com.oceanbase.odc.core.sql.execute.model.ParsedStatement;
 import com.oceanbase.odc.service.sqlcheck.model.CheckViolation;
 import com.oceanbase.odc.service.sqlcheck.parser.SqlCheckOBMySQLParser;
 import com.oceanbase.odc.service.sqlcheck.parser.SqlCheckOBOracleParser;
 import com.oceanbase.odc.service.sqlcheck.rule.SqlCheckRules;
+import com.oceanbase.tools.sqlparser.BaseSQLParser;
 import com.oceanbase.tools.sqlparser.FastFailErrorListener;
 import com.oceanbase.tools.sqlparser.FastFailErrorStrategy;
-import com.oceanbase.tools.sqlparser.SQLParser;
 import com.oceanbase.tools.sqlparser.SyntaxErrorException;
 import com.oceanbase.tools.sqlparser.obmysql.PLLexer;
 import com.oceanbase.tools.sqlparser.obmysql.PLParser;
@@ -54,7 +56,7 @@ import lombok.NonNull;
  */
 public class DefaultSqlChecker extends BaseSqlChecker {
 
-    private final SQLParser sqlParser;
+    private final BaseSQLParser<?, ?> sqlParser;
     private final List<SqlCheckRule> rules;
 
     public DefaultSqlChecker(@NonNull DialectType dialectType,
@@ -85,6 +87,31 @@ public class DefaultSqlChecker extends BaseSqlChecker {
         }
     }
 
+    @Override
+    protected Statement doParse(ParsedStatement statement) {
+        if (!isAstReusable(statement.getDialectType())) {
+            return doParse(statement.getSql());
+        }
+        ParseTree root;
+        try {
+            root = statement.getAst();
+        } catch (SyntaxErrorException e) {
+            tryParsePl(statement.getSql());
+            return null;
+        }
+        return this.sqlParser.buildStatement(root);
+    }
+
+    /**
+     * the ast of {@link ParsedStatement} is reusable only if it is built by the same grammar
+     */
+    private boolean isAstReusable(DialectType statementDialectType) {
+        if (this.dialectType == DialectType.OB_ORACLE) {
+            return statementDialectType.isOracle();
+        }
+        return this.dialectType.isMysql() && statementDialectType.isMysql();
+    }
+
     @Override
     protected List<CheckViolation> doCheck(Statement statement, SqlCheckContext context) {
         return this.rules.stream().filter(r -> r.getSupportsDialectTypes().contains(dialectType))
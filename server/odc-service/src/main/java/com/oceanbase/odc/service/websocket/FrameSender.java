@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.websocket;
+
+/**
+ * Sends a frame of client output to the browser without blocking the caller
+ *
+ * @author agent
+ * @date 2026-10-19
+ */
+public interface FrameSender {
+
+    /**
+     * @param frame output to be sent
+     * @param onComplete invoked once the frame has been sent or sending failed
+     */
+    void send(String frame, Runnable onComplete);
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.websocket;
+
+import java.util.Arrays;
+
+/**
+ * Bounded buffer between the obclient read thread and the websocket sender. Output produced between
+ * two flushes is coalesced into one frame, and the writer is blocked while the buffer is full, so a
+ * slow browser throttles obclient instead of growing the heap.
+ *
+ * @author agent
+ * @date 2026-10-19
+ */
+class OBClientOutputBuffer {
+
+    private static final int INITIAL_SIZE = 1024;
+    private final int capacity;
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private int size = 0;
+    private boolean closed = false;
+
+    OBClientOutputBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void write(byte[] b, int off, int len) throws InterruptedException {
+        while (!closed && size >= capacity) {
+            wait();
+        }
+        if (closed) {
+            return;
+        }
+        if (size + len > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(size + len, bytes.length * 2));
+        }
+        System.arraycopy(b, off, bytes, size, len);
+        size += len;
+    }
+
+    /**
+     * @return all buffered output as one frame, or {@code null} if there is nothing to flush
+     */
+    synchronized String drain() {
+        if (size == 0) {
+            return null;
+        }
+        String result = new String(bytes, 0, size);
+        // do not flush a truncated Chinese character, which will always be converted into \uFFFD
+        // ref: https://www.fileformat.info/info/unicode/char/fffd/index.htm
+        if (result.endsWith("\uFFFD") && size < capacity) {
+            return null;
+        }
+        size = 0;
+        if (bytes.length > INITIAL_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+        notifyAll();
+        return result;
+    }
+
+    synchronized void close() {
+        closed = true;
+        size = 0;
+        notifyAll();
+    }
+
+}
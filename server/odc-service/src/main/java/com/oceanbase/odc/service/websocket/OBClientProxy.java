@@ -17,16 +17,19 @@ package com.oceanbase.odc.service.websocket;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.function.Consumer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.oceanbase.odc.core.shared.constant.ErrorCodes;
-import com.oceanbase.odc.core.shared.constant.LimitMetric;
 import com.oceanbase.odc.core.shared.exception.InternalServerError;
-import com.oceanbase.odc.core.shared.exception.OverLimitException;
 import com.pty4j.PtyProcess;
 import com.pty4j.PtyProcessBuilder;
 
@@ -39,18 +42,41 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class OBClientProxy implements ClientProxy {
+    /**
+     * refresh interval 16ms, so we can get 60 times result in 1 second, which is suitable for 60 fps in
+     * screen
+     */
+    private static final long FLUSH_INTERVAL_MILLIS = 16;
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int OUTPUT_BUFFER_CAPACITY = 64 * 1024;
 
-    private ThreadPoolExecutor executor;
-    private Consumer<String> messageConsumer;
-    private String workDirectory;
+    private final ExecutorService readExecutor;
+    private final ScheduledExecutorService flushExecutor;
+    private final FrameSender frameSender;
+    private final String workDirectory;
+    private final OBClientOutputBuffer outputBuffer = new OBClientOutputBuffer(OUTPUT_BUFFER_CAPACITY);
+    /**
+     * a frame is on its way to the browser, the next frame will not be sent until it finished
+     */
+    private final AtomicBoolean sending = new AtomicBoolean(false);
+    private volatile boolean closed = false;
     private Long lastAccessTime;
     private PtyProcess ptyProcess;
     private OutputStream ptyOutputStream;
-    private OBClientReadThread readThread;
+    private Future<?> readFuture;
+    private ScheduledFuture<?> flushFuture;
 
-    public OBClientProxy(ThreadPoolExecutor executor, Consumer<String> messageConsumer, String workDirectory) {
-        this.executor = executor;
-        this.messageConsumer = messageConsumer;
+    /**
+     * @param readExecutor runs the blocking read loop of the obclient output, one task per proxy
+     * @param flushExecutor shared by all proxies, sends the coalesced output to the browser
+     * @param frameSender sends a frame of output without blocking
+     * @param workDirectory work directory of the obclient process
+     */
+    public OBClientProxy(ExecutorService readExecutor, ScheduledExecutorService flushExecutor,
+            FrameSender frameSender, String workDirectory) {
+        this.readExecutor = readExecutor;
+        this.flushExecutor = flushExecutor;
+        this.frameSender = frameSender;
         this.workDirectory = workDirectory;
         this.lastAccessTime = System.currentTimeMillis();
     }
@@ -76,16 +102,49 @@ public class OBClientProxy implements ClientProxy {
             }
             throw new RuntimeException("Failed to connect obclient", e);
         }
-        readThread = new OBClientReadThread(ptyProcess.getInputStream(), messageConsumer);
-        // if active thread count equals maximum thread count, do not block but throw exception directly
-        int activeCount = executor.getActiveCount();
-        int maximumPoolSize = executor.getMaximumPoolSize();
-        if (activeCount >= maximumPoolSize) {
-            throw new OverLimitException(LimitMetric.OBCLIENT_INSTANCE_COUNT, (double) maximumPoolSize,
-                    String.format("active obclient count %d larger than maximum limit %d",
-                            activeCount, maximumPoolSize));
+        InputStream ptyInputStream = ptyProcess.getInputStream();
+        readFuture = readExecutor.submit(() -> read(ptyInputStream));
+        flushFuture = flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS,
+                FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void read(InputStream inputStream) {
+        log.info("Obclient read task start to run, threadName={}", Thread.currentThread().getName());
+        byte[] buf = new byte[READ_BUFFER_SIZE];
+        try {
+            int len;
+            while (!closed && (len = inputStream.read(buf, 0, buf.length)) >= 0) {
+                // blocks while the browser is not able to keep up with the output
+                outputBuffer.write(buf, 0, len);
+            }
+        } catch (InterruptedException e) {
+            log.warn("Obclient read task interrupted, threadName={}", Thread.currentThread().getName());
+            return;
+        } catch (Exception e) {
+            if (!closed) {
+                log.warn("Obclient read task executing failed, threadName={}", Thread.currentThread().getName(),
+                        e);
+            }
+        }
+        log.info("Obclient read task end, threadName={}", Thread.currentThread().getName());
+    }
+
+    private void flush() {
+        if (!sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            String frame = outputBuffer.drain();
+            if (frame == null) {
+                sending.set(false);
+                return;
+            }
+            frameSender.send(frame, () -> sending.set(false));
+        } catch (Exception e) {
+            // exception should not be thrown, otherwise the scheduled flush will be cancelled
+            log.warn("Failed to flush obclient output", e);
+            sending.set(false);
         }
-        executor.submit(readThread);
     }
 
     private void createIfNotExist() {
@@ -120,10 +179,12 @@ public class OBClientProxy implements ClientProxy {
 
     @Override
     public void close() {
-        if (readThread != null) {
-            readThread.setStopFlag(true);
-            readThread = null;
+        closed = true;
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            flushFuture = null;
         }
+        outputBuffer.close();
         if (ptyProcess != null) {
             try {
                 // ptyProcess will close its own input&output stream
@@ -133,5 +194,9 @@ public class OBClientProxy implements ClientProxy {
                 log.error("Failed to close subprocess", e);
             }
         }
+        if (readFuture != null) {
+            readFuture.cancel(true);
+            readFuture = null;
+        }
     }
 }
@@ -0,0 +1,54 @@
+-- representative statements for warming up the ob_mysql grammar, separated by lines of '/'
+select * from tab where id = 1
+/
+select a.id, a.name, b.value from t1 a left join t2 b on a.id = b.id where a.gmt_create > '2023-01-01' order by a.id desc limit 10, 20
+/
+select count(*), dept_id from emp group by dept_id having count(*) > 10
+/
+select id from t1 where exists (select 1 from t2 where t2.id = t1.id) union all select id from t3
+/
+with cte as (select id, name from t1) select * from cte where name like 'a%'
+/
+select * from t1 for update
+/
+insert into tab (id, name, gmt_create) values (1, 'abc', now()), (2, 'def', now())
+/
+insert into t1 select * from t2 where id > 100 on duplicate key update name = values(name)
+/
+replace into tab (id, name) values (1, 'abc')
+/
+update tab set name = 'abc', value = value + 1 where id in (1, 2, 3)
+/
+delete from tab where id = 1 and name is not null
+/
+create table tab (id bigint not null auto_increment primary key, name varchar(64) default null comment 'name', gmt_create datetime default current_timestamp, unique key uk_name (name), key idx_gmt (gmt_create)) default charset = utf8mb4
+/
+create table part_tab (id int, c1 date) partition by range columns (c1) (partition p0 values less than ('2023-01-01'), partition p1 values less than (maxvalue))
+/
+create index idx_name on tab (name)
+/
+create view v1 as select id, name from tab
+/
+alter table tab add column c1 int after id
+/
+alter table tab modify column name varchar(128) not null
+/
+drop table if exists tab
+/
+truncate table tab
+/
+show tables
+/
+show create table tab
+/
+desc tab
+/
+explain select * from tab where id = 1
+/
+set session ob_query_timeout = 100000000
+/
+use db1
+/
+commit
+/
+rollback
@@ -0,0 +1,25 @@
+-- representative statements for warming up the ob_mysql_pl grammar, separated by lines of '/'
+create procedure proc1(in p1 int, out p2 varchar(64))
+begin
+  declare v1 int default 0;
+  select count(*) into v1 from tab where id = p1;
+  if v1 > 0 then
+    set p2 = 'exists';
+  else
+    set p2 = 'not exists';
+  end if;
+end
+/
+create function func1(p1 int) returns int
+begin
+  declare v1 int;
+  set v1 = p1 + 1;
+  return v1;
+end
+/
+create trigger trg1 before insert on tab for each row
+begin
+  set new.gmt_create = now();
+end
+/
+call proc1(1, @v)
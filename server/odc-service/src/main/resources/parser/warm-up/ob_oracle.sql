@@ -0,0 +1,56 @@
+-- representative statements for warming up the ob_oracle grammar, separated by lines of '/'
+select * from tab where id = 1
+/
+select a.id, a.name, b.value from t1 a left join t2 b on a.id = b.id where a.gmt_create > to_date('2023-01-01', 'yyyy-mm-dd') order by a.id desc
+/
+select count(*), dept_id from emp group by dept_id having count(*) > 10
+/
+select id from t1 where exists (select 1 from t2 where t2.id = t1.id) union all select id from t3
+/
+with cte as (select id, name from t1) select * from cte where name like 'a%'
+/
+select * from tab where rownum <= 100
+/
+select * from tab order by id fetch next 10 rows only
+/
+select * from t1 for update nowait
+/
+select sysdate from dual
+/
+insert into tab (id, name, gmt_create) values (1, 'abc', sysdate)
+/
+insert into t1 select * from t2 where id > 100
+/
+update tab set name = 'abc', value = value + 1 where id in (1, 2, 3)
+/
+delete from tab where id = 1 and name is not null
+/
+merge into t1 using t2 on (t1.id = t2.id) when matched then update set t1.name = t2.name when not matched then insert (id, name) values (t2.id, t2.name)
+/
+create table tab (id number(19) not null primary key, name varchar2(64) default null, gmt_create date default sysdate, constraint uk_name unique (name))
+/
+create table part_tab (id int, c1 date) partition by range (c1) (partition p0 values less than (to_date('2023-01-01', 'yyyy-mm-dd')), partition p1 values less than (maxvalue))
+/
+create index idx_name on tab (name)
+/
+create or replace view v1 as select id, name from tab
+/
+create sequence seq1 start with 1 increment by 1
+/
+alter table tab add c1 number
+/
+alter table tab modify name varchar2(128)
+/
+drop table tab
+/
+truncate table tab
+/
+comment on column tab.name is 'name'
+/
+explain select * from tab where id = 1
+/
+alter session set nls_date_format = 'yyyy-mm-dd hh24:mi:ss'
+/
+commit
+/
+rollback
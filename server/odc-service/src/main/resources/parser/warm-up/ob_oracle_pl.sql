@@ -0,0 +1,52 @@
+-- representative statements for warming up the ob_oracle_pl grammar, separated by lines of '/'
+create or replace procedure proc1(p1 in number, p2 out varchar2) is
+  v1 number := 0;
+begin
+  select count(*) into v1 from tab where id = p1;
+  if v1 > 0 then
+    p2 := 'exists';
+  else
+    p2 := 'not exists';
+  end if;
+exception
+  when no_data_found then
+    p2 := null;
+end;
+/
+create or replace function func1(p1 number) return number is
+  v1 number;
+begin
+  v1 := p1 + 1;
+  return v1;
+end;
+/
+create or replace package pkg1 as
+  procedure proc1(p1 number);
+  function func1(p1 number) return number;
+end;
+/
+create or replace package body pkg1 as
+  procedure proc1(p1 number) is
+  begin
+    dbms_output.put_line(p1);
+  end;
+  function func1(p1 number) return number is
+  begin
+    return p1;
+  end;
+end;
+/
+create or replace trigger trg1 before insert on tab for each row
+begin
+  :new.gmt_create := sysdate;
+end;
+/
+create or replace type type1 as object (id number, name varchar2(64));
+/
+declare
+  cursor c1 is select id, name from tab;
+begin
+  for r in c1 loop
+    dbms_output.put_line(r.name);
+  end loop;
+end;
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.audit;
+
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.oceanbase.odc.core.shared.constant.AuditEventAction;
+import com.oceanbase.odc.core.shared.constant.AuditEventResult;
+import com.oceanbase.odc.core.shared.constant.AuditEventType;
+import com.oceanbase.odc.metadb.audit.AuditEventEntity;
+import com.oceanbase.odc.metadb.audit.AuditEventRepository;
+import com.oceanbase.odc.service.audit.model.AuditEventExportReq;
+import com.oceanbase.odc.service.datatransfer.model.DataTransferFormat;
+import com.oceanbase.odc.service.iam.auth.AuthenticationFacade;
+import com.oceanbase.odc.service.objectstorage.cloud.CloudObjectStorageService;
+
+/**
+ * Test cases for the keyset paged export of {@link AuditEventService}, the repository is faked by a
+ * list of events which is filtered by the id bound of each page query
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class AuditEventServiceExportTest {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @InjectMocks
+    private AuditEventService auditEventService;
+
+    @Mock
+    private AuditEventRepository auditEventRepository;
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+
+    @Mock
+    private CloudObjectStorageService cloudObjectStorageService;
+
+    private final List<Long> requestedLastIds = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(authenticationFacade.currentOrganizationId()).thenReturn(1L);
+        when(cloudObjectStorageService.supported()).thenReturn(false);
+    }
+
+    @After
+    public void tearDown() {
+        FileUtils.deleteQuietly(new File("data/AUDIT"));
+    }
+
+    @Test
+    public void export_eventsAcrossPages_allRowsExported() throws IOException {
+        mockEvents(2 * PAGE_SIZE + 500);
+
+        List<String> lines = exportCsv();
+
+        Assert.assertEquals(2 * PAGE_SIZE + 500 + 1, lines.size());
+        Assert.assertTrue(lines.get(1).startsWith("1,"));
+        Assert.assertTrue(lines.get(lines.size() - 1).startsWith((2 * PAGE_SIZE + 500) + ","));
+        Assert.assertEquals(Arrays.asList(null, (long) PAGE_SIZE, 2L * PAGE_SIZE), requestedLastIds);
+    }
+
+    @Test
+    public void export_eventsFillLastPage_emptyPageEndsScan() throws IOException {
+        mockEvents(2 * PAGE_SIZE);
+
+        List<String> lines = exportCsv();
+
+        Assert.assertEquals(2 * PAGE_SIZE + 1, lines.size());
+        Assert.assertEquals(Arrays.asList(null, (long) PAGE_SIZE, 2L * PAGE_SIZE), requestedLastIds);
+    }
+
+    @Test
+    public void export_noEvent_onlyHeaderExported() throws IOException {
+        mockEvents(0);
+
+        List<String> lines = exportCsv();
+
+        Assert.assertEquals(1, lines.size());
+        Assert.assertEquals(Collections.singletonList(null), requestedLastIds);
+    }
+
+    private List<String> exportCsv() throws IOException {
+        AuditEventExportReq req = new AuditEventExportReq();
+        req.setFormat(DataTransferFormat.CSV);
+        String downloadUrl = auditEventService.export(req);
+        String fileName = downloadUrl.substring(downloadUrl.lastIndexOf('/') + 1);
+        return FileUtils.readLines(new File("data/AUDIT/" + fileName), Charset.defaultCharset());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockEvents(int count) {
+        List<AuditEventEntity> events = LongStream.rangeClosed(1, count)
+                .mapToObj(this::createEntity).collect(Collectors.toList());
+        when(auditEventRepository.findAll(Mockito.any(Specification.class), Mockito.any(Sort.class),
+                Mockito.anyInt())).thenAnswer(invocation -> {
+                    Long lastId = resolveLastId(invocation.getArgument(0));
+                    requestedLastIds.add(lastId);
+                    int limit = invocation.getArgument(2);
+                    return events.stream().filter(e -> lastId == null || e.getId() > lastId)
+                            .limit(limit).collect(Collectors.toList());
+                });
+    }
+
+    /**
+     * evaluate the specification against mocked criteria to find the id bound of the page
+     */
+    @SuppressWarnings("unchecked")
+    private Long resolveLastId(Specification<AuditEventEntity> specs) {
+        AtomicReference<Long> lastId = new AtomicReference<>();
+        Root<AuditEventEntity> root = Mockito.mock(Root.class, Mockito.RETURNS_MOCKS);
+        CriteriaQuery<?> query = Mockito.mock(CriteriaQuery.class, Mockito.RETURNS_MOCKS);
+        CriteriaBuilder builder = Mockito.mock(CriteriaBuilder.class, Mockito.RETURNS_MOCKS);
+        when(builder.greaterThan(Mockito.<Expression<Long>>any(), Mockito.anyLong())).thenAnswer(invocation -> {
+            lastId.set(invocation.getArgument(1));
+            return null;
+        });
+        specs.toPredicate(root, query, builder);
+        return lastId.get();
+    }
+
+    private AuditEventEntity createEntity(long id) {
+        AuditEventEntity entity = new AuditEventEntity();
+        entity.setId(id);
+        entity.setAction(AuditEventAction.UPDATE_PERSONAL_CONFIGURATION);
+        entity.setType(AuditEventType.PERSONAL_CONFIGURATION);
+        entity.setResult(AuditEventResult.SUCCESS);
+        entity.setOrganizationId(1L);
+        entity.setStartTime(new Date());
+        entity.setDetail("detail");
+        return entity;
+    }
+
+}
@@ -17,23 +17,49 @@ package com.oceanbase.odc.service.common;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
 
 import com.oceanbase.odc.service.common.util.FileConvertUtils;
+import com.oceanbase.odc.service.common.util.XlsxStreamWriter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 public class FileConvertUtilsTest {
     @Rule
@@ -105,4 +131,183 @@ public class FileConvertUtilsTest {
             Assert.assertEquals("select * from a;", valueInAnotherSheet);
         }
     }
+
+    @Test
+    public void testConvertResultSetToXls_TypedColumns_NativeCellTypes() throws Exception {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(3);
+        Mockito.when(metaData.getColumnLabel(Mockito.anyInt())).thenAnswer(i -> "c" + i.getArgument(0));
+        Mockito.when(metaData.getColumnTypeName(1)).thenReturn("DECIMAL");
+        Mockito.when(metaData.getColumnTypeName(2)).thenReturn("DATETIME");
+        Mockito.when(metaData.getColumnTypeName(3)).thenReturn("VARCHAR");
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        Mockito.when(resultSet.next()).thenReturn(true, true, false);
+        Mockito.when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("12.5"), null);
+        Mockito.when(resultSet.getTimestamp(2)).thenReturn(Timestamp.valueOf("2023-01-02 03:04:05"), null);
+        Mockito.when(resultSet.getString(3)).thenReturn("abc", "def");
+
+        String xlsxFilePath = folder.getRoot().getAbsolutePath() + "/" + xlsFileName;
+        Assert.assertEquals(2, FileConvertUtils.convertResultSetToXls(resultSet, xlsxFilePath, null));
+        try (Workbook workbook = new XSSFWorkbook(new FileInputStream(xlsxFilePath))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Assert.assertEquals("c1", sheet.getRow(0).getCell(0).getStringCellValue());
+            Row row = sheet.getRow(1);
+            Assert.assertEquals(CellType.NUMERIC, row.getCell(0).getCellType());
+            Assert.assertEquals(12.5, row.getCell(0).getNumericCellValue(), 0);
+            Assert.assertTrue(DateUtil.isCellDateFormatted(row.getCell(1)));
+            Assert.assertEquals(Timestamp.valueOf("2023-01-02 03:04:05").getTime(),
+                    row.getCell(1).getDateCellValue().getTime());
+            Assert.assertEquals("abc", row.getCell(2).getStringCellValue());
+            Assert.assertNull(sheet.getRow(2).getCell(0));
+        }
+    }
+
+    @Test
+    public void testConvertResultSetToXls_MaskedColumn_MappedText() throws Exception {
+        ResultSet resultSet = generatedResultSet(1);
+        String xlsxFilePath = folder.getRoot().getAbsolutePath() + "/" + xlsFileName;
+        Map<Integer, UnaryOperator<String>> mappers = new HashMap<>();
+        mappers.put(1, value -> "***");
+        FileConvertUtils.convertResultSetToXls(resultSet, xlsxFilePath, null, mappers);
+        try (Workbook workbook = new XSSFWorkbook(new FileInputStream(xlsxFilePath))) {
+            Row row = workbook.getSheetAt(0).getRow(1);
+            Assert.assertEquals(CellType.NUMERIC, row.getCell(0).getCellType());
+            Assert.assertEquals("***", row.getCell(1).getStringCellValue());
+            Assert.assertEquals("name_0", row.getCell(2).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void testWriteResultSet_NoHeaderAndNullText_NullWrittenAsText() throws Exception {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(2);
+        Mockito.when(metaData.getColumnLabel(Mockito.anyInt())).thenAnswer(i -> "c" + i.getArgument(0));
+        Mockito.when(metaData.getColumnTypeName(1)).thenReturn("DECIMAL");
+        Mockito.when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.getMetaData()).thenReturn(metaData);
+        Mockito.when(resultSet.next()).thenReturn(true, false);
+        Mockito.when(resultSet.getBigDecimal(1)).thenReturn(BigDecimal.ZERO);
+        File xlsxFile = folder.newFile("no-header.xlsx");
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(xlsxFile))) {
+            writer.setNullText("null");
+            Assert.assertEquals(1, writer.writeResultSet(resultSet, new HashMap<>(), false));
+        }
+        try (Workbook workbook = new XSSFWorkbook(new FileInputStream(xlsxFile))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Assert.assertEquals(0, sheet.getLastRowNum());
+            Assert.assertEquals(0, sheet.getRow(0).getCell(0).getNumericCellValue(), 0);
+            Assert.assertEquals("null", sheet.getRow(0).getCell(1).getStringCellValue());
+        }
+    }
+
+    @Ignore("benchmark of the heap usage, depends on the gc of the jvm and costs too much time for unit test")
+    @Test(timeout = 120000)
+    public void testConvertResultSetToXls_OneMillionRows_HeapBounded() throws Exception {
+        int rowCount = 1000000;
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        AtomicLong maxUsed = new AtomicLong();
+        ResultSet resultSet = generatedResultSet(rowCount, rowNum -> {
+            if (rowNum % 200000 == 0) {
+                System.gc();
+                maxUsed.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+            }
+        });
+        File xlsxFile = folder.newFile("one-million.xlsx");
+
+        long count = FileConvertUtils.convertResultSetToXls(resultSet, xlsxFile.getAbsolutePath(), null);
+        Assert.assertEquals(rowCount, count);
+        // only the row access window is kept in memory, an in memory workbook costs more than 1GB here
+        Assert.assertTrue("heap grows " + (maxUsed.get() - baseline) + " bytes",
+                maxUsed.get() - baseline < 64 * 1024 * 1024);
+        Assert.assertTrue(xlsxFile.length() > 0);
+    }
+
+    @Test
+    public void testConvertRecordsToXls_RecordsWithNumberAndDate_NativeCellTypes() throws IOException {
+        Date date = new Date(1672628645000L);
+        String xlsxFilePath = FileConvertUtils.convertRecordsToXls(
+                Arrays.asList(new Record(1L, "a", date), new Record(12345678901234567L, null, null)),
+                Record.class, folder.getRoot().getAbsolutePath() + "/" + xlsFileName);
+        try (Workbook workbook = new XSSFWorkbook(new FileInputStream(xlsxFilePath))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Assert.assertEquals("id", sheet.getRow(0).getCell(0).getStringCellValue());
+            Assert.assertEquals(1, sheet.getRow(1).getCell(0).getNumericCellValue(), 0);
+            Assert.assertEquals(date, sheet.getRow(1).getCell(2).getDateCellValue());
+            Assert.assertEquals("12345678901234567", sheet.getRow(2).getCell(0).getStringCellValue());
+        }
+    }
+
+    @Test
+    public void testReadXlsRows_GeneratedLargeWorkbook_AllRowsConsumed() throws IOException {
+        File xlsxFile = folder.newFile("large.xlsx");
+        int rowCount = 100000;
+        try (XlsxStreamWriter writer = new XlsxStreamWriter(new FileOutputStream(xlsxFile))) {
+            writer.writeHeader(Arrays.asList("name", "value", ""));
+            for (int i = 0; i < rowCount; i++) {
+                writer.writeRow(Arrays.asList("name_" + i, i, "ignored"));
+            }
+            writer.writeRow(Arrays.asList("", null, ""));
+        }
+        AtomicInteger counter = new AtomicInteger();
+        List<Map<String, String>> samples = new ArrayList<>();
+        int count = FileConvertUtils.readXlsRows(xlsxFile, row -> {
+            if (counter.getAndIncrement() % 50000 == 0) {
+                samples.add(row);
+            }
+        });
+        Assert.assertEquals(rowCount, count);
+        Assert.assertEquals(2, samples.size());
+        Map<String, String> expect = new HashMap<>();
+        expect.put("name", "name_50000");
+        expect.put("value", "50000");
+        Assert.assertEquals(expect, samples.get(1));
+    }
+
+    private static ResultSet generatedResultSet(int rowCount) throws SQLException {
+        return generatedResultSet(rowCount, rowNum -> {
+        });
+    }
+
+    /**
+     * a result set of (id DECIMAL, secret VARCHAR, name VARCHAR) which generates rows on the fly, a
+     * mock is too slow for a large amount of rows
+     */
+    private static ResultSet generatedResultSet(int rowCount, IntConsumer onNext) throws SQLException {
+        ResultSetMetaData metaData = Mockito.mock(ResultSetMetaData.class);
+        Mockito.when(metaData.getColumnCount()).thenReturn(3);
+        Mockito.when(metaData.getColumnLabel(Mockito.anyInt())).thenAnswer(i -> "c" + i.getArgument(0));
+        Mockito.when(metaData.getColumnTypeName(1)).thenReturn("DECIMAL");
+        Mockito.when(metaData.getColumnTypeName(2)).thenReturn("VARCHAR");
+        Mockito.when(metaData.getColumnTypeName(3)).thenReturn("VARCHAR");
+        AtomicInteger rowNum = new AtomicInteger(-1);
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMetaData":
+                            return metaData;
+                        case "next":
+                            int next = rowNum.incrementAndGet();
+                            onNext.accept(next);
+                            return next < rowCount;
+                        case "getBigDecimal":
+                            return BigDecimal.valueOf(rowNum.get());
+                        case "getString":
+                            return (int) args[0] == 2 ? "secret_" + rowNum.get() : "name_" + rowNum.get();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Record {
+        private Long id;
+        private String name;
+        private Date time;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.common.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.tools.sqlparser.util.GrammarDFACache;
+
+/**
+ * Test cases for {@link ParserRuntimeManager}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class ParserRuntimeManagerTest {
+
+    @Test
+    public void warmUp_bundledCorpus_allStatementsParsed() {
+        ParserRuntimeManager manager = new ParserRuntimeManager();
+        for (GrammarDFACache cache : GrammarDFACache.all()) {
+            Assert.assertEquals(cache.getGrammar(), 0, manager.warmUp(cache));
+            Assert.assertTrue(cache.getDFAStateCount() > 0);
+        }
+    }
+
+}
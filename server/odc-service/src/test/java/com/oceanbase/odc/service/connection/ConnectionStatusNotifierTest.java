@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.shared.constant.ConnectionStatus;
+import com.oceanbase.odc.service.connection.ConnectionStatusManager.CheckState;
+import com.oceanbase.odc.service.websocket.WebSocketBody;
+
+/**
+ * Test cases for {@link ConnectionStatusNotifier}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class ConnectionStatusNotifierTest {
+
+    @Test
+    public void onStatusChanged_viewerSubscribed_pushed() {
+        ConnectionStatusNotifier notifier = new ConnectionStatusNotifier();
+        List<WebSocketBody> received = new ArrayList<>();
+        notifier.subscribe(1L, "subscriber", received::add);
+        notifier.onStatusChanged(10L, CheckState.of(ConnectionStatus.ACTIVE), Arrays.asList(1L, 2L));
+
+        Assert.assertEquals(1, received.size());
+        Assert.assertEquals(ConnectionStatusNotifier.STATUS_CHANGED_METHOD, received.get(0).getMethod());
+        Assert.assertEquals("10", received.get(0).getId());
+        Assert.assertTrue(received.get(0).getParams().getData().contains(ConnectionStatus.ACTIVE.name()));
+    }
+
+    @Test
+    public void onStatusChanged_notViewer_notPushed() {
+        ConnectionStatusNotifier notifier = new ConnectionStatusNotifier();
+        List<WebSocketBody> received = new ArrayList<>();
+        notifier.subscribe(1L, "subscriber", received::add);
+        notifier.onStatusChanged(10L, CheckState.of(ConnectionStatus.ACTIVE), Collections.singletonList(2L));
+
+        Assert.assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void unsubscribe_lastSubscriber_noSubscriber() {
+        ConnectionStatusNotifier notifier = new ConnectionStatusNotifier();
+        List<WebSocketBody> received = new ArrayList<>();
+        notifier.subscribe(1L, "subscriber", received::add);
+        notifier.unsubscribe(1L, "subscriber");
+        notifier.onStatusChanged(10L, CheckState.of(ConnectionStatus.ACTIVE), Collections.singletonList(1L));
+
+        Assert.assertFalse(notifier.hasSubscriber(1L));
+        Assert.assertTrue(received.isEmpty());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.connection.database;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.oceanbase.odc.service.common.util.SpringContextUtil;
+import com.oceanbase.odc.service.connection.CloudMetadataClient;
+import com.oceanbase.odc.service.connection.model.ConnectionConfig;
+
+/**
+ * Test cases for {@link DatabaseSyncManager}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DatabaseSyncManagerTest {
+
+    @Mock
+    private DatabaseService databaseService;
+    @Spy
+    private ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    @InjectMocks
+    private DatabaseSyncManager databaseSyncManager;
+
+    @Before
+    public void setUp() {
+        ApplicationContext context = Mockito.mock(ApplicationContext.class);
+        Mockito.when(context.getBean(CloudMetadataClient.class)).thenReturn(Mockito.mock(CloudMetadataClient.class));
+        new SpringContextUtil().setApplicationContext(context);
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void submitSyncDataSourceTask_submitWhileRunning_coalescedAndSyncedAgain() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(databaseService.internalSyncDataSourceSchemas(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return true;
+        });
+        Future<Boolean> first = databaseSyncManager.submitSyncDataSourceTask(getDataSource(1L));
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Future<Boolean> second = databaseSyncManager.submitSyncDataSourceTask(getDataSource(1L));
+        Future<Boolean> third = databaseSyncManager.submitSyncDataSourceTask(getDataSource(1L));
+        release.countDown();
+
+        Assert.assertSame(first, second);
+        Assert.assertSame(first, third);
+        Assert.assertTrue(first.get(10, TimeUnit.SECONDS));
+        Mockito.verify(databaseService, Mockito.times(2)).internalSyncDataSourceSchemas(1L);
+    }
+
+    @Test
+    public void submitSyncDataSourceTask_submitAfterFinished_newTaskSubmitted() throws Exception {
+        Mockito.when(databaseService.internalSyncDataSourceSchemas(1L)).thenReturn(true);
+        Future<Boolean> first = databaseSyncManager.submitSyncDataSourceTask(getDataSource(1L));
+        Assert.assertTrue(first.get(10, TimeUnit.SECONDS));
+        Future<Boolean> second = databaseSyncManager.submitSyncDataSourceTask(getDataSource(1L));
+        Assert.assertTrue(second.get(10, TimeUnit.SECONDS));
+
+        Assert.assertNotSame(first, second);
+        Mockito.verify(databaseService, Mockito.times(2)).internalSyncDataSourceSchemas(1L);
+    }
+
+    private ConnectionConfig getDataSource(Long id) {
+        ConnectionConfig connection = new ConnectionConfig();
+        connection.setId(id);
+        connection.setCreatorId(1L);
+        connection.setOrganizationId(1L);
+        return connection;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.datatransfer.loader;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.oceanbase.odc.service.datatransfer.loader.spliter.SqlSplitterForThirdParty;
+
+public class PlSqlSingleFileOutputStreamingTest {
+    private static final String PL_SQL_EXPORT = "prompt PL/SQL Developer Export Tables for user TEST\n"
+            + "set feedback off\n"
+            + "set define off\n"
+            + "\n"
+            + "prompt Creating T1...\n"
+            + "create table T1\n"
+            + "(\n"
+            + "  id NUMBER\n"
+            + ");\n"
+            + "-- comment after table\n"
+            + "insert into T1 (id) values (1);\n"
+            + "insert into T1 (id) values (2);\n"
+            + "prompt Creating P1...\n"
+            + "create or replace procedure P1 is\n"
+            + "begin\n"
+            + "  null;\n"
+            + "end;\n"
+            + "/\n"
+            + "\n"
+            + "prompt Done\n"
+            + "set feedback on\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private File input;
+
+    @Before
+    public void setUp() throws Exception {
+        this.input = folder.newFile("plsql_export.sql");
+        FileUtils.writeStringToFile(input, PL_SQL_EXPORT, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void split_streaming_sameAsListBasedSplitter() throws Exception {
+        // statements produced by the list based splitter before it was made streaming
+        List<String> expect = Arrays.asList(
+                "create table T1\n(\n  id NUMBER\n)\n-- comment after table\n",
+                "insert into T1 (id) values (1)",
+                "insert into T1 (id) values (2)",
+                "create or replace procedure P1 is\nbegin\n  null;\nend;\n/");
+        List<String> actual = new ArrayList<>();
+        new SqlSplitterForThirdParty(true, true, true).split(input, actual::add);
+        Assert.assertEquals(expect, actual);
+    }
+
+    @Test
+    public void toObLoaderDumperCompatibleFormat_plSqlExport_delimiterSwitched() throws Exception {
+        PlSqlSingleFileOutput output = new PlSqlSingleFileOutput(input);
+        Assert.assertTrue(output.supports());
+        File dest = new File(folder.getRoot(), "dest.sql");
+        output.toObLoaderDumperCompatibleFormat(dest);
+        String content = FileUtils.readFileToString(dest, StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("delimiter /\ncreate or replace procedure P1 is"));
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.datatransfer.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.oceanbase.odc.service.flow.task.model.DataTransferTaskResult;
+import com.oceanbase.tools.loaddump.common.enums.ObjectType;
+import com.oceanbase.tools.loaddump.common.model.LoadParameter;
+import com.oceanbase.tools.loaddump.common.model.Progress;
+import com.oceanbase.tools.loaddump.common.model.RuntimeMetrics;
+import com.oceanbase.tools.loaddump.common.model.ServerStatus;
+import com.oceanbase.tools.loaddump.common.model.Summary;
+import com.oceanbase.tools.loaddump.common.model.TaskDetail;
+import com.oceanbase.tools.loaddump.common.model.TaskState;
+import com.oceanbase.tools.loaddump.context.TaskContext;
+
+/**
+ * Test cases for {@link BaseDataTransferTask}, schema and data are loaded into h2 by
+ * {@link H2TaskContext}, each object costs a fixed latency to simulate a remote database. Data of
+ * pipelined import is split by {@link ImportDataTransferTask.PipelinedLoad}.
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class BaseDataTransferTaskTest {
+
+    private static final int TABLE_COUNT = 200;
+    private static final int ROW_COUNT = 100;
+    private static final long OBJECT_LATENCY_MILLIS = 10;
+    private static final int THREADS = 6;
+    private ThreadPoolTaskExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.initialize();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void call_pipelined_dataLoadedBeforeAllSchemaLoaded() throws Exception {
+        JdbcTemplate jdbcTemplate = newJdbcTemplate("pipelined");
+        H2ImportTask task = new H2ImportTask(newParameter(), jdbcTemplate);
+        task.setPipelineEnabled(true);
+        importTables(task, jdbcTemplate);
+
+        Assert.assertFalse(task.schemaFinishedAtFirstDataLoad);
+        // threads are divided between the schema task and 2 data tasks
+        Assert.assertEquals(THREADS / 3, task.schemaThreads);
+        Assert.assertEquals(THREADS, task.parameter.getThreads());
+        List<LoadParameter> tableParameters = task.tableParameters;
+        Set<String> loadedTableNames = new HashSet<>();
+        for (LoadParameter tableParameter : tableParameters) {
+            Assert.assertEquals(".csv", tableParameter.getFileSuffix());
+            Assert.assertEquals(THREADS / 3, tableParameter.getThreads());
+            Assert.assertEquals(Collections.singleton("`T_IGNORED`"),
+                    tableParameter.getBlackListMap().get(ObjectType.TABLE));
+            for (String tableName : tableParameter.getWhiteListMap().get(ObjectType.TABLE)) {
+                Assert.assertTrue(loadedTableNames.add(tableName));
+            }
+        }
+        Assert.assertEquals(task.parameter.getWhiteListMap().get(ObjectType.TABLE), loadedTableNames);
+    }
+
+    @Test
+    public void call_pipelineDisabled_dataLoadedAfterAllSchemaLoaded() throws Exception {
+        JdbcTemplate jdbcTemplate = newJdbcTemplate("sequential");
+        H2ImportTask task = new H2ImportTask(newParameter(), jdbcTemplate);
+        importTables(task, jdbcTemplate);
+
+        Assert.assertTrue(task.tableParameters.isEmpty());
+        Assert.assertEquals(THREADS, task.schemaThreads);
+    }
+
+    @Test
+    public void call_pipelined_lessElapsedTimeThanSequential() throws Exception {
+        JdbcTemplate sequentialJdbcTemplate = newJdbcTemplate("sequential");
+        long sequentialMillis = importTables(new H2ImportTask(newParameter(), sequentialJdbcTemplate),
+                sequentialJdbcTemplate);
+        JdbcTemplate pipelinedJdbcTemplate = newJdbcTemplate("pipelined");
+        H2ImportTask pipelinedTask = new H2ImportTask(newParameter(), pipelinedJdbcTemplate);
+        pipelinedTask.setPipelineEnabled(true);
+        long pipelinedMillis = importTables(pipelinedTask, pipelinedJdbcTemplate);
+
+        // data of 200 tables is loaded during the schema loading, ideally the pipelined one costs half of
+        // the time, the margin is generous for a busy machine
+        Assert.assertTrue(String.format("Pipelined %dms, sequential %dms", pipelinedMillis, sequentialMillis),
+                pipelinedMillis < sequentialMillis * 0.8);
+    }
+
+    @Test
+    public void call_pipelinedAndTableSchemaFailed_noMoreDataLoaded() throws Exception {
+        JdbcTemplate jdbcTemplate = newJdbcTemplate("failed");
+        jdbcTemplate.execute("CREATE TABLE T_001(id INT)");
+        H2ImportTask task = new H2ImportTask(newParameter(), jdbcTemplate);
+        task.setPipelineEnabled(true);
+        DataTransferTaskContext context = BaseDataTransferTask.start(executor, task);
+        try {
+            context.get(60, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("T_001"));
+        }
+        Assert.assertTrue(task.tableParameters.isEmpty());
+        Assert.assertEquals(Integer.valueOf(0),
+                jdbcTemplate.queryForObject("SELECT COUNT(1) FROM T_002", Integer.class));
+    }
+
+    /**
+     * @return elapsed time of the import in millis
+     */
+    private long importTables(H2ImportTask task, JdbcTemplate jdbcTemplate) throws Exception {
+        task.setMaxConcurrentDataTasks(2);
+        long start = System.currentTimeMillis();
+        DataTransferTaskContext context = BaseDataTransferTask.start(executor, task);
+        DataTransferTaskResult result = context.get(60, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - start;
+
+        Assert.assertEquals(TABLE_COUNT, result.getSchemaObjectsInfo().size());
+        Assert.assertEquals(TABLE_COUNT, result.getDataObjectsInfo().size());
+        Assert.assertEquals(1.0, context.getProgress(), 0.0001);
+        for (String tableName : task.parameter.getWhiteListMap().get(ObjectType.TABLE)) {
+            Assert.assertEquals(Integer.valueOf(ROW_COUNT),
+                    jdbcTemplate.queryForObject("SELECT COUNT(1) FROM " + unquote(tableName), Integer.class));
+        }
+        return elapsed;
+    }
+
+    private JdbcTemplate newJdbcTemplate(String databaseName) {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + databaseName + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=MySQL"));
+    }
+
+    private LoadParameter newParameter() {
+        LoadParameter parameter = new LoadParameter();
+        parameter.setLogPath(System.getProperty("java.io.tmpdir"));
+        parameter.setFileSuffix(".csv");
+        parameter.setThreads(THREADS);
+        parameter.getBlackListMap().put(ObjectType.TABLE, Collections.singleton("`T_IGNORED`"));
+        parameter.getWhiteListMap().put(ObjectType.TABLE, IntStream.rangeClosed(1, TABLE_COUNT)
+                .mapToObj(i -> String.format("`T_%03d`", i)).collect(Collectors.toCollection(LinkedHashSet::new)));
+        return parameter;
+    }
+
+    private static String unquote(String tableName) {
+        return tableName.substring(1, tableName.length() - 1);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(OBJECT_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class H2ImportTask extends BaseDataTransferTask<LoadParameter> {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final List<LoadParameter> tableParameters = new CopyOnWriteArrayList<>();
+        private volatile TaskContext schemaContext;
+        private volatile int schemaThreads;
+        private volatile Boolean schemaFinishedAtFirstDataLoad;
+
+        public H2ImportTask(LoadParameter parameter, JdbcTemplate jdbcTemplate) {
+            super(parameter, true, true);
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        protected TaskContext startTransferSchema(LoadParameter parameter) {
+            schemaThreads = parameter.getThreads();
+            Map<String, Runnable> table2Job = new LinkedHashMap<>();
+            for (String tableName : parameter.getWhiteListMap().get(ObjectType.TABLE)) {
+                table2Job.put(unquote(tableName), () -> {
+                    sleep();
+                    jdbcTemplate
+                            .execute("CREATE TABLE " + unquote(tableName) + "(id INT PRIMARY KEY, name VARCHAR(64))");
+                });
+            }
+            schemaContext = new H2TaskContext(table2Job);
+            return schemaContext;
+        }
+
+        @Override
+        protected TaskContext startTransferData(LoadParameter parameter) {
+            Assert.assertEquals(".csv", parameter.getFileSuffix());
+            return loadRecord(parameter);
+        }
+
+        @Override
+        protected PipelinedDataTransfer getPipelinedDataTransfer(LoadParameter parameter) {
+            return new ImportDataTransferTask.PipelinedLoad(parameter) {
+                @Override
+                protected TaskContext loadRecord(LoadParameter tableParameter) {
+                    if (schemaFinishedAtFirstDataLoad == null) {
+                        schemaFinishedAtFirstDataLoad = schemaContext.isAllTasksFinished();
+                    }
+                    tableParameters.add(tableParameter);
+                    return H2ImportTask.this.loadRecord(tableParameter);
+                }
+            };
+        }
+
+        @Override
+        protected void afterHandle(LoadParameter parameter, DataTransferTaskContext context,
+                DataTransferTaskResult result) {
+            BaseDataTransferTask.validAllTasksSuccessed(context);
+        }
+
+        private TaskContext loadRecord(LoadParameter parameter) {
+            Map<String, Runnable> table2Job = new LinkedHashMap<>();
+            for (String tableName : parameter.getWhiteListMap().get(ObjectType.TABLE)) {
+                table2Job.put(unquote(tableName), () -> {
+                    sleep();
+                    List<Object[]> rows = IntStream.range(0, ROW_COUNT)
+                            .mapToObj(i -> new Object[] {i, "name_" + i}).collect(Collectors.toList());
+                    jdbcTemplate.batchUpdate("INSERT INTO " + unquote(tableName) + " VALUES(?, ?)", rows);
+                });
+            }
+            return new H2TaskContext(table2Job);
+        }
+    }
+
+    /**
+     * Runs the jobs one by one in a single thread, the same as the loader does with one thread
+     */
+    private static class H2TaskContext extends TaskContext {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private final List<TaskDetail> taskDetails = new ArrayList<>();
+
+        private H2TaskContext(Map<String, Runnable> table2Job) {
+            table2Job.forEach((tableName, job) -> {
+                TaskDetail taskDetail = new TaskDetail();
+                taskDetail.setSchema("PUBLIC");
+                taskDetail.setType(ObjectType.TABLE.getName());
+                taskDetail.setObject(tableName);
+                taskDetail.setState(TaskState.INITIAL);
+                taskDetails.add(taskDetail);
+                executor.submit(() -> {
+                    taskDetail.setState(TaskState.RUNNING);
+                    try {
+                        job.run();
+                        taskDetail.setState(TaskState.SUCCESS);
+                    } catch (Exception e) {
+                        taskDetail.setError(e.getMessage());
+                        taskDetail.setState(TaskState.FAILURE);
+                    }
+                });
+            });
+        }
+
+        @Override
+        public RuntimeMetrics getRuntimeMetrics() {
+            return new RuntimeMetrics();
+        }
+
+        @Override
+        public Progress getProgress() {
+            int finished = (int) taskDetails.stream().filter(TaskDetail::isFinished).count();
+            return new Progress(taskDetails.size() - finished, finished,
+                    taskDetails.isEmpty() ? 1 : finished * 1.0 / taskDetails.size());
+        }
+
+        @Override
+        public Summary getSummary() {
+            return new Summary("h2", taskDetails);
+        }
+
+        @Override
+        public ServerStatus getServerStatus() {
+            return new ServerStatus(Collections.emptyMap());
+        }
+
+        @Override
+        public boolean isThreadPoolAlive() {
+            return !executor.isTerminated();
+        }
+
+        @Override
+        public boolean isAllTasksFinished() {
+            return taskDetails.stream().allMatch(TaskDetail::isFinished);
+        }
+
+        @Override
+        public boolean isAllTasksSuccessed() {
+            return taskDetails.stream().allMatch(TaskDetail::isSuccess);
+        }
+
+        @Override
+        public Collection<TaskDetail> getAllTaskDetails() {
+            return taskDetails;
+        }
+
+        @Override
+        public Collection<TaskDetail> getFailureTaskDetails() {
+            return taskDetails.stream().filter(TaskDetail::isFailure).collect(Collectors.toList());
+        }
+
+        @Override
+        public boolean isUploading() {
+            return false;
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public void shutdownNow() {
+            executor.shutdownNow();
+        }
+
+        @Override
+        public void stopLogReporter() {}
+    }
+
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.integration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oceanbase.odc.metadb.flow.FlowInstanceEntity;
+import com.oceanbase.odc.metadb.flow.UserTaskInstanceEntity;
+import com.oceanbase.odc.service.flow.ApprovalPermissionService;
+import com.oceanbase.odc.service.flow.FlowInstanceService;
+import com.oceanbase.odc.service.flow.task.model.RuntimeTaskConstants;
+import com.oceanbase.odc.service.integration.HttpOperationService.IntegrationConfigProperties;
+import com.oceanbase.odc.service.integration.client.ApprovalClient;
+import com.oceanbase.odc.service.integration.model.ApprovalProperties;
+import com.oceanbase.odc.service.integration.model.ApprovalProperties.Api;
+import com.oceanbase.odc.service.integration.model.ApprovalProperties.StatusProperties;
+import com.oceanbase.odc.service.integration.model.ApprovalStatus;
+import com.oceanbase.odc.service.integration.model.Encryption;
+import com.oceanbase.odc.service.integration.model.IntegrationProperties.HttpProperties;
+import com.oceanbase.odc.service.integration.model.IntegrationProperties.RequestMethod;
+import com.oceanbase.odc.service.integration.model.TemplateVariables;
+import com.oceanbase.odc.service.integration.model.TemplateVariables.Variable;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test cases for {@link ApprovalSynchronizer}, statuses are queried by a real
+ * {@link ApprovalClient} from a local stub approval server
+ *
+ * @author agent
+ * @date 2026-10-19
+ */
+public class ApprovalSynchronizerTest {
+
+    private static final int INTEGRATION_COUNT = 5;
+    private static final long SYNCHRONIZE_INTERVAL_SECONDS = 5;
+    private static final long STUB_LATENCY_MILLIS = 20;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String HTTP_CLIENT_LOGGER = "org.apache.http";
+    private static String originNodelay;
+    private static Level originHttpClientLevel;
+
+    private ApprovalSynchronizer synchronizer;
+    private ApprovalSynchronizer anotherSynchronizer;
+    private ApprovalClient approvalClient;
+    private IntegrationService integrationService;
+    private FlowInstanceService flowInstanceService;
+    private ApprovalPermissionService approvalPermissionService;
+    private JdbcLockRegistry lockRegistry;
+    private RuntimeService runtimeService;
+    private volatile List<UserTaskInstanceEntity> pendingEntities = Collections.emptyList();
+    private final Map<String, ProcessInstance> processInstanceId2Instance = new HashMap<>();
+    private final List<String> queriedExternalIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    private final AtomicInteger maxRunningRequests = new AtomicInteger();
+    private volatile Function<String, ApprovalStatus> externalId2Status = id -> ApprovalStatus.APPROVED;
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+
+    @BeforeClass
+    public static void setUpClass() {
+        // disable nagle of the stub server, otherwise each response on a kept-alive connection is delayed
+        originNodelay = System.setProperty(NODELAY_PROPERTY, "true");
+        // wire logs of thousands of requests contend on the console appender and dominate the round
+        originHttpClientLevel = LogManager.getLogger(HTTP_CLIENT_LOGGER).getLevel();
+        Configurator.setLevel(HTTP_CLIENT_LOGGER, Level.INFO);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        if (originNodelay == null) {
+            System.clearProperty(NODELAY_PROPERTY);
+        } else {
+            System.setProperty(NODELAY_PROPERTY, originNodelay);
+        }
+        Configurator.setLevel(HTTP_CLIENT_LOGGER, originHttpClientLevel);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        approvalClient = new ApprovalClient();
+        HttpOperationService httpService = new HttpOperationService();
+        ReflectionTestUtils.setField(httpService, "configProperties", new IntegrationConfigProperties());
+        ReflectionTestUtils.setField(approvalClient, "httpService", httpService);
+        ReflectionTestUtils.setField(approvalClient, "connectTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(approvalClient, "socketTimeoutSeconds", 30);
+        ReflectionTestUtils.setField(approvalClient, "maxConcurrentRequests", INTEGRATION_COUNT * 16);
+        ReflectionTestUtils.setField(approvalClient, "statusRequestTimeoutSeconds", 10);
+        approvalClient.init();
+
+        flowInstanceService = Mockito.mock(FlowInstanceService.class);
+        approvalPermissionService = Mockito.mock(ApprovalPermissionService.class);
+        integrationService = Mockito.mock(IntegrationService.class);
+        Mockito.when(integrationService.getIntegrationProperties(Mockito.anyLong()))
+                .thenAnswer(i -> createApprovalProperties());
+        lockRegistry = Mockito.mock(JdbcLockRegistry.class);
+        Mockito.when(lockRegistry.obtain(Mockito.any())).thenAnswer(i -> new ReentrantLock());
+        Mockito.when(flowInstanceService.listByIds(Mockito.any())).thenAnswer(i -> {
+            Collection<Long> ids = i.getArgument(0);
+            return ids.stream().map(id -> {
+                FlowInstanceEntity entity = new FlowInstanceEntity();
+                entity.setId(id);
+                entity.setProcessInstanceId("p-" + id);
+                return entity;
+            }).collect(Collectors.toList());
+        });
+        runtimeService = Mockito.mock(RuntimeService.class);
+        // shards are synchronized in parallel, each of them owns a query
+        Mockito.when(runtimeService.createProcessInstanceQuery()).thenAnswer(i -> createProcessInstanceQuery());
+        // metadb is faked by the pending entities, poll states are saved into them
+        Mockito.when(approvalPermissionService.listApprovableExternalInstances()).thenAnswer(i -> pendingEntities);
+        Mockito.when(approvalPermissionService.listApprovableExternalInstances(Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(i -> pendingEntities.stream()
+                        .filter(e -> e.getFlowInstanceId() % i.<Integer>getArgument(1) == i.<Integer>getArgument(0))
+                        .collect(Collectors.toList()));
+        Mockito.doAnswer(i -> {
+            pendingEntities.stream().filter(e -> e.getId().equals(i.getArgument(0))).forEach(e -> {
+                e.setExternalPollUnchangedTimes(i.getArgument(1));
+                e.setExternalNextPollTime(i.getArgument(2));
+            });
+            return null;
+        }).when(approvalPermissionService).updateExternalPollState(Mockito.anyLong(), Mockito.anyInt(), Mockito.any());
+        synchronizer = newSynchronizer();
+        anotherSynchronizer = newSynchronizer();
+
+        stubExecutor = Executors.newFixedThreadPool(INTEGRATION_COUNT * 16);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/status", exchange -> {
+            maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(STUB_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                runningRequests.decrementAndGet();
+            }
+            String externalId = exchange.getRequestURI().getQuery().substring("id=".length());
+            queriedExternalIds.add(externalId);
+            ApprovalStatus status = externalId2Status.apply(externalId);
+            int code = status == null ? 500 : 200;
+            byte[] body = ("{\"status\":\"" + status + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(code, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+    }
+
+    @After
+    public void tearDown() {
+        synchronizer.destroy();
+        anotherSynchronizer.destroy();
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    public void run_5000PendingApprovals_AllApprovedConcurrently() throws IOException {
+        int count = 5000;
+        pendingEntities = createPendingInstances(count);
+
+        long startMillis = System.currentTimeMillis();
+        synchronizer.run();
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+
+        // ideally 5000 * 20ms / (5 * 16) = 1.25s which is within one interval, while polling one by one
+        // costs
+        // 100s. The bound is generous since the http stack itself is cpu bound on a single core machine.
+        Assert.assertTrue("synchronizing costs " + elapsedMillis + "ms",
+                elapsedMillis < TimeUnit.SECONDS.toMillis(SYNCHRONIZE_INTERVAL_SECONDS) * 4);
+        Mockito.verify(approvalPermissionService, Mockito.times(1)).listApprovableExternalInstances();
+        Mockito.verify(flowInstanceService, Mockito.times(count)).approve(Mockito.anyLong(), Mockito.anyString(),
+                Mockito.eq(true));
+        // all integrations share one route to the stub server, more than 2 connections of it are in use
+        Assert.assertTrue("max running requests " + maxRunningRequests.get(), maxRunningRequests.get() > 2);
+    }
+
+    @Test
+    public void run_StatusUnchangedOnDifferentNodes_PolledLessFrequently() {
+        pendingEntities = createPendingInstances(1);
+        externalId2Status = id -> ApprovalStatus.PENDING;
+
+        List<Integer> polledRounds = new ArrayList<>();
+        for (int round = 0; round < 8; round++) {
+            // rounds are scheduled one interval after another, the shard moves between nodes
+            ApprovalSynchronizer node = round % 2 == 0 ? synchronizer : anotherSynchronizer;
+            long nowMillis = TimeUnit.SECONDS.toMillis(SYNCHRONIZE_INTERVAL_SECONDS) * round;
+            ReflectionTestUtils.setField(node, "clock",
+                    Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault()));
+            int before = queriedExternalIds.size();
+            node.run();
+            if (queriedExternalIds.size() > before) {
+                polledRounds.add(round);
+            }
+        }
+
+        Assert.assertEquals(Arrays.asList(0, 1, 3, 7), polledRounds);
+    }
+
+    @Test
+    public void run_StatusQueryFailed_OtherInstancesApproved() throws IOException {
+        pendingEntities = createPendingInstances(10);
+        externalId2Status = id -> "ext-1".equals(id) ? null : ApprovalStatus.APPROVED;
+
+        synchronizer.run();
+
+        Mockito.verify(flowInstanceService, Mockito.times(9)).approve(Mockito.anyLong(), Mockito.anyString(),
+                Mockito.eq(true));
+    }
+
+    @Test
+    public void run_SettledByAnotherNodeBeforeLocked_NotSynchronized() throws IOException {
+        List<UserTaskInstanceEntity> entities = createPendingInstances(10);
+        Mockito.when(approvalPermissionService.listApprovableExternalInstances()).thenReturn(entities);
+
+        synchronizer.run();
+
+        Assert.assertTrue(queriedExternalIds.isEmpty());
+        Mockito.verify(flowInstanceService, Mockito.never()).approve(Mockito.anyLong(), Mockito.anyString(),
+                Mockito.anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void run_IntegrationWithoutPendingInstance_ExecutorReleased() {
+        List<UserTaskInstanceEntity> entities = createPendingInstances(10);
+        pendingEntities = entities;
+        externalId2Status = id -> ApprovalStatus.PENDING;
+
+        synchronizer.run();
+        Map<Long, ?> integrationId2Executor =
+                (Map<Long, ?>) ReflectionTestUtils.getField(synchronizer, "integrationId2Executor");
+        Assert.assertEquals(INTEGRATION_COUNT, integrationId2Executor.size());
+        pendingEntities = entities.stream().filter(e -> e.getExternalApprovalId() == 1L).collect(Collectors.toList());
+        synchronizer.run();
+        Assert.assertEquals(Collections.singleton(1L), integrationId2Executor.keySet());
+    }
+
+    private ApprovalSynchronizer newSynchronizer() {
+        ApprovalSynchronizer node = new ApprovalSynchronizer();
+        ReflectionTestUtils.setField(node, "shardCount", 8);
+        ReflectionTestUtils.setField(node, "concurrencyPerIntegration", 16);
+        ReflectionTestUtils.setField(node, "statusTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(node, "maxBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(node, "queueCapacityPerIntegration", 1024);
+        ReflectionTestUtils.setField(node, "integrationService", integrationService);
+        ReflectionTestUtils.setField(node, "approvalClient", approvalClient);
+        ReflectionTestUtils.setField(node, "flowInstanceService", flowInstanceService);
+        ReflectionTestUtils.setField(node, "approvalPermissionService", approvalPermissionService);
+        ReflectionTestUtils.setField(node, "jdbcLockRegistry", lockRegistry);
+        ReflectionTestUtils.setField(node, "runtimeService", runtimeService);
+        return node;
+    }
+
+    private ApprovalProperties createApprovalProperties() {
+        StatusProperties status = new StatusProperties();
+        status.setMethod(RequestMethod.GET);
+        status.setUrl("http://127.0.0.1:" + stubServer.getAddress().getPort() + "/status");
+        status.setQueryParameters(
+                Collections.singletonMap("id", "${" + Variable.PROCESS_INSTANCE_ID.key() + "}"));
+        status.setProcessPendingExpression("[status]=='PENDING'");
+        status.setProcessApprovedExpression("[status]=='APPROVED'");
+        status.setProcessRejectedExpression("[status]=='REJECTED'");
+        status.setProcessTerminatedExpression("[status]=='TERMINATED'");
+        Api api = new Api();
+        api.setStatus(status);
+        ApprovalProperties properties = new ApprovalProperties();
+        properties.setApi(api);
+        properties.setHttp(new HttpProperties());
+        properties.setEncryption(Encryption.empty());
+        return properties;
+    }
+
+    private ProcessInstanceQuery createProcessInstanceQuery() {
+        ProcessInstanceQuery query = Mockito.mock(ProcessInstanceQuery.class);
+        List<String> queriedIds = new ArrayList<>();
+        Mockito.when(query.processInstanceIds(ArgumentMatchers.anySet())).thenAnswer(i -> {
+            queriedIds.addAll(i.getArgument(0));
+            return query;
+        });
+        Mockito.when(query.includeProcessVariables()).thenReturn(query);
+        Mockito.when(query.list()).thenAnswer(i -> queriedIds.stream()
+                .map(processInstanceId2Instance::get).collect(Collectors.toList()));
+        return query;
+    }
+
+    private List<UserTaskInstanceEntity> createPendingInstances(int count) {
+        List<UserTaskInstanceEntity> entities = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            UserTaskInstanceEntity entity = new UserTaskInstanceEntity();
+            entity.setId(i);
+            entity.setFlowInstanceId(i);
+            entity.setExternalApprovalId(i % INTEGRATION_COUNT + 1);
+            entity.setExternalFlowInstanceId("ext-" + i);
+            entities.add(entity);
+
+            ProcessInstance processInstance = Mockito.mock(ProcessInstance.class);
+            Mockito.when(processInstance.getProcessInstanceId()).thenReturn("p-" + i);
+            Mockito.when(processInstance.getStartTime()).thenReturn(new Date());
+            Mockito.when(processInstance.getProcessVariables()).thenReturn(Collections
+                    .singletonMap(RuntimeTaskConstants.INTEGRATION_TEMPLATE_VARIABLES, new TemplateVariables()));
+            processInstanceId2Instance.put("p-" + i, processInstance);
+        }
+        return entities;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.integration.client;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.oceanbase.odc.service.integration.client.SqlInterceptorClient.VerdictKey;
+import com.oceanbase.odc.service.integration.model.SqlCheckStatus;
+import com.oceanbase.odc.service.integration.model.SqlInterceptorProperties;
+
+/**
+ * Test cases for {@link SqlInterceptorClient}
+ *
+ * @author agent
+ * @date 2026-10-19
+ */
+public class SqlInterceptorClientTest {
+
+    private SqlInterceptorClient client;
+
+    @Before
+    public void setUp() {
+        client = Mockito.spy(new SqlInterceptorClient());
+        ReflectionTestUtils.setField(client, "connectTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(client, "socketTimeoutSeconds", 30);
+        ReflectionTestUtils.setField(client, "maxConcurrentRequests", 2);
+        ReflectionTestUtils.setField(client, "verdictCacheTtlSeconds", 60L);
+        client.init();
+        Mockito.doReturn(SqlCheckStatus.IN_WHITE_LIST).when(client).check(Mockito.any(), Mockito.any());
+    }
+
+    @After
+    public void tearDown() {
+        client.destroy();
+    }
+
+    @Test
+    public void checkAsync_sameKey_checkedOnce() throws Exception {
+        SqlInterceptorProperties properties = new SqlInterceptorProperties();
+        for (int i = 0; i < 3; i++) {
+            VerdictKey key = new VerdictKey(properties, 1L, 2L, "select 1 from dual");
+            Assert.assertEquals(SqlCheckStatus.IN_WHITE_LIST, client.checkAsync(properties, null, key).get());
+        }
+        Mockito.verify(client, Mockito.times(1)).check(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void checkAsync_verdictsInvalidated_checkedAgain() throws Exception {
+        SqlInterceptorProperties properties = new SqlInterceptorProperties();
+        VerdictKey key = new VerdictKey(properties, 1L, 2L, "select 1 from dual");
+        client.checkAsync(properties, null, key).get();
+        client.invalidateVerdicts();
+        client.checkAsync(properties, null, key).get();
+        Mockito.verify(client, Mockito.times(2)).check(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void checkAsync_differentUser_checkedTwice() throws Exception {
+        SqlInterceptorProperties properties = new SqlInterceptorProperties();
+        client.checkAsync(properties, null, new VerdictKey(properties, 1L, 2L, "select 1 from dual")).get();
+        client.checkAsync(properties, null, new VerdictKey(properties, 3L, 2L, "select 1 from dual")).get();
+        Mockito.verify(client, Mockito.times(2)).check(Mockito.any(), Mockito.any());
+    }
+
+}
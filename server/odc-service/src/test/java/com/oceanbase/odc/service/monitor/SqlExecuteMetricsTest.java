@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.monitor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.common.util.TraceStage;
+import com.oceanbase.odc.common.util.TraceWatch;
+import com.oceanbase.odc.core.shared.constant.DialectType;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test cases for {@link SqlExecuteMetrics} and {@link PrometheusTextMeterRegistry}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SqlExecuteMetricsTest {
+
+    @Test
+    public void record_nestedStages_allStoppedStagesRecorded() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TraceWatch watch = new TraceWatch("test");
+        try (TraceStage execute = watch.start("Execute")) {
+            watch.start("Execute sql").close();
+        }
+        watch.start("Not stopped");
+        new SqlExecuteMetrics(registry).record(watch, DialectType.OB_MYSQL, "SELECT");
+
+        List<String> stages = registry.find(SqlExecuteMetrics.STAGE_TIMER_NAME).timers().stream()
+                .map(t -> t.getId().getTag("stage")).sorted().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("Execute", "Execute sql"), stages);
+        Timer timer = registry.get(SqlExecuteMetrics.STAGE_TIMER_NAME)
+                .tags("stage", "Execute", "dialect", "OB_MYSQL", "sql_type", "SELECT").timer();
+        Assert.assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void record_sameStageTwice_countAccumulated() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlExecuteMetrics metrics = new SqlExecuteMetrics(registry);
+        for (int i = 0; i < 2; i++) {
+            TraceWatch watch = new TraceWatch("test");
+            watch.start("Execute").close();
+            metrics.record(watch, DialectType.OB_ORACLE, null);
+        }
+        Assert.assertEquals(2, registry.get(SqlExecuteMetrics.STAGE_TIMER_NAME)
+                .tags("dialect", "OB_ORACLE", "sql_type", "UNKNOWN").timer().count());
+    }
+
+    @Test
+    public void scrape_timerWithHistogram_cumulativeBucketsNeverExpire() {
+        MockClock clock = new MockClock();
+        PrometheusTextMeterRegistry registry = new PrometheusTextMeterRegistry(clock);
+        Timer timer = Timer.builder("odc.test").tag("stage", "Execute").publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1)).maximumExpectedValue(Duration.ofMinutes(10))
+                .register(registry);
+        timer.record(2, TimeUnit.MILLISECONDS);
+        timer.record(5, TimeUnit.SECONDS);
+        clock.add(Duration.ofHours(1));
+
+        String text = registry.scrape();
+        Assert.assertTrue(text.contains("# TYPE odc_test_seconds histogram\n"));
+        Assert.assertTrue(text.contains("odc_test_seconds_bucket{stage=\"Execute\",le=\"+Inf\"} 2.0\n"));
+        Assert.assertTrue(text.contains("odc_test_seconds_count{stage=\"Execute\"} 2.0\n"));
+        Assert.assertTrue(text.contains("odc_test_seconds_sum{stage=\"Execute\"} 5.002\n"));
+        List<Double> bucketCounts = Arrays.stream(text.split("\n"))
+                .filter(line -> line.startsWith("odc_test_seconds_bucket"))
+                .map(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .collect(Collectors.toList());
+        for (int i = 1; i < bucketCounts.size(); i++) {
+            Assert.assertTrue(bucketCounts.get(i) >= bucketCounts.get(i - 1));
+        }
+        Assert.assertEquals(2D, bucketCounts.get(bucketCounts.size() - 2), 0);
+    }
+
+    @Test
+    public void scrape_metersWithSameName_renderedInOneFamily() {
+        PrometheusTextMeterRegistry registry = new PrometheusTextMeterRegistry();
+        registry.gauge("odc.test.queued", 3);
+        registry.counter("odc.test.parses", "grammar", "ob_mysql").increment();
+        registry.counter("odc.test.parses", "grammar", "ob_oracle").increment();
+        String text = registry.scrape();
+        Assert.assertTrue(text.contains("# TYPE odc_test_queued gauge\nodc_test_queued 3.0\n"));
+        Assert.assertEquals(1, text.split("# TYPE odc_test_parses_total counter\n", -1).length - 1);
+        Assert.assertTrue(text.contains("odc_test_parses_total{grammar=\"ob_mysql\"} 1.0\n"));
+        Assert.assertTrue(text.contains("odc_test_parses_total{grammar=\"ob_oracle\"} 1.0\n"));
+    }
+
+}
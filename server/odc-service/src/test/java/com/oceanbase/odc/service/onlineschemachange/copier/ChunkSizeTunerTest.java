@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.copier;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+public class ChunkSizeTunerTest {
+
+    @Test
+    public void feedback_FastChunk_GrowAtMostTwice() {
+        ChunkSizeTuner tuner = new ChunkSizeTuner(1000, 100, 50000, 500);
+        Assert.assertEquals(2000, tuner.feedback(1000, 10));
+    }
+
+    @Test
+    public void feedback_SlowChunk_ShrinkAtMostHalf() {
+        ChunkSizeTuner tuner = new ChunkSizeTuner(1000, 100, 50000, 500);
+        Assert.assertEquals(500, tuner.feedback(1000, 60000));
+    }
+
+    @Test
+    public void feedback_LatencyNearTarget_ProportionalSize() {
+        ChunkSizeTuner tuner = new ChunkSizeTuner(1000, 100, 50000, 500);
+        Assert.assertEquals(1250, tuner.feedback(1000, 400));
+    }
+
+    @Test
+    public void feedback_ReachBounds_Clamped() {
+        ChunkSizeTuner tuner = new ChunkSizeTuner(40000, 100, 50000, 500);
+        Assert.assertEquals(50000, tuner.feedback(40000, 1));
+        tuner = new ChunkSizeTuner(150, 100, 50000, 500);
+        Assert.assertEquals(100, tuner.feedback(150, 10000));
+    }
+
+    @Test
+    public void feedback_FastTailChunk_KeepSize() {
+        ChunkSizeTuner tuner = new ChunkSizeTuner(1000, 100, 50000, 500);
+        Assert.assertEquals(1000, tuner.feedback(10, 1));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.onlineschemachange.pipeline;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.oceanbase.odc.common.json.JsonUtils;
+import com.oceanbase.odc.core.shared.constant.TaskStatus;
+import com.oceanbase.odc.metadb.schedule.ScheduleTaskEntity;
+import com.oceanbase.odc.service.common.model.HostProperties;
+import com.oceanbase.odc.service.dispatch.TaskDispatchChecker;
+import com.oceanbase.odc.service.task.model.ExecutorInfo;
+import com.oceanbase.tools.dbbrowser.model.DBTableColumn;
+
+/**
+ * Test cases for {@link CopyTableDataValve}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since 4.2.2
+ */
+public class CopyTableDataValveTest {
+
+    @InjectMocks
+    private CopyTableDataValve valve;
+
+    @Mock
+    private TaskDispatchChecker dispatchChecker;
+
+    @Mock
+    private HostProperties hostProperties;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(hostProperties.getOdcHost()).thenReturn("127.0.0.1");
+        Mockito.when(hostProperties.getPort()).thenReturn("8989");
+        Mockito.when(dispatchChecker.isThisMachine(Mockito.any(ExecutorInfo.class))).thenReturn(true);
+    }
+
+    @Test
+    public void isOrphaned_startedByCurrentProcess_returnFalse() {
+        ExecutorInfo executorInfo = new ExecutorInfo(hostProperties);
+        Assert.assertFalse(valve.isOrphaned(scheduleTask(TaskStatus.RUNNING, executorInfo)));
+    }
+
+    @Test
+    public void isOrphaned_startedByPreviousProcess_returnTrue() {
+        ExecutorInfo executorInfo = new ExecutorInfo(hostProperties);
+        executorInfo.setJvmStartTime(executorInfo.getJvmStartTime() - 1000);
+        Assert.assertTrue(valve.isOrphaned(scheduleTask(TaskStatus.RUNNING, executorInfo)));
+    }
+
+    @Test
+    public void isOrphaned_startedByOtherMachine_returnFalse() {
+        ExecutorInfo executorInfo = new ExecutorInfo(hostProperties);
+        executorInfo.setPid(executorInfo.getPid() + 1);
+        Mockito.when(dispatchChecker.isThisMachine(Mockito.any(ExecutorInfo.class))).thenReturn(false);
+        Assert.assertFalse(valve.isOrphaned(scheduleTask(TaskStatus.RUNNING, executorInfo)));
+    }
+
+    @Test
+    public void isOrphaned_taskNotRunning_returnFalse() {
+        ExecutorInfo executorInfo = new ExecutorInfo(hostProperties);
+        executorInfo.setPid(executorInfo.getPid() + 1);
+        Assert.assertFalse(valve.isOrphaned(scheduleTask(TaskStatus.DONE, executorInfo)));
+    }
+
+    @Test
+    public void isOrphaned_executorNotRecorded_returnFalse() {
+        Assert.assertFalse(valve.isOrphaned(scheduleTask(TaskStatus.RUNNING, null)));
+    }
+
+    @Test
+    public void getCopiedColumnNames_columnDroppedAndRenamed_onlyCommonColumnsCopied() {
+        List<String> columnNames = CopyTableDataValve.getCopiedColumnNames(columns("id", "name", "age", "ts"),
+                columns("ID", "Name", "birthday", "ts", "added"));
+        Assert.assertEquals(Arrays.asList("id", "name", "ts"), columnNames);
+    }
+
+    private List<DBTableColumn> columns(String... names) {
+        return Arrays.stream(names).map(name -> {
+            DBTableColumn column = new DBTableColumn();
+            column.setName(name);
+            return column;
+        }).collect(Collectors.toList());
+    }
+
+    private ScheduleTaskEntity scheduleTask(TaskStatus status, ExecutorInfo executorInfo) {
+        ScheduleTaskEntity scheduleTask = new ScheduleTaskEntity();
+        scheduleTask.setId(1L);
+        scheduleTask.setStatus(status);
+        scheduleTask.setExecutor(executorInfo == null ? null : JsonUtils.toJson(executorInfo));
+        return scheduleTask;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.pldebug.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * {@link PLDebugSessionTest}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class PLDebugSessionTest {
+
+    @Test
+    public void new_200Sessions_noThreadCreated() throws Exception {
+        // threads started by the sessions join the group of the creating thread
+        ThreadGroup group = new ThreadGroup("pldebug-session-test");
+        int[] activeCount = new int[1];
+        Thread creator = new Thread(group, () -> {
+            List<PLDebugSession> sessions = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                sessions.add(new PLDebugSession(1L));
+            }
+            sessions.forEach(PLDebugSession::ping);
+            activeCount[0] = group.activeCount();
+        });
+        creator.start();
+        creator.join();
+        Assert.assertEquals(1, activeCount[0]);
+    }
+
+    @Test
+    public void ping_operationInProgress_skipped() throws Exception {
+        PLDebugSession session = new PLDebugSession(1L);
+        DebuggerSession debuggerSession = Mockito.mock(DebuggerSession.class);
+        ReflectionTestUtils.setField(session, "debuggerSession", debuggerSession);
+        CountDownLatch stepping = new CountDownLatch(1);
+        CountDownLatch stepFinished = new CountDownLatch(1);
+        Mockito.when(debuggerSession.stepOver()).thenAnswer(invocation -> {
+            stepping.countDown();
+            stepFinished.await();
+            return true;
+        });
+        Thread thread = new Thread(session::stepOver);
+        thread.start();
+        try {
+            Assert.assertTrue(stepping.await(10, TimeUnit.SECONDS));
+            session.ping();
+            Mockito.verify(debuggerSession, Mockito.never()).detectSessionAlive();
+        } finally {
+            stepFinished.countDown();
+            thread.join();
+        }
+
+        session.ping();
+        Mockito.verify(debuggerSession, Mockito.times(1)).detectSessionAlive();
+    }
+
+}
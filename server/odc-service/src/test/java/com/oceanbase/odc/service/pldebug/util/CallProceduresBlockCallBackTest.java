@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.pldebug.util;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.oceanbase.tools.dbbrowser.model.DBPLParam;
+import com.oceanbase.tools.dbbrowser.model.DBPLParamMode;
+import com.oceanbase.tools.dbbrowser.model.DBProcedure;
+import com.oceanbase.tools.dbbrowser.util.OracleSqlBuilder;
+
+/**
+ * {@link CallProceduresBlockCallBackTest}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class CallProceduresBlockCallBackTest {
+
+    @Test
+    public void doInConnection_stepWithSnapshot_oneRoundTrip() throws SQLException {
+        Map<Integer, Object> outValues = new HashMap<>();
+        outValues.put(1, 0);
+        outValues.put(2, "run_info.breakpoint = , run_info.stackdepth = 2");
+        outValues.put(3, "[Line 3] PROC");
+        outValues.put(4, 0);
+        outValues.put(5, "{\"V1\":\"1\"}");
+        outValues.put(6, 0);
+        CallableStatement stmt = mockStatement(outValues);
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareCall(ArgumentMatchers.anyString())).thenReturn(stmt);
+
+        List<List<DBPLParam>> actual = new CallProceduresBlockCallBack(Arrays.asList(
+                procedure("CNT_NEXT_LINE", out("result", "BINARY_INTEGER"), out("message", "VARCHAR2")),
+                procedure("PRINT_BACKTRACE", inOut("listing", "VARCHAR2"), out("status", "BINARY_INTEGER")),
+                procedure("GET_VALUES", out("scalar_values", "VARCHAR2"), out("result", "BINARY_INTEGER"))),
+                -1, new OracleSqlBuilder()).doInConnection(connection);
+
+        Mockito.verify(connection, Mockito.times(1)).prepareCall("BEGIN \"PKG\".\"CNT_NEXT_LINE\"(?, ?); "
+                + "BEGIN \"PKG\".\"PRINT_BACKTRACE\"(?, ?); EXCEPTION WHEN OTHERS THEN NULL; END; "
+                + "BEGIN \"PKG\".\"GET_VALUES\"(?, ?); EXCEPTION WHEN OTHERS THEN NULL; END; END;");
+        Mockito.verify(stmt, Mockito.times(1)).executeQuery();
+        Assert.assertEquals(3, actual.size());
+        Assert.assertEquals("0", actual.get(0).get(0).getDefaultValue());
+        Assert.assertEquals("[Line 3] PROC", actual.get(1).get(0).getDefaultValue());
+        Assert.assertEquals("{\"V1\":\"1\"}", actual.get(2).get(0).getDefaultValue());
+        Assert.assertEquals("result", actual.get(2).get(1).getParamName());
+    }
+
+    @Test
+    public void doInConnection_inOutParam_valueBound() throws SQLException {
+        Map<Integer, Object> outValues = new HashMap<>();
+        outValues.put(1, "[Line 3] PROC");
+        CallableStatement stmt = mockStatement(outValues);
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.prepareCall(ArgumentMatchers.anyString())).thenReturn(stmt);
+        DBPLParam listing = inOut("listing", "VARCHAR2");
+        listing.setDefaultValue("init");
+
+        new CallProceduresBlockCallBack(Arrays.asList(procedure("PRINT_BACKTRACE", listing)), -1,
+                new OracleSqlBuilder()).doInConnection(connection);
+
+        Mockito.verify(stmt).setString(1, "init");
+        Mockito.verify(stmt).registerOutParameter(ArgumentMatchers.eq(1), ArgumentMatchers.anyInt());
+    }
+
+    private CallableStatement mockStatement(Map<Integer, Object> outValues) throws SQLException {
+        CallableStatement stmt = Mockito.mock(CallableStatement.class);
+        Mockito.when(stmt.getObject(ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> outValues.get(invocation.<Integer>getArgument(0)));
+        Mockito.when(stmt.getString(ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> String.valueOf(outValues.get(invocation.<Integer>getArgument(0))));
+        Mockito.when(stmt.getInt(ArgumentMatchers.anyInt()))
+                .thenAnswer(invocation -> (Integer) outValues.get(invocation.<Integer>getArgument(0)));
+        return stmt;
+    }
+
+    private DBProcedure procedure(String name, DBPLParam... params) {
+        return DBProcedure.of("PKG", name, Arrays.asList(params));
+    }
+
+    private DBPLParam out(String name, String dataType) {
+        return DBPLParam.of(name, DBPLParamMode.OUT, dataType);
+    }
+
+    private DBPLParam inOut(String name, String dataType) {
+        return DBPLParam.of(name, DBPLParamMode.INOUT, dataType);
+    }
+
+}
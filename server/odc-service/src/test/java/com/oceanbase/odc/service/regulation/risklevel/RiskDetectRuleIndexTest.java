@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.regulation.risklevel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.shared.exception.NotImplementedException;
+import com.oceanbase.odc.service.regulation.risklevel.model.BaseTreeNode;
+import com.oceanbase.odc.service.regulation.risklevel.model.BooleanOperator;
+import com.oceanbase.odc.service.regulation.risklevel.model.ConditionExpression;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRule;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRuleCondition;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskDetectRuleConditionGroup;
+import com.oceanbase.odc.service.regulation.risklevel.model.RiskLevelDescriber;
+
+public class RiskDetectRuleIndexTest {
+
+    @Test
+    public void match_equalsRoot_onlyMatchedValue() {
+        RiskDetectRuleIndex index = new RiskDetectRuleIndex(Collections.singletonList(
+                rule(1L, condition(ConditionExpression.ENVIRONMENT_ID, "equals", "1"))));
+        Assert.assertEquals(Collections.singleton(1L), index.match(describer("1", "p1", "db1", "ASYNC")));
+        Assert.assertTrue(index.match(describer("2", "p1", "db1", "ASYNC")).isEmpty());
+    }
+
+    @Test
+    public void match_andGroupWithInChild_indexedAndEvaluated() {
+        BaseTreeNode root = group(BooleanOperator.AND,
+                condition(ConditionExpression.PROJECT_NAME, "in", Arrays.asList("p1", "p2")),
+                condition(ConditionExpression.DATABASE_NAME, "contains", "prod"));
+        RiskDetectRuleIndex index = new RiskDetectRuleIndex(Collections.singletonList(rule(2L, root)));
+        Assert.assertEquals(Collections.singleton(2L), index.match(describer("1", "p2", "db_prod", "ASYNC")));
+        Assert.assertTrue(index.match(describer("1", "p2", "db_test", "ASYNC")).isEmpty());
+        Assert.assertTrue(index.match(describer("1", "p3", "db_prod", "ASYNC")).isEmpty());
+    }
+
+    @Test
+    public void match_batchOfDescribers_sameAsTreeEvaluation() {
+        List<RiskDetectRule> rules = Arrays.asList(
+                rule(1L, condition(ConditionExpression.ENVIRONMENT_ID, "equals", "1")),
+                rule(2L, group(BooleanOperator.OR,
+                        condition(ConditionExpression.TASK_TYPE, "equals", "EXPORT"),
+                        condition(ConditionExpression.SQL_CHECK_RESULT, "not_in", Arrays.asList("0", "1")))),
+                rule(3L, group(BooleanOperator.AND,
+                        condition(ConditionExpression.ENVIRONMENT_ID, "not_equals", "1"),
+                        condition(ConditionExpression.TASK_TYPE, "in", Arrays.asList("ASYNC", "IMPORT")))));
+        List<RiskLevelDescriber> describers = Arrays.asList(
+                describer("1", "p1", "db1", "ASYNC"),
+                describer("2", "p1", "db1", "EXPORT"),
+                describer("2", "p1", "db1", "IMPORT"),
+                describer("3", "p1", "db1", "MOCKDATA"));
+        describers.get(3).setSqlCheckResult("2");
+        List<Set<Long>> actual = new RiskDetectRuleIndex(rules).match(describers);
+        for (int i = 0; i < describers.size(); i++) {
+            Set<Long> expect = new HashSet<>();
+            for (RiskDetectRule rule : rules) {
+                if (rule.getRootNode().evaluate(describers.get(i))) {
+                    expect.add(rule.getRiskLevelId());
+                }
+            }
+            Assert.assertEquals(expect, actual.get(i));
+        }
+    }
+
+    @Test(expected = NotImplementedException.class)
+    public void match_illegalOperator_failsOnEvaluation() {
+        RiskDetectRuleIndex index = new RiskDetectRuleIndex(Collections.singletonList(
+                rule(1L, condition(ConditionExpression.TASK_TYPE, "matches", "ASYNC"))));
+        index.match(describer("1", "p1", "db1", "ASYNC"));
+    }
+
+    @Test(expected = NotImplementedException.class)
+    public void match_illegalOperatorInIndexedGroup_failsForUnmatchedIndexValue() {
+        BaseTreeNode root = group(BooleanOperator.AND,
+                condition(ConditionExpression.TASK_TYPE, "matches", "ASYNC"),
+                condition(ConditionExpression.ENVIRONMENT_ID, "equals", "1"));
+        RiskDetectRuleIndex index = new RiskDetectRuleIndex(Collections.singletonList(rule(1L, root)));
+        index.match(describer("2", "p1", "db1", "ASYNC"));
+    }
+
+    private static RiskLevelDescriber describer(String environmentId, String projectName, String databaseName,
+            String taskType) {
+        return RiskLevelDescriber.builder().environmentId(environmentId).projectName(projectName)
+                .databaseName(databaseName).taskType(taskType).build();
+    }
+
+    private static RiskDetectRule rule(Long riskLevelId, BaseTreeNode root) {
+        RiskDetectRule rule = new RiskDetectRule();
+        rule.setRiskLevelId(riskLevelId);
+        rule.setRootNode(root);
+        return rule;
+    }
+
+    private static RiskDetectRuleCondition condition(ConditionExpression expression, String operator,
+            Object value) {
+        RiskDetectRuleCondition condition = new RiskDetectRuleCondition();
+        condition.setExpression(expression);
+        condition.setOperator(operator);
+        condition.setValue(value);
+        return condition;
+    }
+
+    private static RiskDetectRuleConditionGroup group(BooleanOperator operator, BaseTreeNode... children) {
+        RiskDetectRuleConditionGroup group = new RiskDetectRuleConditionGroup();
+        group.setBooleanOperator(operator);
+        group.setChildren(Arrays.asList(children));
+        return group;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.oceanbase.odc.metadb.connection.ConnectSessionOwnerEntity;
+import com.oceanbase.odc.metadb.connection.ConnectSessionOwnerRepository;
+
+/**
+ * Test cases for {@link MetaDBConnectionSessionOwnerRegistry}, the repository is faked by a map
+ * from session id to owner
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class MetaDBConnectionSessionOwnerRegistryTest {
+
+    private static final String LOCAL = "127.0.0.1:8989";
+    private static final String REMOTE = "10.0.0.2:8989";
+
+    @InjectMocks
+    private MetaDBConnectionSessionOwnerRegistry registry;
+
+    @Mock
+    private ConnectSessionOwnerRepository repository;
+
+    private final Map<String, String> session2Owner = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        Mockito.when(repository.updateOwnerBySessionId(Mockito.anyString(), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    String sessionId = invocation.getArgument(0);
+                    if (!session2Owner.containsKey(sessionId)) {
+                        return 0;
+                    }
+                    session2Owner.put(sessionId, invocation.getArgument(1));
+                    return 1;
+                });
+        Mockito.when(repository.saveAndFlush(Mockito.any(ConnectSessionOwnerEntity.class))).thenAnswer(invocation -> {
+            ConnectSessionOwnerEntity entity = invocation.getArgument(0);
+            if (session2Owner.putIfAbsent(entity.getSessionId(), entity.getOwner()) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry " + entity.getSessionId());
+            }
+            return entity;
+        });
+        Mockito.when(repository.findBySessionId(Mockito.anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(session2Owner.get(invocation.<String>getArgument(0)))
+                        .map(owner -> entity(invocation.getArgument(0), owner)));
+        Mockito.when(repository.deleteBySessionId(Mockito.anyString()))
+                .thenAnswer(invocation -> session2Owner.remove(invocation.<String>getArgument(0)) == null ? 0 : 1);
+        Mockito.when(repository.deleteByOwner(Mockito.anyString())).thenAnswer(invocation -> {
+            int size = session2Owner.size();
+            session2Owner.values().removeIf(owner -> owner.equals(invocation.getArgument(0)));
+            return size - session2Owner.size();
+        });
+        Mockito.when(repository.findAll()).thenAnswer(invocation -> {
+            ArrayList<ConnectSessionOwnerEntity> entities = new ArrayList<>();
+            session2Owner.forEach((sessionId, owner) -> entities.add(entity(sessionId, owner)));
+            return entities;
+        });
+    }
+
+    @Test
+    public void register_newSession_ownerSaved() {
+        registry.register("1", LOCAL);
+        Assert.assertEquals(LOCAL, registry.getOwner("1"));
+        Mockito.verify(repository).saveAndFlush(Mockito.any(ConnectSessionOwnerEntity.class));
+    }
+
+    @Test
+    public void register_registeredSession_ownerOverwrittenWithoutInsert() {
+        registry.register("1", REMOTE);
+        registry.register("1", LOCAL);
+        Assert.assertEquals(LOCAL, registry.getOwner("1"));
+        Mockito.verify(repository, Mockito.times(1)).saveAndFlush(Mockito.any(ConnectSessionOwnerEntity.class));
+    }
+
+    @Test
+    public void register_insertedConcurrently_ownerOverwritten() {
+        Mockito.when(repository.updateOwnerBySessionId("1", LOCAL)).thenAnswer(invocation -> {
+            if (session2Owner.containsKey("1")) {
+                session2Owner.put("1", LOCAL);
+                return 1;
+            }
+            // another node inserts the record between the update and the insert of this node
+            session2Owner.put("1", REMOTE);
+            return 0;
+        });
+        registry.register("1", LOCAL);
+        Assert.assertEquals(LOCAL, registry.getOwner("1"));
+    }
+
+    @Test
+    public void getOwner_notRegistered_returnNull() {
+        Assert.assertNull(registry.getOwner("1"));
+    }
+
+    @Test
+    public void unregister_registeredSession_ownerReleased() {
+        registry.register("1", LOCAL);
+        registry.unregister("1");
+        Assert.assertNull(registry.getOwner("1"));
+    }
+
+    @Test
+    public void unregisterByOwner_sessionsOfOtherOwnerKept() {
+        registry.register("1", LOCAL);
+        registry.register("2", LOCAL);
+        registry.register("3", REMOTE);
+
+        Assert.assertEquals(2, registry.unregisterByOwner(LOCAL));
+        Map<String, String> expect = new HashMap<>();
+        expect.put("3", REMOTE);
+        Assert.assertEquals(expect, registry.listAllOwners());
+    }
+
+    private static ConnectSessionOwnerEntity entity(String sessionId, String owner) {
+        ConnectSessionOwnerEntity entity = new ConnectSessionOwnerEntity();
+        entity.setSessionId(sessionId);
+        entity.setOwner(owner);
+        return entity;
+    }
+
+}
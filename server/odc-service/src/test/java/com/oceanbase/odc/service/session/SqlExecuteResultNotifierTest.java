@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.oceanbase.odc.core.sql.execute.model.JdbcGeneralResult;
+import com.oceanbase.odc.core.sql.execute.model.SqlTuple;
+import com.oceanbase.odc.service.websocket.WebSocketBody;
+
+/**
+ * Test cases for {@link SqlExecuteResultNotifier}
+ *
+ * @author agent
+ * @date 2026-10-19
+ * @since ODC_release_4.2.2
+ */
+public class SqlExecuteResultNotifierTest {
+
+    @Test
+    public void onStatementDone_subscribed_pushed() {
+        SqlExecuteResultNotifier notifier = new SqlExecuteResultNotifier();
+        List<WebSocketBody> received = new ArrayList<>();
+        notifier.subscribe("session", "subscriber", received::add);
+        JdbcGeneralResult result = JdbcGeneralResult.successResult(SqlTuple.newTuple("select 1 from dual"));
+        notifier.onStatementDone("session", "request", result);
+        notifier.onExecutionDone("session", "request");
+
+        Assert.assertEquals(2, received.size());
+        Assert.assertEquals(SqlExecuteResultNotifier.STATEMENT_DONE_METHOD, received.get(0).getMethod());
+        Assert.assertTrue(received.get(0).getParams().getData().contains(result.getSqlTuple().getSqlId()));
+        Assert.assertEquals(SqlExecuteResultNotifier.EXECUTION_DONE_METHOD, received.get(1).getMethod());
+        Assert.assertEquals("request", received.get(1).getId());
+    }
+
+    @Test
+    public void unsubscribe_lastSubscriber_noSubscriber() {
+        SqlExecuteResultNotifier notifier = new SqlExecuteResultNotifier();
+        List<WebSocketBody> received = new ArrayList<>();
+        notifier.subscribe("session", "subscriber", received::add);
+        notifier.unsubscribe("session", "subscriber");
+        notifier.onExecutionDone("session", "request");
+
+        Assert.assertFalse(notifier.hasSubscriber("session"));
+        Assert.assertTrue(received.isEmpty());
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 OceanBase.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.oceanbase.odc.service.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OBClientOutputBufferTest {
+
+    @Test
+    public void drain_multipleWrites_coalescedIntoOneFrame() throws InterruptedException {
+        OBClientOutputBuffer buffer = new OBClientOutputBuffer(1024);
+        buffer.write("abc".getBytes(), 0, 3);
+        buffer.write("def".getBytes(), 0, 3);
+        Assert.assertEquals("abcdef", buffer.drain());
+        Assert.assertNull(buffer.drain());
+    }
+
+    @Test
+    public void drain_truncatedCharacter_heldUntilComplete() throws InterruptedException {
+        OBClientOutputBuffer buffer = new OBClientOutputBuffer(1024);
+        byte[] bytes = "中".getBytes(StandardCharsets.UTF_8);
+        buffer.write(bytes, 0, 1);
+        Assert.assertNull(buffer.drain());
+        buffer.write(bytes, 1, bytes.length - 1);
+        Assert.assertEquals(new String(bytes), buffer.drain());
+    }
+
+    @Test
+    public void write_bufferFull_blockedUntilDrained() throws InterruptedException {
+        OBClientOutputBuffer buffer = new OBClientOutputBuffer(4);
+        buffer.write("abcd".getBytes(), 0, 4);
+        CountDownLatch written = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            try {
+                buffer.write("e".getBytes(), 0, 1);
+                written.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        writer.start();
+        Assert.assertFalse(written.await(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("abcd", buffer.drain());
+        Assert.assertTrue(written.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("e", buffer.drain());
+    }
+
+}
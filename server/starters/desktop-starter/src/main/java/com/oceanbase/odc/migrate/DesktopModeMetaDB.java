@@ -21,7 +21,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.info.BuildProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Component;
@@ -41,6 +43,9 @@ import lombok.extern.slf4j.Slf4j;
 @DependsOn({"localObjectStorageFacade", "springContextUtil"})
 public class DesktopModeMetaDB extends AbstractMetaDBMigrate {
 
+    @Autowired(required = false)
+    private BuildProperties buildProperties;
+
     @Override
     public MigrateConfiguration migrateConfiguration() {
         Map<String, Object> parameters = new HashMap<>();
@@ -62,6 +67,18 @@ public class DesktopModeMetaDB extends AbstractMetaDBMigrate {
                 .build();
     }
 
+    /**
+     * desktop mode is launched frequently with an unchanged metadb, skip the migration if the build is
+     * not changed. Builds without build info (eg. launched in IDE) are always migrated.
+     */
+    @Override
+    protected String getBuildIdentity() {
+        if (buildProperties == null || buildProperties.getTime() == null) {
+            return null;
+        }
+        return buildProperties.getVersion() + "@" + buildProperties.getTime().toEpochMilli();
+    }
+
     protected List<String> getResourceLocations() {
         return Arrays.asList("migrate/common", "migrate/h2", "migrate/web", "migrate/rbac");
     }
@@ -37,6 +37,11 @@ import lombok.extern.slf4j.Slf4j;
 @DependsOn({"localObjectStorageFacade", "springContextUtil"})
 public class TestModeMetaDB extends DesktopModeMetaDB {
 
+    @Override
+    protected String getBuildIdentity() {
+        return null;
+    }
+
     @Override
     protected List<String> getBasePackages() {
         return Arrays.asList("com.oceanbase.odc.migrate.jdbc.common", "com.oceanbase.odc.migrate.jdbc.web");
@@ -39,9 +39,18 @@ public abstract class AbstractWebModeMetaDB extends AbstractMetaDBMigrate {
                 .basePackages(
                         Arrays.asList("com.oceanbase.odc.migrate.jdbc.common", "com.oceanbase.odc.migrate.jdbc.web"))
                 .resourceConfigs(resourceConfigs())
+                .resourceMigrateParallelism(resourceMigrateParallelism())
                 .build();
     }
 
+    /**
+     * resource configs are generated for each organization in web mode, migrate them concurrently to
+     * speed up the startup of a metadb with lots of organizations
+     */
+    protected int resourceMigrateParallelism() {
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
     protected abstract List<ResourceConfig> resourceConfigs();
 
 }